@@ -0,0 +1,34 @@
+-- aappcar 품목 MERGE 저장(excel.import.aappcar.write-mode=merge)용 스테이징 테이블
+--
+-- 로컬/테스트 환경에서는 spring.jpa.hibernate.ddl-auto가 AAppcarItemStage 엔티티로 이 테이블을 만든다.
+-- 스키마를 따로 관리하는 Oracle 환경에서는 merge 방식을 켜기 전에 이 DDL을 먼저 적용해야 한다.
+-- 컬럼 정의는 AAppcarItemStage / AAppcarItemStageId 엔티티와 같다.
+--
+-- AAppcarItemMergeWriter는 저장 호출마다 새 import_id로 행을 적재하고, 같은 트랜잭션 안에서 MERGE 후 지운다.
+-- 행이 트랜잭션을 넘어 남지 않으므로 아래 일반 테이블 대신
+--   CREATE GLOBAL TEMPORARY TABLE a_appcar_item_stage (...) ON COMMIT DELETE ROWS;
+-- 로 만들어도 된다(세션별 데이터, 리두 감소).
+
+CREATE TABLE a_appcar_item_stage (
+  import_id     VARCHAR2(36)   NOT NULL,
+  stage_seq     NUMBER(10)     NOT NULL,
+  company_id    VARCHAR2(35)   NOT NULL,
+  custom_id     VARCHAR2(35)   NOT NULL,
+  come_year     VARCHAR2(20)   NOT NULL,
+  come_order    VARCHAR2(50)   NOT NULL,
+  upload_seq    VARCHAR2(50)   NOT NULL,
+  equip_code    VARCHAR2(50)   NOT NULL,
+  goods_seq_no  NUMBER(10)     NOT NULL,
+  goods_des     VARCHAR2(100),
+  spec          VARCHAR2(100),
+  model_des     VARCHAR2(100),
+  hsno          VARCHAR2(12),
+  tax_rate      NUMBER(10, 4),
+  unitprice     NUMBER(15, 4),
+  prod_qty      NUMBER(10),
+  repair_qty    NUMBER(10),
+  import_amt    NUMBER(15, 4),
+  import_qty    NUMBER(10),
+  approval_yn   VARCHAR2(1)    NOT NULL,
+  CONSTRAINT pk_a_appcar_item_stage PRIMARY KEY (import_id, stage_seq)
+);
@@ -0,0 +1,133 @@
+package com.foo.excel.benchmark;
+
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.manual.AAppcarLargeWorkbookGenerator;
+import com.foo.excel.service.contract.ExcelSheetSpec;
+import com.foo.excel.service.contract.ExcelSheetSpecResolver;
+import com.foo.excel.validation.CellError;
+import com.foo.excel.validation.ExcelColumnRef;
+import com.foo.excel.validation.RowError;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크가 함께 쓰는 aappcar 양식의 합성 데이터이다.
+ *
+ * <p>워크북은 {@link AAppcarLargeWorkbookGenerator}로 만들고, DTO 목록과 검증 오류도 같은 규칙으로 오류 행을 고르므로
+ * 같은 행 수와 오류 비율이면 셋 모두 같은 행을 오류로 가리킨다. 오류 행은 물품명 누락, HSK 형식 오류, 단가 숫자 변환 실패,
+ * 앞 행과 같은 복합 키 중복을 차례로 돌아가며 만든다.
+ */
+public final class AAppcarBenchmarkFixtures {
+
+  public static final ExcelSheetSpec SHEET_SPEC =
+      ExcelSheetSpecResolver.resolve(AAppcarItemImportRow.class);
+
+  /** 첫 데이터 행의 0-based 인덱스이다. */
+  public static final int FIRST_DATA_ROW_INDEX = AAppcarLargeWorkbookGenerator.FIRST_DATA_ROW_INDEX;
+
+  private AAppcarBenchmarkFixtures() {}
+
+  public static boolean isErrorRow(int dataRowOrdinal, double errorRatio) {
+    return AAppcarLargeWorkbookGenerator.isSelected(dataRowOrdinal, errorRatio);
+  }
+
+  public static Path writeWorkbook(int dataRows, double errorRatio) throws IOException {
+    return writeWorkbook(AAppcarLargeWorkbookGenerator.Spec.of(dataRows).withErrorRatio(errorRatio));
+  }
+
+  public static Path writeWorkbook(AAppcarLargeWorkbookGenerator.Spec spec) throws IOException {
+    Path file = Files.createTempFile("aappcar-benchmark-", ".xlsx");
+    AAppcarLargeWorkbookGenerator.write(spec, file);
+    return file;
+  }
+
+  /** 파싱을 거치지 않고 {@link #writeWorkbook}과 같은 오류 분포를 가진 DTO 목록을 만든다. */
+  public static List<AAppcarItemImportRow> rows(int dataRows, double errorRatio) {
+    List<AAppcarItemImportRow> rows = new ArrayList<>(dataRows);
+    for (int i = 0; i < dataRows; i++) {
+      int errorKind = AAppcarLargeWorkbookGenerator.errorKind(i, errorRatio);
+      int keyRow = AAppcarLargeWorkbookGenerator.keyRowOrdinal(i, errorRatio);
+
+      AAppcarItemImportRow row = new AAppcarItemImportRow();
+      row.setGoodsSeqNo(i + 1);
+      row.setGoodsDes(
+          errorKind == AAppcarLargeWorkbookGenerator.ERROR_BLANK_GOODS_DES
+              ? ""
+              : "Item" + (keyRow + 1));
+      row.setSpec("Spec" + (keyRow + 1));
+      row.setModelDes("Model" + (i + 1));
+      row.setHsno(
+          errorKind == AAppcarLargeWorkbookGenerator.ERROR_INVALID_HSNO
+              ? "bad-hs-code"
+              : hsno(keyRow));
+      row.setTaxRate(new BigDecimal("8"));
+      // 숫자 변환 실패는 DTO 단계에서 표현할 수 없으므로 음수 단가로 검증 오류를 만든다.
+      row.setUnitprice(
+          BigDecimal.valueOf(
+              errorKind == AAppcarLargeWorkbookGenerator.ERROR_NON_NUMERIC_UNITPRICE
+                  ? -1
+                  : 100 + i));
+      row.setProdQty(10 + i);
+      row.setRepairQty(5 + i);
+      row.setImportAmt(BigDecimal.valueOf(50000L + 1000L * i));
+      row.setApprovalYn("통과");
+      row.setImportQty(100 + i);
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  /** 데이터 행마다 1-based 원본 행 번호를 만든다. */
+  public static List<Integer> sourceRowNumbers(int dataRows) {
+    List<Integer> rowNumbers = new ArrayList<>(dataRows);
+    for (int i = 0; i < dataRows; i++) {
+      rowNumbers.add(FIRST_DATA_ROW_INDEX + i + 1);
+    }
+    return rowNumbers;
+  }
+
+  /** 오류 행마다 물품명 컬럼(C열)에 셀 오류 하나를 단 검증 오류 목록을 만든다. */
+  public static List<RowError> rowErrors(int dataRows, double errorRatio) {
+    List<RowError> rowErrors = new ArrayList<>();
+    for (int i = 0; i < dataRows; i++) {
+      if (!isErrorRow(i, errorRatio)) {
+        continue;
+      }
+      CellError cellError =
+          CellError.builder()
+              .columnIndex(2)
+              .columnRef(ExcelColumnRef.ofLetter("C"))
+              .fieldName("goodsDes")
+              .headerName("물품명")
+              .message("물품명은 필수 입력 항목입니다")
+              .build();
+      rowErrors.add(
+          RowError.builder()
+              .rowNumber(FIRST_DATA_ROW_INDEX + i + 1)
+              .cellErrors(new ArrayList<>(List.of(cellError)))
+              .build());
+    }
+    return rowErrors;
+  }
+
+  public static AAppcarItemImportMetadata metadata(String uploadSeq) {
+    AAppcarItemImportMetadata metadata = new AAppcarItemImportMetadata();
+    metadata.setComeYear("2026");
+    metadata.setComeOrder("001");
+    metadata.setUploadSeq(uploadSeq);
+    metadata.setEquipCode("EQ-01");
+    metadata.setEquipMean("설비A");
+    metadata.setCompanyId("COMPANY01");
+    metadata.setCustomId("CUSTOM01");
+    return metadata;
+  }
+
+  private static String hsno(int dataRowOrdinal) {
+    return String.format("8481.80-%04d", dataRowOrdinal % 10_000);
+  }
+}
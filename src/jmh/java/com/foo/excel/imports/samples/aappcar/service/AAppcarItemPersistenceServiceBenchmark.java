@@ -0,0 +1,109 @@
+package com.foo.excel.imports.samples.aappcar.service;
+
+import com.foo.excel.ExcelImportApplication;
+import com.foo.excel.benchmark.AAppcarBenchmarkFixtures;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link AAppcarItemPersistenceService#saveAll}을 인메모리 H2에 대해 저장 방식별로 잰다.
+ *
+ * <p>{@code INSERT}는 호출마다 업로드 순번을 바꿔 모든 품목을 새로 만들고, {@code UPDATE}는 준비 단계에서 한 번 저장한 품목을
+ * 같은 키로 다시 저장한다. 저장 대상은 검증을 통과한 행뿐이므로 오류 비율은 두지 않는다. 쌓인 행은 반복(iteration)이 끝날
+ * 때마다 지운다.
+ *
+ * <pre>./gradlew jmh -PjmhArgs="AAppcarItemPersistenceServiceBenchmark -p writeMode=MERGE"</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AAppcarItemPersistenceServiceBenchmark {
+
+  public enum Scenario {
+    INSERT,
+    UPDATE
+  }
+
+  private static final String UPDATE_UPLOAD_SEQ = "1";
+
+  @Param({"1000", "10000", "100000"})
+  int rows;
+
+  @Param({"JPA", "JDBC_BATCH", "MERGE"})
+  AAppcarItemWriteMode writeMode;
+
+  @Param({"INSERT", "UPDATE"})
+  Scenario scenario;
+
+  private ConfigurableApplicationContext context;
+  private AAppcarItemPersistenceService service;
+  private JdbcTemplate jdbcTemplate;
+  private List<AAppcarItemImportRow> dtos;
+  private List<Integer> sourceRowNumbers;
+  private int nextUploadSeq;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context =
+        new SpringApplicationBuilder(ExcelImportApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:persistence-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.main.banner-mode=off",
+                "--excel.import.aappcar.write-mode=" + writeMode.name(),
+                "--excel.import.sql-statement-counting=false");
+    service = context.getBean(AAppcarItemPersistenceService.class);
+    jdbcTemplate = context.getBean(JdbcTemplate.class);
+    dtos = AAppcarBenchmarkFixtures.rows(rows, 0);
+    sourceRowNumbers = AAppcarBenchmarkFixtures.sourceRowNumbers(rows);
+  }
+
+  @Setup(Level.Iteration)
+  public void seedItems() {
+    nextUploadSeq = 2;
+    if (scenario == Scenario.UPDATE) {
+      service.saveAll(dtos, sourceRowNumbers, AAppcarBenchmarkFixtures.metadata(UPDATE_UPLOAD_SEQ));
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteItems() {
+    jdbcTemplate.update("DELETE FROM a_appcar_item");
+    jdbcTemplate.update("DELETE FROM a_appcar_equip");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Object saveAll() {
+    String uploadSeq =
+        scenario == Scenario.UPDATE ? UPDATE_UPLOAD_SEQ : String.valueOf(nextUploadSeq++);
+    AAppcarItemImportMetadata metadata = AAppcarBenchmarkFixtures.metadata(uploadSeq);
+    return service.saveAll(dtos, sourceRowNumbers, metadata);
+  }
+}
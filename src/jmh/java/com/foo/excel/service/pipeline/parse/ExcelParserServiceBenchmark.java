@@ -0,0 +1,70 @@
+package com.foo.excel.service.pipeline.parse;
+
+import com.foo.excel.benchmark.AAppcarBenchmarkFixtures;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ExcelParserService#parse} 전체 비용을 행 수, 오류 비율, 파싱 모드별로 잰다.
+ *
+ * <p>오류 행 중 단가 칸에 문자열이 든 행은 숫자 변환 실패로 파싱 오류가 된다. 오류 행 수 한도는 두지 않는다.
+ *
+ * <pre>./gradlew jmh -PjmhArgs="ExcelParserServiceBenchmark -p rows=10000"</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcelParserServiceBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  int rows;
+
+  @Param({"0", "0.01", "0.1"})
+  double errorRatio;
+
+  @Param({"WORKBOOK", "STREAMING"})
+  ExcelParseMode mode;
+
+  private Path file;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    file = AAppcarBenchmarkFixtures.writeWorkbook(rows, errorRatio);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Object parse() throws IOException {
+    return new ExcelParserService()
+        .parse(
+            file,
+            AAppcarItemImportRow.class,
+            AAppcarBenchmarkFixtures.SHEET_SPEC,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            mode);
+  }
+}
@@ -0,0 +1,211 @@
+package com.foo.excel.service.pipeline.parse;
+
+import com.foo.excel.benchmark.AAppcarBenchmarkFixtures;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.service.contract.ExcelSheetSpec;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 데이터 행 파이프라인 벤치마크이다.
+ *
+ * <p>{@code resolveMappedCells*} 두 벤치마크는 같은 행과 병합 영역에서 매핑 컬럼 실효 셀을 검사마다 다시 찾는 방식과 한
+ * 번만 찾아 버퍼를 공유하는 방식을 비교한다. 파서 전체 비용은 {@link ExcelParserServiceBenchmark}가 잰다.
+ *
+ * <pre>./gradlew jmh -PjmhArgs="ParserRowPipelineBenchmark -f 1"</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserRowPipelineBenchmark {
+
+  private static final ExcelSheetSpec SHEET_SPEC = AAppcarBenchmarkFixtures.SHEET_SPEC;
+
+  /** aappcar 양식과 같은 헤더와 데이터 행 병합(F:G, J:K, L:M, O:P)을 가진 파일이다. */
+  @State(Scope.Benchmark)
+  public static class WorkbookFile {
+
+    @Param({"1000", "10000"})
+    int rows;
+
+    Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      file = AAppcarBenchmarkFixtures.writeWorkbook(rows, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /** 데이터 행을 미리 읽어 두고 매핑 컬럼만 반복 해석한다. */
+  @State(Scope.Benchmark)
+  public static class BufferedRows {
+
+    WorkbookSheetReader reader;
+    MergedCellResolver mergedCells;
+    List<SheetRow> dataRows;
+    int[] mappedColumns;
+    SheetCell[] mappedCells;
+
+    @Setup(Level.Trial)
+    public void setUp(WorkbookFile workbookFile) throws IOException {
+      mappedColumns =
+          new ExcelParserService()
+              .parse(workbookFile.file, AAppcarItemImportRow.class, SHEET_SPEC, 1)
+              .columnMappings()
+              .stream()
+              .mapToInt(ExcelParserService.ColumnMapping::resolvedColumnIndex)
+              .toArray();
+      mappedCells = new SheetCell[mappedColumns.length];
+
+      reader =
+          WorkbookSheetReader.open(
+              workbookFile.file, SHEET_SPEC.resolvedSheetIndex(), new DataFormatter());
+      mergedCells = new MergedCellResolver(reader.mergedRegions());
+      dataRows = new ArrayList<>();
+      for (SheetRow row = reader.nextRow(); row != null; row = reader.nextRow()) {
+        mergedCells.retainAnchors(row);
+        if (row.rowIndex() >= SHEET_SPEC.dataStartRow() - 1) {
+          dataRows.add(row);
+        }
+      }
+      // 셀 문자열 캐시를 채워 두어 두 방식 모두 해석 비용만 비교한다.
+      for (SheetRow row : dataRows) {
+        for (int column : mappedColumns) {
+          SheetCell cell = mergedCells.effectiveCell(row.rowIndex(), row, column);
+          if (cell != null) {
+            cell.text();
+          }
+        }
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      reader.close();
+    }
+  }
+
+  /** 빈 행, 안내 표식, 안내 행, 매핑 값 존재, 바인딩 검사마다 셀을 다시 찾는 이전 방식이다. */
+  @Benchmark
+  public void resolveMappedCellsPerCheck(BufferedRows state, Blackhole blackhole) {
+    for (SheetRow row : state.dataRows) {
+      SheetCell firstCell = row.firstNonBlankCell();
+      if (firstCell == null) {
+        continue;
+      }
+      SheetCell markerCell = row.firstNonBlankCell();
+      if (markerCell.text().startsWith("※")) {
+        continue;
+      }
+
+      Set<String> nonBlankValues = new LinkedHashSet<>();
+      int nonBlankMappedCells = 0;
+      for (int column : state.mappedColumns) {
+        SheetCell cell = state.mergedCells.effectiveCell(row.rowIndex(), row, column);
+        if (cell != null && !cell.isBlank()) {
+          nonBlankMappedCells++;
+          nonBlankValues.add(cell.text());
+        }
+      }
+      if (nonBlankMappedCells > 1 && nonBlankValues.size() == 1) {
+        continue;
+      }
+
+      boolean hasMappedValue = false;
+      for (int column : state.mappedColumns) {
+        SheetCell cell = state.mergedCells.effectiveCell(row.rowIndex(), row, column);
+        if (cell != null && !cell.isBlank()) {
+          hasMappedValue = true;
+          break;
+        }
+      }
+      if (!hasMappedValue) {
+        continue;
+      }
+
+      for (int column : state.mappedColumns) {
+        SheetCell cell = state.mergedCells.effectiveCell(row.rowIndex(), row, column);
+        if (cell != null && !cell.isBlank()) {
+          blackhole.consume(cell.text());
+        }
+      }
+    }
+  }
+
+  /** 매핑 컬럼을 한 번만 찾아 버퍼에 담고 모든 검사와 바인딩이 공유하는 현재 방식이다. */
+  @Benchmark
+  public void resolveMappedCellsOnce(BufferedRows state, Blackhole blackhole) {
+    SheetCell[] mappedCells = state.mappedCells;
+    for (SheetRow row : state.dataRows) {
+      SheetCell firstCell = row.firstNonBlankCell();
+      if (firstCell == null || firstCell.text().startsWith("※")) {
+        continue;
+      }
+
+      int nonBlankMappedCells = 0;
+      for (int i = 0; i < state.mappedColumns.length; i++) {
+        int column = state.mappedColumns[i];
+        SheetCell cell = state.mergedCells.effectiveCell(row.rowIndex(), row, column);
+        mappedCells[i] = cell == null || cell.isBlank() ? null : cell;
+        if (mappedCells[i] != null) {
+          nonBlankMappedCells++;
+        }
+      }
+      if (nonBlankMappedCells == 0 || isNoteRow(mappedCells, nonBlankMappedCells)) {
+        continue;
+      }
+
+      for (SheetCell cell : mappedCells) {
+        if (cell != null) {
+          blackhole.consume(cell.text());
+        }
+      }
+    }
+  }
+
+  private static boolean isNoteRow(SheetCell[] mappedCells, int nonBlankMappedCells) {
+    if (nonBlankMappedCells < 2) {
+      return false;
+    }
+    String firstValue = null;
+    for (SheetCell cell : mappedCells) {
+      if (cell == null) {
+        continue;
+      }
+      if (firstValue == null) {
+        firstValue = cell.text();
+      } else if (!firstValue.equals(cell.text())) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,130 @@
+package com.foo.excel.service.pipeline.report;
+
+import com.foo.excel.benchmark.AAppcarBenchmarkFixtures;
+import com.foo.excel.config.ExcelImportProperties;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.service.contract.ExcelMergeRegion;
+import com.foo.excel.service.contract.ExcelMergeRegionResolver;
+import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import com.foo.excel.validation.ExcelValidationResult;
+import com.foo.excel.validation.RowError;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 오류 리포트 생성 비용을 전체 복사 리포트(워크북, 스트리밍 방식)와 요약 리포트로 나눠 잰다.
+ *
+ * <p>전체 리포트는 원본의 모든 셀을 복사하고 aappcar 병합 영역을 복원하므로 행 수에, 요약 리포트는 오류 행 수에 비례한다.
+ * {@code STREAMING}은 같은 전체 리포트를 워크북을 만들지 않고 패키지 파트 복사로 만든다.
+ * 생성한 리포트 파일은 반복(iteration)이 끝날 때마다 지운다.
+ *
+ * <pre>./gradlew jmh -PjmhArgs="ExcelErrorReportServiceBenchmark -p report=FULL"</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcelErrorReportServiceBenchmark {
+
+  public enum ReportKind {
+    FULL,
+    STREAMING,
+    COMPACT
+  }
+
+  @Param({"1000", "10000", "100000"})
+  int rows;
+
+  @Param({"0.001", "0.01", "0.1"})
+  double errorRatio;
+
+  @Param({"FULL", "STREAMING", "COMPACT"})
+  ReportKind report;
+
+  private Path sourceFile;
+  private Path tempDirectory;
+  private ExcelErrorReportService errorReportService;
+  private ExcelValidationResult validationResult;
+  private List<ExcelParserService.ColumnMapping> columnMappings;
+  private List<ExcelMergeRegion> mergeRegions;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    sourceFile = AAppcarBenchmarkFixtures.writeWorkbook(rows, errorRatio);
+    tempDirectory = Files.createTempDirectory("error-report-benchmark-");
+
+    ExcelImportProperties properties = new ExcelImportProperties();
+    properties.setTempDirectory(tempDirectory.toString());
+    properties.setErrorReportMode(
+        report == ReportKind.STREAMING
+            ? ExcelErrorReportMode.STREAMING
+            : ExcelErrorReportMode.WORKBOOK);
+    errorReportService = new ExcelErrorReportService(properties);
+
+    List<RowError> rowErrors = AAppcarBenchmarkFixtures.rowErrors(rows, errorRatio);
+    // 요약 리포트는 검증이 오류 행 한도에 걸려 중단된 경우에만 만들어진다.
+    validationResult =
+        report == ReportKind.COMPACT
+            ? ExcelValidationResult.truncatedFailure(rows, rowErrors)
+            : ExcelValidationResult.failure(rows, rowErrors);
+    columnMappings =
+        new ExcelParserService()
+            .parse(sourceFile, AAppcarItemImportRow.class, AAppcarBenchmarkFixtures.SHEET_SPEC, 1)
+            .columnMappings();
+    mergeRegions = ExcelMergeRegionResolver.resolve(AAppcarItemImportRow.class);
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteReports() throws IOException {
+    Path errorsDir = tempDirectory.resolve("errors");
+    if (!Files.exists(errorsDir)) {
+      return;
+    }
+    try (Stream<Path> files = Files.list(errorsDir)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(sourceFile);
+    try (Stream<Path> walk = Files.walk(tempDirectory)) {
+      for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public Path generateErrorReport() throws IOException {
+    return errorReportService.generateErrorReport(
+        sourceFile,
+        validationResult,
+        columnMappings,
+        AAppcarBenchmarkFixtures.SHEET_SPEC,
+        "benchmark.xlsx",
+        mergeRegions);
+  }
+}
@@ -0,0 +1,74 @@
+package com.foo.excel.service.pipeline.validation;
+
+import com.foo.excel.benchmark.AAppcarBenchmarkFixtures;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.validation.WithinFileUniqueConstraintValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ExcelValidationService#validate}의 JSR-380 검증과 파일 내 유일성 검증 비용을 잰다.
+ *
+ * <p>오류 행 수 한도는 운영 기본값(100)과 제한 없음 두 가지로 돌려, 한도에 걸려 일찍 멈추는 경우와 끝까지 도는 경우를
+ * 나눠 본다.
+ *
+ * <pre>./gradlew jmh -PjmhArgs="ExcelValidationServiceBenchmark -p rows=10000"</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcelValidationServiceBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  int rows;
+
+  @Param({"0", "0.01", "0.1"})
+  double errorRatio;
+
+  @Param({"100", "2147483647"})
+  int maxErrorRows;
+
+  private ValidatorFactory validatorFactory;
+  private ExcelValidationService validationService;
+  private List<AAppcarItemImportRow> dtos;
+  private List<Integer> sourceRowNumbers;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validationService =
+        new ExcelValidationService(
+            validatorFactory.getValidator(), new WithinFileUniqueConstraintValidator());
+    dtos = AAppcarBenchmarkFixtures.rows(rows, errorRatio);
+    sourceRowNumbers = AAppcarBenchmarkFixtures.sourceRowNumbers(rows);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Benchmark
+  public Object validate() {
+    return validationService.validate(
+        dtos, AAppcarItemImportRow.class, sourceRowNumbers, maxErrorRows);
+  }
+}
@@ -0,0 +1,57 @@
+package com.foo.excel.validation;
+
+import com.foo.excel.benchmark.AAppcarBenchmarkFixtures;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * aappcar 복합 키(물품명 + 규격 + HSK)의 파일 내 중복 검사 비용을 잰다.
+ *
+ * <p>오류 비율의 4분의 1이 앞 행과 같은 복합 키를 가진 중복 행이다.
+ *
+ * <pre>./gradlew jmh -PjmhArgs="WithinFileUniqueConstraintValidatorBenchmark"</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WithinFileUniqueConstraintValidatorBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  int rows;
+
+  @Param({"0", "0.01", "0.1"})
+  double errorRatio;
+
+  private WithinFileUniqueConstraintValidator validator;
+  private List<AAppcarItemImportRow> dtos;
+  private List<Integer> sourceRowNumbers;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    validator = new WithinFileUniqueConstraintValidator();
+    dtos = AAppcarBenchmarkFixtures.rows(rows, errorRatio);
+    sourceRowNumbers = AAppcarBenchmarkFixtures.sourceRowNumbers(rows);
+  }
+
+  @Benchmark
+  public Object checkWithinFileUniqueness() {
+    return validator.checkWithinFileUniqueness(
+        dtos, AAppcarItemImportRow.class, sourceRowNumbers);
+  }
+}
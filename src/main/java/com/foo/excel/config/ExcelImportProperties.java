@@ -1,5 +1,9 @@
 package com.foo.excel.config;
 
+import com.foo.excel.service.pipeline.ExcelExecutionMode;
+import com.foo.excel.service.pipeline.parse.ExcelParseMode;
+import com.foo.excel.service.pipeline.report.ExcelErrorReportExecution;
+import com.foo.excel.service.pipeline.report.ExcelErrorReportMode;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -22,6 +26,17 @@ public class ExcelImportProperties {
   private int errorRowLimit = 100;
   private int retentionDays = 30;
   private String tempDirectory = System.getProperty("java.io.tmpdir") + "/excel-imports";
+  private ExcelParseMode parseMode = ExcelParseMode.WORKBOOK;
+  private ExcelExecutionMode executionMode = ExcelExecutionMode.SERIAL;
+  private ExcelErrorReportMode errorReportMode = ExcelErrorReportMode.WORKBOOK;
+  private ExcelErrorReportExecution errorReportExecution = ExcelErrorReportExecution.SYNC;
+  private int errorReportThreads = 2;
+  private int errorReportQueueCapacity = 16;
+  private int errorReportPendingTimeoutMinutes = 30;
+  private int chunkSize = 1000;
+  private int pipelineQueueCapacity = 4;
+  private int pipelineMaxConcurrentImports = 2;
+  private boolean sqlStatementCounting = false;
 
   @PostConstruct
   public void init() throws IOException {
@@ -0,0 +1,35 @@
+package com.foo.excel.config;
+
+import com.foo.excel.service.pipeline.persist.SqlStatementCountingDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 데이터소스를 {@link SqlStatementCountingDataSource}로 감싸 저장 단계의 SQL 실행 건수를 타이밍 로그에
+ * 남긴다. 감싼 뒤에는 모든 JDBC 호출이 리플렉션 프록시를 거쳐 배치 저장 경로까지 느려지므로
+ * {@code excel.import.sql-statement-counting=true}로 켤 때만 적용한다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+    prefix = "excel.import",
+    name = "sql-statement-counting",
+    havingValue = "true")
+public class SqlStatementCountingConfig {
+
+  @Bean
+  static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof SqlStatementCountingDataSource)) {
+          return new SqlStatementCountingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -1,7 +1,9 @@
 package com.foo.excel.controller;
 
+import com.foo.excel.config.ExcelImportProperties;
 import com.foo.excel.service.pipeline.ExcelImportOrchestrator.ImportResult;
 import com.foo.excel.service.pipeline.ExcelImportRequestService;
+import com.foo.excel.service.pipeline.report.ExcelErrorReportExecution;
 import com.foo.excel.imports.ImportTypeNames;
 import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
 import com.foo.excel.imports.samples.aappcar.mapper.AAppcarItemImportMetadataFormMapper;
@@ -25,6 +27,7 @@ public class AAppcarItemImportPageController {
 
   private final ExcelImportRequestService importRequestService;
   private final AAppcarItemImportMetadataFormMapper metadataFormMapper;
+  private final ExcelImportProperties properties;
 
   @GetMapping("/upload/" + ImportTypeNames.AAPPCAR)
   public String importForm() {
@@ -86,6 +89,10 @@ public class AAppcarItemImportPageController {
               .message("파일 처리 중 오류가 발생했습니다. 관리자에게 문의하세요.")
               .build());
     }
+    // 동기 생성이면 리포트가 이미 있으므로 다시 누르라는 안내를 보이지 않는다.
+    model.addAttribute(
+        "errorReportDeferred",
+        properties.getErrorReportExecution() != ExcelErrorReportExecution.SYNC);
     return "result";
   }
 }
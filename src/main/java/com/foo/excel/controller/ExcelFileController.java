@@ -1,6 +1,7 @@
 package com.foo.excel.controller;
 
 import com.foo.excel.config.ExcelImportProperties;
+import com.foo.excel.service.pipeline.report.ErrorReportDispatcher;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -12,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -30,7 +32,11 @@ public class ExcelFileController {
   private static final Pattern UUID_PATTERN =
       Pattern.compile("^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
 
+  /** 백그라운드 생성 중인 리포트를 다시 요청하기까지 기다릴 초 단위 시간이다. */
+  private static final String RETRY_AFTER_SECONDS = "2";
+
   private final ExcelImportProperties properties;
+  private final ErrorReportDispatcher errorReportDispatcher;
 
   @GetMapping("/api/excel/download/{fileId}")
   public ResponseEntity<Resource> downloadErrorFile(@PathVariable String fileId) {
@@ -41,7 +47,16 @@ public class ExcelFileController {
     Path errorsDir = properties.getTempDirectoryPath().resolve("errors");
     Path errorFile = errorsDir.resolve(fileId + ".xlsx");
 
-    if (!Files.exists(errorFile)) {
+    ErrorReportDispatcher.Status status = errorReportDispatcher.prepareDownload(fileId);
+    if (status == ErrorReportDispatcher.Status.PENDING) {
+      return ResponseEntity.status(HttpStatus.ACCEPTED)
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .build();
+    }
+    if (status == ErrorReportDispatcher.Status.FAILED) {
+      return ResponseEntity.internalServerError().build();
+    }
+    if (status != ErrorReportDispatcher.Status.READY) {
       return ResponseEntity.notFound().build();
     }
 
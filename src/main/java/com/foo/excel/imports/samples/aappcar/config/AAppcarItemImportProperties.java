@@ -0,0 +1,17 @@
+package com.foo.excel.imports.samples.aappcar.config;
+
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemWriteMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * `aappcar` 품목 import 전용 설정 값을 바인딩하는 프로퍼티 객체이다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "excel.import.aappcar")
+public class AAppcarItemImportProperties {
+
+  private AAppcarItemWriteMode writeMode = AAppcarItemWriteMode.JPA;
+}
@@ -3,18 +3,26 @@ package com.foo.excel.imports.samples.aappcar.persistence.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 /**
  * `aappcar` 업로드 단위의 설비 메타데이터를 저장하는 엔티티이다.
+ *
+ * <p>{@link AAppcarItem}과 마찬가지로 기본키를 직접 지정하므로 신규 여부를 {@link Persistable}로 명시한다. 설비
+ * upsert가 조회로 행이 없음을 확인했을 때만 {@link #markNew()}를 호출한다.
  */
 @Getter
 @Setter
@@ -23,7 +31,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @Entity
 @Table(name = "a_appcar_equip")
-public class AAppcarEquip {
+public class AAppcarEquip implements Persistable<AAppcarEquipId> {
 
   @EmbeddedId private AAppcarEquipId id;
 
@@ -52,4 +60,25 @@ public class AAppcarEquip {
 
   @Column(name = "approval_date")
   private LocalDate approvalDate;
+
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean newEntity;
+
+  /** 기존 키 조회로 DB에 없음을 확인한 설비임을 표시한다. 다음 {@code save()}는 {@code persist}로 처리된다. */
+  public void markNew() {
+    this.newEntity = true;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markPersisted() {
+    this.newEntity = false;
+  }
 }
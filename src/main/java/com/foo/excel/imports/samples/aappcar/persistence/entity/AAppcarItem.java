@@ -3,17 +3,26 @@ package com.foo.excel.imports.samples.aappcar.persistence.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 /**
  * `aappcar` 품목 업로드 결과를 저장하는 품목 엔티티이다.
+ *
+ * <p>기본키를 직접 지정하므로 Spring Data는 식별자만 보고 신규 여부를 알 수 없어 {@code save()}가 항상
+ * {@code merge}(저장 전 SELECT)로 처리된다. 저장 경로가 기존 키 조회 결과로 신규임을 확인한 엔티티에
+ * {@link #markNew()}를 호출하면 SELECT 없이 {@code persist}되어 INSERT 배치에 그대로 묶인다.
  */
 @Getter
 @Setter
@@ -22,7 +31,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @Entity
 @Table(name = "a_appcar_item")
-public class AAppcarItem {
+public class AAppcarItem implements Persistable<AAppcarItemId> {
 
   @EmbeddedId private AAppcarItemId id;
 
@@ -81,4 +90,25 @@ public class AAppcarItem {
 
   @Column(name = "old_amt", precision = 15, scale = 4)
   private BigDecimal oldAmt;
+
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean newEntity;
+
+  /** 기존 키 조회로 DB에 없음을 확인한 품목임을 표시한다. 다음 {@code save()}는 {@code persist}로 처리된다. */
+  public void markNew() {
+    this.newEntity = true;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markPersisted() {
+    this.newEntity = false;
+  }
 }
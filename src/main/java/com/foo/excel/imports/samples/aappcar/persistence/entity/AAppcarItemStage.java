@@ -0,0 +1,82 @@
+package com.foo.excel.imports.samples.aappcar.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * `aappcar` 품목 MERGE 저장에 쓰는 스테이징 테이블이다.
+ *
+ * <p>{@code MERGE} 쓰기 방식이 업로드 행을 이 테이블에 배치로 적재한 뒤 한 번의 MERGE 문으로 {@code a_appcar_item}에
+ * 반영하고, 같은 트랜잭션 안에서 적재한 행을 지운다. 애플리케이션 코드는 JDBC로만 접근하며, 엔티티는 다른 테이블과
+ * 같은 방식으로 스키마를 관리하기 위해 둔다. 스키마를 따로 관리하는 Oracle용 DDL은
+ * {@code docs/sql/oracle/a_appcar_item_stage.sql}에 있으며 컬럼을 바꾸면 함께 고쳐야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "a_appcar_item_stage")
+public class AAppcarItemStage {
+
+  @EmbeddedId private AAppcarItemStageId id;
+
+  @Column(name = "company_id", nullable = false, length = 35)
+  private String companyId;
+
+  @Column(name = "custom_id", nullable = false, length = 35)
+  private String customId;
+
+  @Column(name = "come_year", nullable = false, length = 20)
+  private String comeYear;
+
+  @Column(name = "come_order", nullable = false, length = 50)
+  private String comeOrder;
+
+  @Column(name = "upload_seq", nullable = false, length = 50)
+  private String uploadSeq;
+
+  @Column(name = "equip_code", nullable = false, length = 50)
+  private String equipCode;
+
+  @Column(name = "goods_seq_no", nullable = false)
+  private Integer goodsSeqNo;
+
+  @Column(name = "goods_des", length = 100)
+  private String goodsDes;
+
+  @Column(name = "spec", length = 100)
+  private String spec;
+
+  @Column(name = "model_des", length = 100)
+  private String modelDes;
+
+  @Column(name = "hsno", length = 12)
+  private String hsno;
+
+  @Column(name = "tax_rate", precision = 10, scale = 4)
+  private BigDecimal taxRate;
+
+  @Column(name = "unitprice", precision = 15, scale = 4)
+  private BigDecimal unitprice;
+
+  @Column(name = "prod_qty")
+  private Integer prodQty;
+
+  @Column(name = "repair_qty")
+  private Integer repairQty;
+
+  @Column(name = "import_amt", precision = 15, scale = 4)
+  private BigDecimal importAmt;
+
+  @Column(name = "import_qty")
+  private Integer importQty;
+
+  @Column(name = "approval_yn", nullable = false, length = 1)
+  private String approvalYn;
+}
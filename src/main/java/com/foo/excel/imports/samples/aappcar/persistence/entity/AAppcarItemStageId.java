@@ -0,0 +1,32 @@
+package com.foo.excel.imports.samples.aappcar.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * `aappcar` 품목 스테이징 행의 기본키이다. 저장 호출마다 새로 발급한 식별자와 호출 안의 순번으로 구성한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class AAppcarItemStageId implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  @Column(name = "import_id", nullable = false, length = 36)
+  private String importId;
+
+  @Column(name = "stage_seq", nullable = false)
+  private Integer stageSeq;
+}
@@ -2,7 +2,49 @@ package com.foo.excel.imports.samples.aappcar.persistence.repository;
 
 import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
 import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AAppcarItemRepository
-    extends JpaRepository<AAppcarItem, AAppcarItemId> {}
+    extends JpaRepository<AAppcarItem, AAppcarItemId> {
+
+  /** 기본키 앞 6개 컬럼이 같은 품목 중 {@code goods_seq_no}가 주어진 범위 안에 있는 값을 반환한다. */
+  @Query(
+      """
+      select i.id.goodsSeqNo from AAppcarItem i
+      where i.id.companyId = :companyId and i.id.customId = :customId
+        and i.id.comeYear = :comeYear and i.id.comeOrder = :comeOrder
+        and i.id.uploadSeq = :uploadSeq and i.id.equipCode = :equipCode
+        and i.id.goodsSeqNo between :minGoodsSeqNo and :maxGoodsSeqNo
+      """)
+  List<Integer> findGoodsSeqNosInRange(
+      @Param("companyId") String companyId,
+      @Param("customId") String customId,
+      @Param("comeYear") String comeYear,
+      @Param("comeOrder") String comeOrder,
+      @Param("uploadSeq") String uploadSeq,
+      @Param("equipCode") String equipCode,
+      @Param("minGoodsSeqNo") int minGoodsSeqNo,
+      @Param("maxGoodsSeqNo") int maxGoodsSeqNo);
+
+  /** {@link #findGoodsSeqNosInRange}와 같은 조건으로 품목 엔티티를 조회한다. */
+  @Query(
+      """
+      select i from AAppcarItem i
+      where i.id.companyId = :companyId and i.id.customId = :customId
+        and i.id.comeYear = :comeYear and i.id.comeOrder = :comeOrder
+        and i.id.uploadSeq = :uploadSeq and i.id.equipCode = :equipCode
+        and i.id.goodsSeqNo between :minGoodsSeqNo and :maxGoodsSeqNo
+      """)
+  List<AAppcarItem> findItemsInRange(
+      @Param("companyId") String companyId,
+      @Param("customId") String customId,
+      @Param("comeYear") String comeYear,
+      @Param("comeOrder") String comeOrder,
+      @Param("uploadSeq") String uploadSeq,
+      @Param("equipCode") String equipCode,
+      @Param("minGoodsSeqNo") int minGoodsSeqNo,
+      @Param("maxGoodsSeqNo") int maxGoodsSeqNo);
+}
@@ -3,16 +3,11 @@ package com.foo.excel.imports.samples.aappcar.service;
 import com.foo.excel.service.contract.DatabaseUniquenessChecker;
 import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
 import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
-import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
-import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
-import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
 import com.foo.excel.validation.CellError;
 import com.foo.excel.validation.ExcelColumnRef;
 import com.foo.excel.validation.RowError;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -56,10 +51,11 @@ public class AAppcarItemDatabaseUniquenessChecker
   /** Message used when an item row would collide with an existing persisted item ID. */
   private static final String ITEM_DUPLICATE_MESSAGE = "품목 테이블에 이미 존재하는 ID입니다.";
 
-  /** Repository for per-row item entities. */
-  private final AAppcarItemRepository itemRepository;
-
-  private final AAppcarItemKeyFactory keyFactory;
+  /**
+   * Lookup of already persisted item keys: one primary-key range query over the upload's key
+   * prefix and {@code goods_seq_no} span, collected into a bitset.
+   */
+  private final AAppcarItemKeyLookup keyLookup;
 
   /**
    * Performs DB duplicate checking for the current upload.
@@ -91,11 +87,11 @@ public class AAppcarItemDatabaseUniquenessChecker
     }
 
     // Item IDs are row-specific because the original Excel row number is part of the persisted ID.
-    // We prefetch existing IDs once and then match in-memory for stable per-row error reporting.
-    Set<AAppcarItemId> existingItemIds = findExistingItemIds(sourceRowNumbers, metadata);
+    // Every ID in one upload shares the metadata prefix, so existing goods_seq_no values are
+    // prefetched once into a bitset and each row is matched by its row number alone.
+    AAppcarItemKeySet existingKeys = keyLookup.findExistingKeys(metadata, sourceRowNumbers);
     for (int rowNumber : sourceRowNumbers) {
-      AAppcarItemId itemId = keyFactory.buildItemId(metadata, rowNumber);
-      if (existingItemIds.contains(itemId)) {
+      if (existingKeys.contains(rowNumber)) {
         errors.add(buildRowError(rowNumber, ITEM_DUPLICATE_MESSAGE));
       }
     }
@@ -103,24 +99,6 @@ public class AAppcarItemDatabaseUniquenessChecker
     return errors;
   }
 
-  /**
-   * Loads existing item IDs for the current upload candidate set.
-   *
-   * <p>The query is assembled from metadata plus each source row number because that combination is
-   * the actual persisted item key for this import.
-   */
-  private Set<AAppcarItemId> findExistingItemIds(
-      List<Integer> sourceRowNumbers, AAppcarItemImportMetadata metadata) {
-    List<AAppcarItemId> itemIds =
-        sourceRowNumbers.stream().map(rowNumber -> keyFactory.buildItemId(metadata, rowNumber)).toList();
-    List<AAppcarItem> existingItems = itemRepository.findAllById(itemIds);
-    Set<AAppcarItemId> existingIds = new HashSet<>();
-    for (AAppcarItem existingItem : existingItems) {
-      existingIds.add(existingItem.getId());
-    }
-    return existingIds;
-  }
-
   /**
    * Builds a standardized row error pointing at the identifier column.
    *
@@ -0,0 +1,103 @@
+package com.foo.excel.imports.samples.aappcar.service;
+
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import com.foo.excel.service.contract.PersistenceHandler.SaveResult;
+import com.foo.excel.service.pipeline.persist.SaveStageProfiler;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link AAppcarItemWriteMode#JDBC_BATCH} 방식의 품목 저장 전략이다.
+ *
+ * <p>영속성 컨텍스트와 엔티티 병합(merge) 조회를 거치지 않는다. 먼저 모든 품목을 기본키 기준 UPDATE로 배치 실행하고,
+ * 갱신 건수가 0인 품목만 모아 INSERT를 배치 실행한다. 기존 ID를 따로 조회하지 않으므로 왕복 횟수는 배치 수에만
+ * 비례하며, 생성/수정 건수는 드라이버가 돌려준 갱신 건수로 판정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AAppcarItemJdbcBatchWriter implements AAppcarItemWriter {
+
+  private static final int BATCH_SIZE = 500;
+
+  private static final String UPDATE_SQL =
+      "UPDATE a_appcar_item SET goods_des = ?, spec = ?, model_des = ?, hsno = ?, tax_rate = ?,"
+          + " unitprice = ?, prod_qty = ?, repair_qty = ?, import_amt = ?, import_qty = ?,"
+          + " approval_yn = ?"
+          + " WHERE company_id = ? AND custom_id = ? AND come_year = ? AND come_order = ?"
+          + " AND upload_seq = ? AND equip_code = ? AND goods_seq_no = ?";
+
+  private static final String INSERT_SQL =
+      "INSERT INTO a_appcar_item (goods_des, spec, model_des, hsno, tax_rate, unitprice,"
+          + " prod_qty, repair_qty, import_amt, import_qty, approval_yn, company_id, custom_id,"
+          + " come_year, come_order, upload_seq, equip_code, goods_seq_no)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public AAppcarItemWriteMode writeMode() {
+    return AAppcarItemWriteMode.JDBC_BATCH;
+  }
+
+  @Override
+  public SaveResult write(List<AAppcarItem> items) {
+    int[][] updateCounts =
+        SaveStageProfiler.time(
+            "updateBatch",
+            () -> jdbcTemplate.batchUpdate(UPDATE_SQL, items, BATCH_SIZE, this::bindItem));
+
+    List<AAppcarItem> missingItems = new ArrayList<>();
+    int index = 0;
+    for (int[] batchCounts : updateCounts) {
+      for (int updateCount : batchCounts) {
+        if (updateCount == Statement.SUCCESS_NO_INFO) {
+          throw new IllegalStateException(
+              "JDBC 드라이버가 배치 UPDATE 건수를 반환하지 않아 생성/수정 여부를 판정할 수 없습니다.");
+        }
+        if (updateCount == 0) {
+          missingItems.add(items.get(index));
+        }
+        index++;
+      }
+    }
+
+    if (!missingItems.isEmpty()) {
+      SaveStageProfiler.time(
+          "insertBatch",
+          () -> jdbcTemplate.batchUpdate(INSERT_SQL, missingItems, BATCH_SIZE, this::bindItem));
+    }
+    return new SaveResult(missingItems.size(), items.size() - missingItems.size());
+  }
+
+  /** UPDATE와 INSERT 모두 엑셀 유래 컬럼 11개 다음에 기본키 컬럼 7개가 오는 순서로 바인딩한다. */
+  private void bindItem(PreparedStatement ps, AAppcarItem item) throws SQLException {
+    ps.setString(1, item.getGoodsDes());
+    ps.setString(2, item.getSpec());
+    ps.setString(3, item.getModelDes());
+    ps.setString(4, item.getHsno());
+    ps.setBigDecimal(5, item.getTaxRate());
+    ps.setBigDecimal(6, item.getUnitprice());
+    ps.setObject(7, item.getProdQty(), Types.INTEGER);
+    ps.setObject(8, item.getRepairQty(), Types.INTEGER);
+    ps.setBigDecimal(9, item.getImportAmt());
+    ps.setObject(10, item.getImportQty(), Types.INTEGER);
+    ps.setString(11, item.getApprovalYn());
+
+    AAppcarItemId id = item.getId();
+    ps.setString(12, id.getCompanyId());
+    ps.setString(13, id.getCustomId());
+    ps.setString(14, id.getComeYear());
+    ps.setString(15, id.getComeOrder());
+    ps.setString(16, id.getUploadSeq());
+    ps.setString(17, id.getEquipCode());
+    ps.setInt(18, id.getGoodsSeqNo());
+  }
+}
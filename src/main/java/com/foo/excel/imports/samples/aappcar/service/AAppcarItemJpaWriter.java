@@ -0,0 +1,91 @@
+package com.foo.excel.imports.samples.aappcar.service;
+
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
+import com.foo.excel.service.contract.PersistenceHandler.SaveResult;
+import com.foo.excel.service.pipeline.persist.SaveStageProfiler;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** {@link AAppcarItemWriteMode#JPA} 방식의 품목 저장 전략이다. */
+@Component
+@RequiredArgsConstructor
+public class AAppcarItemJpaWriter implements AAppcarItemWriter {
+
+  private static final int ITEM_BATCH_SIZE = 100;
+
+  private final AAppcarItemRepository itemRepository;
+  private final AAppcarItemKeyLookup keyLookup;
+
+  @Override
+  public AAppcarItemWriteMode writeMode() {
+    return AAppcarItemWriteMode.JPA;
+  }
+
+  @Override
+  public SaveResult write(List<AAppcarItem> items) {
+    Map<AAppcarItemId, AAppcarItem> existingItems =
+        SaveStageProfiler.time(
+            "lookup", () -> findExistingItems(items.stream().map(AAppcarItem::getId).toList()));
+    List<AAppcarItem> entitiesToSave = new ArrayList<>(items.size());
+    int created = 0;
+
+    for (AAppcarItem item : items) {
+      AAppcarItem entity = existingItems.get(item.getId());
+      if (entity == null) {
+        // 기존 키 조회에 없던 품목이므로 merge 조회 없이 persist되어 INSERT 배치로 묶인다.
+        item.markNew();
+        entity = item;
+        created++;
+      } else {
+        copyUploadedFields(item, entity);
+      }
+      entitiesToSave.add(entity);
+    }
+
+    saveItemsInBatches(entitiesToSave);
+
+    return new SaveResult(created, items.size() - created);
+  }
+
+  private Map<AAppcarItemId, AAppcarItem> findExistingItems(List<AAppcarItemId> itemIds) {
+    Map<AAppcarItemId, AAppcarItem> existingItems = new HashMap<>();
+    for (AAppcarItem existingItem : keyLookup.findExistingItems(itemIds)) {
+      existingItems.put(existingItem.getId(), existingItem);
+    }
+    return existingItems;
+  }
+
+  private void saveItemsInBatches(List<AAppcarItem> entitiesToSave) {
+    int total = entitiesToSave.size();
+    for (int start = 0; start < total; start += ITEM_BATCH_SIZE) {
+      int end = Math.min(start + ITEM_BATCH_SIZE, total);
+      List<AAppcarItem> batch = entitiesToSave.subList(start, end);
+      SaveStageProfiler.time(
+          "flush",
+          () -> {
+            itemRepository.saveAll(batch);
+            itemRepository.flush();
+          });
+    }
+  }
+
+  private void copyUploadedFields(AAppcarItem source, AAppcarItem target) {
+    target.setGoodsDes(source.getGoodsDes());
+    target.setSpec(source.getSpec());
+    target.setModelDes(source.getModelDes());
+    target.setHsno(source.getHsno());
+    target.setTaxRate(source.getTaxRate());
+    target.setUnitprice(source.getUnitprice());
+    target.setProdQty(source.getProdQty());
+    target.setRepairQty(source.getRepairQty());
+    target.setImportAmt(source.getImportAmt());
+    target.setImportQty(source.getImportQty());
+    target.setApprovalYn(source.getApprovalYn());
+  }
+}
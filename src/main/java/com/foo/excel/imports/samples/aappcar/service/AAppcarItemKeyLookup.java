@@ -0,0 +1,107 @@
+package com.foo.excel.imports.samples.aappcar.service;
+
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemKeySet.KeyPrefix;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 품목 ID 중 이미 저장된 것을 찾는다.
+ *
+ * <p>한 업로드의 품목 ID는 메타데이터 6개 컬럼이 같고 {@code goods_seq_no}만 다르다. 그래서 복합키를 하나씩 나열하지
+ * 않고, 공통 접두와 {@code goods_seq_no BETWEEN 최솟값 AND 최댓값} 조건으로 한 번만 조회한다. 이 조건은 기본키
+ * 인덱스의 범위 스캔으로 풀리며 키 개수와 무관하게 SQL 길이가 일정하다. 범위 안에 있지만 요청하지 않은 순번(빈 행 등)은
+ * 결과에서 걸러 낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AAppcarItemKeyLookup {
+
+  private final AAppcarItemRepository itemRepository;
+  private final AAppcarItemKeyFactory keyFactory;
+
+  /**
+   * 메타데이터와 원본 행 번호로 정해지는 품목 키 중 이미 저장된 것을 찾는다.
+   *
+   * @param metadata 품목 ID 앞 6개 컬럼을 정하는 업로드 메타데이터
+   * @param goodsSeqNos 조회할 {@code goods_seq_no}(원본 행 번호) 목록
+   */
+  public AAppcarItemKeySet findExistingKeys(
+      AAppcarItemImportMetadata metadata, List<Integer> goodsSeqNos) {
+    // 저장 경로와 같은 키 규칙을 쓰도록 접두는 키 팩토리가 만든 ID에서 꺼낸다.
+    KeyPrefix prefix = KeyPrefix.of(keyFactory.buildItemId(metadata, 0));
+    BitSet requested = toBitSet(goodsSeqNos);
+    BitSet existing = new BitSet();
+    if (!requested.isEmpty()) {
+      for (int goodsSeqNo : findGoodsSeqNosInRange(prefix, requested)) {
+        if (requested.get(goodsSeqNo)) {
+          existing.set(goodsSeqNo);
+        }
+      }
+    }
+    return new AAppcarItemKeySet(prefix, existing);
+  }
+
+  /** 이미 저장된 품목 엔티티를 접두마다 범위 조회 한 번으로 찾는다. */
+  public List<AAppcarItem> findExistingItems(Collection<AAppcarItemId> itemIds) {
+    Map<KeyPrefix, BitSet> requestedByPrefix = new LinkedHashMap<>();
+    for (AAppcarItemId itemId : itemIds) {
+      requestedByPrefix
+          .computeIfAbsent(KeyPrefix.of(itemId), prefix -> new BitSet())
+          .set(itemId.getGoodsSeqNo());
+    }
+
+    List<AAppcarItem> existingItems = new ArrayList<>();
+    for (Map.Entry<KeyPrefix, BitSet> group : requestedByPrefix.entrySet()) {
+      KeyPrefix prefix = group.getKey();
+      BitSet requested = group.getValue();
+      for (AAppcarItem item : findItemsInRange(prefix, requested)) {
+        if (requested.get(item.getId().getGoodsSeqNo())) {
+          existingItems.add(item);
+        }
+      }
+    }
+    return existingItems;
+  }
+
+  private List<Integer> findGoodsSeqNosInRange(KeyPrefix prefix, BitSet requested) {
+    return itemRepository.findGoodsSeqNosInRange(
+        prefix.companyId(),
+        prefix.customId(),
+        prefix.comeYear(),
+        prefix.comeOrder(),
+        prefix.uploadSeq(),
+        prefix.equipCode(),
+        requested.nextSetBit(0),
+        requested.length() - 1);
+  }
+
+  private List<AAppcarItem> findItemsInRange(KeyPrefix prefix, BitSet requested) {
+    return itemRepository.findItemsInRange(
+        prefix.companyId(),
+        prefix.customId(),
+        prefix.comeYear(),
+        prefix.comeOrder(),
+        prefix.uploadSeq(),
+        prefix.equipCode(),
+        requested.nextSetBit(0),
+        requested.length() - 1);
+  }
+
+  private static BitSet toBitSet(List<Integer> goodsSeqNos) {
+    BitSet bits = new BitSet();
+    for (int goodsSeqNo : goodsSeqNos) {
+      bits.set(goodsSeqNo);
+    }
+    return bits;
+  }
+}
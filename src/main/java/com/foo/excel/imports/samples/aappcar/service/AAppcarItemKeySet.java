@@ -0,0 +1,68 @@
+package com.foo.excel.imports.samples.aappcar.service;
+
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import java.util.BitSet;
+
+/**
+ * 이미 저장된 `aappcar` 품목 키 집합이다.
+ *
+ * <p>한 업로드의 품목 ID는 메타데이터에서 온 앞 6개 컬럼이 같고 {@code goodsSeqNo}(원본 행 번호)만 다르므로, 공통
+ * 접두 하나와 {@code goodsSeqNo} 비트셋만 보관한다. 행마다 복합키 객체를 만들고 해시할 필요 없이 비트 하나로 존재
+ * 여부를 판정한다.
+ */
+public final class AAppcarItemKeySet {
+
+  private final KeyPrefix prefix;
+  private final BitSet goodsSeqNos;
+
+  /**
+   * 품목 ID에서 {@code goodsSeqNo}를 뺀 공통 접두이다.
+   *
+   * @param companyId 회사 ID
+   * @param customId 세관 ID
+   * @param comeYear 반입 연도
+   * @param comeOrder 반입 차수
+   * @param uploadSeq 업로드 순번
+   * @param equipCode 설비 코드
+   */
+  record KeyPrefix(
+      String companyId,
+      String customId,
+      String comeYear,
+      String comeOrder,
+      String uploadSeq,
+      String equipCode) {
+
+    static KeyPrefix of(AAppcarItemId itemId) {
+      return new KeyPrefix(
+          itemId.getCompanyId(),
+          itemId.getCustomId(),
+          itemId.getComeYear(),
+          itemId.getComeOrder(),
+          itemId.getUploadSeq(),
+          itemId.getEquipCode());
+    }
+  }
+
+  AAppcarItemKeySet(KeyPrefix prefix, BitSet goodsSeqNos) {
+    this.prefix = prefix;
+    this.goodsSeqNos = goodsSeqNos;
+  }
+
+  /** 같은 업로드 접두 안에서 {@code goodsSeqNo}가 이미 저장되어 있는지 확인한다. */
+  public boolean contains(int goodsSeqNo) {
+    return goodsSeqNo >= 0 && goodsSeqNos.get(goodsSeqNo);
+  }
+
+  public boolean contains(AAppcarItemId itemId) {
+    return prefix.equals(KeyPrefix.of(itemId)) && contains(itemId.getGoodsSeqNo());
+  }
+
+  public int size() {
+    return goodsSeqNos.cardinality();
+  }
+
+  public boolean isEmpty() {
+    return goodsSeqNos.isEmpty();
+  }
+}
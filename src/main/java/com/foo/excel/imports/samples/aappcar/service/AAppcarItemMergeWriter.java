@@ -0,0 +1,134 @@
+package com.foo.excel.imports.samples.aappcar.service;
+
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import com.foo.excel.service.contract.PersistenceHandler.SaveResult;
+import com.foo.excel.service.pipeline.persist.SaveStageProfiler;
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link AAppcarItemWriteMode#MERGE} 방식의 품목 저장 전략이다.
+ *
+ * <p>저장 호출마다 새 식별자를 발급해 품목을 {@code a_appcar_item_stage}에 배치로 적재하고, 한 번의 MERGE 문으로
+ * {@code a_appcar_item}에 반영한 뒤 적재한 행을 지운다. 행 수와 무관하게 적재 배치를 제외한 왕복은 세 번(일치 건수
+ * 조회, MERGE, 정리)이다.
+ *
+ * <p>MERGE 문은 SQL 표준 형식({@code MERGE INTO ... USING ... ON (...) WHEN [NOT] MATCHED ...})만 사용하므로
+ * H2와 Oracle에서 그대로 실행된다. MERGE가 돌려주는 건수는 생성과 수정을 합한 값이므로, 같은 트랜잭션에서
+ * MERGE 직전에 센 기존 품목 수를 수정 건수로 본다.
+ *
+ * <p>합계는 MERGE가 실제로 반영한 건수이지만 생성/수정 구분은 근사치이다. READ COMMITTED에서는 조회와 MERGE 사이에 다른
+ * 트랜잭션이 같은 키의 품목을 커밋하거나 지울 수 있고, 그러면 MERGE는 조회 때와 다른 분기로 그 행을 처리한다. 행 잠금으로는
+ * 새로 생기는 행을 막을 수 없으므로 구분을 맞추려고 잠그지 않는다. 같은 키로 동시에 올리는 업로드는 DB 유일성 검사가 먼저
+ * 걸러 내므로 이 차이는 결과 메시지와 지표의 건수에만 영향을 준다.
+ *
+ * <p>스테이징 테이블은 {@code ddl-auto}가 없으면 만들어지지 않는다. 스키마를 따로 관리하는 Oracle 환경에서는
+ * {@code docs/sql/oracle/a_appcar_item_stage.sql}을 먼저 적용해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AAppcarItemMergeWriter implements AAppcarItemWriter {
+
+  private static final int STAGE_BATCH_SIZE = 500;
+
+  private static final String STAGE_INSERT_SQL =
+      "INSERT INTO a_appcar_item_stage (import_id, stage_seq, company_id, custom_id, come_year,"
+          + " come_order, upload_seq, equip_code, goods_seq_no, goods_des, spec, model_des, hsno,"
+          + " tax_rate, unitprice, prod_qty, repair_qty, import_amt, import_qty, approval_yn)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String KEY_JOIN_CONDITION =
+      "t.company_id = s.company_id AND t.custom_id = s.custom_id AND t.come_year = s.come_year"
+          + " AND t.come_order = s.come_order AND t.upload_seq = s.upload_seq"
+          + " AND t.equip_code = s.equip_code AND t.goods_seq_no = s.goods_seq_no";
+
+  private static final String COUNT_MATCHED_SQL =
+      "SELECT COUNT(*) FROM a_appcar_item_stage s JOIN a_appcar_item t ON "
+          + KEY_JOIN_CONDITION
+          + " WHERE s.import_id = ?";
+
+  private static final String MERGE_SQL =
+      "MERGE INTO a_appcar_item t"
+          + " USING (SELECT * FROM a_appcar_item_stage WHERE import_id = ?) s"
+          + " ON ("
+          + KEY_JOIN_CONDITION
+          + ")"
+          + " WHEN MATCHED THEN UPDATE SET goods_des = s.goods_des, spec = s.spec,"
+          + " model_des = s.model_des, hsno = s.hsno, tax_rate = s.tax_rate,"
+          + " unitprice = s.unitprice, prod_qty = s.prod_qty, repair_qty = s.repair_qty,"
+          + " import_amt = s.import_amt, import_qty = s.import_qty, approval_yn = s.approval_yn"
+          + " WHEN NOT MATCHED THEN INSERT (company_id, custom_id, come_year, come_order,"
+          + " upload_seq, equip_code, goods_seq_no, goods_des, spec, model_des, hsno, tax_rate,"
+          + " unitprice, prod_qty, repair_qty, import_amt, import_qty, approval_yn)"
+          + " VALUES (s.company_id, s.custom_id, s.come_year, s.come_order, s.upload_seq,"
+          + " s.equip_code, s.goods_seq_no, s.goods_des, s.spec, s.model_des, s.hsno, s.tax_rate,"
+          + " s.unitprice, s.prod_qty, s.repair_qty, s.import_amt, s.import_qty, s.approval_yn)";
+
+  private static final String CLEAR_STAGE_SQL =
+      "DELETE FROM a_appcar_item_stage WHERE import_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public AAppcarItemWriteMode writeMode() {
+    return AAppcarItemWriteMode.MERGE;
+  }
+
+  @Override
+  public SaveResult write(List<AAppcarItem> items) {
+    if (items.isEmpty()) {
+      return new SaveResult(0, 0);
+    }
+
+    String importId = UUID.randomUUID().toString();
+    SaveStageProfiler.time("stage", () -> stage(importId, items));
+
+    Integer matched =
+        SaveStageProfiler.time(
+            "lookup",
+            () -> jdbcTemplate.queryForObject(COUNT_MATCHED_SQL, Integer.class, importId));
+    int merged = SaveStageProfiler.time("merge", () -> jdbcTemplate.update(MERGE_SQL, importId));
+    SaveStageProfiler.time("clearStage", () -> jdbcTemplate.update(CLEAR_STAGE_SQL, importId));
+
+    int updated = matched == null ? 0 : matched;
+    return new SaveResult(merged - updated, updated);
+  }
+
+  private void stage(String importId, List<AAppcarItem> items) {
+    List<Integer> stageSeqs = IntStream.range(0, items.size()).boxed().toList();
+    jdbcTemplate.batchUpdate(
+        STAGE_INSERT_SQL,
+        stageSeqs,
+        STAGE_BATCH_SIZE,
+        (ps, stageSeq) -> {
+          AAppcarItem item = items.get(stageSeq);
+          AAppcarItemId id = item.getId();
+          ps.setString(1, importId);
+          ps.setInt(2, stageSeq);
+          ps.setString(3, id.getCompanyId());
+          ps.setString(4, id.getCustomId());
+          ps.setString(5, id.getComeYear());
+          ps.setString(6, id.getComeOrder());
+          ps.setString(7, id.getUploadSeq());
+          ps.setString(8, id.getEquipCode());
+          ps.setInt(9, id.getGoodsSeqNo());
+          ps.setString(10, item.getGoodsDes());
+          ps.setString(11, item.getSpec());
+          ps.setString(12, item.getModelDes());
+          ps.setString(13, item.getHsno());
+          ps.setBigDecimal(14, item.getTaxRate());
+          ps.setBigDecimal(15, item.getUnitprice());
+          ps.setObject(16, item.getProdQty(), Types.INTEGER);
+          ps.setObject(17, item.getRepairQty(), Types.INTEGER);
+          ps.setBigDecimal(18, item.getImportAmt());
+          ps.setObject(19, item.getImportQty(), Types.INTEGER);
+          ps.setString(20, item.getApprovalYn());
+        });
+  }
+}
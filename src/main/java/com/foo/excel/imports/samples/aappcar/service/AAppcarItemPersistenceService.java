@@ -5,14 +5,12 @@ import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
 import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
 import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
 import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarEquip;
-import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
-import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
 import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarEquipRepository;
+import com.foo.excel.imports.samples.aappcar.config.AAppcarItemImportProperties;
+import com.foo.excel.service.pipeline.persist.SaveStageProfiler;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -24,12 +22,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class AAppcarItemPersistenceService
     implements PersistenceHandler<AAppcarItemImportRow, AAppcarItemImportMetadata> {
 
-  private static final int ITEM_BATCH_SIZE = 100;
   private static final int UPSERT_RETRY_LIMIT = 2;
 
-  private final AAppcarItemRepository itemRepository;
   private final AAppcarEquipRepository equipRepository;
   private final AAppcarItemKeyFactory keyFactory;
+  private final AAppcarItemImportProperties properties;
+  private final List<AAppcarItemWriter> itemWriters;
 
   @Override
   @Transactional
@@ -37,29 +35,47 @@ public class AAppcarItemPersistenceService
       List<AAppcarItemImportRow> rows,
       List<Integer> sourceRowNumbers,
       AAppcarItemImportMetadata metadata) {
-    List<AAppcarItemId> itemIds = buildItemIds(sourceRowNumbers, metadata);
-    Map<AAppcarItemId, AAppcarItem> existingItems = findExistingItems(itemIds);
-    List<AAppcarItem> entitiesToSave = new ArrayList<>(rows.size());
-    int created = 0;
+    SaveResult result = saveChunk(rows, sourceRowNumbers, metadata);
+    finishChunkedSave(metadata);
+    return result;
+  }
 
-    for (int i = 0; i < rows.size(); i++) {
-      AAppcarItemId itemId = itemIds.get(i);
-      AAppcarItem entity = existingItems.get(itemId);
-      if (entity == null) {
-        entity = buildEntityFromRow(rows.get(i), metadata);
-        entity.setId(itemId);
-        created++;
-      } else {
-        updateEntityFromRow(entity, rows.get(i), metadata);
-      }
-      entitiesToSave.add(entity);
-    }
+  /** 품목만 저장한다. 설비는 업로드마다 한 번 {@link #finishChunkedSave}에서 저장한다. */
+  @Override
+  @Transactional
+  public SaveResult saveChunk(
+      List<AAppcarItemImportRow> rows,
+      List<Integer> sourceRowNumbers,
+      AAppcarItemImportMetadata metadata) {
+    List<AAppcarItem> items =
+        SaveStageProfiler.time("build", () -> buildItems(rows, sourceRowNumbers, metadata));
+    return findItemWriter(properties.getWriteMode()).write(items);
+  }
 
-    saveItemsInBatches(entitiesToSave);
+  @Override
+  @Transactional
+  public void finishChunkedSave(AAppcarItemImportMetadata metadata) {
+    SaveStageProfiler.time("equipUpsert", () -> upsertEquipWithRetry(metadata));
+  }
 
-    upsertEquipWithRetry(metadata);
+  private List<AAppcarItem> buildItems(
+      List<AAppcarItemImportRow> rows,
+      List<Integer> sourceRowNumbers,
+      AAppcarItemImportMetadata metadata) {
+    List<AAppcarItem> items = new ArrayList<>(rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      AAppcarItem item = buildEntityFromRow(rows.get(i), metadata);
+      item.setId(keyFactory.buildItemId(metadata, sourceRowNumbers.get(i)));
+      items.add(item);
+    }
+    return items;
+  }
 
-    return new SaveResult(created, rows.size() - created);
+  private AAppcarItemWriter findItemWriter(AAppcarItemWriteMode writeMode) {
+    return itemWriters.stream()
+        .filter(writer -> writer.writeMode() == writeMode)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("지원하지 않는 품목 저장 방식입니다: " + writeMode));
   }
 
   private void upsertEquipWithRetry(AAppcarItemImportMetadata metadata) {
@@ -78,6 +94,7 @@ public class AAppcarItemPersistenceService
         }
 
         AAppcarEquip newEntity = AAppcarEquip.builder().id(equipId).build();
+        newEntity.markNew();
         applyEquipFields(newEntity, metadata);
         equipRepository.save(newEntity);
         return;
@@ -91,45 +108,6 @@ public class AAppcarItemPersistenceService
     throw new IllegalStateException("동시 저장 충돌로 설비 데이터 처리에 실패했습니다.");
   }
 
-  private List<AAppcarItemId> buildItemIds(
-      List<Integer> sourceRowNumbers, AAppcarItemImportMetadata metadata) {
-    return sourceRowNumbers.stream()
-        .map(rowNumber -> keyFactory.buildItemId(metadata, rowNumber))
-        .toList();
-  }
-
-  private Map<AAppcarItemId, AAppcarItem> findExistingItems(List<AAppcarItemId> itemIds) {
-    Map<AAppcarItemId, AAppcarItem> existingItems = new HashMap<>();
-    for (AAppcarItem existingItem : itemRepository.findAllById(itemIds)) {
-      existingItems.put(existingItem.getId(), existingItem);
-    }
-    return existingItems;
-  }
-
-  private void saveItemsInBatches(List<AAppcarItem> entitiesToSave) {
-    int total = entitiesToSave.size();
-    for (int start = 0; start < total; start += ITEM_BATCH_SIZE) {
-      int end = Math.min(start + ITEM_BATCH_SIZE, total);
-      itemRepository.saveAll(entitiesToSave.subList(start, end));
-      itemRepository.flush();
-    }
-  }
-
-  private void updateEntityFromRow(
-      AAppcarItem entity, AAppcarItemImportRow row, AAppcarItemImportMetadata metadata) {
-    entity.setGoodsDes(row.getGoodsDes());
-    entity.setSpec(row.getSpec());
-    entity.setModelDes(row.getModelDes());
-    entity.setHsno(row.getHsno());
-    entity.setTaxRate(row.getTaxRate());
-    entity.setUnitprice(row.getUnitprice());
-    entity.setProdQty(row.getProdQty());
-    entity.setRepairQty(row.getRepairQty());
-    entity.setImportAmt(row.getImportAmt());
-    entity.setImportQty(row.getImportQty());
-    entity.setApprovalYn(resolveApprovalYn(row.getApprovalYn(), metadata));
-  }
-
   private AAppcarItem buildEntityFromRow(
       AAppcarItemImportRow row, AAppcarItemImportMetadata metadata) {
     AAppcarItem entity =
@@ -0,0 +1,18 @@
+package com.foo.excel.imports.samples.aappcar.service;
+
+/**
+ * `aappcar` 품목 행을 {@code a_appcar_item}에 쓰는 방식을 지정한다.
+ *
+ * <p>모든 방식은 같은 생성/수정 판정 규칙을 따른다. 기존 품목은 엑셀에서 온 컬럼만 덮어쓰고, 없는 품목은 새로 만든다.
+ */
+public enum AAppcarItemWriteMode {
+
+  /** 기존 엔티티를 조회해 영속성 컨텍스트에서 수정하고, 새 엔티티는 {@code saveAll}로 저장한다. */
+  JPA,
+
+  /** 영속성 컨텍스트를 거치지 않고 {@code JdbcTemplate.batchUpdate}로 UPDATE 후 남은 행만 INSERT한다. */
+  JDBC_BATCH,
+
+  /** 스테이징 테이블에 배치로 적재한 뒤 한 번의 MERGE 문으로 생성과 수정을 함께 처리한다. */
+  MERGE
+}
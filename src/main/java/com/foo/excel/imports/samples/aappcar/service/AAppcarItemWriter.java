@@ -0,0 +1,23 @@
+package com.foo.excel.imports.samples.aappcar.service;
+
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
+import com.foo.excel.service.contract.PersistenceHandler.SaveResult;
+import java.util.List;
+
+/**
+ * {@link AAppcarItemPersistenceService}가 품목 행 저장을 위임하는 전략이다.
+ *
+ * <p>구현은 {@link #writeMode()}로 자신을 식별하며, 호출자의 트랜잭션 안에서 실행된다.
+ */
+public interface AAppcarItemWriter {
+
+  AAppcarItemWriteMode writeMode();
+
+  /**
+   * 품목을 생성하거나 수정한다.
+   *
+   * @param items ID와 엑셀 유래 컬럼을 채운 분리(detached) 상태의 품목, ID는 서로 겹치지 않는다
+   * @return 새로 만든 품목 수와 수정한 품목 수
+   */
+  SaveResult write(List<AAppcarItem> items);
+}
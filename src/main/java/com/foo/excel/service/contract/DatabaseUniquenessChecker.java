@@ -46,6 +46,9 @@ public interface DatabaseUniquenessChecker<T, M extends ImportMetadata> {
    *   <li>{@code metadata} carries upload-level fields entered outside the Excel file
    * </ul>
    *
+   * <p>In pipelined execution mode this method is called once per row chunk instead of once per
+   * upload, so implementations must not assume {@code rows} is the complete data set.
+   *
    * <p>Not every implementation must use all four inputs. The contract keeps them available so the
    * extension point remains expressive for future imports and readable to maintainers.
    *
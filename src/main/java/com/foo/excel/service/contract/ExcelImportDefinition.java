@@ -30,6 +30,9 @@ public class ExcelImportDefinition<T, M extends ImportMetadata> {
     this.metadataClass = metadataClass;
     this.sheetSpec = ExcelSheetSpecResolver.resolve(rowClass);
     this.mergeRegions = ExcelMergeRegionResolver.resolve(rowClass);
+    // 스키마는 ImportSchema의 행 클래스별 레지스트리가 보관한다. 설정 오류가 첫 업로드가 아니라 애플리케이션 시작 시
+    // 드러나도록 정의 생성 시 미리 만들어 둔다.
+    ImportSchema.of(rowClass);
     this.persistenceHandler = persistenceHandler;
     this.importPrecheck = importPrecheck;
     this.dbUniquenessChecker = dbUniquenessChecker;
@@ -0,0 +1,248 @@
+package com.foo.excel.service.contract;
+
+import com.foo.excel.annotation.ExcelColumn;
+import com.foo.excel.annotation.ExcelCompositeUnique;
+import com.foo.excel.annotation.ExcelUnique;
+import com.foo.excel.util.ExcelColumnUtil;
+import com.foo.excel.validation.ExcelColumnRef;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 행 DTO 클래스의 엑셀 매핑 메타데이터를 한 번만 해석해 둔 불변 스키마이다.
+ *
+ * <p>{@link ExcelColumn} 필드의 컬럼 위치와 기대 헤더, {@link ExcelUnique} 단일 키와 {@link ExcelCompositeUnique}
+ * 복합 키 검사 계획을 미리 풀어 두고, 대상 필드는 모두 접근 가능하게 열어 둔다. 파서, 파일 내부 중복 검증기, 검증 오류
+ * 매핑은 요청마다 리플렉션을 다시 하지 않고 이 스키마를 읽는다.
+ *
+ * <p>스키마는 행 DTO 클래스마다 하나만 만들어 {@link ClassValue}에 보관하고, 사용하는 쪽은 모두 {@link #of(Class)}로
+ * 꺼낸다. {@link ExcelImportDefinition}은 생성 시 스키마를 미리 만들기만 하고 따로 들고 있지 않는다. 설정 오류(존재하지
+ * 않는 복합 키 필드, 잘못된 컬럼 문자 등)는 스키마 생성 시점에 예외로 드러난다.
+ */
+public final class ImportSchema {
+
+  private static final ClassValue<ImportSchema> SCHEMAS =
+      new ClassValue<>() {
+        @Override
+        protected ImportSchema computeValue(Class<?> rowClass) {
+          return new ImportSchema(rowClass);
+        }
+      };
+
+  private final Class<?> rowClass;
+  private final List<ColumnSchema> columns;
+  private final Map<String, ColumnSchema> columnsByFieldName;
+  private final List<UniqueFieldPlan> withinFileUniqueFields;
+  private final List<CompositeKeyPlan> compositeKeys;
+
+  /**
+   * {@link ExcelColumn} 필드 하나의 해석 결과이다.
+   *
+   * @param field 접근 가능하게 열어 둔 매핑 대상 필드
+   * @param annotation 필드에 선언된 엑셀 컬럼 애너테이션
+   * @param columnIndex 선언된 0-based 컬럼 인덱스, 컬럼 문자가 비어 있으면 -1
+   * @param columnRef 선언된 컬럼 참조, 컬럼 문자가 비어 있으면 null
+   * @param expectedHeaderSegments 기대 헤더 경로, {@code headerLabels}가 없으면 {@code label} 하나
+   */
+  public record ColumnSchema(
+      Field field,
+      ExcelColumn annotation,
+      int columnIndex,
+      ExcelColumnRef columnRef,
+      List<String> expectedHeaderSegments) {
+
+    /** 오류 메시지용 기대 헤더 경로이다. 예: {@code "소요량 > 제조용"} */
+    public String expectedHeaderLabel() {
+      return String.join(" > ", expectedHeaderSegments);
+    }
+  }
+
+  /**
+   * 중복 검사 키를 구성하는 필드와, 중복 오류를 표시할 셀 정보이다.
+   *
+   * @param field 접근 가능하게 열어 둔 필드
+   * @param headerName 오류에 표시할 헤더명, {@link ExcelColumn}이 없으면 필드명
+   * @param columnIndex 0-based 컬럼 인덱스, 컬럼이 없으면 -1
+   * @param columnRef 컬럼 참조, 컬럼이 없으면 null
+   */
+  public record KeyField(
+      Field field, String headerName, int columnIndex, ExcelColumnRef columnRef) {}
+
+  /**
+   * {@code @ExcelUnique(checkWithinFile = true)} 단일 필드 검사 계획이다.
+   *
+   * @param keyField 키 필드
+   * @param annotation 필드에 선언된 유일성 애너테이션
+   */
+  public record UniqueFieldPlan(KeyField keyField, ExcelUnique annotation) {}
+
+  /**
+   * {@link ExcelCompositeUnique} 복합 키 검사 계획이다. 오류는 첫 번째 키 필드 위치에 대표로 표시한다.
+   *
+   * @param annotation 클래스에 선언된 복합 유일성 애너테이션
+   * @param keyFields 선언 순서대로 해석한 키 필드, 비어 있지 않다
+   */
+  public record CompositeKeyPlan(ExcelCompositeUnique annotation, List<KeyField> keyFields) {}
+
+  private ImportSchema(Class<?> rowClass) {
+    this.rowClass = rowClass;
+
+    List<ColumnSchema> resolvedColumns = new ArrayList<>();
+    Map<String, ColumnSchema> byFieldName = new HashMap<>();
+    for (Field field : getAllFields(rowClass)) {
+      ExcelColumn annotation = field.getAnnotation(ExcelColumn.class);
+      if (annotation == null) {
+        continue;
+      }
+      field.setAccessible(true);
+      ColumnSchema column = resolveColumn(field, annotation);
+      resolvedColumns.add(column);
+      // 하위 클래스 필드가 먼저 나오므로, 같은 이름이면 하위 클래스 선언을 우선한다.
+      byFieldName.putIfAbsent(field.getName(), column);
+    }
+    this.columns = List.copyOf(resolvedColumns);
+    this.columnsByFieldName = Map.copyOf(byFieldName);
+    this.withinFileUniqueFields = resolveWithinFileUniqueFields(rowClass);
+    this.compositeKeys = resolveCompositeKeys(rowClass);
+  }
+
+  /**
+   * 행 DTO 클래스의 스키마를 반환한다. 처음 요청될 때 한 번만 만든다.
+   *
+   * @throws IllegalStateException 복합 유니크 선언이 DTO 구조와 맞지 않는 경우
+   * @throws IllegalArgumentException {@link ExcelColumn#column()}이 유효한 컬럼 문자가 아닌 경우
+   */
+  public static ImportSchema of(Class<?> rowClass) {
+    return SCHEMAS.get(rowClass);
+  }
+
+  public Class<?> rowClass() {
+    return rowClass;
+  }
+
+  /** {@link ExcelColumn} 필드를 하위 클래스부터 선언 순서대로 담은 목록이다. */
+  public List<ColumnSchema> columns() {
+    return columns;
+  }
+
+  /**
+   * 필드명으로 {@link ExcelColumn} 필드를 찾는다.
+   *
+   * @return 찾은 컬럼, 없으면 {@code null}
+   */
+  public ColumnSchema findColumn(String fieldName) {
+    return columnsByFieldName.get(fieldName);
+  }
+
+  /** 파일 내부 중복을 검사할 단일 필드 목록이다. DTO 클래스 자신에 선언된 필드만 대상으로 한다. */
+  public List<UniqueFieldPlan> withinFileUniqueFields() {
+    return withinFileUniqueFields;
+  }
+
+  /** 클래스에 선언된 복합 키 검사 계획 목록이다. */
+  public List<CompositeKeyPlan> compositeKeys() {
+    return compositeKeys;
+  }
+
+  private static ColumnSchema resolveColumn(Field field, ExcelColumn annotation) {
+    List<String> expectedHeaderSegments =
+        annotation.headerLabels().length == 0
+            ? List.of(annotation.label())
+            : List.of(annotation.headerLabels());
+    return new ColumnSchema(
+        field,
+        annotation,
+        ExcelColumnUtil.letterToIndex(annotation.column()),
+        resolveColumnRef(annotation),
+        expectedHeaderSegments);
+  }
+
+  private static ExcelColumnRef resolveColumnRef(ExcelColumn annotation) {
+    return annotation.column().isBlank() ? null : ExcelColumnRef.ofLetter(annotation.column());
+  }
+
+  private static KeyField keyField(Field field) {
+    field.setAccessible(true);
+    ExcelColumn excelColumn = field.getAnnotation(ExcelColumn.class);
+    if (excelColumn == null) {
+      return new KeyField(field, field.getName(), -1, null);
+    }
+    return new KeyField(
+        field,
+        excelColumn.label(),
+        ExcelColumnUtil.letterToIndex(excelColumn.column()),
+        resolveColumnRef(excelColumn));
+  }
+
+  private static List<UniqueFieldPlan> resolveWithinFileUniqueFields(Class<?> rowClass) {
+    List<UniqueFieldPlan> plans = new ArrayList<>();
+    for (Field field : rowClass.getDeclaredFields()) {
+      ExcelUnique uniqueAnnotation = field.getAnnotation(ExcelUnique.class);
+      if (uniqueAnnotation == null || !uniqueAnnotation.checkWithinFile()) {
+        continue;
+      }
+      plans.add(new UniqueFieldPlan(keyField(field), uniqueAnnotation));
+    }
+    return List.copyOf(plans);
+  }
+
+  /**
+   * 클래스 레벨의 {@link ExcelCompositeUnique} 선언을 모두 해석한다.
+   *
+   * <p>선언된 필드가 DTO에 없으면 복합 유니크 검증 자체가 성립하지 않으므로 즉시 예외를 던진다. 이 오류는 사용자 데이터
+   * 문제가 아니라 개발자 설정 문제를 의미한다.
+   */
+  private static List<CompositeKeyPlan> resolveCompositeKeys(Class<?> rowClass) {
+    List<CompositeKeyPlan> plans = new ArrayList<>();
+    // repeatable annotation을 고려하여 클래스 레벨의 모든 복합 유니크 선언을 가져온다.
+    ExcelCompositeUnique[] composites = rowClass.getAnnotationsByType(ExcelCompositeUnique.class);
+    for (ExcelCompositeUnique composite : composites) {
+      List<KeyField> keyFields = new ArrayList<>();
+      for (String fieldName : composite.fields()) {
+        Field field = findField(rowClass, fieldName);
+        if (field == null) {
+          throw new IllegalStateException(
+              String.format(
+                  "복합 유니크 검증 설정이 올바르지 않습니다. DTO=%s, 누락 필드=%s, 선언 필드=%s",
+                  rowClass.getName(), fieldName, List.of(composite.fields())));
+        }
+        keyFields.add(keyField(field));
+      }
+
+      if (keyFields.isEmpty()) {
+        throw new IllegalStateException(
+            String.format(
+                "복합 유니크 검증 필드가 비어 있습니다. DTO=%s, 선언 필드=%s",
+                rowClass.getName(), List.of(composite.fields())));
+      }
+      plans.add(new CompositeKeyPlan(composite, List.copyOf(keyFields)));
+    }
+    return List.copyOf(plans);
+  }
+
+  private static Field findField(Class<?> rowClass, String fieldName) {
+    Class<?> current = rowClass;
+    while (current != null && current != Object.class) {
+      try {
+        return current.getDeclaredField(fieldName);
+      } catch (NoSuchFieldException e) {
+        current = current.getSuperclass();
+      }
+    }
+    return null;
+  }
+
+  private static List<Field> getAllFields(Class<?> clazz) {
+    List<Field> fields = new ArrayList<>();
+    Class<?> current = clazz;
+    while (current != null && current != Object.class) {
+      fields.addAll(Arrays.asList(current.getDeclaredFields()));
+      current = current.getSuperclass();
+    }
+    return fields;
+  }
+}
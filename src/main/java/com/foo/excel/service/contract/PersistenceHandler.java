@@ -4,7 +4,25 @@ import java.util.List;
 
 public interface PersistenceHandler<T, M extends ImportMetadata> {
 
+  /**
+   * 검증을 통과한 행을 저장한다. 직렬 모드에서 전체 행으로 한 번 호출되며, 업로드 단위 데이터도 함께 저장한다.
+   *
+   * <p>구현은 기존 트랜잭션에 참여해야 한다.
+   */
   SaveResult saveAll(List<T> rows, List<Integer> sourceRowNumbers, M metadata);
 
+  /**
+   * 파이프라인 모드에서 같은 트랜잭션 안에서 청크마다 한 번씩 호출되어 행만 저장한다. 업로드 단위 데이터는
+   * {@link #finishChunkedSave}에서 한 번만 저장한다.
+   *
+   * <p>기본 구현은 {@link #saveAll}을 호출하므로 업로드 단위 데이터가 없는 구현은 재정의할 필요가 없다.
+   */
+  default SaveResult saveChunk(List<T> rows, List<Integer> sourceRowNumbers, M metadata) {
+    return saveAll(rows, sourceRowNumbers, metadata);
+  }
+
+  /** 파이프라인 모드에서 모든 청크가 검증을 통과해 저장된 뒤 같은 트랜잭션 안에서 한 번 호출된다. */
+  default void finishChunkedSave(M metadata) {}
+
   record SaveResult(int created, int updated) {}
 }
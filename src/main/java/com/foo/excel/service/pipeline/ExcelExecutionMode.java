@@ -0,0 +1,19 @@
+package com.foo.excel.service.pipeline;
+
+/**
+ * 파싱, 검증, 저장 단계를 실행하는 방식을 지정한다.
+ *
+ * <p>두 방식 모두 전체 성공 또는 전체 실패(all-or-nothing)를 보장하며 같은 {@link
+ * ExcelImportOrchestrator.ImportResult}를 돌려준다.
+ */
+public enum ExcelExecutionMode {
+
+  /** 각 단계를 전체 행에 대해 끝낸 뒤 다음 단계로 넘어간다. */
+  SERIAL,
+
+  /**
+   * 행 청크가 제한된 크기의 큐를 거쳐 단계별 스레드로 흐른다. 저장은 하나의 트랜잭션 안에서 청크마다 진행하고, 마지막
+   * 청크까지 검증을 통과했을 때만 커밋한다.
+   */
+  PIPELINED
+}
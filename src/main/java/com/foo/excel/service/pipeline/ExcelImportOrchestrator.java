@@ -8,20 +8,32 @@ import com.foo.excel.service.contract.MetadataConflict;
 import com.foo.excel.service.contract.PersistenceHandler;
 import com.foo.excel.service.file.ExcelUploadFileService;
 import com.foo.excel.service.file.ExcelUploadFileService.StoredUpload;
+import com.foo.excel.service.pipeline.ImportStageMetrics.Outcome;
+import com.foo.excel.service.pipeline.ImportStageMetrics.Recording;
+import com.foo.excel.service.pipeline.ImportStageMetrics.Stage;
+import com.foo.excel.service.pipeline.PipelinedImportExecutor.PipelineRun;
+import com.foo.excel.service.pipeline.jfr.ImportEventContext;
 import com.foo.excel.service.pipeline.parse.ColumnResolutionBatchException;
+import com.foo.excel.service.pipeline.parse.ExcelParseMode;
 import com.foo.excel.service.pipeline.parse.ExcelParserService;
-import com.foo.excel.service.pipeline.report.ExcelErrorReportService;
+import com.foo.excel.service.pipeline.parse.RowCountLimitExceededException;
+import com.foo.excel.service.pipeline.persist.SaveStageProfile;
+import com.foo.excel.service.pipeline.persist.SaveStageProfiler;
+import com.foo.excel.service.pipeline.report.ErrorReportDispatcher;
 import com.foo.excel.service.pipeline.validation.ExcelValidationService;
 import com.foo.excel.util.SecureExcelUtils;
 import com.foo.excel.validation.ExcelValidationResult;
 import com.foo.excel.validation.RowError;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -32,7 +44,10 @@ public class ExcelImportOrchestrator {
   private final ExcelUploadFileService uploadFileService;
   private final ExcelParserService parserService;
   private final ExcelValidationService validationService;
-  private final ExcelErrorReportService errorReportService;
+  private final ErrorReportDispatcher errorReportDispatcher;
+  private final PipelinedImportExecutor pipelinedImportExecutor;
+  private final TransactionTemplate transactionTemplate;
+  private final ImportStageMetrics stageMetrics;
   private final ExcelImportProperties properties;
   private final List<ExcelImportDefinition<?, ?>> importDefinitions;
 
@@ -65,6 +80,29 @@ public class ExcelImportOrchestrator {
       MetadataConflict metadataConflict,
       String message) {}
 
+  /**
+   * 파이프라인 모드의 트랜잭션 안에서 내린 최종 판정이다.
+   *
+   * @param run 파이프라인 실행 결과
+   * @param validationResult 최종 검증 결과, 최대 행 수를 넘었으면 null
+   * @param outcome 지표에 남길 처리 결과
+   * @param failureOutcome 실패 시 로그에 남길 결과 요약, 커밋했으면 null
+   * @param validationMs 청크별 JSR-380 검증과 마지막 파일 내 유일성 검증을 합한 시간
+   * @param decidedAt 판정을 마친 시각, 커밋 시간을 저장 시간에 더하는 데 쓴다
+   */
+  private record PipelinedDecision<T>(
+      PipelineRun<T> run,
+      ExcelValidationResult validationResult,
+      Outcome outcome,
+      String failureOutcome,
+      long validationMs,
+      long decidedAt) {
+
+    boolean committable() {
+      return validationResult != null && failureOutcome == null;
+    }
+  }
+
   public ImportResult processImport(MultipartFile file, String importType, ImportMetadata metadata)
       throws IOException {
     ExcelImportDefinition<?, ?> importDefinition = findDefinition(importType);
@@ -92,6 +130,7 @@ public class ExcelImportOrchestrator {
       throw new IllegalArgumentException("metadata 형식이 import와 일치하지 않습니다.");
     }
     M typedMetadata = importDefinition.getMetadataClass().cast(metadata);
+    Recording recording = stageMetrics.start(importDefinition.getImportType(), file.getSize());
 
     ExcelSheetSpec sheetSpec = importDefinition.getSheetSpec();
 
@@ -99,13 +138,19 @@ public class ExcelImportOrchestrator {
     String tempSubdirectory = resolveTempSubdirectory(importDefinition, typedMetadata);
 
     try {
+      ImportEventContext eventContext =
+          new ImportEventContext(importDefinition.getImportType(), null, file.getSize());
+      ImportEventContext.bind(eventContext);
+
       // 2. xlsx 파일 저장 및 검증
-      long fileStageStartedAt = System.nanoTime();
+      long fileStageStartedAt = recording.beginStage(Stage.FILE);
       StoredUpload storedUpload = uploadFileService.storeAndValidateXlsx(file, tempSubdirectory);
       Path xlsxFile = storedUpload.path();
       typedMetadata.assignFilePath(xlsxFile.toString());
       String sanitizedFilename = storedUpload.sanitizedFilename();
+      ImportEventContext.bind(eventContext.withFileName(sanitizedFilename));
       long fileStageElapsedMs = elapsedMillis(fileStageStartedAt);
+      recording.stage(Stage.FILE, fileStageElapsedMs);
       int maxErrorRows = resolveMaxErrorRows();
 
       // 2a. import-level 선행 차단 조건은 파싱 전에 확인한다.
@@ -118,6 +163,7 @@ public class ExcelImportOrchestrator {
             sanitizedFilename,
             fileStageElapsedMs,
             elapsedMillis(requestStartedAt));
+        recording.finish(Outcome.PRECHECK_BLOCKED, 0);
         return ImportResult.builder()
             .success(false)
             .rowsProcessed(0)
@@ -129,70 +175,112 @@ public class ExcelImportOrchestrator {
       }
 
       // 2b. 빠른 행 수 사전 점검(경량 SAX, 대용량 파일의 전체 파싱 회피)
-      long preCountStageStartedAt = System.nanoTime();
-      // ExcelSheetSpec already stores the resolver-converted 0-based sheet index.
-      int roughRowCount = SecureExcelUtils.countRows(xlsxFile, sheetSpec.resolvedSheetIndex());
+      // 스트리밍 모드는 파서의 레이아웃 패스가 같은 기준으로 행 수를 세므로 별도 패스를 생략한다.
       int preCountThreshold =
           properties.getMaxRows()
               + (sheetSpec.dataStartRow() - 1)
               + properties.getPreCountBuffer();
-      long preCountStageElapsedMs = elapsedMillis(preCountStageStartedAt);
-      if (roughRowCount > preCountThreshold) {
+      boolean fusedPreCount = properties.getParseMode() == ExcelParseMode.STREAMING;
+      long preCountStageElapsedMs = 0;
+      if (!fusedPreCount) {
+        long preCountStageStartedAt = recording.beginStage(Stage.PRE_COUNT);
+        // ExcelSheetSpec already stores the resolver-converted 0-based sheet index.
+        int roughRowCount = SecureExcelUtils.countRows(xlsxFile, sheetSpec.resolvedSheetIndex());
+        preCountStageElapsedMs = elapsedMillis(preCountStageStartedAt);
+        recording.stage(Stage.PRE_COUNT, preCountStageElapsedMs);
+        if (roughRowCount > preCountThreshold) {
+          log.info(
+              "Import stage timing [importType={}, file={}, fileMs={}, preCountMs={}, totalMs={}]: pre-count rejected, roughRows={}, threshold={}",
+              importDefinition.getImportType(),
+              sanitizedFilename,
+              fileStageElapsedMs,
+              preCountStageElapsedMs,
+              elapsedMillis(requestStartedAt),
+              roughRowCount,
+              preCountThreshold);
+          recording.finish(Outcome.PRECOUNT_REJECTED, roughRowCount);
+          return ImportResult.builder()
+              .success(false)
+              .rowsProcessed(roughRowCount)
+              .message(
+                  "최대 행 수("
+                      + properties.getMaxRows()
+                      + ")를 초과했습니다. "
+                      + "파일에 약 "
+                      + roughRowCount
+                      + "행이 포함되어 있습니다")
+              .build();
+        }
+      }
+
+      // 3~9. 파이프라인 모드는 파싱, 검증, 저장을 청크 단위로 겹쳐 실행한다.
+      // 동시 실행 자리가 없으면 스레드와 커넥션을 더 쓰지 않도록 직렬 모드로 처리한다.
+      if (properties.getExecutionMode() == ExcelExecutionMode.PIPELINED) {
+        Optional<PipelinedImportExecutor.Slot> pipelineSlot =
+            pipelinedImportExecutor.tryAcquireSlot();
+        if (pipelineSlot.isPresent()) {
+          try {
+            return processPipelined(
+                importDefinition,
+                recording,
+                typedMetadata,
+                xlsxFile,
+                sanitizedFilename,
+                sheetSpec,
+                maxErrorRows,
+                preCountThreshold,
+                fusedPreCount,
+                fileStageElapsedMs,
+                preCountStageElapsedMs,
+                requestStartedAt);
+          } finally {
+            pipelineSlot.get().close();
+          }
+        }
         log.info(
-            "Import stage timing [importType={}, file={}, fileMs={}, preCountMs={}, totalMs={}]: pre-count rejected, roughRows={}, threshold={}",
+            "Pipelined import slots are busy, running serially [importType={}, file={}]",
             importDefinition.getImportType(),
+            sanitizedFilename);
+      }
+
+      // 3. 파싱
+      long parseStageStartedAt = recording.beginStage(Stage.PARSE);
+      ExcelParserService.ParseResult<T> parseResult;
+      try {
+        parseResult =
+            parserService.parse(
+                xlsxFile,
+                importDefinition.getRowClass(),
+                sheetSpec,
+                properties.getMaxRows(),
+                maxErrorRows,
+                properties.getParseMode(),
+                fusedPreCount ? preCountThreshold : Integer.MAX_VALUE);
+      } catch (RowCountLimitExceededException e) {
+        return buildRowCountLimitResult(
+            importDefinition,
+            recording,
             sanitizedFilename,
             fileStageElapsedMs,
-            preCountStageElapsedMs,
-            elapsedMillis(requestStartedAt),
-            roughRowCount,
+            elapsedMillis(parseStageStartedAt),
+            requestStartedAt,
+            e,
             preCountThreshold);
-        return ImportResult.builder()
-            .success(false)
-            .rowsProcessed(roughRowCount)
-            .message(
-                "최대 행 수("
-                    + properties.getMaxRows()
-                    + ")를 초과했습니다. "
-                    + "파일에 약 "
-                    + roughRowCount
-                    + "행이 포함되어 있습니다")
-            .build();
       }
-
-      // 3. 파싱
-      long parseStageStartedAt = System.nanoTime();
-      ExcelParserService.ParseResult<T> parseResult =
-          parserService.parse(
-              xlsxFile,
-              importDefinition.getRowClass(),
-              sheetSpec,
-              properties.getMaxRows(),
-              maxErrorRows);
       long parseStageElapsedMs = elapsedMillis(parseStageStartedAt);
+      recording.stage(Stage.PARSE, parseStageElapsedMs);
 
       // 4. 최대 행 수 확인
       if (parseResult.rows().size() > properties.getMaxRows()) {
-        log.info(
-            "Import stage timing [importType={}, file={}, fileMs={}, preCountMs={}, parseMs={}, totalMs={}]: row limit exceeded after parse, rowsProcessed={}, maxRows={}",
-            importDefinition.getImportType(),
+        return buildRowLimitResult(
+            importDefinition,
+            recording,
             sanitizedFilename,
             fileStageElapsedMs,
             preCountStageElapsedMs,
             parseStageElapsedMs,
-            elapsedMillis(requestStartedAt),
-            parseResult.rows().size(),
-            properties.getMaxRows());
-        return ImportResult.builder()
-            .success(false)
-            .rowsProcessed(parseResult.rows().size())
-            .message(
-                "최대 행 수("
-                    + properties.getMaxRows()
-                    + ")를 초과했습니다. 현재: "
-                    + parseResult.rows().size()
-                    + "행")
-            .build();
+            requestStartedAt,
+            parseResult.rows().size());
       }
 
       // 5. 파싱 오류가 있으면 이후 고비용 검증/DB 조회를 생략하고 즉시 실패 처리
@@ -201,10 +289,11 @@ public class ExcelImportOrchestrator {
             capRowErrors(parseResult.rows().size(), parseResult.parseErrors(), maxErrorRows);
         return buildFailureResult(
             importDefinition,
+            recording,
             sanitizedFilename,
             xlsxFile,
             sheetSpec,
-            parseResult,
+            parseResult.columnMappings(),
             validationResult,
             fileStageElapsedMs,
             preCountStageElapsedMs,
@@ -212,11 +301,12 @@ public class ExcelImportOrchestrator {
             0,
             0,
             requestStartedAt,
+            Outcome.PARSE_FAILED,
             "parse failed; skipped validation and db uniqueness");
       }
 
       // 6. 검증(JSR-380 + 파일 내 유일성)
-      long validationStageStartedAt = System.nanoTime();
+      long validationStageStartedAt = recording.beginStage(Stage.VALIDATION);
       ExcelValidationResult validationResult =
           validationService.validate(
               parseResult.rows(),
@@ -224,15 +314,17 @@ public class ExcelImportOrchestrator {
               parseResult.sourceRowNumbers(),
               remainingErrorRowBudget(maxErrorRows, 0));
       long validationStageElapsedMs = elapsedMillis(validationStageStartedAt);
+      recording.stage(Stage.VALIDATION, validationStageElapsedMs);
 
       // 7. 이미 유효하지 않으면 DB 유일성 검사를 생략한다.
       if (!validationResult.isValid()) {
         return buildFailureResult(
             importDefinition,
+            recording,
             sanitizedFilename,
             xlsxFile,
             sheetSpec,
-            parseResult,
+            parseResult.columnMappings(),
             validationResult,
             fileStageElapsedMs,
             preCountStageElapsedMs,
@@ -240,15 +332,17 @@ public class ExcelImportOrchestrator {
             validationStageElapsedMs,
             0,
             requestStartedAt,
+            Outcome.VALIDATION_FAILED,
             failureOutcome("validation failed; skipped db uniqueness", validationResult));
       }
 
       // 8. DB 유일성 검사
-      long dbUniquenessStageStartedAt = System.nanoTime();
+      long dbUniquenessStageStartedAt = recording.beginStage(Stage.DB_UNIQUENESS);
       List<RowError> dbErrors =
           importDefinition.checkDbUniqueness(
               parseResult.rows(), parseResult.sourceRowNumbers(), typedMetadata);
       long dbUniquenessStageElapsedMs = elapsedMillis(dbUniquenessStageStartedAt);
+      recording.stage(Stage.DB_UNIQUENESS, dbUniquenessStageElapsedMs);
       if (!dbErrors.isEmpty()) {
         List<RowError> cappedDbErrors =
             capAdditionalErrors(
@@ -261,39 +355,41 @@ public class ExcelImportOrchestrator {
 
       if (validationResult.isValid()) {
         // 9. 저장
-        long saveStageStartedAt = System.nanoTime();
-        PersistenceHandler.SaveResult saveResult =
-            importDefinition.getPersistenceHandler()
-                .saveAll(parseResult.rows(), parseResult.sourceRowNumbers(), typedMetadata);
+        long saveStageStartedAt = recording.beginStage(Stage.SAVE);
+        SaveStageProfile saveProfile = SaveStageProfiler.start();
+        PersistenceHandler.SaveResult saveResult;
+        try {
+          saveResult =
+              importDefinition.getPersistenceHandler()
+                  .saveAll(parseResult.rows(), parseResult.sourceRowNumbers(), typedMetadata);
+        } finally {
+          SaveStageProfiler.stop();
+        }
         long saveStageElapsedMs = elapsedMillis(saveStageStartedAt);
+        recording.stage(Stage.SAVE, saveStageElapsedMs).saveProfile(saveProfile);
 
-        log.info(
-            "Import stage timing [importType={}, file={}, rowsProcessed={}, fileMs={}, preCountMs={}, parseMs={}, validationMs={}, dbUniquenessMs={}, saveMs={}, totalMs={}]: success",
-            importDefinition.getImportType(),
+        return buildSuccessResult(
+            importDefinition,
+            recording,
             sanitizedFilename,
             parseResult.rows().size(),
+            saveResult,
             fileStageElapsedMs,
             preCountStageElapsedMs,
             parseStageElapsedMs,
             validationStageElapsedMs,
             dbUniquenessStageElapsedMs,
             saveStageElapsedMs,
-            elapsedMillis(requestStartedAt));
-
-        return ImportResult.builder()
-            .success(true)
-            .rowsProcessed(parseResult.rows().size())
-            .rowsCreated(saveResult.created())
-            .rowsUpdated(saveResult.updated())
-            .message("데이터 업로드 완료")
-            .build();
+            saveProfile,
+            requestStartedAt);
       } else {
         return buildFailureResult(
             importDefinition,
+            recording,
             sanitizedFilename,
             xlsxFile,
             sheetSpec,
-            parseResult,
+            parseResult.columnMappings(),
             validationResult,
             fileStageElapsedMs,
             preCountStageElapsedMs,
@@ -301,15 +397,194 @@ public class ExcelImportOrchestrator {
             validationStageElapsedMs,
             dbUniquenessStageElapsedMs,
             requestStartedAt,
+            Outcome.VALIDATION_FAILED,
             failureOutcome("validation failed after db uniqueness", validationResult));
       }
     } catch (ColumnResolutionBatchException e) {
       log.warn("컬럼 해석에 실패했습니다: {}", e.getMessage());
+      recording.finish(Outcome.PARSE_FAILED, 0);
       return ImportResult.builder().success(false).message(e.toKoreanMessage()).build();
     } catch (Exception e) {
       log.error("import 처리 중 오류가 발생했습니다", e);
       throw e;
+    } finally {
+      ImportEventContext.clear();
+    }
+  }
+
+  /**
+   * 파이프라인 모드로 파싱, 검증, 저장을 실행한다.
+   *
+   * <p>청크 저장은 모두 하나의 트랜잭션에 묶이고, 마지막 청크의 검증과 파일 내 유일성 검증까지 통과해야 커밋한다. 그
+   * 밖의 경우에는 롤백하므로 직렬 모드와 같은 전체 성공 또는 전체 실패 결과를 낸다. 오류 리포트는 롤백 뒤 트랜잭션
+   * 밖에서 만든다.
+   */
+  private <T, M extends ImportMetadata> ImportResult processPipelined(
+      ExcelImportDefinition<T, M> importDefinition,
+      Recording recording,
+      M metadata,
+      Path xlsxFile,
+      String sanitizedFilename,
+      ExcelSheetSpec sheetSpec,
+      int maxErrorRows,
+      int preCountThreshold,
+      boolean fusedPreCount,
+      long fileStageElapsedMs,
+      long preCountStageElapsedMs,
+      long requestStartedAt)
+      throws IOException {
+    long pipelineStartedAt = System.nanoTime();
+    PipelinedDecision<T> decision;
+    // 청크 저장은 모두 요청 스레드에서 실행되므로 커밋 시점의 flush까지 한 프로파일에 모인다.
+    SaveStageProfile saveProfile = SaveStageProfiler.start();
+    try {
+      decision =
+          transactionTemplate.execute(
+              status -> {
+                PipelineRun<T> run =
+                    pipelinedImportExecutor.run(
+                        importDefinition,
+                        metadata,
+                        xlsxFile,
+                        maxErrorRows,
+                        fusedPreCount ? preCountThreshold : Integer.MAX_VALUE);
+                PipelinedDecision<T> decided = decide(importDefinition, run, maxErrorRows);
+                if (!decided.committable()) {
+                  status.setRollbackOnly();
+                }
+                return decided;
+              });
+    } catch (RowCountLimitExceededException e) {
+      return buildRowCountLimitResult(
+          importDefinition,
+          recording,
+          sanitizedFilename,
+          fileStageElapsedMs,
+          elapsedMillis(pipelineStartedAt),
+          requestStartedAt,
+          e,
+          preCountThreshold);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    } finally {
+      SaveStageProfiler.stop();
+    }
+
+    PipelineRun<T> run = decision.run();
+    recording.stage(Stage.PARSE, run.parseMs());
+    if (decision.validationResult() == null) {
+      return buildRowLimitResult(
+          importDefinition,
+          recording,
+          sanitizedFilename,
+          fileStageElapsedMs,
+          preCountStageElapsedMs,
+          run.parseMs(),
+          requestStartedAt,
+          run.parseResult().rowCount());
+    }
+    recording.stage(Stage.VALIDATION, decision.validationMs());
+    recording.stage(Stage.DB_UNIQUENESS, run.dbUniquenessMs());
+    if (!decision.committable()) {
+      return buildFailureResult(
+          importDefinition,
+          recording,
+          sanitizedFilename,
+          xlsxFile,
+          sheetSpec,
+          run.parseResult().columnMappings(),
+          decision.validationResult(),
+          fileStageElapsedMs,
+          preCountStageElapsedMs,
+          run.parseMs(),
+          decision.validationMs(),
+          run.dbUniquenessMs(),
+          requestStartedAt,
+          decision.outcome(),
+          decision.failureOutcome());
     }
+    long saveStageElapsedMs = run.saveMs() + elapsedMillis(decision.decidedAt());
+    recording.stage(Stage.SAVE, saveStageElapsedMs).saveProfile(saveProfile);
+    return buildSuccessResult(
+        importDefinition,
+        recording,
+        sanitizedFilename,
+        run.parseResult().rowCount(),
+        run.saveResult(),
+        fileStageElapsedMs,
+        preCountStageElapsedMs,
+        run.parseMs(),
+        decision.validationMs(),
+        run.dbUniquenessMs(),
+        saveStageElapsedMs,
+        saveProfile,
+        requestStartedAt);
+  }
+
+  /** 파이프라인 실행 결과를 직렬 모드와 같은 순서(행 수, 파싱 오류, 검증, DB 유일성)로 판정한다. */
+  private <T> PipelinedDecision<T> decide(
+      ExcelImportDefinition<T, ?> importDefinition, PipelineRun<T> run, int maxErrorRows) {
+    int rowCount = run.parseResult().rowCount();
+    if (rowCount > properties.getMaxRows()) {
+      return new PipelinedDecision<>(
+          run,
+          null,
+          Outcome.ROW_LIMIT_EXCEEDED,
+          "row limit exceeded",
+          run.validationMs(),
+          System.nanoTime());
+    }
+
+    List<RowError> parseErrors = run.parseResult().parseErrors();
+    if (!parseErrors.isEmpty()) {
+      return new PipelinedDecision<>(
+          run,
+          capRowErrors(rowCount, parseErrors, maxErrorRows),
+          Outcome.PARSE_FAILED,
+          "parse failed; rolled back staged chunks",
+          run.validationMs(),
+          System.nanoTime());
+    }
+
+    long completionStartedAt = System.nanoTime();
+    ExcelValidationResult validationResult =
+        validationService.completeValidation(
+            run.rows(),
+            importDefinition.getRowClass(),
+            run.sourceRowNumbers(),
+            run.constraintErrors(),
+            run.constraintTruncated(),
+            remainingErrorRowBudget(maxErrorRows, 0));
+    long validationStageElapsedMs = run.validationMs() + elapsedMillis(completionStartedAt);
+    if (!validationResult.isValid()) {
+      return new PipelinedDecision<>(
+          run,
+          validationResult,
+          Outcome.VALIDATION_FAILED,
+          failureOutcome("validation failed; rolled back staged chunks", validationResult),
+          validationStageElapsedMs,
+          System.nanoTime());
+    }
+
+    List<RowError> dbErrors = run.dbErrors();
+    if (!dbErrors.isEmpty()) {
+      List<RowError> cappedDbErrors =
+          capAdditionalErrors(
+              dbErrors, remainingErrorRowBudget(maxErrorRows, validationResult.getErrorRowCount()));
+      validationResult.merge(cappedDbErrors);
+      if (cappedDbErrors.size() < dbErrors.size()) {
+        validationResult.markTruncated(ExcelValidationResult.DEFAULT_TRUNCATION_MESSAGE);
+      }
+      return new PipelinedDecision<>(
+          run,
+          validationResult,
+          Outcome.VALIDATION_FAILED,
+          failureOutcome("validation failed after db uniqueness", validationResult),
+          validationStageElapsedMs,
+          System.nanoTime());
+    }
+    return new PipelinedDecision<>(
+        run, validationResult, Outcome.SUCCESS, null, validationStageElapsedMs, System.nanoTime());
   }
 
   private <M extends ImportMetadata> String resolveTempSubdirectory(
@@ -381,12 +656,117 @@ public class ExcelImportOrchestrator {
     return validationResult.isTruncated() ? baseOutcome + "; errors truncated" : baseOutcome;
   }
 
+  private ImportResult buildRowCountLimitResult(
+      ExcelImportDefinition<?, ?> importDefinition,
+      Recording recording,
+      String sanitizedFilename,
+      long fileStageElapsedMs,
+      long parseStageElapsedMs,
+      long requestStartedAt,
+      RowCountLimitExceededException e,
+      int preCountThreshold) {
+    log.info(
+        "Import stage timing [importType={}, file={}, fileMs={}, parseMs={}, totalMs={}]: pre-count rejected during parse, countedRows={}, threshold={}",
+        importDefinition.getImportType(),
+        sanitizedFilename,
+        fileStageElapsedMs,
+        parseStageElapsedMs,
+        elapsedMillis(requestStartedAt),
+        e.getRowCount(),
+        preCountThreshold);
+    recording
+        .stage(Stage.PARSE, parseStageElapsedMs)
+        .finish(Outcome.PRECOUNT_REJECTED, e.getRowCount());
+    return ImportResult.builder()
+        .success(false)
+        .rowsProcessed(e.getRowCount())
+        .message(
+            "최대 행 수("
+                + properties.getMaxRows()
+                + ")를 초과했습니다. "
+                + "파일에 "
+                + preCountThreshold
+                + "행을 초과하는 데이터가 포함되어 있습니다")
+        .build();
+  }
+
+  private ImportResult buildRowLimitResult(
+      ExcelImportDefinition<?, ?> importDefinition,
+      Recording recording,
+      String sanitizedFilename,
+      long fileStageElapsedMs,
+      long preCountStageElapsedMs,
+      long parseStageElapsedMs,
+      long requestStartedAt,
+      int rowsProcessed) {
+    log.info(
+        "Import stage timing [importType={}, file={}, fileMs={}, preCountMs={}, parseMs={}, totalMs={}]: row limit exceeded after parse, rowsProcessed={}, maxRows={}",
+        importDefinition.getImportType(),
+        sanitizedFilename,
+        fileStageElapsedMs,
+        preCountStageElapsedMs,
+        parseStageElapsedMs,
+        elapsedMillis(requestStartedAt),
+        rowsProcessed,
+        properties.getMaxRows());
+    recording.finish(Outcome.ROW_LIMIT_EXCEEDED, rowsProcessed);
+    return ImportResult.builder()
+        .success(false)
+        .rowsProcessed(rowsProcessed)
+        .message(
+            "최대 행 수("
+                + properties.getMaxRows()
+                + ")를 초과했습니다. 현재: "
+                + rowsProcessed
+                + "행")
+        .build();
+  }
+
+  private ImportResult buildSuccessResult(
+      ExcelImportDefinition<?, ?> importDefinition,
+      Recording recording,
+      String sanitizedFilename,
+      int rowsProcessed,
+      PersistenceHandler.SaveResult saveResult,
+      long fileStageElapsedMs,
+      long preCountStageElapsedMs,
+      long parseStageElapsedMs,
+      long validationStageElapsedMs,
+      long dbUniquenessStageElapsedMs,
+      long saveStageElapsedMs,
+      SaveStageProfile saveProfile,
+      long requestStartedAt) {
+    log.info(
+        "Import stage timing [importType={}, file={}, rowsProcessed={}, fileMs={}, preCountMs={}, parseMs={}, validationMs={}, dbUniquenessMs={}, saveMs={}, totalMs={}, save=[{}]]: success",
+        importDefinition.getImportType(),
+        sanitizedFilename,
+        rowsProcessed,
+        fileStageElapsedMs,
+        preCountStageElapsedMs,
+        parseStageElapsedMs,
+        validationStageElapsedMs,
+        dbUniquenessStageElapsedMs,
+        saveStageElapsedMs,
+        elapsedMillis(requestStartedAt),
+        saveProfile.summary());
+    recording.finish(Outcome.SUCCESS, rowsProcessed);
+
+    return ImportResult.builder()
+        .success(true)
+        .rowsProcessed(rowsProcessed)
+        .rowsCreated(saveResult.created())
+        .rowsUpdated(saveResult.updated())
+        .message("데이터 업로드 완료")
+        .build();
+  }
+
   private <T> ImportResult buildFailureResult(
       ExcelImportDefinition<T, ?> importDefinition,
+      Recording recording,
       String sanitizedFilename,
       Path xlsxFile,
       ExcelSheetSpec sheetSpec,
-      ExcelParserService.ParseResult<T> parseResult,
+      List<ExcelParserService.ColumnMapping> columnMappings,
       ExcelValidationResult validationResult,
       long fileStageElapsedMs,
       long preCountStageElapsedMs,
@@ -394,20 +774,22 @@ public class ExcelImportOrchestrator {
       long validationStageElapsedMs,
       long dbUniquenessStageElapsedMs,
       long requestStartedAt,
+      Outcome metricOutcome,
       String outcome)
       throws IOException {
-    long errorReportStageStartedAt = System.nanoTime();
-    Path errorFile =
-        errorReportService.generateErrorReport(
+    long errorReportStageStartedAt = recording.beginStage(Stage.ERROR_REPORT);
+    // 비동기 실행이면 리포트 생성을 예약하는 시간만 잰다.
+    String errorFileId =
+        errorReportDispatcher.dispatch(
             xlsxFile,
             validationResult,
-            parseResult.columnMappings(),
+            columnMappings,
             sheetSpec,
             sanitizedFilename,
             importDefinition.getMergeRegions());
     long errorReportStageElapsedMs = elapsedMillis(errorReportStageStartedAt);
+    recording.stage(Stage.ERROR_REPORT, errorReportStageElapsedMs);
 
-    String errorFileId = errorFile.getFileName().toString().replace(".xlsx", "");
     String message =
         validationResult.getErrorRowCount()
             + "개 행에서 "
@@ -433,6 +815,7 @@ public class ExcelImportOrchestrator {
         elapsedMillis(requestStartedAt),
         validationResult.isTruncated() ? "compact" : "full",
         outcome);
+    recording.finish(metricOutcome, validationResult.getTotalRows());
 
     return ImportResult.builder()
         .success(false)
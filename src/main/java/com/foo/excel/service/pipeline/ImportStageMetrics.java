@@ -0,0 +1,234 @@
+package com.foo.excel.service.pipeline;
+
+import com.foo.excel.service.pipeline.jfr.ImportStageEvent;
+import com.foo.excel.service.pipeline.persist.SaveStageProfile;
+import com.foo.excel.service.pipeline.persist.SqlStatementType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 처리 단계별 소요 시간과 처리량을 Micrometer 지표로 기록한다.
+ *
+ * <p>오케스트레이터는 요청마다 {@link #start}로 {@link Recording}을 열고, 단계가 끝날 때마다 {@link Recording#stage}로
+ * 시간을 남긴 뒤 결과가 정해지는 지점에서 {@link Recording#finish}를 한 번 호출한다. 단계 타이머는 결과(outcome)가
+ * 정해진 뒤에 함께 기록하므로 모든 지표에 같은 {@code importType}, {@code outcome} 태그가 붙는다. 실행되지 않은 단계는
+ * 기록하지 않아 히스토그램에 0ms 표본이 섞이지 않는다.
+ *
+ * <p>{@link Recording#beginStage}로 시작한 단계는 {@link Recording#stage} 호출 시 {@link ImportStageEvent}
+ * JFR 이벤트로도 남는다. 파이프라인 모드처럼 단계가 겹쳐 실행되는 구간은 이벤트를 열지 않고, 파싱 묶음과 저장
+ * 구간 이벤트로 대신 추적한다.
+ *
+ * <p>지표 이름:
+ *
+ * <ul>
+ *   <li>{@code excel.import.stage} 단계별 타이머 ({@code importType}, {@code stage}, {@code outcome})
+ *   <li>{@code excel.import.duration} 요청 전체 타이머 ({@code importType}, {@code outcome})
+ *   <li>{@code excel.import.rows}, {@code excel.import.file.size} 처리 행 수와 파일 크기 분포
+ *   <li>{@code excel.import.throughput.rows}, {@code excel.import.throughput.bytes} 마지막 성공 업로드의
+ *       초당 처리량
+ *   <li>{@code excel.import.save.stage}, {@code excel.import.save.statements},
+ *       {@code excel.import.save.batches} 저장 세부 단계 시간과 SQL 실행 건수
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportStageMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Throughput> throughputs = new ConcurrentHashMap<>();
+
+  /** 처리 단계 이름이다. 지표의 {@code stage} 태그 값으로 쓴다. */
+  public enum Stage {
+    FILE("file"),
+    PRE_COUNT("preCount"),
+    PARSE("parse"),
+    VALIDATION("validation"),
+    DB_UNIQUENESS("dbUniqueness"),
+    ERROR_REPORT("errorReport"),
+    SAVE("save");
+
+    private final String tag;
+
+    Stage(String tag) {
+      this.tag = tag;
+    }
+
+    public String tag() {
+      return tag;
+    }
+  }
+
+  /** 업로드 처리 결과이다. 지표의 {@code outcome} 태그 값으로 쓴다. */
+  public enum Outcome {
+    SUCCESS("success"),
+    PRECHECK_BLOCKED("precheck-blocked"),
+    PRECOUNT_REJECTED("precount-rejected"),
+    ROW_LIMIT_EXCEEDED("row-limit-exceeded"),
+    PARSE_FAILED("parse-failed"),
+    VALIDATION_FAILED("validation-failed");
+
+    private final String tag;
+
+    Outcome(String tag) {
+      this.tag = tag;
+    }
+
+    public String tag() {
+      return tag;
+    }
+  }
+
+  /** 요청 하나의 지표 기록을 시작한다. */
+  public Recording start(String importType, long fileBytes) {
+    return new Recording(importType, fileBytes, System.nanoTime());
+  }
+
+  /** 요청 하나의 단계 시간을 모았다가 결과가 정해지면 한꺼번에 기록한다. 요청 스레드에서만 쓴다. */
+  public final class Recording {
+
+    private final String importType;
+    private final long fileBytes;
+    private final long startedAt;
+    private final Map<Stage, Long> stageMillis = new LinkedHashMap<>();
+    private final Map<Stage, ImportStageEvent> openStageEvents = new EnumMap<>(Stage.class);
+    private SaveStageProfile saveProfile;
+    private boolean finished;
+
+    private Recording(String importType, long fileBytes, long startedAt) {
+      this.importType = importType;
+      this.fileBytes = fileBytes;
+      this.startedAt = startedAt;
+    }
+
+    /** 단계의 JFR 이벤트 구간을 열고 시작 시각({@link System#nanoTime()})을 돌려준다. */
+    public long beginStage(Stage stage) {
+      openStageEvents.put(stage, ImportStageEvent.begin(stage.tag()));
+      return System.nanoTime();
+    }
+
+    public Recording stage(Stage stage, long elapsedMs) {
+      ImportStageEvent event = openStageEvents.remove(stage);
+      if (event != null) {
+        event.complete();
+      }
+      stageMillis.put(stage, elapsedMs);
+      return this;
+    }
+
+    public Recording saveProfile(SaveStageProfile profile) {
+      this.saveProfile = profile;
+      return this;
+    }
+
+    /** 결과와 처리 행 수를 확정하고 모든 지표를 기록한다. 두 번째 호출부터는 무시한다. */
+    public void finish(Outcome outcome, int rowsProcessed) {
+      if (finished) {
+        return;
+      }
+      finished = true;
+      long totalNanos = System.nanoTime() - startedAt;
+      record(this, outcome, rowsProcessed, totalNanos);
+    }
+  }
+
+  private void record(Recording recording, Outcome outcome, int rowsProcessed, long totalNanos) {
+    String importType = recording.importType;
+    recording.stageMillis.forEach(
+        (stage, elapsedMs) ->
+            Timer.builder("excel.import.stage")
+                .description("엑셀 업로드 단계별 소요 시간")
+                .tag("importType", importType)
+                .tag("stage", stage.tag())
+                .tag("outcome", outcome.tag())
+                .register(meterRegistry)
+                .record(elapsedMs, TimeUnit.MILLISECONDS));
+
+    Timer.builder("excel.import.duration")
+        .description("엑셀 업로드 요청 전체 소요 시간")
+        .tag("importType", importType)
+        .tag("outcome", outcome.tag())
+        .register(meterRegistry)
+        .record(totalNanos, TimeUnit.NANOSECONDS);
+    DistributionSummary.builder("excel.import.rows")
+        .baseUnit("rows")
+        .tag("importType", importType)
+        .tag("outcome", outcome.tag())
+        .register(meterRegistry)
+        .record(rowsProcessed);
+    DistributionSummary.builder("excel.import.file.size")
+        .baseUnit("bytes")
+        .tag("importType", importType)
+        .tag("outcome", outcome.tag())
+        .register(meterRegistry)
+        .record(recording.fileBytes);
+
+    if (outcome == Outcome.SUCCESS && totalNanos > 0) {
+      double seconds = totalNanos / 1_000_000_000.0;
+      Throughput throughput = throughputs.computeIfAbsent(importType, this::registerThroughput);
+      throughput.rowsPerSecond = rowsProcessed / seconds;
+      throughput.bytesPerSecond = recording.fileBytes / seconds;
+    }
+    if (recording.saveProfile != null) {
+      recordSaveProfile(importType, recording.saveProfile);
+    }
+  }
+
+  private void recordSaveProfile(String importType, SaveStageProfile profile) {
+    profile
+        .stages()
+        .forEach(
+            (stage, timing) ->
+                Timer.builder("excel.import.save.stage")
+                    .description("저장 단계 세부 구간 소요 시간")
+                    .tag("importType", importType)
+                    .tag("stage", stage)
+                    .register(meterRegistry)
+                    .record(timing.nanos(), TimeUnit.NANOSECONDS));
+    for (SqlStatementType type : SqlStatementType.values()) {
+      long count = profile.statementCount(type);
+      if (count > 0) {
+        Counter.builder("excel.import.save.statements")
+            .tag("importType", importType)
+            .tag("type", type.name().toLowerCase(Locale.ROOT))
+            .register(meterRegistry)
+            .increment(count);
+      }
+    }
+    Counter.builder("excel.import.save.batches")
+        .tag("importType", importType)
+        .register(meterRegistry)
+        .increment(profile.batchCount());
+  }
+
+  private Throughput registerThroughput(String importType) {
+    Throughput throughput = new Throughput();
+    Gauge.builder("excel.import.throughput.rows", throughput, t -> t.rowsPerSecond)
+        .description("마지막 성공 업로드의 초당 처리 행 수")
+        .baseUnit("rows/s")
+        .tag("importType", importType)
+        .register(meterRegistry);
+    Gauge.builder("excel.import.throughput.bytes", throughput, t -> t.bytesPerSecond)
+        .description("마지막 성공 업로드의 초당 처리 바이트 수")
+        .baseUnit("bytes/s")
+        .tag("importType", importType)
+        .register(meterRegistry);
+    return throughput;
+  }
+
+  /** 게이지가 읽는 마지막 성공 업로드의 처리량이다. */
+  private static final class Throughput {
+    private volatile double rowsPerSecond;
+    private volatile double bytesPerSecond;
+  }
+}
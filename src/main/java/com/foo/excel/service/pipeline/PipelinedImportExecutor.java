@@ -0,0 +1,406 @@
+package com.foo.excel.service.pipeline;
+
+import com.foo.excel.config.ExcelImportProperties;
+import com.foo.excel.service.contract.ExcelImportDefinition;
+import com.foo.excel.service.contract.ImportMetadata;
+import com.foo.excel.service.contract.PersistenceHandler;
+import com.foo.excel.service.pipeline.jfr.ImportEventContext;
+import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import com.foo.excel.service.pipeline.parse.ExcelParserService.ChunkedParseResult;
+import com.foo.excel.service.pipeline.parse.ExcelParserService.RowChunk;
+import com.foo.excel.service.pipeline.validation.ExcelValidationService;
+import com.foo.excel.validation.RowError;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ExcelExecutionMode#PIPELINED} 모드에서 파싱, 검증, 저장 단계를 청크 단위로 겹쳐 실행한다.
+ *
+ * <p>파싱 스레드가 {@link ExcelParserService#parseInChunks}로 만든 청크를 제한된 큐에 넣으면, 검증 스레드가 JSR-380
+ * 검증과 DB 유일성 검사를 마친 청크를 다음 큐로 넘기고, 호출 스레드가 {@link PersistenceHandler#saveChunk}로 저장한다.
+ * 큐가 차면 앞 단계가 기다리므로 단계 사이에 쌓이는 청크 수는 큐 용량으로 제한된다. 파일 내 유일성 검증은 전체 행이
+ * 필요하므로 검증 스레드는 행 데이터를 끝까지 모아 둔다.
+ *
+ * <p>이 클래스는 트랜잭션을 직접 다루지 않는다. 호출자는 {@link #run}을 하나의 트랜잭션 안에서 호출하고, 반환된
+ * {@link PipelineRun}으로 최종 판정을 내려 커밋하거나 롤백해야 한다. 파싱 오류, 검증 오류, DB 충돌이 하나라도 발견되거나
+ * 최대 행 수를 넘으면 그 뒤의 청크는 저장 단계로 넘기지 않는다. DB 충돌 뒤에도 JSR-380 오류가 없는 청크는 계속 DB
+ * 유일성 검사를 하므로 직렬 모드와 같은 충돌 목록을 얻는다.
+ *
+ * <p>동시에 실행할 수 있는 업로드 수는 {@code pipeline-max-concurrent-imports}로 제한하고, 단계 스레드도 그 두 배인 고정
+ * 크기 풀에서 꺼내 쓴다. 업로드 하나는 호출 스레드의 트랜잭션과 검증 스레드의 DB 유일성 검사로 커넥션을 최대 두 개 쓰므로,
+ * 이 값의 두 배가 커넥션 풀 크기보다 충분히 작아야 한다. 호출자는 {@link #tryAcquireSlot()}으로 자리를 얻은 뒤
+ * {@link #run}을 호출하고, 자리가 없으면 직렬 모드로 처리한다.
+ */
+@Component
+public class PipelinedImportExecutor {
+
+  @SuppressWarnings("rawtypes")
+  private static final RowChunk END_OF_STREAM = new RowChunk<>(List.of(), List.of(), 0);
+
+  private final ExcelParserService parserService;
+  private final ExcelValidationService validationService;
+  private final ExcelImportProperties properties;
+  private final Semaphore importSlots;
+  private final ExecutorService stageExecutor;
+
+  public PipelinedImportExecutor(
+      ExcelParserService parserService,
+      ExcelValidationService validationService,
+      ExcelImportProperties properties) {
+    this.parserService = parserService;
+    this.validationService = validationService;
+    this.properties = properties;
+    int maxImports = Math.max(1, properties.getPipelineMaxConcurrentImports());
+    this.importSlots = new Semaphore(maxImports);
+    // 업로드마다 파싱과 검증 스레드 두 개를 쓴다. 취소된 단계가 아직 끝나지 않았으면 다음 업로드의 단계는 큐에서 기다린다.
+    this.stageExecutor = Executors.newFixedThreadPool(maxImports * 2, stageThreadFactory());
+  }
+
+  /** 파이프라인 실행 자리 하나이다. 닫으면 반납하며, 여러 번 닫아도 한 번만 반납한다. */
+  public final class Slot implements AutoCloseable {
+
+    private boolean released;
+
+    private Slot() {}
+
+    @Override
+    public void close() {
+      if (!released) {
+        released = true;
+        importSlots.release();
+      }
+    }
+  }
+
+  /**
+   * 파이프라인 한 번의 실행 결과이다. 최종 판정은 호출자가 내린다.
+   *
+   * @param parseResult 파싱 요약(행 수, 컬럼 매핑, 파싱 오류)
+   * @param rows 파싱된 전체 행, 파일 내 유일성 검증에 사용한다
+   * @param sourceRowNumbers {@code rows}와 같은 순서의 원본 엑셀 행 번호
+   * @param constraintErrors 청크별 JSR-380 검증 오류를 행 번호 순서로 모은 목록(수정 가능)
+   * @param constraintTruncated JSR-380 검증이 오류 행 한도에 걸려 중단되었는지 여부
+   * @param dbErrors 청크별 DB 유일성 검사 오류, 파싱 오류와 JSR-380 오류가 없는 동안 모든 청크를 검사한다
+   * @param saveResult 저장 단계로 넘어간 청크의 생성/수정 건수 합계
+   * @param parseMs 파싱 스레드의 작업 시간(큐 대기 제외)
+   * @param validationMs 검증 스레드의 JSR-380 검증 시간
+   * @param dbUniquenessMs 검증 스레드의 DB 유일성 검사 시간
+   * @param saveMs 호출 스레드의 저장 시간
+   * @param <T> 행 DTO 타입
+   */
+  public record PipelineRun<T>(
+      ChunkedParseResult parseResult,
+      List<T> rows,
+      List<Integer> sourceRowNumbers,
+      List<RowError> constraintErrors,
+      boolean constraintTruncated,
+      List<RowError> dbErrors,
+      PersistenceHandler.SaveResult saveResult,
+      long parseMs,
+      long validationMs,
+      long dbUniquenessMs,
+      long saveMs) {}
+
+  /**
+   * 파이프라인 실행 자리를 기다리지 않고 얻는다.
+   *
+   * @return 얻은 자리, 동시 실행 수가 이미 한도에 도달했으면 비어 있다
+   */
+  public Optional<Slot> tryAcquireSlot() {
+    return importSlots.tryAcquire() ? Optional.of(new Slot()) : Optional.empty();
+  }
+
+  /**
+   * 파싱, 검증, 저장 단계를 동시에 실행하고 모든 단계가 끝날 때까지 기다린다.
+   *
+   * <p>파싱 또는 검증 스레드에서 발생한 예외는 호출 스레드에서 그대로 다시 던진다. {@link IOException}은 {@link
+   * UncheckedIOException}으로 감싼다. 호출 스레드가 예외로 빠져나가면 남은 단계 스레드를 인터럽트한다.
+   *
+   * @param maxErrorRows 수집할 최대 오류 행 수, 제한이 없으면 {@link Integer#MAX_VALUE}
+   * @param rowCountLimit 스트리밍 레이아웃 패스의 행 수 상한, 적용하지 않으면 {@link Integer#MAX_VALUE}
+   */
+  public <T, M extends ImportMetadata> PipelineRun<T> run(
+      ExcelImportDefinition<T, M> importDefinition,
+      M metadata,
+      Path xlsxFile,
+      int maxErrorRows,
+      int rowCountLimit) {
+    BlockingQueue<RowChunk<T>> parsedChunks =
+        new ArrayBlockingQueue<>(properties.getPipelineQueueCapacity());
+    BlockingQueue<RowChunk<T>> validatedChunks =
+        new ArrayBlockingQueue<>(properties.getPipelineQueueCapacity());
+    ParseStage<T> parseStage =
+        new ParseStage<>(importDefinition, xlsxFile, maxErrorRows, rowCountLimit, parsedChunks);
+    ValidationStage<T, M> validationStage =
+        new ValidationStage<>(
+            importDefinition, metadata, maxErrorRows, parsedChunks, validatedChunks);
+
+    Future<ChunkedParseResult> parseFuture =
+        stageExecutor.submit(ImportEventContext.propagate(parseStage::run));
+    Future<Void> validationFuture =
+        stageExecutor.submit(ImportEventContext.propagate(validationStage::run));
+    try {
+      PersistenceHandler<T, M> persistenceHandler = importDefinition.getPersistenceHandler();
+      int created = 0;
+      int updated = 0;
+      long saveNanos = 0;
+      RowChunk<T> chunk;
+      while (!isEnd(chunk = take(validatedChunks))) {
+        long saveStartedAt = System.nanoTime();
+        PersistenceHandler.SaveResult chunkResult =
+            persistenceHandler.saveChunk(chunk.rows(), chunk.sourceRowNumbers(), metadata);
+        saveNanos += System.nanoTime() - saveStartedAt;
+        created += chunkResult.created();
+        updated += chunkResult.updated();
+      }
+
+      // 검증 스레드가 먼저 끝나야 파싱 스레드가 큐에서 막히지 않고 끝까지 진행한다.
+      await(validationFuture);
+      ChunkedParseResult parseResult = await(parseFuture);
+
+      // 모든 청크가 넘어온 경우에만 업로드 단위 데이터를 한 번 저장한다. 중간에 멈췄으면 어차피 롤백된다.
+      if (validationStage.forwarding) {
+        long finishStartedAt = System.nanoTime();
+        persistenceHandler.finishChunkedSave(metadata);
+        saveNanos += System.nanoTime() - finishStartedAt;
+      }
+      return new PipelineRun<>(
+          parseResult,
+          validationStage.rows,
+          validationStage.sourceRowNumbers,
+          validationStage.constraintErrors,
+          validationStage.constraintTruncated,
+          validationStage.dbErrors,
+          new PersistenceHandler.SaveResult(created, updated),
+          toMillis(parseStage.busyNanos),
+          toMillis(validationStage.validationNanos),
+          toMillis(validationStage.dbUniquenessNanos),
+          toMillis(saveNanos));
+    } finally {
+      parseFuture.cancel(true);
+      validationFuture.cancel(true);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    stageExecutor.shutdownNow();
+  }
+
+  /** 파싱 단계: 청크를 큐에 넣고, 끝나면 성공 여부와 무관하게 종료 표시를 넣는다. */
+  private final class ParseStage<T> {
+
+    private final ExcelImportDefinition<T, ?> importDefinition;
+    private final Path xlsxFile;
+    private final int maxErrorRows;
+    private final int rowCountLimit;
+    private final BlockingQueue<RowChunk<T>> output;
+    private long waitNanos;
+    private long busyNanos;
+
+    private ParseStage(
+        ExcelImportDefinition<T, ?> importDefinition,
+        Path xlsxFile,
+        int maxErrorRows,
+        int rowCountLimit,
+        BlockingQueue<RowChunk<T>> output) {
+      this.importDefinition = importDefinition;
+      this.xlsxFile = xlsxFile;
+      this.maxErrorRows = maxErrorRows;
+      this.rowCountLimit = rowCountLimit;
+      this.output = output;
+    }
+
+    private ChunkedParseResult run() throws IOException {
+      long startedAt = System.nanoTime();
+      try {
+        return parserService.parseInChunks(
+            xlsxFile,
+            importDefinition.getRowClass(),
+            importDefinition.getSheetSpec(),
+            properties.getMaxRows(),
+            maxErrorRows,
+            properties.getParseMode(),
+            rowCountLimit,
+            properties.getChunkSize(),
+            chunk -> waitNanos += put(output, chunk));
+      } finally {
+        busyNanos = System.nanoTime() - startedAt - waitNanos;
+        putEnd(output);
+      }
+    }
+  }
+
+  /**
+   * 검증 단계: 청크마다 JSR-380 검증과 DB 유일성 검사를 수행하고, 지금까지 오류가 없으면 저장 단계로 넘긴다.
+   *
+   * <p>DB 유일성 검사는 직렬 모드와 마찬가지로 파싱 오류와 JSR-380 오류가 없을 때만 의미가 있으므로, 그런 오류가 발견된
+   * 뒤에는 생략한다. DB 충돌은 저장만 멈추고 검사는 계속해 직렬 모드처럼 파일 전체의 충돌을 모은다.
+   */
+  private final class ValidationStage<T, M extends ImportMetadata> {
+
+    private final ExcelImportDefinition<T, M> importDefinition;
+    private final M metadata;
+    private final int maxErrorRows;
+    private final BlockingQueue<RowChunk<T>> input;
+    private final BlockingQueue<RowChunk<T>> output;
+    private final List<T> rows = new ArrayList<>();
+    private final List<Integer> sourceRowNumbers = new ArrayList<>();
+    private final List<RowError> constraintErrors = new ArrayList<>();
+    private final List<RowError> dbErrors = new ArrayList<>();
+    private boolean constraintTruncated;
+    private boolean checkingDb = true;
+    private boolean forwarding = true;
+    private long validationNanos;
+    private long dbUniquenessNanos;
+
+    private ValidationStage(
+        ExcelImportDefinition<T, M> importDefinition,
+        M metadata,
+        int maxErrorRows,
+        BlockingQueue<RowChunk<T>> input,
+        BlockingQueue<RowChunk<T>> output) {
+      this.importDefinition = importDefinition;
+      this.metadata = metadata;
+      this.maxErrorRows = maxErrorRows;
+      this.input = input;
+      this.output = output;
+    }
+
+    private Void run() {
+      try {
+        RowChunk<T> chunk;
+        while (!isEnd(chunk = take(input))) {
+          validateChunk(chunk);
+        }
+        return null;
+      } finally {
+        putEnd(output);
+      }
+    }
+
+    private void validateChunk(RowChunk<T> chunk) {
+      rows.addAll(chunk.rows());
+      sourceRowNumbers.addAll(chunk.sourceRowNumbers());
+
+      if (!constraintTruncated) {
+        long validationStartedAt = System.nanoTime();
+        constraintErrors.addAll(
+            validationService.validateConstraints(
+                chunk.rows(),
+                importDefinition.getRowClass(),
+                chunk.sourceRowNumbers(),
+                remainingErrorRowBudget()));
+        constraintTruncated = remainingErrorRowBudget() == 0;
+        validationNanos += System.nanoTime() - validationStartedAt;
+      }
+
+      checkingDb =
+          checkingDb
+              && chunk.parseErrorRows() == 0
+              && constraintErrors.isEmpty()
+              && rows.size() <= properties.getMaxRows();
+      if (!checkingDb) {
+        forwarding = false;
+        return;
+      }
+
+      long dbUniquenessStartedAt = System.nanoTime();
+      List<RowError> chunkDbErrors =
+          importDefinition.checkDbUniqueness(chunk.rows(), chunk.sourceRowNumbers(), metadata);
+      dbUniquenessNanos += System.nanoTime() - dbUniquenessStartedAt;
+      dbErrors.addAll(chunkDbErrors);
+      forwarding = forwarding && chunkDbErrors.isEmpty();
+      if (forwarding) {
+        put(output, chunk);
+      }
+    }
+
+    private int remainingErrorRowBudget() {
+      if (maxErrorRows == Integer.MAX_VALUE) {
+        return Integer.MAX_VALUE;
+      }
+      return Math.max(0, maxErrorRows - constraintErrors.size());
+    }
+  }
+
+  private static <T> boolean isEnd(RowChunk<T> chunk) {
+    return chunk == END_OF_STREAM;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void putEnd(BlockingQueue<RowChunk<T>> queue) {
+    put(queue, (RowChunk<T>) END_OF_STREAM);
+  }
+
+  /** 큐에 청크를 넣고, 공간이 날 때까지 기다린 시간을 나노초로 돌려준다. */
+  private static <T> long put(BlockingQueue<RowChunk<T>> queue, RowChunk<T> chunk) {
+    long startedAt = System.nanoTime();
+    try {
+      queue.put(chunk);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("파이프라인 단계가 중단되었습니다.");
+    }
+    return System.nanoTime() - startedAt;
+  }
+
+  private static <T> RowChunk<T> take(BlockingQueue<RowChunk<T>> queue) {
+    try {
+      return queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("파이프라인 단계가 중단되었습니다.");
+    }
+  }
+
+  private static <V> V await(Future<V> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("파이프라인 대기 중 인터럽트되었습니다.");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException ioException) {
+        throw new UncheckedIOException(ioException);
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private static long toMillis(long nanos) {
+    return nanos / 1_000_000;
+  }
+
+  private static ThreadFactory stageThreadFactory() {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "excel-import-pipeline-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,49 @@
+package com.foo.excel.service.pipeline.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** 오류 리포트가 시트 하나를 복사하거나 작성하는 데 걸린 구간이다. */
+@Name("com.foo.excel.ErrorReportSheet")
+@Label("Excel Error Report Sheet")
+@Description("오류 리포트의 시트 하나를 복사 또는 작성한 구간")
+public final class ErrorReportSheetEvent extends ImportEvent {
+
+  @Label("Report Mode")
+  @Description("full, streaming 또는 compact")
+  String reportMode;
+
+  @Label("Sheet Index")
+  int sheetIndex;
+
+  @Label("Sheet Name")
+  String sheetName;
+
+  @Label("Data Sheet")
+  boolean dataSheet;
+
+  @Label("Rows")
+  int rows;
+
+  @Label("Cells")
+  long cells;
+
+  public void complete(
+      String reportMode,
+      int sheetIndex,
+      String sheetName,
+      boolean dataSheet,
+      int rows,
+      long cells) {
+    if (prepareCommit()) {
+      this.reportMode = reportMode;
+      this.sheetIndex = sheetIndex;
+      this.sheetName = sheetName;
+      this.dataSheet = dataSheet;
+      this.rows = rows;
+      this.cells = cells;
+      commit();
+    }
+  }
+}
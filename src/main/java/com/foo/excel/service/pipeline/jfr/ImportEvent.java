@@ -0,0 +1,44 @@
+package com.foo.excel.service.pipeline.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 엑셀 업로드 JFR 이벤트의 공통 필드이다.
+ *
+ * <p>하위 이벤트는 {@link #prepareCommit}으로 커밋 여부를 정하며, 이때 현재 스레드의 {@link ImportEventContext}를
+ * 읽어 어떤 업로드의 구간인지 남긴다. JFR 기록이 꺼져 있거나 임계값보다 짧은 구간은 필드를 채우지 않고 버린다. 상시
+ * 기록에 켜 두어도 부담이 적도록 스택 트레이스는 남기지 않는다.
+ */
+@Category({"Excel Import"})
+@StackTrace(false)
+abstract class ImportEvent extends Event {
+
+  @Label("Import Type")
+  String importType;
+
+  @Label("File Name")
+  String fileName;
+
+  @Label("File Size")
+  @DataAmount
+  long fileBytes;
+
+  /** 구간을 끝내고, 기록 대상이면 업로드 정보를 채운 뒤 true를 돌려준다. */
+  final boolean prepareCommit() {
+    end();
+    if (!shouldCommit()) {
+      return false;
+    }
+    ImportEventContext context = ImportEventContext.current();
+    if (context != null) {
+      importType = context.importType();
+      fileName = context.fileName();
+      fileBytes = context.fileBytes();
+    }
+    return true;
+  }
+}
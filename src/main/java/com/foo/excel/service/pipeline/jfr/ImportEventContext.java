@@ -0,0 +1,57 @@
+package com.foo.excel.service.pipeline.jfr;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 현재 스레드에서 처리 중인 업로드를 JFR 이벤트에 붙이기 위한 식별 정보이다.
+ *
+ * <p>오케스트레이터가 요청 처리 동안 {@link #bind}로 연결하고 끝나면 {@link #clear}로 해제한다. 파싱, 오류 리포트,
+ * 저장 이벤트는 커밋 시점에 이 값을 읽어 {@code importType}, 파일명, 파일 크기를 채운다. 다른 스레드에서 단계를
+ * 실행할 때는 {@link #propagate}로 감싸 같은 값을 넘긴다.
+ *
+ * @param importType import 유형
+ * @param fileName 정규화된 원본 파일명, 아직 저장 전이면 null
+ * @param fileBytes 업로드 파일 크기(바이트)
+ */
+public record ImportEventContext(String importType, String fileName, long fileBytes) {
+
+  private static final ThreadLocal<ImportEventContext> CURRENT = new ThreadLocal<>();
+
+  public ImportEventContext withFileName(String fileName) {
+    return new ImportEventContext(importType, fileName, fileBytes);
+  }
+
+  public static void bind(ImportEventContext context) {
+    CURRENT.set(context);
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  /** 현재 스레드에 연결된 업로드 정보, 없으면 {@code null}이다. */
+  public static ImportEventContext current() {
+    return CURRENT.get();
+  }
+
+  /** 호출 시점의 업로드 정보를 실행 스레드에 연결한 뒤 {@code task}를 실행하도록 감싼다. */
+  public static <V> Callable<V> propagate(Callable<V> task) {
+    ImportEventContext context = CURRENT.get();
+    if (context == null) {
+      return task;
+    }
+    return () -> {
+      ImportEventContext previous = CURRENT.get();
+      CURRENT.set(context);
+      try {
+        return task.call();
+      } finally {
+        if (previous == null) {
+          CURRENT.remove();
+        } else {
+          CURRENT.set(previous);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,29 @@
+package com.foo.excel.service.pipeline.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** 오케스트레이터가 순서대로 실행한 처리 단계 하나의 구간이다. */
+@Name("com.foo.excel.ImportStage")
+@Label("Excel Import Stage")
+@Description("파일 저장, 행 수 사전 점검, 파싱, 검증, DB 유일성 검사, 오류 리포트, 저장 중 한 단계")
+public final class ImportStageEvent extends ImportEvent {
+
+  @Label("Stage")
+  String stage;
+
+  /** 구간을 시작한 이벤트를 만든다. */
+  public static ImportStageEvent begin(String stage) {
+    ImportStageEvent event = new ImportStageEvent();
+    event.stage = stage;
+    event.begin();
+    return event;
+  }
+
+  public void complete() {
+    if (prepareCommit()) {
+      commit();
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.foo.excel.service.pipeline.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 파서가 행 묶음 하나를 만드는 데 걸린 구간이다. 소비자에게 넘기는 시간(파이프라인 큐 대기 등)은 포함하지 않는다.
+ */
+@Name("com.foo.excel.ParseChunk")
+@Label("Excel Parse Chunk")
+@Description("행 묶음 하나의 파싱 구간과 변환한 행, 셀 수")
+public final class ParseChunkEvent extends ImportEvent {
+
+  @Label("Chunk Index")
+  int chunkIndex;
+
+  @Label("Rows")
+  int rows;
+
+  @Label("Cells Converted")
+  long cellsConverted;
+
+  @Label("Parse Error Rows")
+  @Description("묶음을 넘기는 시점까지 누적된 파싱 오류 행 수")
+  int parseErrorRows;
+
+  public void complete(int chunkIndex, int rows, long cellsConverted, int parseErrorRows) {
+    if (prepareCommit()) {
+      this.chunkIndex = chunkIndex;
+      this.rows = rows;
+      this.cellsConverted = cellsConverted;
+      this.parseErrorRows = parseErrorRows;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.foo.excel.service.pipeline.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** 저장 구현이 {@code SaveStageProfiler.time}으로 감싼 세부 구간(배치 flush 등) 하나이다. */
+@Name("com.foo.excel.SaveStage")
+@Label("Excel Import Save Stage")
+@Description("저장 단계의 세부 구간 하나와 그 사이 실행된 SQL 문, JDBC 배치 수")
+public final class SaveStageEvent extends ImportEvent {
+
+  @Label("Stage")
+  String stage;
+
+  @Label("Statements")
+  long statements;
+
+  @Label("Batches")
+  long batches;
+
+  public void complete(String stage, long statements, long batches) {
+    if (prepareCommit()) {
+      this.stage = stage;
+      this.statements = statements;
+      this.batches = batches;
+      commit();
+    }
+  }
+}
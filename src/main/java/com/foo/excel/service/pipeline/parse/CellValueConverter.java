@@ -0,0 +1,152 @@
+package com.foo.excel.service.pipeline.parse;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.apache.poi.ss.usermodel.CellType;
+
+/**
+ * DTO 필드 타입별 셀 값 변환 규칙이다.
+ *
+ * <p>필드 타입에 맞는 변환기는 컬럼 바인딩 시 한 번만 고르므로, 셀마다 필드 타입을 다시 비교하지 않는다. 지원하지 않는
+ * 타입은 {@link #STRING}으로 변환한다.
+ *
+ * <p>숫자, 날짜, 불리언 변환기는 셀의 원시 값을 먼저 읽고 표시 문자열이 필요할 때만 {@link SheetCell#text()}로 포맷한다.
+ */
+enum CellValueConverter {
+  STRING {
+    @Override
+    Object convert(SheetCell cell, DateTimeFormatter dateFormatter) {
+      return cell.text();
+    }
+  },
+  INTEGER {
+    @Override
+    Object convert(SheetCell cell, DateTimeFormatter dateFormatter) {
+      if (cell.type() == CellType.NUMERIC) {
+        return (int) cell.numericValue();
+      }
+      String value = cell.text();
+      if (value.isBlank()) {
+        return null;
+      }
+      return Integer.parseInt(stripGroupingAndWhitespace(value));
+    }
+  },
+  BIG_DECIMAL {
+    @Override
+    Object convert(SheetCell cell, DateTimeFormatter dateFormatter) {
+      if (cell.type() == CellType.NUMERIC) {
+        return BigDecimal.valueOf(cell.numericValue());
+      }
+      String value = cell.text();
+      if (value.isBlank()) {
+        return null;
+      }
+      return new BigDecimal(stripGroupingAndWhitespace(value));
+    }
+  },
+  LOCAL_DATE {
+    @Override
+    Object convert(SheetCell cell, DateTimeFormatter dateFormatter) {
+      if (cell.type() == CellType.NUMERIC && cell.isDateFormatted()) {
+        return cell.localDateTimeValue().toLocalDate();
+      }
+      String value = cell.text();
+      if (value.isBlank()) {
+        return null;
+      }
+      return LocalDate.parse(value, requireFormatter(dateFormatter));
+    }
+  },
+  LOCAL_DATE_TIME {
+    @Override
+    Object convert(SheetCell cell, DateTimeFormatter dateFormatter) {
+      if (cell.type() == CellType.NUMERIC && cell.isDateFormatted()) {
+        return cell.localDateTimeValue();
+      }
+      String value = cell.text();
+      if (value.isBlank()) {
+        return null;
+      }
+      return LocalDateTime.parse(value, requireFormatter(dateFormatter));
+    }
+  },
+  BOOLEAN {
+    @Override
+    Object convert(SheetCell cell, DateTimeFormatter dateFormatter) {
+      if (cell.type() == CellType.BOOLEAN) {
+        return cell.booleanValue();
+      }
+      String value = cell.text();
+      if (value.isBlank()) {
+        return false;
+      }
+      return "Y".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value);
+    }
+  };
+
+  /**
+   * 셀 값을 필드 타입으로 변환한다.
+   *
+   * @param cell 값이 있는 셀
+   * @param dateFormatter 날짜 문자열 해석 포맷터, 날짜 타입에서만 사용한다
+   * @return 변환한 값, 빈 문자열이면 null(불리언은 false)
+   * @throws RuntimeException 값을 필드 타입으로 해석할 수 없는 경우
+   */
+  abstract Object convert(SheetCell cell, DateTimeFormatter dateFormatter);
+
+  private static DateTimeFormatter requireFormatter(DateTimeFormatter dateFormatter) {
+    if (dateFormatter == null) {
+      throw new DateTimeException("Invalid date format pattern");
+    }
+    return dateFormatter;
+  }
+
+  /** 천 단위 구분자와 공백 문자({@code [,\s]})를 제거한다. 제거할 문자가 없으면 원본을 그대로 반환한다. */
+  static String stripGroupingAndWhitespace(String value) {
+    int length = value.length();
+    int firstStripped = 0;
+    while (firstStripped < length && !isGroupingOrWhitespace(value.charAt(firstStripped))) {
+      firstStripped++;
+    }
+    if (firstStripped == length) {
+      return value;
+    }
+
+    char[] kept = new char[length - 1];
+    value.getChars(0, firstStripped, kept, 0);
+    int keptLength = firstStripped;
+    for (int i = firstStripped + 1; i < length; i++) {
+      char ch = value.charAt(i);
+      if (!isGroupingOrWhitespace(ch)) {
+        kept[keptLength++] = ch;
+      }
+    }
+    return new String(kept, 0, keptLength);
+  }
+
+  private static boolean isGroupingOrWhitespace(char ch) {
+    return switch (ch) {
+      case ',', ' ', '\t', '\n', '\u000B', '\f', '\r' -> true;
+      default -> false;
+    };
+  }
+
+  static CellValueConverter forType(Class<?> fieldType) {
+    if (fieldType == Integer.class || fieldType == int.class) {
+      return INTEGER;
+    } else if (fieldType == BigDecimal.class) {
+      return BIG_DECIMAL;
+    } else if (fieldType == LocalDate.class) {
+      return LOCAL_DATE;
+    } else if (fieldType == LocalDateTime.class) {
+      return LOCAL_DATE_TIME;
+    } else if (fieldType == Boolean.class || fieldType == boolean.class) {
+      return BOOLEAN;
+    }
+    return STRING;
+  }
+}
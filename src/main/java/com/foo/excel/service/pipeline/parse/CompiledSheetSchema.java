@@ -0,0 +1,183 @@
+package com.foo.excel.service.pipeline.parse;
+
+import com.foo.excel.annotation.ExcelColumn;
+import com.foo.excel.annotation.HeaderMatchMode;
+import com.foo.excel.service.contract.ImportSchema;
+import com.foo.excel.service.contract.ImportSchema.ColumnSchema;
+import com.foo.excel.validation.ExcelColumnRef;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 행 DTO의 {@link ExcelColumn} 선언을 헤더 검증과 값 변환에 바로 쓸 수 있게 한 번 풀어 둔 불변 스키마이다.
+ *
+ * <p>컬럼 위치와 기대 헤더는 {@link ImportSchema}에서 가져오고, 파서만 쓰는 정규화한 기대 헤더 세그먼트,
+ * {@link HeaderMatchMode#REGEX} 패턴, 날짜 포맷터를 더해 둔다. 행 DTO 클래스마다 하나만 만들어 {@link ClassValue}에
+ * 보관하므로, 같은 양식의 업로드 요청은 모두 같은 스키마를 공유한다.
+ */
+final class CompiledSheetSchema {
+
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+  private static final ClassValue<CompiledSheetSchema> SCHEMAS =
+      new ClassValue<>() {
+        @Override
+        protected CompiledSheetSchema computeValue(Class<?> rowClass) {
+          return new CompiledSheetSchema(ImportSchema.of(rowClass));
+        }
+      };
+
+  private final List<CompiledColumn> columns;
+  private final int explicitHeaderEndRowIndex;
+
+  /**
+   * {@link ExcelColumn} 필드 하나의 컴파일 결과이다.
+   *
+   * @param field 접근 가능하게 열어 둔 매핑 대상 필드
+   * @param annotation 필드에 선언된 엑셀 컬럼 애너테이션
+   * @param columnIndex 선언된 0-based 컬럼 인덱스, 컬럼 문자가 비어 있으면 -1
+   * @param columnRef 선언된 컬럼 참조, 컬럼 문자가 비어 있으면 null
+   * @param expectedHeaderLabel 오류 메시지용 기대 헤더 경로 ({@code "소요량 > 제조용"})
+   * @param expectedSegments 공백 정규화를 마친 기대 헤더 세그먼트
+   * @param headerPatterns {@link HeaderMatchMode#REGEX}일 때 세그먼트별로 컴파일한 패턴, 그 밖에는 빈 목록
+   * @param dateFormatter 날짜 타입 필드의 포맷터, 날짜 타입이 아니거나 패턴이 잘못되었으면 null
+   */
+  record CompiledColumn(
+      Field field,
+      ExcelColumn annotation,
+      int columnIndex,
+      ExcelColumnRef columnRef,
+      String expectedHeaderLabel,
+      List<String> expectedSegments,
+      List<Pattern> headerPatterns,
+      DateTimeFormatter dateFormatter) {
+
+    /**
+     * 해석된 실제 헤더 세그먼트가 기대 헤더와 일치하는지 확인한다.
+     *
+     * <p>{@code headerLabels}가 없으면 마지막 세그먼트(leaf)만 비교하고, 있으면 앞에서부터 세그먼트별로 비교한다.
+     */
+    boolean matchesHeader(List<String> actualSegments) {
+      if (actualSegments.isEmpty()) {
+        return false;
+      }
+
+      if (annotation.headerLabels().length == 0) {
+        return matchSegment(actualSegments.get(actualSegments.size() - 1), 0);
+      }
+
+      if (actualSegments.size() < expectedSegments.size()) {
+        return false;
+      }
+
+      for (int i = 0; i < expectedSegments.size(); i++) {
+        if (!matchSegment(actualSegments.get(i), i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean matchSegment(String cellValue, int segmentIndex) {
+      if (cellValue == null || cellValue.isBlank()) {
+        return false;
+      }
+
+      String normalizedCell = normalizeHeaderValue(cellValue, annotation.ignoreHeaderWhitespace());
+      String normalizedExpected = expectedSegments.get(segmentIndex);
+
+      return switch (annotation.matchMode()) {
+        case EXACT -> normalizedCell.equalsIgnoreCase(normalizedExpected);
+        case CONTAINS -> normalizedCell.contains(normalizedExpected);
+        case STARTS_WITH -> normalizedCell.startsWith(normalizedExpected);
+        case REGEX -> headerPatterns.get(segmentIndex).matcher(normalizedCell).matches();
+      };
+    }
+  }
+
+  private CompiledSheetSchema(ImportSchema importSchema) {
+    List<CompiledColumn> compiled = new ArrayList<>();
+    int headerEndRowIndex = -1;
+    for (ColumnSchema column : importSchema.columns()) {
+      ExcelColumn annotation = column.annotation();
+      compiled.add(compile(column));
+      if (annotation.headerRowStart() >= 1 && annotation.headerRowCount() >= 1) {
+        // 범위가 잘못된 컬럼은 컬럼 해석 단계에서 예외로 보고한다.
+        headerEndRowIndex =
+            Math.max(
+                headerEndRowIndex, annotation.headerRowStart() + annotation.headerRowCount() - 2);
+      }
+    }
+    this.columns = List.copyOf(compiled);
+    this.explicitHeaderEndRowIndex = headerEndRowIndex;
+  }
+
+  static CompiledSheetSchema of(Class<?> rowClass) {
+    return SCHEMAS.get(rowClass);
+  }
+
+  /** {@link ExcelColumn} 필드를 상위 클래스 방향으로 선언 순서대로 담은 목록이다. */
+  List<CompiledColumn> columns() {
+    return columns;
+  }
+
+  /**
+   * 헤더 해석을 위해 버퍼에 담아야 하는 마지막 행을 구한다.
+   *
+   * @param headerRowIndex 시트 스펙의 0-based 헤더 행 인덱스
+   * @return 멀티 행 헤더 범위까지 포함한 0-based 마지막 헤더 행 인덱스
+   */
+  int headerScanEndRow(int headerRowIndex) {
+    return Math.max(headerRowIndex, explicitHeaderEndRowIndex);
+  }
+
+  static String normalizeHeaderValue(String value, boolean ignoreWhitespace) {
+    String normalized = value.trim();
+    if (ignoreWhitespace) {
+      normalized = WHITESPACE_PATTERN.matcher(normalized).replaceAll("");
+    }
+    return normalized;
+  }
+
+  private static CompiledColumn compile(ColumnSchema column) {
+    ExcelColumn annotation = column.annotation();
+    List<String> rawSegments = column.expectedHeaderSegments();
+
+    List<String> expectedSegments = new ArrayList<>(rawSegments.size());
+    List<Pattern> headerPatterns = new ArrayList<>();
+    for (String segment : rawSegments) {
+      String normalized = normalizeHeaderValue(segment, annotation.ignoreHeaderWhitespace());
+      expectedSegments.add(normalized);
+      if (annotation.matchMode() == HeaderMatchMode.REGEX) {
+        headerPatterns.add(Pattern.compile(normalized));
+      }
+    }
+
+    return new CompiledColumn(
+        column.field(),
+        annotation,
+        column.columnIndex(),
+        column.columnRef(),
+        column.expectedHeaderLabel(),
+        List.copyOf(expectedSegments),
+        List.copyOf(headerPatterns),
+        compileDateFormatter(column.field().getType(), annotation.dateFormat()));
+  }
+
+  private static DateTimeFormatter compileDateFormatter(Class<?> fieldType, String dateFormat) {
+    if (fieldType != LocalDate.class && fieldType != LocalDateTime.class) {
+      return null;
+    }
+    try {
+      return DateTimeFormatter.ofPattern(dateFormat);
+    } catch (IllegalArgumentException e) {
+      // 잘못된 패턴은 스키마 생성을 막지 않고, 날짜 문자열 셀의 변환 오류로 보고한다.
+      return null;
+    }
+  }
+}
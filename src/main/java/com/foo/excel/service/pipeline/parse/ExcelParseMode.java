@@ -0,0 +1,16 @@
+package com.foo.excel.service.pipeline.parse;
+
+/**
+ * 엑셀 시트를 읽는 방식을 지정한다.
+ *
+ * <p>두 방식 모두 같은 {@link ExcelParserService.ParseResult} 계약을 따른다. 차이는 수식 셀 처리뿐으로,
+ * {@link #WORKBOOK}은 수식 문자열을, {@link #STREAMING}은 파일에 저장된 마지막 계산 결과를 읽는다.
+ */
+public enum ExcelParseMode {
+
+  /** XSSFWorkbook으로 시트 전체를 메모리에 올려 읽는다. */
+  WORKBOOK,
+
+  /** XSSFReader와 StAX로 시트 XML을 한 행씩 읽어 행 수와 무관하게 메모리 사용량을 일정하게 유지한다. */
+  STREAMING
+}
@@ -1,40 +1,24 @@
 package com.foo.excel.service.pipeline.parse;
 
 import com.foo.excel.annotation.ExcelColumn;
-import com.foo.excel.annotation.HeaderMatchMode;
 import com.foo.excel.service.contract.ExcelSheetSpec;
-import com.foo.excel.util.ExcelColumnUtil;
-import com.foo.excel.util.SecureExcelUtils;
+import com.foo.excel.service.pipeline.jfr.ParseChunkEvent;
+import com.foo.excel.service.pipeline.parse.CompiledSheetSchema.CompiledColumn;
 import com.foo.excel.validation.CellError;
 import com.foo.excel.validation.ExcelColumnRef;
 import com.foo.excel.validation.RowError;
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.math.BigDecimal;
 import java.nio.file.Path;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.DateUtil;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.util.CellRangeAddress;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -43,7 +27,6 @@ public class ExcelParserService {
 
   private static final ThreadLocal<DataFormatter> DATA_FORMATTER =
       ThreadLocal.withInitial(DataFormatter::new);
-  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
 
   /**
    * DTO 필드와 실제 엑셀 컬럼 사이의 해석 결과를 보관한다.
@@ -52,12 +35,14 @@ public class ExcelParserService {
    * @param annotation 필드에 선언된 엑셀 컬럼 애너테이션
    * @param resolvedColumnIndex 해석된 실제 컬럼 인덱스
    * @param resolvedColumnRef 해석된 실제 컬럼 참조값
+   * @param dateFormatter 날짜 타입 필드에 미리 만들어 둔 포맷터, 그 밖의 필드나 잘못된 패턴이면 null
    */
   public record ColumnMapping(
       Field field,
       ExcelColumn annotation,
       int resolvedColumnIndex,
-      ExcelColumnRef resolvedColumnRef) {}
+      ExcelColumnRef resolvedColumnRef,
+      DateTimeFormatter dateFormatter) {}
 
   /**
    * 엑셀 파싱 결과와 파싱 중 수집된 부가 정보를 함께 반환한다.
@@ -74,9 +59,112 @@ public class ExcelParserService {
       List<ColumnMapping> columnMappings,
       List<RowError> parseErrors) {}
 
+  /**
+   * {@link #parseInChunks}가 소비자에게 넘기는 데이터 행 묶음이다.
+   *
+   * <p>두 목록은 같은 인덱스 체계를 가지며, 소비자에게 넘긴 뒤에는 파서가 다시 쓰지 않으므로 그대로 보관해도 된다.
+   *
+   * @param rows 파싱된 행 데이터
+   * @param sourceRowNumbers 원본 엑셀 행 번호 목록
+   * @param parseErrorRows 이 묶음을 넘기는 시점까지 누적된 파싱 오류 행 수(이 묶음의 행 포함)
+   * @param <T> 행 DTO 타입
+   */
+  public record RowChunk<T>(List<T> rows, List<Integer> sourceRowNumbers, int parseErrorRows) {}
+
+  /**
+   * {@link #parseInChunks}가 모든 묶음을 넘긴 뒤 반환하는 요약이다.
+   *
+   * @param rowCount 소비자에게 넘긴 전체 데이터 행 수, {@code maxRows}를 넘었으면 {@code maxRows + 1}
+   * @param columnMappings 해석된 컬럼 매핑 목록
+   * @param parseErrors 파싱 중 발생한 오류 목록
+   */
+  public record ChunkedParseResult(
+      int rowCount, List<ColumnMapping> columnMappings, List<RowError> parseErrors) {}
+
   private record HeaderRowRange(int startRowIndex, int endRowIndex) {}
 
-  private record CellRef(int rowIndex, int columnIndex) {}
+  /**
+   * 파싱된 행을 {@code chunkSize}개씩 모아 소비자에게 넘긴다.
+   *
+   * <p>묶음마다 {@link ParseChunkEvent}를 하나 남긴다. 이벤트 구간은 이전 묶음을 넘긴 직후부터 이번 묶음을 넘기기
+   * 직전까지이므로, 건너뛴 빈 행과 안내문 행을 읽은 시간은 포함하고 소비자의 처리 시간은 포함하지 않는다.
+   */
+  private static final class RowChunkBuffer<T> {
+
+    private final int chunkSize;
+    private final List<RowError> parseErrors;
+    private final Consumer<RowChunk<T>> chunkConsumer;
+    private List<T> rows = new ArrayList<>();
+    private List<Integer> sourceRowNumbers = new ArrayList<>();
+    private int rowCount;
+    private int chunkIndex;
+    private long chunkCellsConverted;
+    private ParseChunkEvent chunkEvent = beginChunkEvent();
+
+    private RowChunkBuffer(
+        int chunkSize, List<RowError> parseErrors, Consumer<RowChunk<T>> chunkConsumer) {
+      this.chunkSize = chunkSize;
+      this.parseErrors = parseErrors;
+      this.chunkConsumer = chunkConsumer;
+    }
+
+    void add(T row, int sourceRowNumber, int cellsConverted) {
+      rows.add(row);
+      sourceRowNumbers.add(sourceRowNumber);
+      rowCount++;
+      chunkCellsConverted += cellsConverted;
+      if (rows.size() >= chunkSize) {
+        flush();
+      }
+    }
+
+    void flush() {
+      if (rows.isEmpty()) {
+        return;
+      }
+      chunkEvent.complete(chunkIndex++, rows.size(), chunkCellsConverted, parseErrors.size());
+      chunkConsumer.accept(new RowChunk<>(rows, sourceRowNumbers, parseErrors.size()));
+      rows = new ArrayList<>();
+      sourceRowNumbers = new ArrayList<>();
+      chunkCellsConverted = 0;
+      chunkEvent = beginChunkEvent();
+    }
+
+    int rowCount() {
+      return rowCount;
+    }
+
+    private static ParseChunkEvent beginChunkEvent() {
+      ParseChunkEvent event = new ParseChunkEvent();
+      event.begin();
+      return event;
+    }
+  }
+
+  /**
+   * 데이터 행 파싱 중 누적되는 상태를 보관한다.
+   *
+   * @param rowBinder 행 DTO 바인더
+   * @param columnMappings 해석된 컬럼 매핑 목록
+   * @param columnBindings 컬럼 매핑 순서대로 변환기와 setter를 붙인 바인딩
+   * @param mappedCells 행마다 재사용하는 매핑 컬럼 실효 셀 버퍼, 값이 없는 칸은 null
+   * @param mergedCells 병합 셀 해석기
+   * @param maxRows 최대 행 수
+   * @param maxErrorRows 최대 오류 행 수
+   * @param chunkBuffer 파싱된 행을 묶어 소비자에게 넘기는 버퍼
+   * @param parseErrors 파싱 중 발생한 오류 목록
+   * @param <T> 행 DTO 타입
+   */
+  private record DataRowContext<T>(
+      RowBinder<T> rowBinder,
+      List<ColumnMapping> columnMappings,
+      RowBinder.ColumnBinding[] columnBindings,
+      SheetCell[] mappedCells,
+      MergedCellResolver mergedCells,
+      int maxRows,
+      int maxErrorRows,
+      RowChunkBuffer<T> chunkBuffer,
+      List<RowError> parseErrors) {}
 
   public <T> ParseResult<T> parse(
       Path xlsxFile, Class<T> rowClass, ExcelSheetSpec sheetSpec)
@@ -97,71 +185,192 @@ public class ExcelParserService {
       int maxRows,
       int maxErrorRows)
       throws IOException {
+    return parse(xlsxFile, rowClass, sheetSpec, maxRows, maxErrorRows, ExcelParseMode.WORKBOOK);
+  }
+
+  public <T> ParseResult<T> parse(
+      Path xlsxFile,
+      Class<T> rowClass,
+      ExcelSheetSpec sheetSpec,
+      int maxRows,
+      int maxErrorRows,
+      ExcelParseMode parseMode)
+      throws IOException {
+    return parse(
+        xlsxFile, rowClass, sheetSpec, maxRows, maxErrorRows, parseMode, Integer.MAX_VALUE);
+  }
+
+  /**
+   * 시트를 파싱한다.
+   *
+   * <p>{@code rowCountLimit}은 스트리밍 모드에서만 적용된다. 스트리밍 모드는 행을 읽기 전 레이아웃 패스에서 셀이 있는 행
+   * 수를 함께 세고, 상한을 넘는 즉시 {@link RowCountLimitExceededException}으로 중단한다. 워크북 모드는 파일 전체를
+   * 메모리에 올리므로 호출 측에서 {@code SecureExcelUtils.countRows}로 먼저 걸러야 한다.
+   *
+   * @param rowCountLimit 셀이 있는 행 수 상한(헤더와 안내 행 포함)
+   * @throws RowCountLimitExceededException 스트리밍 모드에서 행 수가 상한을 넘은 경우
+   */
+  public <T> ParseResult<T> parse(
+      Path xlsxFile,
+      Class<T> rowClass,
+      ExcelSheetSpec sheetSpec,
+      int maxRows,
+      int maxErrorRows,
+      ExcelParseMode parseMode,
+      int rowCountLimit)
+      throws IOException {
+    List<T> rows = new ArrayList<>();
+    List<Integer> sourceRowNumbers = new ArrayList<>();
+    ChunkedParseResult result =
+        parseInChunks(
+            xlsxFile,
+            rowClass,
+            sheetSpec,
+            maxRows,
+            maxErrorRows,
+            parseMode,
+            rowCountLimit,
+            Integer.MAX_VALUE,
+            chunk -> {
+              rows.addAll(chunk.rows());
+              sourceRowNumbers.addAll(chunk.sourceRowNumbers());
+            });
+    return new ParseResult<>(rows, sourceRowNumbers, result.columnMappings(), result.parseErrors());
+  }
+
+  /**
+   * 시트를 파싱하면서 데이터 행을 최대 {@code chunkSize}개씩 묶어 소비자에게 넘긴다.
+   *
+   * <p>전체 행을 모은 뒤 돌려주는 {@link #parse}와 달리, 묶음이 차는 즉시 넘기고 파서는 참조를 버린다. 소비자가 묶음을
+   * 처리한 뒤 보관하지 않으면 파싱 중 힙에 남는 행은 한 묶음 분량으로 유지된다. 스트리밍 모드와 함께 쓰면 최대 행 수를 늘려도
+   * 최대 힙 사용량이 거의 늘지 않는다.
+   *
+   * <p>소비자는 파싱 스레드에서 호출되며, 소비자가 던진 예외는 파싱을 중단하고 그대로 전파된다. 행 수와 오류 행 수 제한,
+   * {@code rowCountLimit}의 의미는 {@link #parse}와 같다.
+   *
+   * @param chunkSize 묶음 하나의 최대 행 수
+   * @param chunkConsumer 행 묶음 소비자
+   * @return 전체 행 수, 컬럼 매핑, 파싱 오류 요약
+   * @throws IllegalArgumentException {@code chunkSize}가 1보다 작은 경우
+   * @throws RowCountLimitExceededException 스트리밍 모드에서 행 수가 상한을 넘은 경우
+   */
+  public <T> ChunkedParseResult parseInChunks(
+      Path xlsxFile,
+      Class<T> rowClass,
+      ExcelSheetSpec sheetSpec,
+      int maxRows,
+      int maxErrorRows,
+      ExcelParseMode parseMode,
+      int rowCountLimit,
+      int chunkSize,
+      Consumer<RowChunk<T>> chunkConsumer)
+      throws IOException {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+    }
 
     int headerRowNum = sheetSpec.headerRow() - 1; // 0-based로 변환
     int dataStartRowNum = sheetSpec.dataStartRow() - 1;
-    int resolvedSheetIndex = sheetSpec.resolvedSheetIndex();
+    CompiledSheetSchema schema = CompiledSheetSchema.of(rowClass);
+    int headerScanEndRowNum = schema.headerScanEndRow(headerRowNum);
 
     // 보안: XXE 및 Zip Bomb 공격 방지를 위해 SecureExcelUtils 사용.
     // 설정된 제한과 보호 내용은 SecureExcelUtils를 참고.
     try {
-      try (Workbook workbook = SecureExcelUtils.createWorkbook(xlsxFile)) {
-        // ExcelSheetSpec already stores the resolver-converted 0-based sheet index.
-        Sheet sheet = workbook.getSheetAt(resolvedSheetIndex);
-        Row headerRow = sheet.getRow(headerRowNum);
+      // ExcelSheetSpec already stores the resolver-converted 0-based sheet index.
+      try (SheetReader reader =
+          openSheetReader(
+              xlsxFile, sheetSpec.resolvedSheetIndex(), parseMode, rowCountLimit)) {
+        MergedCellResolver mergedCells = new MergedCellResolver(reader.mergedRegions());
+
+        // 헤더 해석에 필요한 행까지만 보관하고, 이후 행은 읽는 즉시 처리한다.
+        List<SheetRow> bufferedRows = new ArrayList<>();
+        Map<Integer, SheetRow> headerRows = new HashMap<>();
+        SheetRow row = reader.nextRow();
+        while (row != null && row.rowIndex() <= headerScanEndRowNum) {
+          mergedCells.retainAnchors(row);
+          bufferedRows.add(row);
+          headerRows.put(row.rowIndex(), row);
+          row = reader.nextRow();
+        }
 
-        if (headerRow == null) {
+        if (!headerRows.containsKey(headerRowNum)) {
           throw new IllegalStateException("Header row " + sheetSpec.headerRow() + " is empty");
         }
 
-        Map<CellRef, CellRef> mergedCellLookup = buildMergedCellLookup(sheet);
-        Map<Cell, String> formattedCellCache = new IdentityHashMap<>();
-        List<ColumnMapping> columnMappings = resolveColumnMappings(rowClass, sheet, sheetSpec);
+        List<ColumnMapping> columnMappings =
+            resolveColumnMappings(schema, headerRows, mergedCells, sheetSpec);
+        RowBinder<T> rowBinder = RowBinder.of(rowClass);
         List<RowError> parseErrors = new ArrayList<>();
-        List<Integer> sourceRowNumbers = new ArrayList<>();
-        List<T> rows =
-            parseDataRows(
-                sheet,
-                rowClass,
+        DataRowContext<T> context =
+            new DataRowContext<>(
+                rowBinder,
                 columnMappings,
-                dataStartRowNum,
-                parseErrors,
-                sourceRowNumbers,
+                rowBinder.bind(columnMappings),
+                new SheetCell[columnMappings.size()],
+                mergedCells,
                 maxRows,
                 maxErrorRows,
-                mergedCellLookup,
-                formattedCellCache);
+                new RowChunkBuffer<>(chunkSize, parseErrors, chunkConsumer),
+                parseErrors);
+
+        boolean proceed = true;
+        for (SheetRow bufferedRow : bufferedRows) {
+          if (bufferedRow.rowIndex() >= dataStartRowNum && !parseDataRow(context, bufferedRow)) {
+            proceed = false;
+            break;
+          }
+        }
+        while (proceed && row != null) {
+          mergedCells.retainAnchors(row);
+          if (row.rowIndex() >= dataStartRowNum) {
+            proceed = parseDataRow(context, row);
+          }
+          row = proceed ? reader.nextRow() : null;
+        }
 
-        return new ParseResult<>(rows, sourceRowNumbers, columnMappings, parseErrors);
+        RowChunkBuffer<T> chunkBuffer = context.chunkBuffer();
+        chunkBuffer.flush();
+        return new ChunkedParseResult(
+            chunkBuffer.rowCount(), columnMappings, context.parseErrors());
       }
     } finally {
       DATA_FORMATTER.remove();
     }
   }
 
-  private <T> List<ColumnMapping> resolveColumnMappings(
-      Class<T> rowClass, Sheet sheet, ExcelSheetSpec sheetSpec) {
+  private SheetReader openSheetReader(
+      Path xlsxFile, int sheetIndex, ExcelParseMode parseMode, int rowCountLimit)
+      throws IOException {
+    DataFormatter formatter = DATA_FORMATTER.get();
+    return switch (parseMode) {
+      case WORKBOOK -> WorkbookSheetReader.open(xlsxFile, sheetIndex, formatter);
+      case STREAMING -> StreamingSheetReader.open(xlsxFile, sheetIndex, formatter, rowCountLimit);
+    };
+  }
+
+  private List<ColumnMapping> resolveColumnMappings(
+      CompiledSheetSchema schema,
+      Map<Integer, SheetRow> headerRows,
+      MergedCellResolver mergedCells,
+      ExcelSheetSpec sheetSpec) {
     List<ColumnMapping> mappings = new ArrayList<>();
     List<ColumnResolutionException> errors = new ArrayList<>();
 
-    for (Field field : getAllFields(rowClass)) {
-      ExcelColumn annotation = field.getAnnotation(ExcelColumn.class);
-      if (annotation == null) {
-        continue;
-      }
-
+    for (CompiledColumn column : schema.columns()) {
       try {
-        int resolvedIndex = resolveColumnIndex(annotation, field.getName(), sheet, sheetSpec);
-
-        if (resolvedIndex < 0) {
+        if (!resolveColumn(column, headerRows, mergedCells, sheetSpec)) {
           // 선택 필드이며 찾지 못함
           continue;
         }
 
-        ExcelColumnRef resolvedColumnRef =
-            ExcelColumnRef.ofLetter(ExcelColumnUtil.indexToLetter(resolvedIndex));
-        field.setAccessible(true);
-        mappings.add(new ColumnMapping(field, annotation, resolvedIndex, resolvedColumnRef));
+        mappings.add(
+            new ColumnMapping(
+                column.field(),
+                column.annotation(),
+                column.columnIndex(),
+                column.columnRef(),
+                column.dateFormatter()));
       } catch (ColumnResolutionException e) {
         errors.add(e);
       }
@@ -174,21 +383,35 @@ public class ExcelParserService {
     return mappings;
   }
 
-  private int resolveColumnIndex(
-      ExcelColumn annotation, String fieldName, Sheet sheet, ExcelSheetSpec sheetSpec) {
-    int index = ExcelColumnUtil.letterToIndex(annotation.column());
-    List<String> actualSegments = resolveHeaderSegments(sheet, annotation, sheetSpec, index);
+  /**
+   * 선언된 컬럼 위치의 헤더가 기대 헤더와 일치하는지 확인한다.
+   *
+   * @return 일치하면 true, 선택 필드가 일치하지 않으면 false
+   * @throws ColumnResolutionException 필수 필드가 일치하지 않는 경우
+   */
+  private boolean resolveColumn(
+      CompiledColumn column,
+      Map<Integer, SheetRow> headerRows,
+      MergedCellResolver mergedCells,
+      ExcelSheetSpec sheetSpec) {
+    ExcelColumn annotation = column.annotation();
+    List<String> actualSegments =
+        resolveHeaderSegments(
+            headerRows,
+            mergedCells,
+            resolveHeaderRowRange(annotation, sheetSpec),
+            column.columnIndex());
+
+    if (column.matchesHeader(actualSegments)) {
+      return true;
+    }
+
+    String fieldName = column.field().getName();
     String actual = formatResolvedHeader(actualSegments);
-    String expected = expectedHeaderLabel(annotation);
-
-    if (matchesResolvedHeader(annotation, actualSegments)) {
-      return index;
-    }
-
     if (annotation.required()) {
       throw new ColumnResolutionException(
           fieldName,
-          expected,
+          column.expectedHeaderLabel(),
           actual,
           ExcelColumnRef.ofLetter(annotation.column()),
           annotation.matchMode());
@@ -197,22 +420,20 @@ public class ExcelParserService {
         "Header mismatch for optional field '{}' at column {}: expected '{}', actual '{}'",
         fieldName,
         annotation.column(),
-        expected,
+        column.expectedHeaderLabel(),
         actual);
-    return -1;
-  }
-
-  private List<String> resolveHeaderSegments(
-      Sheet sheet, ExcelColumn annotation, ExcelSheetSpec sheetSpec, int columnIndex) {
-    return resolveHeaderSegments(
-        sheet, resolveHeaderRowRange(annotation, sheetSpec), columnIndex);
+    return false;
   }
 
   private List<String> resolveHeaderSegments(
-      Sheet sheet, HeaderRowRange range, int columnIndex) {
+      Map<Integer, SheetRow> headerRows,
+      MergedCellResolver mergedCells,
+      HeaderRowRange range,
+      int columnIndex) {
     List<String> segments = new ArrayList<>();
     for (int rowIndex = range.startRowIndex(); rowIndex <= range.endRowIndex(); rowIndex++) {
-      String value = resolveCellValue(sheet, rowIndex, columnIndex);
+      SheetCell cell = mergedCells.effectiveCell(rowIndex, headerRows.get(rowIndex), columnIndex);
+      String value = cell != null ? cell.text() : null;
       if (value == null || value.isBlank()) {
         continue;
       }
@@ -239,47 +460,6 @@ public class ExcelParserService {
     return new HeaderRowRange(start - 1, start + count - 2);
   }
 
-  private boolean matchesResolvedHeader(ExcelColumn annotation, List<String> actualSegments) {
-    if (actualSegments.isEmpty()) {
-      return false;
-    }
-
-    List<String> expectedSegments = expectedHeaderSegments(annotation);
-    if (annotation.headerLabels().length == 0) {
-      return matchHeader(
-          actualSegments.get(actualSegments.size() - 1),
-          expectedSegments.get(0),
-          annotation.matchMode(),
-          annotation.ignoreHeaderWhitespace());
-    }
-
-    if (actualSegments.size() < expectedSegments.size()) {
-      return false;
-    }
-
-    for (int i = 0; i < expectedSegments.size(); i++) {
-      if (!matchHeader(
-          actualSegments.get(i),
-          expectedSegments.get(i),
-          annotation.matchMode(),
-          annotation.ignoreHeaderWhitespace())) {
-        return false;
-      }
-    }
-    return true;
-  }
-
-  private List<String> expectedHeaderSegments(ExcelColumn annotation) {
-    if (annotation.headerLabels().length == 0) {
-      return Collections.singletonList(annotation.label());
-    }
-    return Arrays.asList(annotation.headerLabels());
-  }
-
-  private String expectedHeaderLabel(ExcelColumn annotation) {
-    return String.join(" > ", expectedHeaderSegments(annotation));
-  }
-
   private String formatResolvedHeader(List<String> segments) {
     if (segments.isEmpty()) {
       return null;
@@ -287,194 +467,124 @@ public class ExcelParserService {
     return String.join(" > ", segments);
   }
 
-  private boolean matchHeader(
-      String cellValue, String expected, HeaderMatchMode mode, boolean ignoreWhitespace) {
-    if (cellValue == null || cellValue.isBlank()) {
-      return false;
+  /**
+   * 데이터 행 하나를 파싱해 결과에 누적한다.
+   *
+   * <p>매핑 컬럼의 실효 셀은 {@link #resolveMappedCells}로 한 번만 찾아 두고, 안내 행 판정과 값 바인딩이 같은 버퍼를
+   * 함께 쓴다.
+   *
+   * @return 다음 행을 계속 읽어야 하면 true, 행 수 또는 오류 행 수 제한에 도달했으면 false
+   */
+  private <T> boolean parseDataRow(DataRowContext<T> context, SheetRow row) {
+    // 빈 행 건너뛰기
+    SheetCell firstCell = row.firstNonBlankCell();
+    if (firstCell == null) {
+      return true;
     }
 
-    String normalizedCell = normalizeHeaderValue(cellValue, ignoreWhitespace);
-    String normalizedExpected = normalizeHeaderValue(expected, ignoreWhitespace);
-
-    return switch (mode) {
-      case EXACT -> normalizedCell.equalsIgnoreCase(normalizedExpected);
-      case CONTAINS -> normalizedCell.contains(normalizedExpected);
-      case STARTS_WITH -> normalizedCell.startsWith(normalizedExpected);
-      case REGEX -> Pattern.matches(normalizedExpected, normalizedCell);
-    };
-  }
-
-  private String normalizeHeaderValue(String value, boolean ignoreWhitespace) {
-    String normalized = value.trim();
-    if (ignoreWhitespace) {
-      normalized = WHITESPACE_PATTERN.matcher(normalized).replaceAll("");
+    if (firstCell.textStartsWith("※")) {
+      return true;
     }
-    return normalized;
-  }
-
-  private <T> List<T> parseDataRows(
-      Sheet sheet,
-      Class<T> rowClass,
-      List<ColumnMapping> columnMappings,
-      int dataStartRowNum,
-      List<RowError> parseErrors,
-      List<Integer> sourceRowNumbers,
-      int maxRows,
-      int maxErrorRows,
-      Map<CellRef, CellRef> mergedCellLookup,
-      Map<Cell, String> formattedCellCache) {
 
-    List<T> rows = new ArrayList<>();
-    int lastRowNum = sheet.getLastRowNum();
-
-    for (int i = dataStartRowNum; i <= lastRowNum; i++) {
-      Row row = sheet.getRow(i);
-      if (row == null) {
-        continue;
-      }
-
-      // 빈 행 건너뛰기
-      if (isBlankRow(row, formattedCellCache)) {
-        continue;
-      }
-
-      if (startsWithNoteMarker(row, formattedCellCache)) {
-        continue;
-      }
-
-      if (isNoteRow(sheet, i, columnMappings, mergedCellLookup, formattedCellCache)) {
-        continue;
-      }
-
-      if (!hasMappedColumnValue(
-          sheet, i, columnMappings, mergedCellLookup, formattedCellCache)) {
-        continue;
-      }
-
-      T dto;
-      try {
-        dto = rowClass.getDeclaredConstructor().newInstance();
-      } catch (Exception e) {
-        throw new RuntimeException("Cannot instantiate DTO", e);
-      }
-
-      int excelRowNumber = i + 1; // 1-based 기준
-      List<CellError> cellErrors = new ArrayList<>();
+    SheetCell[] mappedCells = context.mappedCells();
+    int nonBlankMappedCells = resolveMappedCells(context, row);
+    if (nonBlankMappedCells == 0 || isNoteRow(mappedCells, nonBlankMappedCells)) {
+      return true;
+    }
 
-      for (ColumnMapping mapping : columnMappings) {
-        Cell cell =
-            resolveEffectiveCell(
-                sheet, i, mapping.resolvedColumnIndex(), mergedCellLookup, formattedCellCache);
+    RowBinder<T> rowBinder = context.rowBinder();
+    T dto = rowBinder.newRow();
 
-        if (cell == null || isBlankCellValue(cell, formattedCellCache)) {
-          continue;
-        }
+    int excelRowNumber = row.rowIndex() + 1; // 1-based 기준
+    List<CellError> cellErrors = new ArrayList<>();
 
-        Object value = getCellValue(cell, mapping, cellErrors, formattedCellCache);
-        try {
-          mapping.field().set(dto, value);
-        } catch (IllegalAccessException e) {
-          throw new RuntimeException("Cannot set field: " + mapping.field().getName(), e);
-        }
+    RowBinder.ColumnBinding[] columnBindings = context.columnBindings();
+    int cellsConverted = 0;
+    for (int i = 0; i < columnBindings.length; i++) {
+      SheetCell cell = mappedCells[i];
+      if (cell != null) {
+        rowBinder.set(dto, columnBindings[i], getCellValue(cell, columnBindings[i], cellErrors));
+        cellsConverted++;
       }
+    }
 
-      if (!cellErrors.isEmpty()) {
-        parseErrors.add(
-            RowError.builder().rowNumber(excelRowNumber).cellErrors(cellErrors).build());
-        if (hasReachedErrorLimit(parseErrors.size(), maxErrorRows)) {
-          log.info("Parse error row limit reached at row {}, stopping early", excelRowNumber);
-          sourceRowNumbers.add(excelRowNumber);
-          rows.add(dto);
-          break;
-        }
+    RowChunkBuffer<T> chunkBuffer = context.chunkBuffer();
+    List<RowError> parseErrors = context.parseErrors();
+    if (!cellErrors.isEmpty()) {
+      parseErrors.add(
+          RowError.builder().rowNumber(excelRowNumber).cellErrors(cellErrors).build());
+      if (hasReachedErrorLimit(parseErrors.size(), context.maxErrorRows())) {
+        log.info("Parse error row limit reached at row {}, stopping early", excelRowNumber);
+        chunkBuffer.add(dto, excelRowNumber, cellsConverted);
+        return false;
       }
+    }
 
-      sourceRowNumbers.add(excelRowNumber);
-      rows.add(dto);
+    chunkBuffer.add(dto, excelRowNumber, cellsConverted);
 
-      if (rows.size() > maxRows) {
-        log.info("Row limit exceeded during parsing at row {}, stopping early", excelRowNumber);
-        break;
-      }
+    if (chunkBuffer.rowCount() > context.maxRows()) {
+      log.info("Row limit exceeded during parsing at row {}, stopping early", excelRowNumber);
+      return false;
     }
-
-    return rows;
+    return true;
   }
 
   private boolean hasReachedErrorLimit(int errorRows, int maxErrorRows) {
     return maxErrorRows > 0 && maxErrorRows != Integer.MAX_VALUE && errorRows >= maxErrorRows;
   }
 
-  private boolean isNoteRow(
-      Sheet sheet,
-      int rowIndex,
-      List<ColumnMapping> columnMappings,
-      Map<CellRef, CellRef> mergedCellLookup,
-      Map<Cell, String> formattedCellCache) {
-    if (columnMappings.isEmpty()) {
-      return false;
-    }
-
-    Set<String> nonBlankValues = new LinkedHashSet<>();
+  /**
+   * 매핑 컬럼마다 병합 영역을 고려한 실효 셀을 찾아 {@code mappedCells}에 채운다.
+   *
+   * @return 값이 있는 매핑 컬럼 수
+   */
+  private int resolveMappedCells(DataRowContext<?> context, SheetRow row) {
+    SheetCell[] mappedCells = context.mappedCells();
+    RowBinder.ColumnBinding[] columnBindings = context.columnBindings();
     int nonBlankMappedCells = 0;
-    for (ColumnMapping mapping : columnMappings) {
-      Cell cell =
-          resolveEffectiveCell(
-              sheet,
-              rowIndex,
-              mapping.resolvedColumnIndex(),
-              mergedCellLookup,
-              formattedCellCache);
-      if (cell == null || isBlankCellValue(cell, formattedCellCache)) {
-        continue;
+    for (int i = 0; i < columnBindings.length; i++) {
+      int columnIndex = columnBindings[i].mapping().resolvedColumnIndex();
+      SheetCell cell = context.mergedCells().effectiveCell(row.rowIndex(), row, columnIndex);
+      if (cell == null || cell.isBlank()) {
+        mappedCells[i] = null;
+      } else {
+        mappedCells[i] = cell;
+        nonBlankMappedCells++;
       }
-      String value = getCellStringValue(cell, formattedCellCache);
-      if (value == null || value.isBlank()) {
-        continue;
-      }
-      nonBlankMappedCells++;
-      nonBlankValues.add(value.trim());
     }
-    return nonBlankMappedCells > 1 && nonBlankValues.size() == 1;
+    return nonBlankMappedCells;
   }
 
-  private boolean startsWithNoteMarker(Row row, Map<Cell, String> formattedCellCache) {
-    for (Cell cell : row) {
-      if (cell == null || isBlankCellValue(cell, formattedCellCache)) {
-        continue;
-      }
-      String value = getCellStringValue(cell, formattedCellCache);
-      return value != null && value.trim().startsWith("※");
+  /**
+   * 값이 있는 매핑 컬럼이 둘 이상이고 모두 같은 값이면 병합된 안내 행으로 본다.
+   *
+   * <p>같은 병합 기준 셀은 문자열을 비교하지 않고, 문자열 셀끼리 먼저 비교해 일반 데이터 행은 숫자 셀을 포맷하기 전에
+   * 판정이 끝나도록 한다.
+   */
+  private boolean isNoteRow(SheetCell[] mappedCells, int nonBlankMappedCells) {
+    if (nonBlankMappedCells < 2) {
+      return false;
     }
-    return false;
-  }
 
-  private boolean hasMappedColumnValue(
-      Sheet sheet,
-      int rowIndex,
-      List<ColumnMapping> columnMappings,
-      Map<CellRef, CellRef> mergedCellLookup,
-      Map<Cell, String> formattedCellCache) {
-    for (ColumnMapping mapping : columnMappings) {
-      Cell cell =
-          resolveEffectiveCell(
-              sheet,
-              rowIndex,
-              mapping.resolvedColumnIndex(),
-              mergedCellLookup,
-              formattedCellCache);
-      if (cell != null && !isBlankCellValue(cell, formattedCellCache)) {
-        return true;
+    SheetCell reference = null;
+    for (SheetCell cell : mappedCells) {
+      boolean preferString =
+          reference != null
+              && reference.type() != CellType.STRING
+              && cell != null
+              && cell.type() == CellType.STRING;
+      if (cell != null && (reference == null || preferString)) {
+        reference = cell;
       }
     }
-    return false;
-  }
-
-  private boolean isBlankRow(Row row, Map<Cell, String> formattedCellCache) {
-    for (Cell cell : row) {
-      if (cell != null && cell.getCellType() != CellType.BLANK) {
-        String value = getCellStringValue(cell, formattedCellCache);
-        if (value != null && !value.isBlank()) {
+    for (int pass = 0; pass < 2; pass++) {
+      boolean comparingStrings = pass == 0;
+      for (SheetCell cell : mappedCells) {
+        if (cell == null || cell == reference) {
+          continue;
+        }
+        if ((cell.type() == CellType.STRING) == comparingStrings
+            && !reference.text().equals(cell.text())) {
           return false;
         }
       }
@@ -483,34 +593,12 @@ public class ExcelParserService {
   }
 
   private Object getCellValue(
-      Cell cell,
-      ColumnMapping mapping,
-      List<CellError> parseErrors,
-      Map<Cell, String> formattedCellCache) {
-    if (cell == null) {
-      return null;
-    }
-
-    Class<?> fieldType = mapping.field().getType();
-    String dateFormat = mapping.annotation().dateFormat();
-
+      SheetCell cell, RowBinder.ColumnBinding binding, List<CellError> parseErrors) {
+    ColumnMapping mapping = binding.mapping();
     try {
-      if (fieldType == String.class) {
-        return getStringValue(cell, formattedCellCache);
-      } else if (fieldType == Integer.class || fieldType == int.class) {
-        return getIntegerValue(cell, formattedCellCache);
-      } else if (fieldType == BigDecimal.class) {
-        return getBigDecimalValue(cell, formattedCellCache);
-      } else if (fieldType == LocalDate.class) {
-        return getLocalDateValue(cell, dateFormat, formattedCellCache);
-      } else if (fieldType == LocalDateTime.class) {
-        return getLocalDateTimeValue(cell, dateFormat, formattedCellCache);
-      } else if (fieldType == Boolean.class || fieldType == boolean.class) {
-        return getBooleanValue(cell, formattedCellCache);
-      }
-      return getStringValue(cell, formattedCellCache);
+      return binding.converter().convert(cell, mapping.dateFormatter());
     } catch (Exception e) {
-      String rawValue = getCellStringValue(cell, formattedCellCache);
+      String rawValue = cell.text();
       parseErrors.add(
           CellError.builder()
               .columnIndex(mapping.resolvedColumnIndex())
@@ -518,185 +606,14 @@ public class ExcelParserService {
               .fieldName(mapping.field().getName())
               .headerName(mapping.annotation().label())
               .rejectedValue(rawValue)
-              .message("'" + rawValue + "' 값을 " + fieldType.getSimpleName() + " 타입으로 변환할 수 없습니다")
+              .message(
+                  "'"
+                      + rawValue
+                      + "' 값을 "
+                      + mapping.field().getType().getSimpleName()
+                      + " 타입으로 변환할 수 없습니다")
               .build());
       return null;
     }
   }
-
-  private String getStringValue(Cell cell, Map<Cell, String> formattedCellCache) {
-    String value = getCellStringValue(cell, formattedCellCache);
-    return value != null ? value.trim() : null;
-  }
-
-  private Integer getIntegerValue(Cell cell, Map<Cell, String> formattedCellCache) {
-    if (cell.getCellType() == CellType.NUMERIC) {
-      return (int) cell.getNumericCellValue();
-    }
-    String value = getStringValue(cell, formattedCellCache);
-    if (value == null || value.isBlank()) {
-      return null;
-    }
-    return Integer.parseInt(value.replaceAll("[,\\s]", ""));
-  }
-
-  private BigDecimal getBigDecimalValue(Cell cell, Map<Cell, String> formattedCellCache) {
-    if (cell.getCellType() == CellType.NUMERIC) {
-      return BigDecimal.valueOf(cell.getNumericCellValue());
-    }
-    String value = getStringValue(cell, formattedCellCache);
-    if (value == null || value.isBlank()) {
-      return null;
-    }
-    return new BigDecimal(value.replaceAll("[,\\s]", ""));
-  }
-
-  private LocalDate getLocalDateValue(
-      Cell cell, String dateFormat, Map<Cell, String> formattedCellCache) {
-    if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
-      return cell.getLocalDateTimeCellValue().toLocalDate();
-    }
-    String value = getStringValue(cell, formattedCellCache);
-    if (value == null || value.isBlank()) {
-      return null;
-    }
-    return LocalDate.parse(value, DateTimeFormatter.ofPattern(dateFormat));
-  }
-
-  private LocalDateTime getLocalDateTimeValue(
-      Cell cell, String dateFormat, Map<Cell, String> formattedCellCache) {
-    if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
-      return cell.getLocalDateTimeCellValue();
-    }
-    String value = getStringValue(cell, formattedCellCache);
-    if (value == null || value.isBlank()) {
-      return null;
-    }
-    return LocalDateTime.parse(value, DateTimeFormatter.ofPattern(dateFormat));
-  }
-
-  private Boolean getBooleanValue(Cell cell, Map<Cell, String> formattedCellCache) {
-    if (cell.getCellType() == CellType.BOOLEAN) {
-      return cell.getBooleanCellValue();
-    }
-    String value = getStringValue(cell, formattedCellCache);
-    if (value == null || value.isBlank()) {
-      return false;
-    }
-    return "Y".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value);
-  }
-
-  private Map<CellRef, CellRef> buildMergedCellLookup(Sheet sheet) {
-    Map<CellRef, CellRef> mergedCellLookup = new HashMap<>();
-    for (CellRangeAddress range : sheet.getMergedRegions()) {
-      CellRef anchor = new CellRef(range.getFirstRow(), range.getFirstColumn());
-      for (int rowIndex = range.getFirstRow(); rowIndex <= range.getLastRow(); rowIndex++) {
-        for (int columnIndex = range.getFirstColumn();
-            columnIndex <= range.getLastColumn();
-            columnIndex++) {
-          mergedCellLookup.put(new CellRef(rowIndex, columnIndex), anchor);
-        }
-      }
-    }
-    return mergedCellLookup;
-  }
-
-  private Cell resolveMergedCell(Sheet sheet, int rowIdx, int colIdx, Map<CellRef, CellRef> mergedCellLookup) {
-    CellRef anchor = mergedCellLookup.get(new CellRef(rowIdx, colIdx));
-    if (anchor == null) {
-      return null;
-    }
-    Row topRow = sheet.getRow(anchor.rowIndex());
-    return topRow != null ? topRow.getCell(anchor.columnIndex()) : null;
-  }
-
-  private Cell resolveMergedCell(Sheet sheet, int rowIdx, int colIdx) {
-    for (CellRangeAddress range : sheet.getMergedRegions()) {
-      if (range.isInRange(rowIdx, colIdx)) {
-        Row topRow = sheet.getRow(range.getFirstRow());
-        if (topRow != null) {
-          return topRow.getCell(range.getFirstColumn());
-        }
-      }
-    }
-    return null;
-  }
-
-  private String resolveCellValue(Sheet sheet, int rowIdx, int colIdx) {
-    Cell cell = resolveEffectiveCell(sheet, rowIdx, colIdx);
-    return getCellStringValue(cell);
-  }
-
-  private String resolveCellValue(
-      Sheet sheet,
-      int rowIdx,
-      int colIdx,
-      Map<CellRef, CellRef> mergedCellLookup,
-      Map<Cell, String> formattedCellCache) {
-    Cell cell = resolveEffectiveCell(sheet, rowIdx, colIdx, mergedCellLookup, formattedCellCache);
-    return getCellStringValue(cell, formattedCellCache);
-  }
-
-  private Cell resolveEffectiveCell(Sheet sheet, int rowIdx, int colIdx) {
-    Row row = sheet.getRow(rowIdx);
-    Cell cell = row != null ? row.getCell(colIdx) : null;
-    if (cell == null || isBlankCellValue(cell)) {
-      Cell mergedCell = resolveMergedCell(sheet, rowIdx, colIdx);
-      if (mergedCell != null && !isBlankCellValue(mergedCell)) {
-        return mergedCell;
-      }
-    }
-    return cell;
-  }
-
-  private Cell resolveEffectiveCell(
-      Sheet sheet,
-      int rowIdx,
-      int colIdx,
-      Map<CellRef, CellRef> mergedCellLookup,
-      Map<Cell, String> formattedCellCache) {
-    Row row = sheet.getRow(rowIdx);
-    Cell cell = row != null ? row.getCell(colIdx) : null;
-    if (cell == null || isBlankCellValue(cell, formattedCellCache)) {
-      Cell mergedCell = resolveMergedCell(sheet, rowIdx, colIdx, mergedCellLookup);
-      if (mergedCell != null && !isBlankCellValue(mergedCell, formattedCellCache)) {
-        return mergedCell;
-      }
-    }
-    return cell;
-  }
-
-  private boolean isBlankCellValue(Cell cell, Map<Cell, String> formattedCellCache) {
-    String value = getCellStringValue(cell, formattedCellCache);
-    return value == null || value.isBlank();
-  }
-
-  private boolean isBlankCellValue(Cell cell) {
-    String value = getCellStringValue(cell);
-    return value == null || value.isBlank();
-  }
-
-  private String getCellStringValue(Cell cell, Map<Cell, String> formattedCellCache) {
-    if (cell == null) {
-      return null;
-    }
-    return formattedCellCache.computeIfAbsent(cell, current -> DATA_FORMATTER.get().formatCellValue(current).trim());
-  }
-
-  private String getCellStringValue(Cell cell) {
-    if (cell == null) {
-      return null;
-    }
-    return DATA_FORMATTER.get().formatCellValue(cell).trim();
-  }
-
-  private List<Field> getAllFields(Class<?> clazz) {
-    List<Field> fields = new ArrayList<>();
-    Class<?> current = clazz;
-    while (current != null && current != Object.class) {
-      fields.addAll(Arrays.asList(current.getDeclaredFields()));
-      current = current.getSuperclass();
-    }
-    return fields;
-  }
 }
@@ -0,0 +1,74 @@
+package com.foo.excel.service.pipeline.parse;
+
+import com.foo.excel.util.MergedRegionIndex;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * 병합 영역을 고려해 셀의 실효 값을 찾는다.
+ *
+ * <p>행을 한 번만 읽는 {@link SheetReader}와 함께 쓰기 위해, 여러 행에 걸친 병합 영역의 기준 셀은 해당 행을 읽을
+ * 때 {@link #retainAnchors(SheetRow)}로 보관해 둔다. 한 행 안의 병합 영역은 현재 행에서 바로 찾는다.
+ */
+final class MergedCellResolver {
+
+  private final MergedRegionIndex regionIndex;
+  private final Map<Integer, List<Integer>> multiRowRegionsByFirstRow = new HashMap<>();
+  private final SheetCell[] retainedAnchorCells;
+
+  MergedCellResolver(List<CellRangeAddress> mergedRegions) {
+    this.regionIndex = MergedRegionIndex.of(mergedRegions);
+    this.retainedAnchorCells = new SheetCell[regionIndex.size()];
+    for (int region = 0; region < regionIndex.size(); region++) {
+      if (regionIndex.lastRow(region) > regionIndex.firstRow(region)) {
+        multiRowRegionsByFirstRow
+            .computeIfAbsent(regionIndex.firstRow(region), key -> new ArrayList<>())
+            .add(region);
+      }
+    }
+  }
+
+  /** 여러 행에 걸친 병합 영역의 기준 셀이 이 행에 있으면 이후 행에서 참조할 수 있도록 보관한다. */
+  void retainAnchors(SheetRow row) {
+    List<Integer> regions = multiRowRegionsByFirstRow.get(row.rowIndex());
+    if (regions == null) {
+      return;
+    }
+    for (int region : regions) {
+      retainedAnchorCells[region] = row.cell(regionIndex.firstColumn(region));
+    }
+  }
+
+  /**
+   * 자기 셀에 값이 있으면 자기 셀을, 비어 있으면 값이 있는 병합 기준 셀을 반환한다.
+   *
+   * @param rowIndex 0-based 행 인덱스
+   * @param row 해당 행, 시트에 행이 없으면 null
+   * @param columnIndex 0-based 컬럼 인덱스
+   * @return 실효 셀, 자기 셀도 병합 기준 셀도 없으면 null
+   */
+  SheetCell effectiveCell(int rowIndex, SheetRow row, int columnIndex) {
+    SheetCell cell = row != null ? row.cell(columnIndex) : null;
+    if (cell == null || cell.isBlank()) {
+      SheetCell mergedCell = mergedAnchorCell(rowIndex, row, columnIndex);
+      if (mergedCell != null && !mergedCell.isBlank()) {
+        return mergedCell;
+      }
+    }
+    return cell;
+  }
+
+  private SheetCell mergedAnchorCell(int rowIndex, SheetRow row, int columnIndex) {
+    int region = regionIndex.regionAt(rowIndex, columnIndex);
+    if (region < 0) {
+      return null;
+    }
+    if (regionIndex.firstRow(region) == rowIndex) {
+      return row != null ? row.cell(regionIndex.firstColumn(region)) : null;
+    }
+    return retainedAnchorCells[region];
+  }
+}
@@ -0,0 +1,123 @@
+package com.foo.excel.service.pipeline.parse;
+
+import com.foo.excel.annotation.ExcelColumn;
+import com.foo.excel.service.contract.ImportSchema;
+import com.foo.excel.service.pipeline.parse.ExcelParserService.ColumnMapping;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 행 DTO의 생성자와 {@link ExcelColumn} 필드 setter를 {@link MethodHandle}로 한 번 풀어 둔 바인더이다.
+ *
+ * <p>행 DTO 클래스마다 하나만 만들어 {@link ClassValue}에 보관한다. 각 핸들은 {@code (Object)Object},
+ * {@code (Object, Object)void} 형태로 맞춰 두므로 행마다 리플렉션 접근 검사 없이 {@code invokeExact}로 호출한다.
+ *
+ * @param <T> 행 DTO 타입
+ */
+final class RowBinder<T> {
+
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<RowBinder<?>> BINDERS =
+      new ClassValue<>() {
+        @Override
+        protected RowBinder<?> computeValue(Class<?> rowClass) {
+          return new RowBinder<>(rowClass);
+        }
+      };
+
+  private final Class<T> rowClass;
+  private final MethodHandle constructor;
+  private final Map<Field, MethodHandle> setters = new HashMap<>();
+
+  /**
+   * 해석된 컬럼 매핑에 변환기와 setter를 미리 붙여 둔 바인딩이다.
+   *
+   * @param mapping 컬럼 매핑
+   * @param converter 필드 타입에 맞는 셀 값 변환기
+   * @param setter {@code (Object, Object)void} 형태의 필드 setter
+   * @param primitive 필드가 기본형이면 true, 이 경우 null 값은 설정하지 않는다
+   */
+  record ColumnBinding(
+      ColumnMapping mapping,
+      CellValueConverter converter,
+      MethodHandle setter,
+      boolean primitive) {}
+
+  private RowBinder(Class<T> rowClass) {
+    this.rowClass = rowClass;
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      Constructor<T> declaredConstructor = rowClass.getDeclaredConstructor();
+      declaredConstructor.setAccessible(true);
+      this.constructor = lookup.unreflectConstructor(declaredConstructor).asType(CONSTRUCTOR_TYPE);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw new RuntimeException("Cannot instantiate DTO", e);
+    }
+
+    // ImportSchema가 @ExcelColumn 필드를 이미 찾아 접근 가능하게 열어 두었다.
+    for (ImportSchema.ColumnSchema column : ImportSchema.of(rowClass).columns()) {
+      Field field = column.field();
+      try {
+        setters.put(field, lookup.unreflectSetter(field).asType(SETTER_TYPE));
+      } catch (IllegalAccessException | RuntimeException e) {
+        throw new RuntimeException("Cannot set field: " + field.getName(), e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> RowBinder<T> of(Class<T> rowClass) {
+    return (RowBinder<T>) BINDERS.get(rowClass);
+  }
+
+  /** 해석된 컬럼 매핑 순서대로 바인딩을 만든다. */
+  ColumnBinding[] bind(List<ColumnMapping> columnMappings) {
+    ColumnBinding[] bindings = new ColumnBinding[columnMappings.size()];
+    for (int i = 0; i < bindings.length; i++) {
+      ColumnMapping mapping = columnMappings.get(i);
+      Field field = mapping.field();
+      MethodHandle setter = setters.get(field);
+      if (setter == null) {
+        throw new IllegalStateException(
+            "Field '%s' is not an @ExcelColumn field of %s"
+                .formatted(field.getName(), rowClass.getName()));
+      }
+      bindings[i] =
+          new ColumnBinding(
+              mapping,
+              CellValueConverter.forType(field.getType()),
+              setter,
+              field.getType().isPrimitive());
+    }
+    return bindings;
+  }
+
+  T newRow() {
+    try {
+      return rowClass.cast((Object) constructor.invokeExact());
+    } catch (Throwable e) {
+      throw new RuntimeException("Cannot instantiate DTO", e);
+    }
+  }
+
+  void set(T row, ColumnBinding binding, Object value) {
+    if (value == null && binding.primitive()) {
+      return;
+    }
+    try {
+      binding.setter().invokeExact((Object) row, value);
+    } catch (Throwable e) {
+      throw new RuntimeException(
+          "Cannot set field: " + binding.mapping().field().getName(), e);
+    }
+  }
+}
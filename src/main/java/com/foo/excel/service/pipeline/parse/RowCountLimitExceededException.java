@@ -0,0 +1,23 @@
+package com.foo.excel.service.pipeline.parse;
+
+import lombok.Getter;
+
+/**
+ * 스트리밍 파싱의 레이아웃 패스에서 셀이 있는 행 수가 상한을 넘어 파싱을 중단했음을 알린다.
+ *
+ * <p>상한을 넘는 즉시 중단하므로 {@link #getRowCount()}는 파일 전체 행 수가 아니라 중단 시점까지 센 행 수이다.
+ */
+@Getter
+public class RowCountLimitExceededException extends RuntimeException {
+
+  private final int rowCount;
+  private final int rowCountLimit;
+
+  public RowCountLimitExceededException(int rowCount, int rowCountLimit) {
+    super(
+        "Row count limit exceeded: counted %d rows with cells, limit %d"
+            .formatted(rowCount, rowCountLimit));
+    this.rowCount = rowCount;
+    this.rowCountLimit = rowCountLimit;
+  }
+}
@@ -0,0 +1,70 @@
+package com.foo.excel.service.pipeline.parse;
+
+import java.time.LocalDateTime;
+import org.apache.poi.ss.usermodel.CellType;
+
+/**
+ * 파싱 엔진과 무관하게 파서가 읽는 셀 하나를 표현한다.
+ *
+ * <p>{@link #text()}는 DataFormatter로 포맷한 표시 문자열의 앞뒤 공백을 제거한 값이며 null이 아니다. 숫자 셀의 포맷은
+ * 비용이 크므로 {@link #isBlank()}와 {@link #textStartsWith(String)}는 표시 형식만 보고 결과가 정해지면 포맷하지
+ * 않는다.
+ */
+interface SheetCell {
+
+  CellType type();
+
+  String text();
+
+  /** 숫자 셀의 표시 형식 문자열이다. 숫자 셀이 아니거나 형식이 없으면 {@code "General"}이다. */
+  String numberFormatPattern();
+
+  double numericValue();
+
+  boolean booleanValue();
+
+  boolean isDateFormatted();
+
+  LocalDateTime localDateTimeValue();
+
+  default boolean isBlank() {
+    if (type() == CellType.NUMERIC && !mayFormatAsBlank(numberFormatPattern())) {
+      return false;
+    }
+    return text().isBlank();
+  }
+
+  /** 표시 문자열이 {@code prefix}로 시작하는지 확인한다. 숫자 셀은 형식에 해당 문자가 있을 때만 포맷한다. */
+  default boolean textStartsWith(String prefix) {
+    if (type() == CellType.NUMERIC && !numberFormatPattern().contains(prefix)) {
+      return false;
+    }
+    return text().startsWith(prefix);
+  }
+
+  /**
+   * 숫자 값을 이 형식으로 포맷했을 때 빈 문자열이 나올 수 있는지 판단한다.
+   *
+   * <p>구역 구분자({@code ;})가 있으면 빈 구역이 있을 수 있고, 자리 표시자나 날짜 기호가 없는 형식은 리터럴만 남으므로
+   * 포맷해서 확인한다. 그 밖의 형식은 항상 숫자나 날짜가 표시된다.
+   */
+  private static boolean mayFormatAsBlank(String pattern) {
+    if (pattern == null || pattern.isEmpty() || "General".equalsIgnoreCase(pattern)) {
+      return false;
+    }
+    if (pattern.indexOf(';') >= 0) {
+      return true;
+    }
+    for (int i = 0; i < pattern.length(); i++) {
+      switch (pattern.charAt(i)) {
+        case '0', '#', '?', 'y', 'Y', 'm', 'M', 'd', 'D', 'h', 'H', 's', 'S' -> {
+          return false;
+        }
+        default -> {
+          // 리터럴 또는 서식 기호
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,49 @@
+package com.foo.excel.service.pipeline.parse;
+
+import com.foo.excel.util.SecureExcelUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * 시트 XML을 한 번 훑어 병합 영역과 셀이 있는 행 수를 모은다.
+ *
+ * <p>스트리밍 파싱의 레이아웃 패스이자 행 수 사전 점검을 겸한다. 셀 값은 읽지 않으므로 본 파싱보다 가볍고, 셀이 있는
+ * 행 수가 상한을 넘는 즉시 {@link RowCountLimitExceededException}으로 중단한다. 시트 XML은
+ * {@link SecureExcelUtils#scanSheetRows}로 읽으므로 보안 StAX 설정과 행 수 기준이 {@code SecureExcelUtils.countRows}와
+ * 같다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SheetLayoutScanner {
+
+  /**
+   * 레이아웃 스캔 결과이다.
+   *
+   * @param mergedRegions 시트에 선언된 병합 영역 목록
+   * @param rowsWithCells 셀이 있는 row 요소 개수
+   */
+  record SheetLayout(List<CellRangeAddress> mergedRegions, int rowsWithCells) {}
+
+  /**
+   * 시트 XML 스트림을 끝까지 훑는다.
+   *
+   * @param sheetStream 시트 XML 스트림
+   * @param rowCountLimit 셀이 있는 행 수 상한
+   * @return 병합 영역과 셀이 있는 행 수
+   * @throws RowCountLimitExceededException 셀이 있는 행 수가 상한을 넘은 경우
+   */
+  static SheetLayout scan(InputStream sheetStream, int rowCountLimit) throws IOException {
+    List<CellRangeAddress> mergedRegions = new ArrayList<>();
+    int rowsWithCells =
+        SecureExcelUtils.scanSheetRows(
+            sheetStream, rowCountLimit, ref -> mergedRegions.add(CellRangeAddress.valueOf(ref)));
+    if (rowsWithCells > rowCountLimit) {
+      throw new RowCountLimitExceededException(rowsWithCells, rowCountLimit);
+    }
+    return new SheetLayout(mergedRegions, rowsWithCells);
+  }
+}
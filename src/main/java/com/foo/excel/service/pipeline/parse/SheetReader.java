@@ -0,0 +1,23 @@
+package com.foo.excel.service.pipeline.parse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * 대상 시트의 행을 위에서 아래로 한 번만 읽는 커서이다.
+ *
+ * <p>병합 영역은 첫 행을 읽기 전에 모두 알려져 있어야 한다. 구현체는 {@link ExcelParseMode}별로 하나씩 존재한다.
+ */
+interface SheetReader extends Closeable {
+
+  List<CellRangeAddress> mergedRegions();
+
+  /**
+   * 다음 물리 행을 반환한다. 행 인덱스는 오름차순이며 시트에 존재하지 않는 행은 건너뛴다.
+   *
+   * @return 더 읽을 행이 없으면 null
+   */
+  SheetRow nextRow() throws IOException;
+}
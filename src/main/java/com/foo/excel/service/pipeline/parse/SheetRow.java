@@ -0,0 +1,23 @@
+package com.foo.excel.service.pipeline.parse;
+
+/** 파싱 엔진과 무관하게 파서가 읽는 물리 행 하나를 표현한다. */
+interface SheetRow {
+
+  /** 0-based 행 인덱스. */
+  int rowIndex();
+
+  /**
+   * 지정한 컬럼의 물리 셀을 반환한다.
+   *
+   * @param columnIndex 0-based 컬럼 인덱스
+   * @return 셀이 없으면 null
+   */
+  SheetCell cell(int columnIndex);
+
+  /**
+   * 컬럼 순서상 처음으로 값이 있는 셀을 반환한다.
+   *
+   * @return 모든 셀이 비어 있으면 null
+   */
+  SheetCell firstNonBlankCell();
+}
@@ -0,0 +1,434 @@
+package com.foo.excel.service.pipeline.parse;
+
+import com.foo.excel.util.SecureExcelUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+/**
+ * XSSFReader와 StAX로 시트 XML을 한 행씩 읽는다.
+ *
+ * <p>시트 XML에서 mergeCells는 sheetData 뒤에 위치하므로 먼저 {@link SheetLayoutScanner}로 병합 영역을 모으고
+ * 셀이 있는 행 수를 센 뒤, 같은 시트 파트를 다시 열어 행을 순서대로 읽는다. 레이아웃 패스가 행 수 사전 점검을 겸하므로
+ * 별도로 패키지를 열어 행 수를 셀 필요가 없다. 어느 시점에도 현재 행만 메모리에 유지한다.
+ *
+ * <p>셀 값은 {@link WorkbookSheetReader}와 같은 규칙으로 해석한다. 공유 문자열은 윗주(phonetic run)를 제외하고,
+ * 숫자 셀은 셀 스타일의 표시 형식으로 포맷한다. 단, 수식 셀은 수식 문자열 대신 파일에 저장된 마지막 계산 결과를
+ * 읽으며 계산 결과가 저장되지 않은 수식 셀은 빈 셀로 본다.
+ */
+final class StreamingSheetReader implements SheetReader {
+
+  private static final XMLInputFactory XML_INPUT_FACTORY =
+      SecureExcelUtils.newSecureXmlInputFactory();
+
+  private final OPCPackage pkg;
+  private final ReadOnlySharedStringsTable sharedStrings;
+  private final StylesTable styles;
+  private final DataFormatter formatter;
+  private final boolean date1904;
+  private final List<CellRangeAddress> mergedRegions;
+  private final InputStream sheetStream;
+  private final XMLStreamReader xml;
+  private NumberFormatInfo[] numberFormats = new NumberFormatInfo[0];
+  private int lastRowIndex = -1;
+
+  /** 셀 스타일에서 해석한 숫자 표시 형식이다. */
+  private record NumberFormatInfo(int index, String pattern) {}
+
+  private StreamingSheetReader(
+      OPCPackage pkg, int sheetIndex, DataFormatter formatter, int rowCountLimit)
+      throws Exception {
+    this.pkg = pkg;
+    this.formatter = formatter;
+    XSSFReader reader = new XSSFReader(pkg);
+    this.sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+    this.styles = reader.getStylesTable();
+    this.date1904 = readDate1904(reader);
+    try (InputStream layoutStream = openSheetStream(reader, sheetIndex)) {
+      this.mergedRegions = SheetLayoutScanner.scan(layoutStream, rowCountLimit).mergedRegions();
+    }
+    this.sheetStream = openSheetStream(reader, sheetIndex);
+    try {
+      this.xml = XML_INPUT_FACTORY.createXMLStreamReader(sheetStream);
+    } catch (XMLStreamException e) {
+      sheetStream.close();
+      throw e;
+    }
+  }
+
+  /**
+   * 시트를 열고 레이아웃 패스를 수행한다.
+   *
+   * @param rowCountLimit 셀이 있는 행 수 상한, 레이아웃 패스에서 넘는 즉시 중단한다
+   * @throws RowCountLimitExceededException 셀이 있는 행 수가 상한을 넘은 경우
+   */
+  static StreamingSheetReader open(
+      Path xlsxFile, int sheetIndex, DataFormatter formatter, int rowCountLimit)
+      throws IOException {
+    OPCPackage pkg = SecureExcelUtils.openPackage(xlsxFile);
+    try {
+      return new StreamingSheetReader(pkg, sheetIndex, formatter, rowCountLimit);
+    } catch (IOException | RuntimeException e) {
+      pkg.revert();
+      throw e;
+    } catch (Exception e) {
+      pkg.revert();
+      throw new IOException("Failed to open sheet stream: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public List<CellRangeAddress> mergedRegions() {
+    return mergedRegions;
+  }
+
+  @Override
+  public SheetRow nextRow() throws IOException {
+    try {
+      while (xml.hasNext()) {
+        if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+          return readRow();
+        }
+      }
+      return null;
+    } catch (XMLStreamException e) {
+      throw new IOException("Failed to parse sheet XML: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      xml.close();
+    } catch (XMLStreamException ignored) {
+      // 스트림과 패키지 정리는 계속 진행한다.
+    } finally {
+      try {
+        sheetStream.close();
+      } finally {
+        pkg.revert();
+      }
+    }
+  }
+
+  private static InputStream openSheetStream(XSSFReader reader, int sheetIndex)
+      throws Exception {
+    Iterator<InputStream> sheets = reader.getSheetsData();
+    int currentSheet = 0;
+    while (sheets.hasNext()) {
+      InputStream sheetStream = sheets.next();
+      if (currentSheet == sheetIndex) {
+        return sheetStream;
+      }
+      sheetStream.close();
+      currentSheet++;
+    }
+    throw new IllegalArgumentException(
+        "Sheet index (" + sheetIndex + ") is out of range (0.." + (currentSheet - 1) + ")");
+  }
+
+  private static boolean readDate1904(XSSFReader reader) throws Exception {
+    try (InputStream workbookStream = reader.getWorkbookData()) {
+      XMLStreamReader workbookXml = XML_INPUT_FACTORY.createXMLStreamReader(workbookStream);
+      try {
+        while (workbookXml.hasNext()) {
+          if (workbookXml.next() != XMLStreamConstants.START_ELEMENT) {
+            continue;
+          }
+          String name = workbookXml.getLocalName();
+          if ("workbookPr".equals(name)) {
+            String value = workbookXml.getAttributeValue(null, "date1904");
+            return "1".equals(value) || "true".equalsIgnoreCase(value);
+          }
+          if ("sheets".equals(name)) {
+            return false;
+          }
+        }
+        return false;
+      } finally {
+        workbookXml.close();
+      }
+    }
+  }
+
+  private SheetRow readRow() throws XMLStreamException {
+    String rowRef = xml.getAttributeValue(null, "r");
+    int rowIndex = rowRef != null ? Integer.parseInt(rowRef) - 1 : lastRowIndex + 1;
+    lastRowIndex = rowIndex;
+
+    List<StreamingCell> cells = new ArrayList<>();
+    int lastColumnIndex = -1;
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+        StreamingCell cell = readCell(lastColumnIndex);
+        lastColumnIndex = cell.columnIndex;
+        cells.add(cell);
+      } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+        break;
+      }
+    }
+    return new StreamingRow(rowIndex, cells);
+  }
+
+  private StreamingCell readCell(int previousColumnIndex) throws XMLStreamException {
+    String cellRef = xml.getAttributeValue(null, "r");
+    int columnIndex = cellRef != null ? columnIndexOf(cellRef) : previousColumnIndex + 1;
+    String cellType = xml.getAttributeValue(null, "t");
+    String styleRef = xml.getAttributeValue(null, "s");
+    int styleIndex = styleRef != null ? Integer.parseInt(styleRef) : 0;
+
+    String value = null;
+    String inlineText = null;
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String name = xml.getLocalName();
+        if ("v".equals(name)) {
+          value = xml.getElementText();
+        } else if ("is".equals(name)) {
+          inlineText = readInlineString();
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+        break;
+      }
+    }
+    return createCell(columnIndex, cellType, styleIndex, value, inlineText);
+  }
+
+  private String readInlineString() throws XMLStreamException {
+    StringBuilder text = new StringBuilder();
+    int phoneticDepth = 0;
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String name = xml.getLocalName();
+        if ("rPh".equals(name)) {
+          phoneticDepth++;
+        } else if ("t".equals(name) && phoneticDepth == 0) {
+          text.append(xml.getElementText());
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        String name = xml.getLocalName();
+        if ("rPh".equals(name)) {
+          phoneticDepth--;
+        } else if ("is".equals(name)) {
+          break;
+        }
+      }
+    }
+    return text.toString();
+  }
+
+  private StreamingCell createCell(
+      int columnIndex, String cellType, int styleIndex, String value, String inlineText) {
+    if (cellType == null || "n".equals(cellType)) {
+      if (value == null || value.isBlank()) {
+        return new StreamingCell(columnIndex, CellType.BLANK, "", 0, styleIndex);
+      }
+      return new StreamingCell(
+          columnIndex, CellType.NUMERIC, null, Double.parseDouble(value.trim()), styleIndex);
+    }
+    return switch (cellType) {
+      case "s" -> {
+        if (value == null || value.isBlank()) {
+          yield new StreamingCell(columnIndex, CellType.BLANK, "", 0, styleIndex);
+        }
+        String shared = sharedStrings.getItemAt(Integer.parseInt(value.trim())).getString();
+        yield new StreamingCell(columnIndex, CellType.STRING, shared, 0, styleIndex);
+      }
+      case "inlineStr" -> new StreamingCell(
+          columnIndex,
+          CellType.STRING,
+          inlineText != null ? inlineText : nullToEmpty(value),
+          0,
+          styleIndex);
+      case "b" -> {
+        boolean bool = "1".equals(value) || "true".equalsIgnoreCase(value);
+        yield new StreamingCell(
+            columnIndex, CellType.BOOLEAN, bool ? "TRUE" : "FALSE", bool ? 1 : 0, styleIndex);
+      }
+      case "e" -> new StreamingCell(columnIndex, CellType.ERROR, nullToEmpty(value), 0, styleIndex);
+      // "str"(수식 문자열 결과), "d"(ISO 8601 날짜) 등은 저장된 값을 문자열로 읽는다.
+      default -> new StreamingCell(columnIndex, CellType.STRING, nullToEmpty(value), 0, styleIndex);
+    };
+  }
+
+  private NumberFormatInfo numberFormat(int styleIndex) {
+    if (styleIndex >= numberFormats.length) {
+      numberFormats =
+          Arrays.copyOf(numberFormats, Math.max(styleIndex + 1, numberFormats.length * 2));
+    }
+    NumberFormatInfo format = numberFormats[styleIndex];
+    if (format == null) {
+      format = resolveNumberFormat(styleIndex);
+      numberFormats[styleIndex] = format;
+    }
+    return format;
+  }
+
+  private NumberFormatInfo resolveNumberFormat(int styleIndex) {
+    XSSFCellStyle style =
+        styles != null && styles.getNumCellStyles() > 0 ? styles.getStyleAt(styleIndex) : null;
+    if (style == null) {
+      return new NumberFormatInfo(0, BuiltinFormats.getBuiltinFormat(0));
+    }
+    return new NumberFormatInfo(style.getDataFormat(), style.getDataFormatString());
+  }
+
+  private static int columnIndexOf(String cellRef) {
+    int columnIndex = 0;
+    for (int i = 0; i < cellRef.length(); i++) {
+      char ch = cellRef.charAt(i);
+      if (ch < 'A' || ch > 'Z') {
+        break;
+      }
+      columnIndex = columnIndex * 26 + (ch - 'A' + 1);
+    }
+    return columnIndex - 1;
+  }
+
+  private static String nullToEmpty(String value) {
+    return value != null ? value : "";
+  }
+
+  private static final class StreamingRow implements SheetRow {
+
+    private final int rowIndex;
+    private final List<StreamingCell> cells;
+
+    private StreamingRow(int rowIndex, List<StreamingCell> cells) {
+      this.rowIndex = rowIndex;
+      this.cells = cells;
+    }
+
+    @Override
+    public int rowIndex() {
+      return rowIndex;
+    }
+
+    @Override
+    public SheetCell cell(int columnIndex) {
+      int low = 0;
+      int high = cells.size() - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        int midColumn = cells.get(mid).columnIndex;
+        if (midColumn < columnIndex) {
+          low = mid + 1;
+        } else if (midColumn > columnIndex) {
+          high = mid - 1;
+        } else {
+          return cells.get(mid);
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public SheetCell firstNonBlankCell() {
+      for (StreamingCell cell : cells) {
+        if (cell.type != CellType.BLANK && !cell.isBlank()) {
+          return cell;
+        }
+      }
+      return null;
+    }
+  }
+
+  private final class StreamingCell implements SheetCell {
+
+    private final int columnIndex;
+    private final CellType type;
+    private final double numericValue;
+    private final int styleIndex;
+    private String rawText;
+    private String text;
+
+    private StreamingCell(
+        int columnIndex, CellType type, String rawText, double numericValue, int styleIndex) {
+      this.columnIndex = columnIndex;
+      this.type = type;
+      this.rawText = rawText;
+      this.numericValue = numericValue;
+      this.styleIndex = styleIndex;
+    }
+
+    @Override
+    public CellType type() {
+      return type;
+    }
+
+    @Override
+    public String text() {
+      if (text == null) {
+        if (type == CellType.NUMERIC) {
+          NumberFormatInfo format = numberFormat(styleIndex);
+          rawText =
+              formatter.formatRawCellContents(
+                  numericValue, format.index(), format.pattern(), date1904);
+        }
+        text = rawText.trim();
+      }
+      return text;
+    }
+
+    @Override
+    public String numberFormatPattern() {
+      if (type != CellType.NUMERIC) {
+        return BuiltinFormats.getBuiltinFormat(0);
+      }
+      String pattern = numberFormat(styleIndex).pattern();
+      return pattern != null ? pattern : BuiltinFormats.getBuiltinFormat(0);
+    }
+
+    @Override
+    public double numericValue() {
+      if (type != CellType.NUMERIC) {
+        throw new IllegalStateException("Cannot get a NUMERIC value from a " + type + " cell");
+      }
+      return numericValue;
+    }
+
+    @Override
+    public boolean booleanValue() {
+      if (type != CellType.BOOLEAN) {
+        throw new IllegalStateException("Cannot get a BOOLEAN value from a " + type + " cell");
+      }
+      return numericValue != 0;
+    }
+
+    @Override
+    public boolean isDateFormatted() {
+      if (type != CellType.NUMERIC || !DateUtil.isValidExcelDate(numericValue)) {
+        return false;
+      }
+      NumberFormatInfo format = numberFormat(styleIndex);
+      return DateUtil.isADateFormat(format.index(), format.pattern());
+    }
+
+    @Override
+    public LocalDateTime localDateTimeValue() {
+      return DateUtil.getLocalDateTime(numericValue(), date1904);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.foo.excel.service.pipeline.parse;
+
+import com.foo.excel.util.SecureExcelUtils;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/** XSSFWorkbook(DOM)으로 시트 전체를 로드한 뒤 행을 순서대로 돌려준다. */
+final class WorkbookSheetReader implements SheetReader {
+
+  private static final String GENERAL_FORMAT = "General";
+
+  private final Workbook workbook;
+  private final Sheet sheet;
+  private final DataFormatter formatter;
+  private final int lastRowNum;
+  private int nextRowNum;
+
+  private WorkbookSheetReader(Workbook workbook, Sheet sheet, DataFormatter formatter) {
+    this.workbook = workbook;
+    this.sheet = sheet;
+    this.formatter = formatter;
+    this.lastRowNum = sheet.getLastRowNum();
+  }
+
+  static WorkbookSheetReader open(Path xlsxFile, int sheetIndex, DataFormatter formatter)
+      throws IOException {
+    // 보안: XXE 및 Zip Bomb 공격 방지를 위해 SecureExcelUtils 사용.
+    Workbook workbook = SecureExcelUtils.createWorkbook(xlsxFile);
+    try {
+      return new WorkbookSheetReader(workbook, workbook.getSheetAt(sheetIndex), formatter);
+    } catch (RuntimeException e) {
+      workbook.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public List<CellRangeAddress> mergedRegions() {
+    return sheet.getMergedRegions();
+  }
+
+  @Override
+  public SheetRow nextRow() {
+    while (nextRowNum <= lastRowNum) {
+      Row row = sheet.getRow(nextRowNum++);
+      if (row != null) {
+        return new WorkbookRow(row);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void close() throws IOException {
+    workbook.close();
+  }
+
+  private final class WorkbookRow implements SheetRow {
+
+    private final Row row;
+    private final WorkbookCell[] cells;
+
+    private WorkbookRow(Row row) {
+      this.row = row;
+      this.cells = new WorkbookCell[Math.max(row.getLastCellNum(), 0)];
+    }
+
+    @Override
+    public int rowIndex() {
+      return row.getRowNum();
+    }
+
+    @Override
+    public SheetCell cell(int columnIndex) {
+      if (columnIndex < 0 || columnIndex >= cells.length) {
+        return null;
+      }
+      WorkbookCell cached = cells[columnIndex];
+      if (cached == null) {
+        Cell cell = row.getCell(columnIndex);
+        if (cell == null) {
+          return null;
+        }
+        cached = new WorkbookCell(cell);
+        cells[columnIndex] = cached;
+      }
+      return cached;
+    }
+
+    @Override
+    public SheetCell firstNonBlankCell() {
+      for (Cell cell : row) {
+        if (cell == null || cell.getCellType() == CellType.BLANK) {
+          continue;
+        }
+        SheetCell current = cell(cell.getColumnIndex());
+        if (current != null && !current.isBlank()) {
+          return current;
+        }
+      }
+      return null;
+    }
+  }
+
+  private final class WorkbookCell implements SheetCell {
+
+    private final Cell cell;
+    private String text;
+    private String numberFormatPattern;
+
+    private WorkbookCell(Cell cell) {
+      this.cell = cell;
+    }
+
+    @Override
+    public CellType type() {
+      return cell.getCellType();
+    }
+
+    @Override
+    public String text() {
+      if (text == null) {
+        text = formatter.formatCellValue(cell).trim();
+      }
+      return text;
+    }
+
+    @Override
+    public String numberFormatPattern() {
+      if (numberFormatPattern == null) {
+        String pattern =
+            cell.getCellType() == CellType.NUMERIC ? cell.getCellStyle().getDataFormatString() : null;
+        numberFormatPattern = pattern != null ? pattern : GENERAL_FORMAT;
+      }
+      return numberFormatPattern;
+    }
+
+    @Override
+    public double numericValue() {
+      return cell.getNumericCellValue();
+    }
+
+    @Override
+    public boolean booleanValue() {
+      return cell.getBooleanCellValue();
+    }
+
+    @Override
+    public boolean isDateFormatted() {
+      return DateUtil.isCellDateFormatted(cell);
+    }
+
+    @Override
+    public LocalDateTime localDateTimeValue() {
+      return cell.getLocalDateTimeCellValue();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.foo.excel.service.pipeline.persist;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 저장 단계 한 번의 세부 시간과 SQL 실행 건수이다.
+ *
+ * <p>{@link SaveStageProfiler}가 요청 스레드에 묶어 두며, 저장 구현은 세부 단계 시간을, JDBC 계층은 실행한 SQL 문과
+ * 배치 수를 누적한다. 파이프라인 모드에서는 청크마다 호출되는 저장이 모두 같은 프로파일에 합산된다. 한 스레드에서만
+ * 쓰므로 동기화하지 않는다.
+ */
+public final class SaveStageProfile {
+
+  private final Map<String, StageTiming> stages = new LinkedHashMap<>();
+  private final long[] statementCounts = new long[SqlStatementType.values().length];
+  private long batchCount;
+
+  /**
+   * 세부 단계 하나의 누적 시간과 호출 횟수이다.
+   *
+   * @param nanos 누적 시간(나노초)
+   * @param count 호출 횟수
+   */
+  public record StageTiming(long nanos, int count) {
+
+    public long millis() {
+      return nanos / 1_000_000;
+    }
+  }
+
+  void addStage(String stage, long nanos) {
+    stages.merge(
+        stage,
+        new StageTiming(nanos, 1),
+        (current, added) -> new StageTiming(current.nanos() + added.nanos(), current.count() + 1));
+  }
+
+  void addStatements(SqlStatementType type, long count) {
+    statementCounts[type.ordinal()] += count;
+  }
+
+  void addBatch() {
+    batchCount++;
+  }
+
+  /** 기록한 순서대로 정렬된 세부 단계별 누적 시간이다. */
+  public Map<String, StageTiming> stages() {
+    return Collections.unmodifiableMap(stages);
+  }
+
+  public long statementCount(SqlStatementType type) {
+    return statementCounts[type.ordinal()];
+  }
+
+  long totalStatementCount() {
+    long total = 0;
+    for (long count : statementCounts) {
+      total += count;
+    }
+    return total;
+  }
+
+  /** {@code executeBatch} 호출 횟수이다. 배치에 담긴 문은 종류별 건수에 포함된다. */
+  public long batchCount() {
+    return batchCount;
+  }
+
+  /** 타이밍 로그용 요약이다. 예: {@code lookup=3ms, build=5ms/2, sql[select=2, insert=100, batches=1]} */
+  public String summary() {
+    StringJoiner joiner = new StringJoiner(", ");
+    stages.forEach(
+        (stage, timing) ->
+            joiner.add(
+                stage
+                    + "="
+                    + timing.millis()
+                    + "ms"
+                    + (timing.count() > 1 ? "/" + timing.count() : "")));
+    joiner.add(
+        "sql[select="
+            + statementCount(SqlStatementType.SELECT)
+            + ", insert="
+            + statementCount(SqlStatementType.INSERT)
+            + ", update="
+            + statementCount(SqlStatementType.UPDATE)
+            + ", delete="
+            + statementCount(SqlStatementType.DELETE)
+            + ", merge="
+            + statementCount(SqlStatementType.MERGE)
+            + ", batches="
+            + batchCount
+            + "]");
+    return joiner.toString();
+  }
+}
@@ -0,0 +1,84 @@
+package com.foo.excel.service.pipeline.persist;
+
+import com.foo.excel.service.pipeline.jfr.SaveStageEvent;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 {@link SaveStageProfile}을 관리한다.
+ *
+ * <p>오케스트레이터가 저장 호출 전후로 {@link #start()}와 {@link #stop()}을 호출하고, 그 사이에 같은 스레드에서 실행된
+ * 저장 구현의 {@link #time} 구간과 {@link SqlStatementCountingDataSource}가 센 SQL 문이 프로파일에 쌓인다. 프로파일이
+ * 시작되지 않은 스레드(검증 단계의 DB 조회, 테스트 데이터 준비 등)에서는 아무것도 기록하지 않는다.
+ *
+ * <p>{@link #time} 구간은 프로파일 여부와 관계없이 {@link SaveStageEvent} JFR 이벤트로도 남는다. JPA 저장은 배치
+ * flush마다 구간을 나누므로 이벤트 하나가 flush 한 번에 해당한다.
+ */
+public final class SaveStageProfiler {
+
+  private static final ThreadLocal<SaveStageProfile> CURRENT = new ThreadLocal<>();
+
+  private SaveStageProfiler() {}
+
+  /** 현재 스레드에 새 프로파일을 연결하고 반환한다. */
+  public static SaveStageProfile start() {
+    SaveStageProfile profile = new SaveStageProfile();
+    CURRENT.set(profile);
+    return profile;
+  }
+
+  public static void stop() {
+    CURRENT.remove();
+  }
+
+  /** 현재 스레드에 연결된 프로파일, 없으면 {@code null}이다. */
+  public static SaveStageProfile current() {
+    return CURRENT.get();
+  }
+
+  /** 세부 단계 시간을 재어 현재 프로파일에 더한다. 같은 이름으로 여러 번 호출하면 누적된다. */
+  public static <T> T time(String stage, Supplier<T> action) {
+    SaveStageProfile profile = CURRENT.get();
+    long statementsBefore = profile == null ? 0 : profile.totalStatementCount();
+    long batchesBefore = profile == null ? 0 : profile.batchCount();
+    SaveStageEvent event = new SaveStageEvent();
+    event.begin();
+    long startedAt = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      long elapsedNanos = System.nanoTime() - startedAt;
+      if (profile == null) {
+        event.complete(stage, 0, 0);
+      } else {
+        profile.addStage(stage, elapsedNanos);
+        event.complete(
+            stage,
+            profile.totalStatementCount() - statementsBefore,
+            profile.batchCount() - batchesBefore);
+      }
+    }
+  }
+
+  public static void time(String stage, Runnable action) {
+    time(
+        stage,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  static void recordStatements(SqlStatementType type, long count) {
+    SaveStageProfile profile = CURRENT.get();
+    if (profile != null && count > 0) {
+      profile.addStatements(type, count);
+    }
+  }
+
+  static void recordBatch() {
+    SaveStageProfile profile = CURRENT.get();
+    if (profile != null) {
+      profile.addBatch();
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package com.foo.excel.service.pipeline.persist;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 실행한 SQL 문과 JDBC 배치 수를 {@link SaveStageProfiler}에 기록하는 데이터소스 래퍼이다.
+ *
+ * <p>JPA와 {@code JdbcTemplate}이 모두 이 데이터소스를 거치므로 저장 전략과 무관하게 같은 기준으로 센다. 준비된 문은
+ * {@code prepareStatement}에 넘어온 SQL로 종류를 정하고, {@code addBatch}로 모은 문은 {@code executeBatch} 시점에
+ * 건수와 배치 1회로 기록한다. 현재 스레드에 프로파일이 없으면 기록을 생략하므로 평소 비용은 스레드 로컬 조회 한 번이다.
+ *
+ * <p>문의 {@code getConnection()}과 결과 집합의 {@code getStatement()}는 원본 대신 이 래퍼의 프록시를 돌려준다.
+ * 호출자가 거슬러 올라간 연결로 만든 문도 계속 세어지고, 원본 연결을 직접 닫는 일도 생기지 않는다.
+ */
+public class SqlStatementCountingDataSource extends DelegatingDataSource {
+
+  public SqlStatementCountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrapConnection(obtainTargetDataSource().getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+  }
+
+  private static Connection wrapConnection(Connection target) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            SqlStatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new ConnectionHandler(target));
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  /** 프록시끼리 비교할 때 대상 객체가 아니라 프록시 자신을 기준으로 삼는다. */
+  private static boolean isIdentityMethod(Method method) {
+    return method.getDeclaringClass() == Object.class
+        && (method.getName().equals("equals") || method.getName().equals("hashCode"));
+  }
+
+  private static Object invokeIdentityMethod(Object proxy, Method method, Object[] args) {
+    return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+  }
+
+  private static final class ConnectionHandler implements InvocationHandler {
+
+    private final Connection target;
+
+    private ConnectionHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (isIdentityMethod(method)) {
+        return invokeIdentityMethod(proxy, method, args);
+      }
+      Object result = SqlStatementCountingDataSource.invoke(target, method, args);
+      Connection connection = (Connection) proxy;
+      return switch (method.getName()) {
+        case "createStatement" -> wrapStatement(Statement.class, result, connection, null);
+        case "prepareStatement" ->
+            wrapStatement(
+                PreparedStatement.class, result, connection, SqlStatementType.of((String) args[0]));
+        case "prepareCall" ->
+            wrapStatement(CallableStatement.class, result, connection, SqlStatementType.OTHER);
+        default -> result;
+      };
+    }
+
+    private static Object wrapStatement(
+        Class<? extends Statement> type,
+        Object target,
+        Connection connection,
+        SqlStatementType preparedType) {
+      return Proxy.newProxyInstance(
+          SqlStatementCountingDataSource.class.getClassLoader(),
+          new Class<?>[] {type},
+          new StatementHandler((Statement) target, connection, preparedType));
+    }
+  }
+
+  /**
+   * 문 실행 메서드를 가로채 건수를 센다. {@code preparedType}이 null이면 일반 {@link Statement}이므로 실행 메서드에
+   * 넘어온 SQL로 종류를 정한다.
+   */
+  private static final class StatementHandler implements InvocationHandler {
+
+    private final Statement target;
+    private final Connection connection;
+    private final SqlStatementType preparedType;
+    private long pendingBatchStatements;
+
+    private StatementHandler(
+        Statement target, Connection connection, SqlStatementType preparedType) {
+      this.target = target;
+      this.connection = connection;
+      this.preparedType = preparedType;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (isIdentityMethod(method)) {
+        return invokeIdentityMethod(proxy, method, args);
+      }
+      if (method.getName().equals("getConnection")) {
+        return connection;
+      }
+      Object result = SqlStatementCountingDataSource.invoke(target, method, args);
+      switch (method.getName()) {
+        case "execute", "executeQuery", "executeUpdate", "executeLargeUpdate" ->
+            SaveStageProfiler.recordStatements(resolveType(args), 1);
+        case "addBatch" -> {
+          if (preparedType == null) {
+            SaveStageProfiler.recordStatements(resolveType(args), 1);
+          } else {
+            pendingBatchStatements++;
+          }
+        }
+        case "clearBatch" -> pendingBatchStatements = 0;
+        case "executeBatch", "executeLargeBatch" -> {
+          if (preparedType != null) {
+            SaveStageProfiler.recordStatements(preparedType, pendingBatchStatements);
+          }
+          SaveStageProfiler.recordBatch();
+          pendingBatchStatements = 0;
+        }
+        default -> {
+          // 실행과 무관한 메서드는 그대로 위임한다.
+        }
+      }
+      return result instanceof ResultSet resultSet
+          ? wrapResultSet(resultSet, (Statement) proxy)
+          : result;
+    }
+
+    private static Object wrapResultSet(ResultSet target, Statement statement) {
+      return Proxy.newProxyInstance(
+          SqlStatementCountingDataSource.class.getClassLoader(),
+          new Class<?>[] {ResultSet.class},
+          new ResultSetHandler(target, statement));
+    }
+
+    private SqlStatementType resolveType(Object[] args) {
+      if (preparedType != null) {
+        return preparedType;
+      }
+      return args != null && args.length > 0 && args[0] instanceof String sql
+          ? SqlStatementType.of(sql)
+          : SqlStatementType.OTHER;
+    }
+  }
+
+  /** {@code getStatement()}만 소유한 문 프록시로 바꾸고 나머지는 그대로 위임한다. */
+  private static final class ResultSetHandler implements InvocationHandler {
+
+    private final ResultSet target;
+    private final Statement statement;
+
+    private ResultSetHandler(ResultSet target, Statement statement) {
+      this.target = target;
+      this.statement = statement;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (isIdentityMethod(method)) {
+        return invokeIdentityMethod(proxy, method, args);
+      }
+      if (method.getName().equals("getStatement")) {
+        return statement;
+      }
+      return SqlStatementCountingDataSource.invoke(target, method, args);
+    }
+  }
+}
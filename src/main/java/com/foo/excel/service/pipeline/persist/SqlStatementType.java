@@ -0,0 +1,33 @@
+package com.foo.excel.service.pipeline.persist;
+
+import java.util.Locale;
+
+/** 저장 단계에서 세는 SQL 문 종류이다. */
+public enum SqlStatementType {
+  SELECT,
+  INSERT,
+  UPDATE,
+  DELETE,
+  MERGE,
+  OTHER;
+
+  /** SQL 첫 키워드로 종류를 판별한다. {@code WITH}로 시작하는 문은 조회로 본다. */
+  public static SqlStatementType of(String sql) {
+    if (sql == null) {
+      return OTHER;
+    }
+    String trimmed = sql.stripLeading();
+    int end = 0;
+    while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+      end++;
+    }
+    return switch (trimmed.substring(0, end).toUpperCase(Locale.ROOT)) {
+      case "SELECT", "WITH" -> SELECT;
+      case "INSERT" -> INSERT;
+      case "UPDATE" -> UPDATE;
+      case "DELETE" -> DELETE;
+      case "MERGE" -> MERGE;
+      default -> OTHER;
+    };
+  }
+}
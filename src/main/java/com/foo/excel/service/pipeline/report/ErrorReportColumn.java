@@ -0,0 +1,24 @@
+package com.foo.excel.service.pipeline.report;
+
+import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 요약 리포트에 옮겨 적을 원본 컬럼이다. 컬럼 매핑 중 요약 리포트가 쓰는 값만 남겨 매니페스트에 저장할 수 있게 한다.
+ *
+ * @param columnIndex 원본 시트의 0-based 컬럼 인덱스
+ * @param label 요약 리포트 헤더에 쓸 컬럼명
+ */
+record ErrorReportColumn(int columnIndex, String label) {
+
+  /** 컬럼 매핑을 원본 컬럼 순서로 정렬해 변환한다. */
+  static List<ErrorReportColumn> from(List<ExcelParserService.ColumnMapping> columnMappings) {
+    return columnMappings.stream()
+        .sorted(Comparator.comparingInt(ExcelParserService.ColumnMapping::resolvedColumnIndex))
+        .map(
+            mapping ->
+                new ErrorReportColumn(mapping.resolvedColumnIndex(), mapping.annotation().label()))
+        .toList();
+  }
+}
@@ -0,0 +1,333 @@
+package com.foo.excel.service.pipeline.report;
+
+import com.foo.excel.config.ExcelImportProperties;
+import com.foo.excel.service.contract.ExcelMergeRegion;
+import com.foo.excel.service.contract.ExcelSheetSpec;
+import com.foo.excel.service.pipeline.jfr.ImportEventContext;
+import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import com.foo.excel.validation.ExcelValidationResult;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 오류 리포트의 파일 ID를 정하고 {@link ExcelErrorReportExecution}에 따라 바로, 백그라운드에서, 또는 첫 다운로드
+ * 때 만든다.
+ *
+ * <p>백그라운드 생성 중인 리포트는 {@code errors/<fileId>.pending} 표시 파일로, 끝난 리포트는
+ * {@code errors/<fileId>.xlsx}, 실패한 리포트는 {@code errors/<fileId>.failed} 표시 파일로 남긴다. 생성 중 표시 파일은
+ * 같은 임시 디렉터리를 쓰는 다른 서버 프로세스도 보므로 재시작 후에도 ID가 404가 되지 않는다. 다만 프로세스가 비정상
+ * 종료되면 표시 파일을 지울 주체가 없으므로 {@code excel.import.error-report-pending-timeout-minutes}보다 오래된 표시
+ * 파일은 실패로 본다. 정상 종료 때는 끝내지 못한 리포트의 {@code .part} 파일을 지우고 실패로 표시한다.
+ *
+ * <p>지연 생성할 리포트는 {@code errors/<fileId>.manifest}에 입력 값과 원본 사본 경로만 저장했다가 처음 다운로드할 때
+ * 만들고 매니페스트와 사본을 지운다. 표시 파일과 매니페스트도 다른 임시 파일과 같이 보관 기간이 지나면 지워진다.
+ */
+@Slf4j
+@Service
+public class ErrorReportDispatcher {
+
+  /** 다운로드 요청 시점의 리포트 상태이다. */
+  public enum Status {
+    PENDING,
+    /** 매니페스트만 있고 리포트는 아직 만들지 않았다. */
+    DEFERRED,
+    READY,
+    FAILED,
+    NOT_FOUND
+  }
+
+  private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+  private final ExcelErrorReportService errorReportService;
+  private final ExcelImportProperties properties;
+  private final Set<String> pendingFileIds = ConcurrentHashMap.newKeySet();
+  private final ConcurrentHashMap<String, Object> renderLocks = new ConcurrentHashMap<>();
+  private final ThreadPoolExecutor reportExecutor;
+
+  public ErrorReportDispatcher(
+      ExcelErrorReportService errorReportService, ExcelImportProperties properties) {
+    this.errorReportService = errorReportService;
+    this.properties = properties;
+    int threads = Math.max(1, properties.getErrorReportThreads());
+    this.reportExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getErrorReportQueueCapacity())),
+            reportThreadFactory());
+  }
+
+  /**
+   * 오류 리포트를 만들거나 만들도록 예약하고 파일 ID를 돌려준다.
+   *
+   * <p>같은 이름으로 다시 업로드하면 업로드 경로의 파일이 덮어써지므로, 백그라운드나 첫 다운로드 때 만드는 리포트는 원본을
+   * {@code errors/<fileId>.source.xlsx}로 복사해 두고 그 사본으로 만든다. 덮어쓰기가 같은 파일을 잘라 다시 쓸 수 있어
+   * 하드 링크 대신 복사한다. 사본은 리포트를 만든 뒤 지운다.
+   */
+  public String dispatch(
+      Path originalXlsx,
+      ExcelValidationResult validationResult,
+      List<ExcelParserService.ColumnMapping> columnMappings,
+      ExcelSheetSpec sheetSpec,
+      String originalFilename,
+      List<ExcelMergeRegion> excelMergeRegions)
+      throws IOException {
+    String fileId = UUID.randomUUID().toString();
+    if (properties.getErrorReportExecution() == ExcelErrorReportExecution.SYNC) {
+      errorReportService.generateErrorReport(
+          originalXlsx,
+          validationResult,
+          columnMappings,
+          sheetSpec,
+          originalFilename,
+          excelMergeRegions,
+          fileId);
+      return fileId;
+    }
+    if (properties.getErrorReportExecution() == ExcelErrorReportExecution.LAZY) {
+      Path sourceSnapshot = snapshotSource(fileId, originalXlsx);
+      try {
+        writeManifest(
+            fileId,
+            ErrorReportManifest.of(
+                sourceSnapshot,
+                validationResult,
+                columnMappings,
+                sheetSpec,
+                originalFilename,
+                excelMergeRegions));
+      } catch (IOException | RuntimeException e) {
+        deleteQuietly(sourceSnapshot, fileId);
+        throw e;
+      }
+      return fileId;
+    }
+
+    Path sourceSnapshot = snapshotSource(fileId, originalXlsx);
+    markPending(fileId);
+    try {
+      reportExecutor.submit(
+          ImportEventContext.propagate(
+              () -> {
+                try {
+                  errorReportService.generateErrorReport(
+                      sourceSnapshot,
+                      validationResult,
+                      columnMappings,
+                      sheetSpec,
+                      originalFilename,
+                      excelMergeRegions,
+                      fileId);
+                } catch (Exception e) {
+                  log.error("Background error report failed: fileId={}", fileId, e);
+                  markFailed(fileId, e);
+                } finally {
+                  deleteQuietly(sourceSnapshot, fileId);
+                  clearPending(fileId);
+                }
+                return null;
+              }));
+    } catch (RejectedExecutionException e) {
+      deleteQuietly(sourceSnapshot, fileId);
+      clearPending(fileId);
+      log.warn("Error report queue is full, generating on request thread: fileId={}", fileId);
+      errorReportService.generateErrorReport(
+          originalXlsx,
+          validationResult,
+          columnMappings,
+          sheetSpec,
+          originalFilename,
+          excelMergeRegions,
+          fileId);
+    }
+    return fileId;
+  }
+
+  /**
+   * 다운로드할 수 있도록 리포트를 준비하고 상태를 돌려준다. 매니페스트만 있는 리포트는 요청 스레드에서 만든다.
+   *
+   * <p>같은 ID의 다운로드가 동시에 들어와도 리포트는 한 번만 만든다.
+   */
+  public Status prepareDownload(String fileId) {
+    Status status = status(fileId);
+    if (status != Status.DEFERRED) {
+      return status;
+    }
+    Object renderLock = renderLocks.computeIfAbsent(fileId, id -> new Object());
+    try {
+      synchronized (renderLock) {
+        if (status(fileId) == Status.DEFERRED) {
+          renderDeferred(fileId);
+        }
+        return status(fileId);
+      }
+    } finally {
+      renderLocks.remove(fileId, renderLock);
+    }
+  }
+
+  /**
+   * 생성 중 여부를 리포트 파일보다 먼저 확인하므로 생성이 막 끝난 리포트를 없다고 답하지 않는다. 다른 프로세스가 남긴 생성
+   * 중 표시 파일은 제한 시간 안에서만 생성 중으로 본다.
+   */
+  public Status status(String fileId) {
+    if (pendingFileIds.contains(fileId)) {
+      return Status.PENDING;
+    }
+    Path errorsDir = errorsDirectory();
+    if (Files.exists(errorsDir.resolve(fileId + ".xlsx"))) {
+      return Status.READY;
+    }
+    Path pendingMarker = errorsDir.resolve(fileId + ".pending");
+    if (Files.exists(pendingMarker)) {
+      return isStale(pendingMarker) ? Status.FAILED : Status.PENDING;
+    }
+    if (Files.exists(errorsDir.resolve(fileId + ".manifest"))) {
+      return Status.DEFERRED;
+    }
+    if (Files.exists(errorsDir.resolve(fileId + ".failed"))) {
+      return Status.FAILED;
+    }
+    return Status.NOT_FOUND;
+  }
+
+  /** 끝내지 못한 리포트는 임시 파일을 지우고 실패로 표시해 재시작 후 다운로드가 계속 기다리지 않게 한다. */
+  @PreDestroy
+  void shutdown() {
+    reportExecutor.shutdownNow();
+    try {
+      reportExecutor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    Path errorsDir = errorsDirectory();
+    for (String fileId : List.copyOf(pendingFileIds)) {
+      log.warn("Error report interrupted by shutdown: fileId={}", fileId);
+      deleteQuietly(errorsDir.resolve(fileId + ".xlsx.part"), fileId);
+      deleteQuietly(errorsDir.resolve(fileId + ".source.xlsx"), fileId);
+      markFailed(fileId, new IllegalStateException("Error report executor shut down"));
+      clearPending(fileId);
+    }
+  }
+
+  private Path snapshotSource(String fileId, Path originalXlsx) throws IOException {
+    Path errorsDir = errorsDirectory();
+    Files.createDirectories(errorsDir);
+    Path snapshot = errorsDir.resolve(fileId + ".source.xlsx");
+    Files.copy(originalXlsx, snapshot);
+    return snapshot;
+  }
+
+  private void markPending(String fileId) throws IOException {
+    pendingFileIds.add(fileId);
+    try {
+      Files.createFile(errorsDirectory().resolve(fileId + ".pending"));
+    } catch (IOException e) {
+      pendingFileIds.remove(fileId);
+      throw e;
+    }
+  }
+
+  /** 표시 파일을 먼저 지우고 메모리에서 빼므로 두 확인 사이에 생성 중이 아닌 것으로 보이는 틈이 없다. */
+  private void clearPending(String fileId) {
+    deleteQuietly(errorsDirectory().resolve(fileId + ".pending"), fileId);
+    pendingFileIds.remove(fileId);
+  }
+
+  private boolean isStale(Path pendingMarker) {
+    try {
+      Instant cutoff =
+          Instant.now()
+              .minus(properties.getErrorReportPendingTimeoutMinutes(), ChronoUnit.MINUTES);
+      return Files.getLastModifiedTime(pendingMarker).toInstant().isBefore(cutoff);
+    } catch (IOException e) {
+      // 확인하는 사이 생성이 끝나 표시 파일이 지워졌다.
+      return false;
+    }
+  }
+
+  private void deleteQuietly(Path file, String fileId) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Failed to delete error report file: fileId={}, file={}", fileId, file, e);
+    }
+  }
+
+  private void writeManifest(String fileId, ErrorReportManifest manifest) throws IOException {
+    Path errorsDir = errorsDirectory();
+    Files.createDirectories(errorsDir);
+    Path partialFile = errorsDir.resolve(fileId + ".manifest.part");
+    try {
+      manifest.write(partialFile);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(partialFile);
+      throw e;
+    }
+    Files.move(
+        partialFile, errorsDir.resolve(fileId + ".manifest"), StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** 매니페스트로 리포트를 만들고, 성공 여부와 관계없이 매니페스트와 원본 사본을 지운다. */
+  private void renderDeferred(String fileId) {
+    Path manifestFile = errorsDirectory().resolve(fileId + ".manifest");
+    try {
+      errorReportService.generateErrorReport(ErrorReportManifest.read(manifestFile), fileId);
+    } catch (Exception e) {
+      log.error("Deferred error report failed: fileId={}", fileId, e);
+      markFailed(fileId, e);
+    }
+    deleteQuietly(errorsDirectory().resolve(fileId + ".source.xlsx"), fileId);
+    try {
+      Files.deleteIfExists(manifestFile);
+    } catch (IOException e) {
+      log.warn("Failed to delete error report manifest: fileId={}", fileId, e);
+    }
+  }
+
+  private Path errorsDirectory() {
+    return properties.getTempDirectoryPath().resolve("errors");
+  }
+
+  private void markFailed(String fileId, Exception cause) {
+    try {
+      Path errorsDir = errorsDirectory();
+      Files.createDirectories(errorsDir);
+      Files.writeString(
+          errorsDir.resolve(fileId + ".failed"),
+          cause.getClass().getName(),
+          StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      log.warn("Failed to write error report failure marker: fileId={}", fileId, e);
+    }
+  }
+
+  private static ThreadFactory reportThreadFactory() {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "excel-error-report-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,223 @@
+package com.foo.excel.service.pipeline.report;
+
+import com.foo.excel.service.contract.ExcelMergeRegion;
+import com.foo.excel.service.contract.ExcelMergeScope;
+import com.foo.excel.service.contract.ExcelSheetSpec;
+import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import com.foo.excel.validation.CellError;
+import com.foo.excel.validation.ExcelColumnRef;
+import com.foo.excel.validation.ExcelValidationResult;
+import com.foo.excel.validation.RowError;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오류 리포트를 나중에 만들기 위해 저장하는 입력 값이다.
+ *
+ * <p>셀 오류는 리포트가 쓰는 컬럼 인덱스, 컬럼 문자, 메시지만 남긴다. 필드명, 헤더명, 거부된 값은 리포트에 나오지 않으므로
+ * 저장하지 않는다. 파일 형식은 gzip으로 압축한 {@link DataOutputStream} 레코드이며 첫 8바이트가 형식 표시와 버전이다.
+ *
+ * @param sourceFile 리포트를 만들 원본 .xlsx 사본 경로. 업로드 경로는 같은 이름의 재업로드로 덮어써질 수 있다.
+ * @param originalFilename 다운로드 파일명에 쓸 원본 파일명, 없으면 null
+ * @param sheetSpec 데이터 시트 구조
+ * @param columns 요약 리포트에 옮길 원본 컬럼
+ * @param mergeRegions import 정의의 병합 영역
+ * @param totalRows 검증한 전체 행 수
+ * @param truncated 검증이 오류 행 한도로 중단되었는지 여부
+ * @param truncationMessage 중단 안내 메시지, 없으면 null
+ * @param rowErrors 행 번호 순서의 행 오류
+ */
+record ErrorReportManifest(
+    Path sourceFile,
+    String originalFilename,
+    ExcelSheetSpec sheetSpec,
+    List<ErrorReportColumn> columns,
+    List<ExcelMergeRegion> mergeRegions,
+    int totalRows,
+    boolean truncated,
+    String truncationMessage,
+    List<RowError> rowErrors) {
+
+  private static final int MAGIC = 0x45524D46; // "ERMF"
+  private static final int VERSION = 1;
+
+  static ErrorReportManifest of(
+      Path sourceFile,
+      ExcelValidationResult validationResult,
+      List<ExcelParserService.ColumnMapping> columnMappings,
+      ExcelSheetSpec sheetSpec,
+      String originalFilename,
+      List<ExcelMergeRegion> mergeRegions) {
+    return new ErrorReportManifest(
+        sourceFile,
+        originalFilename,
+        sheetSpec,
+        ErrorReportColumn.from(columnMappings),
+        mergeRegions == null ? List.of() : mergeRegions,
+        validationResult.getTotalRows(),
+        validationResult.isTruncated(),
+        validationResult.getTruncationMessage(),
+        validationResult.getRowErrors());
+  }
+
+  ExcelValidationResult validationResult() {
+    return ExcelValidationResult.failure(totalRows, rowErrors, truncated, truncationMessage);
+  }
+
+  void write(Path target) throws IOException {
+    try (DataOutputStream out =
+        new DataOutputStream(
+            new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(target))))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      writeString(out, sourceFile.toString());
+      writeString(out, originalFilename);
+
+      out.writeInt(sheetSpec.resolvedSheetIndex());
+      out.writeInt(sheetSpec.headerRow());
+      out.writeInt(sheetSpec.dataStartRow());
+      writeString(out, sheetSpec.footerMarker());
+      writeString(out, sheetSpec.errorColumnName());
+
+      out.writeInt(columns.size());
+      for (ErrorReportColumn column : columns) {
+        out.writeInt(column.columnIndex());
+        writeString(out, column.label());
+      }
+
+      out.writeInt(mergeRegions.size());
+      for (ExcelMergeRegion region : mergeRegions) {
+        out.writeByte(region.scope().ordinal());
+        out.writeInt(region.rowOffset());
+        out.writeInt(region.rowSpan());
+        out.writeInt(region.startColumnIndex());
+        out.writeInt(region.columnSpan());
+        out.writeBoolean(region.repeatOnEveryDataRow());
+      }
+
+      out.writeInt(totalRows);
+      out.writeBoolean(truncated);
+      writeString(out, truncationMessage);
+
+      out.writeInt(rowErrors.size());
+      for (RowError rowError : rowErrors) {
+        out.writeInt(rowError.getRowNumber());
+        out.writeInt(rowError.getCellErrors().size());
+        for (CellError cellError : rowError.getCellErrors()) {
+          out.writeInt(cellError.columnIndex());
+          ExcelColumnRef columnRef = cellError.columnRef();
+          writeString(out, columnRef == null ? null : columnRef.rawLetter());
+          writeString(out, cellError.message());
+        }
+      }
+    }
+  }
+
+  static ErrorReportManifest read(Path source) throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(
+            new BufferedInputStream(new GZIPInputStream(Files.newInputStream(source))))) {
+      if (in.readInt() != MAGIC) {
+        throw new IOException("Not an error report manifest: " + source.getFileName());
+      }
+      int version = in.readInt();
+      if (version != VERSION) {
+        throw new IOException("Unsupported error report manifest version: " + version);
+      }
+      Path sourceFile = Path.of(readString(in));
+      String originalFilename = readString(in);
+
+      ExcelSheetSpec sheetSpec =
+          new ExcelSheetSpec(
+              in.readInt(), in.readInt(), in.readInt(), readString(in), readString(in));
+
+      int columnCount = in.readInt();
+      List<ErrorReportColumn> columns = new ArrayList<>(columnCount);
+      for (int i = 0; i < columnCount; i++) {
+        columns.add(new ErrorReportColumn(in.readInt(), readString(in)));
+      }
+
+      int mergeCount = in.readInt();
+      List<ExcelMergeRegion> mergeRegions = new ArrayList<>(mergeCount);
+      ExcelMergeScope[] scopes = ExcelMergeScope.values();
+      for (int i = 0; i < mergeCount; i++) {
+        mergeRegions.add(
+            new ExcelMergeRegion(
+                scopes[in.readByte()],
+                in.readInt(),
+                in.readInt(),
+                in.readInt(),
+                in.readInt(),
+                in.readBoolean()));
+      }
+
+      int totalRows = in.readInt();
+      boolean truncated = in.readBoolean();
+      String truncationMessage = readString(in);
+
+      int rowErrorCount = in.readInt();
+      List<RowError> rowErrors = new ArrayList<>(rowErrorCount);
+      for (int i = 0; i < rowErrorCount; i++) {
+        int rowNumber = in.readInt();
+        int cellErrorCount = in.readInt();
+        List<CellError> cellErrors = new ArrayList<>(cellErrorCount);
+        for (int j = 0; j < cellErrorCount; j++) {
+          int columnIndex = in.readInt();
+          String columnLetter = readString(in);
+          cellErrors.add(
+              CellError.builder()
+                  .columnIndex(columnIndex)
+                  .columnRef(
+                      columnLetter == null
+                          ? ExcelColumnRef.unknown()
+                          : ExcelColumnRef.ofLetter(columnLetter))
+                  .message(readString(in))
+                  .build());
+        }
+        rowErrors.add(RowError.builder().rowNumber(rowNumber).cellErrors(cellErrors).build());
+      }
+
+      return new ErrorReportManifest(
+          sourceFile,
+          originalFilename,
+          sheetSpec,
+          columns,
+          mergeRegions,
+          totalRows,
+          truncated,
+          truncationMessage,
+          rowErrors);
+    }
+  }
+
+  /** 길이를 먼저 쓰는 UTF-8 문자열이다. null은 길이 -1로 쓴다. */
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
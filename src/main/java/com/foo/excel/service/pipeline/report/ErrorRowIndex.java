@@ -0,0 +1,93 @@
+package com.foo.excel.service.pipeline.report;
+
+import com.foo.excel.validation.CellError;
+import com.foo.excel.validation.RowError;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 리포트 복사 루프에서 쓰는 행 오류 조회 전용 인덱스이다.
+ *
+ * <p>오류가 있는 1-based 행 번호를 오름차순 기본형 배열로, 행마다 오류 컬럼을 {@code long} 비트마스크로 담는다. 행 조회는
+ * 이진 탐색, 셀 조회는 비트 검사로 끝나므로 복사 중에는 행이나 셀마다 객체를 만들지 않는다. 같은 행 번호가 여러 번 나오면
+ * 마지막 행 오류를 쓴다.
+ */
+final class ErrorRowIndex {
+
+  private static final long[] NO_COLUMNS = new long[0];
+
+  private final int[] rowNumbers;
+  private final RowError[] rowErrors;
+  private final long[][] errorColumns;
+
+  private ErrorRowIndex(int[] rowNumbers, RowError[] rowErrors, long[][] errorColumns) {
+    this.rowNumbers = rowNumbers;
+    this.rowErrors = rowErrors;
+    this.errorColumns = errorColumns;
+  }
+
+  static ErrorRowIndex of(List<RowError> rowErrors) {
+    List<RowError> sorted = new ArrayList<>(rowErrors);
+    sorted.sort(Comparator.comparingInt(RowError::getRowNumber));
+
+    int[] rowNumbers = new int[sorted.size()];
+    RowError[] errors = new RowError[sorted.size()];
+    int count = 0;
+    for (RowError rowError : sorted) {
+      if (count > 0 && rowNumbers[count - 1] == rowError.getRowNumber()) {
+        errors[count - 1] = rowError;
+      } else {
+        rowNumbers[count] = rowError.getRowNumber();
+        errors[count] = rowError;
+        count++;
+      }
+    }
+
+    long[][] errorColumns = new long[count][];
+    for (int i = 0; i < count; i++) {
+      errorColumns[i] = columnBits(errors[i]);
+    }
+    return new ErrorRowIndex(
+        Arrays.copyOf(rowNumbers, count), Arrays.copyOf(errors, count), errorColumns);
+  }
+
+  /** 행 번호의 위치를 돌려준다. 오류가 없는 행이면 음수이다. */
+  int position(int rowNumber) {
+    int position = Arrays.binarySearch(rowNumbers, rowNumber);
+    return position >= 0 ? position : -1;
+  }
+
+  RowError rowError(int position) {
+    return rowErrors[position];
+  }
+
+  /** {@link #position(int)}로 찾은 행의 0-based 컬럼에 셀 오류가 있는지 확인한다. 음수 위치는 오류 없음이다. */
+  boolean hasErrorAt(int position, int columnIndex) {
+    if (position < 0 || columnIndex < 0) {
+      return false;
+    }
+    long[] bits = errorColumns[position];
+    int word = columnIndex >>> 6;
+    return word < bits.length && (bits[word] & (1L << columnIndex)) != 0;
+  }
+
+  private static long[] columnBits(RowError rowError) {
+    int maxColumn = -1;
+    for (CellError cellError : rowError.getCellErrors()) {
+      maxColumn = Math.max(maxColumn, cellError.columnIndex());
+    }
+    if (maxColumn < 0) {
+      return NO_COLUMNS;
+    }
+    long[] bits = new long[(maxColumn >>> 6) + 1];
+    for (CellError cellError : rowError.getCellErrors()) {
+      int columnIndex = cellError.columnIndex();
+      if (columnIndex >= 0) {
+        bits[columnIndex >>> 6] |= 1L << columnIndex;
+      }
+    }
+    return bits;
+  }
+}
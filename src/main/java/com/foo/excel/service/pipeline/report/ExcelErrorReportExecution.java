@@ -0,0 +1,20 @@
+package com.foo.excel.service.pipeline.report;
+
+/** 검증 실패 응답과 오류 리포트 생성의 순서를 지정한다. */
+public enum ExcelErrorReportExecution {
+
+  /** 요청 스레드에서 리포트를 다 만든 뒤 실패 응답을 돌려준다. */
+  SYNC,
+
+  /**
+   * 파일 ID만 정해 실패 응답을 바로 돌려주고, 리포트는 크기가 제한된 백그라운드 실행기에서 만든다. 만드는 동안 다운로드
+   * 요청은 202와 Retry-After를 받는다. 실행기 큐가 가득 차면 요청 스레드에서 만든다.
+   */
+  ASYNC,
+
+  /**
+   * 리포트 입력 값만 매니페스트로 저장하고 실패 응답을 바로 돌려준다. 리포트는 처음 다운로드할 때 요청 스레드에서 만들고,
+   * 만든 파일을 이후 다운로드에 그대로 쓴다. 내려받지 않는 리포트는 만들지 않는다.
+   */
+  LAZY
+}
@@ -0,0 +1,18 @@
+package com.foo.excel.service.pipeline.report;
+
+/**
+ * 전체 오류 리포트를 만드는 방식을 지정한다.
+ *
+ * <p>오류 행 수 한도에 걸려 검증이 중단된 경우의 요약 리포트는 이 설정과 관계없이 같은 방식으로 만든다.
+ */
+public enum ExcelErrorReportMode {
+
+  /** 원본을 XSSFWorkbook으로 읽어 모든 시트와 셀, 스타일을 SXSSF 워크북으로 다시 만든다. */
+  WORKBOOK,
+
+  /**
+   * 원본 .xlsx 패키지를 파트 단위로 복사하면서 데이터 시트 XML과 styles.xml만 고쳐 쓴다. 그 밖의 파트는 바이트 그대로
+   * 옮기므로 소요 시간과 힙 사용량이 데이터 시트 XML 크기에만 비례한다.
+   */
+  STREAMING
+}
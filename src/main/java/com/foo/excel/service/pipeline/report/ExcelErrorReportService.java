@@ -4,7 +4,10 @@ import com.foo.excel.config.ExcelImportProperties;
 import com.foo.excel.service.contract.ExcelMergeRegion;
 import com.foo.excel.service.contract.ExcelMergeScope;
 import com.foo.excel.service.contract.ExcelSheetSpec;
+import com.foo.excel.service.pipeline.jfr.ErrorReportSheetEvent;
 import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import com.foo.excel.util.MergedRegionIndex;
+import com.foo.excel.util.RowIntervalSet;
 import com.foo.excel.util.SecureExcelUtils;
 import com.foo.excel.util.WorkbookCopyUtils;
 import com.foo.excel.validation.ExcelValidationResult;
@@ -14,9 +17,8 @@ import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +42,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ExcelErrorReportService {
 
+  static final String DISCLAIMER_TEXT =
+      "※ 본 파일은 오류 확인용으로 재생성되었습니다. " + "일부 서식 및 기능이 원본 파일과 다를 수 있습니다.";
+
   private final ExcelImportProperties properties;
 
   public Path generateErrorReport(
@@ -66,10 +71,70 @@ public class ExcelErrorReportService {
       String originalFilename,
       List<ExcelMergeRegion> excelMergeRegions)
       throws IOException {
+    return generateErrorReport(
+        originalXlsx,
+        validationResult,
+        columnMappings,
+        sheetSpec,
+        originalFilename,
+        excelMergeRegions,
+        UUID.randomUUID().toString());
+  }
 
+  /**
+   * 호출 측이 정한 파일 ID로 오류 리포트를 만든다.
+   *
+   * <p>리포트는 임시 이름으로 쓴 뒤 {@code errors/<fileId>.xlsx}로 옮기므로, 같은 경로를 확인하는 다운로드 요청이
+   * 쓰다 만 파일을 받는 일은 없다.
+   */
+  public Path generateErrorReport(
+      Path originalXlsx,
+      ExcelValidationResult validationResult,
+      List<ExcelParserService.ColumnMapping> columnMappings,
+      ExcelSheetSpec sheetSpec,
+      String originalFilename,
+      List<ExcelMergeRegion> excelMergeRegions,
+      String fileId)
+      throws IOException {
+    return render(
+        originalXlsx,
+        validationResult,
+        ErrorReportColumn.from(columnMappings),
+        sheetSpec,
+        originalFilename,
+        excelMergeRegions,
+        fileId);
+  }
+
+  /** 업로드 처리 중에 저장해 둔 매니페스트로 오류 리포트를 만든다. */
+  Path generateErrorReport(ErrorReportManifest manifest, String fileId) throws IOException {
+    return render(
+        manifest.sourceFile(),
+        manifest.validationResult(),
+        manifest.columns(),
+        manifest.sheetSpec(),
+        manifest.originalFilename(),
+        manifest.mergeRegions(),
+        fileId);
+  }
+
+  private Path render(
+      Path originalXlsx,
+      ExcelValidationResult validationResult,
+      List<ErrorReportColumn> columns,
+      ExcelSheetSpec sheetSpec,
+      String originalFilename,
+      List<ExcelMergeRegion> excelMergeRegions,
+      String fileId)
+      throws IOException {
     if (validationResult.isTruncated()) {
       return generateCompactErrorReport(
-          originalXlsx, validationResult, columnMappings, sheetSpec, originalFilename);
+          originalXlsx, validationResult, columns, sheetSpec, originalFilename, fileId);
+    }
+
+    if (properties.getErrorReportMode() == ExcelErrorReportMode.STREAMING) {
+      return generateStreamingErrorReport(
+          originalXlsx, validationResult, sheetSpec, originalFilename, excelMergeRegions, fileId);
     }
 
     return generateFullErrorReport(
@@ -77,7 +142,59 @@ public class ExcelErrorReportService {
         validationResult,
         sheetSpec,
         originalFilename,
-        excelMergeRegions);
+        excelMergeRegions,
+        fileId);
+  }
+
+  /**
+   * 원본을 워크북으로 읽지 않고 패키지 파트를 복사하면서 전체 오류 리포트를 만든다.
+   *
+   * <p>styles.xml이 없는 패키지는 오류 스타일을 덧붙일 곳이 없으므로 워크북 방식으로 만든다.
+   */
+  private Path generateStreamingErrorReport(
+      Path originalXlsx,
+      ExcelValidationResult validationResult,
+      ExcelSheetSpec sheetSpec,
+      String originalFilename,
+      List<ExcelMergeRegion> excelMergeRegions,
+      String fileId)
+      throws IOException {
+    ErrorReportSheetEvent sheetEvent = new ErrorReportSheetEvent();
+    sheetEvent.begin();
+    StreamingErrorReportWriter writer =
+        StreamingErrorReportWriter.scan(
+            originalXlsx, sheetSpec.resolvedSheetIndex(), validationResult.getRowErrors());
+    if (!writer.hasStylesPart()) {
+      log.warn("Workbook has no styles part, falling back to workbook error report");
+      return generateFullErrorReport(
+          originalXlsx, validationResult, sheetSpec, originalFilename, excelMergeRegions, fileId);
+    }
+
+    int errorColIndex = writer.errorColumnIndex();
+    List<CellRangeAddress> importMerges =
+        resolveImportMerges(
+            MergedRegionIndex.of(writer.sourceMergedRegions()),
+            sheetSpec,
+            validationResult,
+            errorColIndex,
+            excelMergeRegions);
+
+    Path errorFilePath =
+        writeErrorFile(
+            fileId,
+            originalFilename,
+            target ->
+                writer.write(
+                    target, sheetSpec.headerRow() - 1, sheetSpec.errorColumnName(), importMerges));
+    sheetEvent.complete(
+        "streaming",
+        sheetSpec.resolvedSheetIndex(),
+        writer.dataSheetName(),
+        true,
+        writer.copiedRows(),
+        writer.copiedCells());
+    log.info("Streaming error report generated: {}", errorFilePath);
+    return errorFilePath;
   }
 
   private Path generateFullErrorReport(
@@ -85,7 +202,8 @@ public class ExcelErrorReportService {
       ExcelValidationResult validationResult,
       ExcelSheetSpec sheetSpec,
       String originalFilename,
-      List<ExcelMergeRegion> excelMergeRegions)
+      List<ExcelMergeRegion> excelMergeRegions,
+      String fileId)
       throws IOException {
 
     // 1. SecureExcelUtils로 원본을 읽기 전용으로 열기(보안: 쓰기 권한 불필요)
@@ -94,20 +212,19 @@ public class ExcelErrorReportService {
       // 2. 대상 워크북 생성 후 SXSSF 스트리밍 윈도우로 래핑
       try (XSSFWorkbook targetXssf = new XSSFWorkbook();
           SXSSFWorkbook sxssfWb = new SXSSFWorkbook(targetXssf, 100)) {
-        var styleMap = WorkbookCopyUtils.buildStyleMapping(sourceWb, targetXssf);
+        CellStyle[] styleTable = WorkbookCopyUtils.buildStyleTable(sourceWb, targetXssf);
 
-        // 3. 오류 조회 맵 생성: 1-based 행 번호를 키로 하는 Map<Integer, RowError>
-        var errorsByRow = new HashMap<Integer, RowError>();
-        for (RowError rowError : validationResult.getRowErrors()) {
-          errorsByRow.put(rowError.getRowNumber(), rowError);
-        }
+        // 3. 오류 조회 인덱스 생성: 1-based 행 번호 정렬 배열과 행별 오류 컬럼 비트마스크
+        ErrorRowIndex errorRows = ErrorRowIndex.of(validationResult.getRowErrors());
 
         int dataSheetIndex = sheetSpec.resolvedSheetIndex();
         int headerRowIdx = sheetSpec.headerRow() - 1;
-        var errorStyleCache = new HashMap<Integer, CellStyle>();
+        CellStyle[] errorStyleCache = new CellStyle[styleTable.length];
 
         // 5. 모든 시트 복사
         for (int sheetIdx = 0; sheetIdx < sourceWb.getNumberOfSheets(); sheetIdx++) {
+          ErrorReportSheetEvent sheetEvent = new ErrorReportSheetEvent();
+          sheetEvent.begin();
           Sheet srcSheet = sourceWb.getSheetAt(sheetIdx);
           SXSSFSheet tgtSheet = sxssfWb.createSheet(srcSheet.getSheetName());
 
@@ -124,6 +241,8 @@ public class ExcelErrorReportService {
           boolean isDataSheet = (sheetIdx == dataSheetIndex);
           int errorColIndex = isDataSheet ? maxCol : -1;
           int lastRowNum = lastPhysicalRowNum(srcSheet);
+          int copiedRows = 0;
+          long copiedCells = 0;
 
           // 6. 모든 행을 위에서 아래로 스트림 복사(SXSSF: 순차 쓰기만 지원)
           for (int rowIdx = 0; rowIdx <= lastRowNum; rowIdx++) {
@@ -135,19 +254,11 @@ public class ExcelErrorReportService {
             }
 
             tgtRow.setHeight(srcRow.getHeight());
+            copiedRows++;
 
             boolean isHeaderRow = isDataSheet && rowIdx == headerRowIdx;
-            RowError rowError = isDataSheet ? errorsByRow.get(rowIdx + 1) : null;
-
-            // O(1) 조회를 위한 오류 컬럼 인덱스 집합 구성
-            var errorColIndices = new HashSet<Integer>();
-            if (rowError != null) {
-              for (var cellError : rowError.getCellErrors()) {
-                if (cellError.columnIndex() >= 0) {
-                  errorColIndices.add(cellError.columnIndex());
-                }
-              }
-            }
+            int errorPosition = isDataSheet ? errorRows.position(rowIdx + 1) : -1;
+            RowError rowError = errorPosition >= 0 ? errorRows.rowError(errorPosition) : null;
 
             // 매핑된 스타일로 각 셀 복사
             for (int colIdx = 0; colIdx < srcRow.getLastCellNum(); colIdx++) {
@@ -155,16 +266,17 @@ public class ExcelErrorReportService {
               Cell tgtCell = tgtRow.createCell(colIdx);
 
               if (srcCell != null) {
+                copiedCells++;
                 WorkbookCopyUtils.copyCellValue(srcCell, tgtCell);
 
-                CellStyle mappedStyle = styleMap.get((int) srcCell.getCellStyle().getIndex());
-                if (mappedStyle != null) {
-                  if (errorColIndices.contains(colIdx)) {
+                int styleIdx = WorkbookCopyUtils.styleIndex(srcCell.getCellStyle());
+                if (styleIdx < styleTable.length) {
+                  if (errorRows.hasErrorAt(errorPosition, colIdx)) {
                     tgtCell.setCellStyle(
                         WorkbookCopyUtils.getOrCreateErrorStyle(
-                            sxssfWb, mappedStyle, errorStyleCache));
+                            sxssfWb, styleTable, styleIdx, errorStyleCache));
                   } else {
-                    tgtCell.setCellStyle(mappedStyle);
+                    tgtCell.setCellStyle(styleTable[styleIdx]);
                   }
                 }
               }
@@ -195,17 +307,27 @@ public class ExcelErrorReportService {
 
           // 7. 데이터 시트에 안내문 추가(마지막 행 아래 2행)
           if (isDataSheet) {
-            applyImportMerges(
-                tgtSheet, sheetSpec, validationResult, errorColIndex, excelMergeRegions);
+            for (CellRangeAddress region :
+                resolveImportMerges(
+                    MergedRegionIndex.of(srcSheet.getMergedRegions()),
+                    sheetSpec,
+                    validationResult,
+                    errorColIndex,
+                    excelMergeRegions)) {
+              // 겹침은 resolveImportMerges에서 확인했으므로 POI의 영역별 전체 비교를 건너뛴다.
+              tgtSheet.addMergedRegionUnsafe(region);
+            }
 
             addDisclaimerRow(sxssfWb, tgtSheet, lastRowNum, errorColIndex);
           }
+          sheetEvent.complete(
+              "full", sheetIdx, srcSheet.getSheetName(), isDataSheet, copiedRows, copiedCells);
         }
 
         // 8. 임시 디렉터리에 저장
         Path errorFilePath;
         try {
-          errorFilePath = writeErrorWorkbook(sxssfWb, originalFilename);
+          errorFilePath = writeErrorWorkbook(sxssfWb, originalFilename, fileId);
         } finally {
           disposeStreamingWorkbook(sxssfWb);
         }
@@ -233,8 +355,7 @@ public class ExcelErrorReportService {
 
     Row disclaimerRow = sheet.createRow(disclaimerRowIdx);
     Cell disclaimerCell = disclaimerRow.createCell(0);
-    disclaimerCell.setCellValue(
-        "※ 본 파일은 오류 확인용으로 재생성되었습니다. " + "일부 서식 및 기능이 원본 파일과 다를 수 있습니다.");
+    disclaimerCell.setCellValue(DISCLAIMER_TEXT);
 
     CellStyle disclaimerStyle = workbook.createCellStyle();
     Font disclaimerFont = workbook.createFont();
@@ -243,7 +364,7 @@ public class ExcelErrorReportService {
     disclaimerStyle.setFont(disclaimerFont);
     disclaimerCell.setCellStyle(disclaimerStyle);
 
-    if (errorColIndex > 0) {
+    if (errorColIndex > 1) {
       sheet.addMergedRegion(
           new CellRangeAddress(disclaimerRowIdx, disclaimerRowIdx, 0, errorColIndex - 1));
     }
@@ -252,13 +373,16 @@ public class ExcelErrorReportService {
   private Path generateCompactErrorReport(
       Path originalXlsx,
       ExcelValidationResult validationResult,
-      List<ExcelParserService.ColumnMapping> columnMappings,
+      List<ErrorReportColumn> columns,
       ExcelSheetSpec sheetSpec,
-      String originalFilename)
+      String originalFilename,
+      String fileId)
       throws IOException {
     try (Workbook sourceWb = SecureExcelUtils.createWorkbook(originalXlsx);
         XSSFWorkbook targetXssf = new XSSFWorkbook();
         SXSSFWorkbook sxssfWb = new SXSSFWorkbook(targetXssf, 100)) {
+      ErrorReportSheetEvent sheetEvent = new ErrorReportSheetEvent();
+      sheetEvent.begin();
       // ExcelSheetSpec already stores the resolver-converted 0-based sheet index.
       Sheet sourceSheet = sourceWb.getSheetAt(sheetSpec.resolvedSheetIndex());
       SXSSFSheet summarySheet = sxssfWb.createSheet("오류요약");
@@ -284,17 +408,12 @@ public class ExcelErrorReportService {
       headerRow.createCell(0).setCellValue("원본 행번호");
       headerRow.getCell(0).setCellStyle(headerStyle);
 
-      List<ExcelParserService.ColumnMapping> sortedMappings =
-          columnMappings.stream()
-              .sorted(Comparator.comparingInt(ExcelParserService.ColumnMapping::resolvedColumnIndex))
-              .toList();
-
-      for (int i = 0; i < sortedMappings.size(); i++) {
+      for (int i = 0; i < columns.size(); i++) {
         Cell cell = headerRow.createCell(i + 1);
-        cell.setCellValue(sortedMappings.get(i).annotation().label());
+        cell.setCellValue(columns.get(i).label());
         cell.setCellStyle(headerStyle);
       }
-      Cell errorHeader = headerRow.createCell(sortedMappings.size() + 1);
+      Cell errorHeader = headerRow.createCell(columns.size() + 1);
       errorHeader.setCellValue(sheetSpec.errorColumnName());
       errorHeader.setCellStyle(headerStyle);
 
@@ -302,8 +421,8 @@ public class ExcelErrorReportService {
         Row sourceRow = sourceSheet.getRow(rowError.getRowNumber() - 1);
         Row targetRow = summarySheet.createRow(rowIndex++);
         targetRow.createCell(0).setCellValue(rowError.getRowNumber());
-        for (int i = 0; i < sortedMappings.size(); i++) {
-          int columnIndex = sortedMappings.get(i).resolvedColumnIndex();
+        for (int i = 0; i < columns.size(); i++) {
+          int columnIndex = columns.get(i).columnIndex();
           String value = "";
           if (sourceRow != null) {
             Cell sourceCell = sourceRow.getCell(columnIndex);
@@ -314,13 +433,20 @@ public class ExcelErrorReportService {
           targetRow.createCell(i + 1).setCellValue(SecureExcelUtils.sanitizeForExcelCell(value));
         }
         targetRow
-            .createCell(sortedMappings.size() + 1)
+            .createCell(columns.size() + 1)
             .setCellValue(SecureExcelUtils.sanitizeForExcelCell(rowError.getFormattedMessage()));
       }
+      sheetEvent.complete(
+          "compact",
+          0,
+          summarySheet.getSheetName(),
+          true,
+          rowIndex,
+          (long) validationResult.getRowErrors().size() * (columns.size() + 2));
 
       Path errorFilePath;
       try {
-        errorFilePath = writeErrorWorkbook(sxssfWb, originalFilename);
+        errorFilePath = writeErrorWorkbook(sxssfWb, originalFilename, fileId);
       } finally {
         disposeStreamingWorkbook(sxssfWb);
       }
@@ -329,20 +455,44 @@ public class ExcelErrorReportService {
     }
   }
 
-  private Path writeErrorWorkbook(SXSSFWorkbook workbook, String originalFilename) throws IOException {
-    String fileId = UUID.randomUUID().toString();
+  private Path writeErrorWorkbook(
+      SXSSFWorkbook workbook, String originalFilename, String fileId) throws IOException {
+    return writeErrorFile(
+        fileId,
+        originalFilename,
+        target -> {
+          try (OutputStream os = Files.newOutputStream(target)) {
+            workbook.write(os);
+          }
+        });
+  }
+
+  /** 리포트 파일을 쓰는 동작이다. 실패하면 호출 측이 쓰다 만 파일을 지운다. */
+  @FunctionalInterface
+  private interface ErrorFileWriter {
+    void write(Path target) throws IOException;
+  }
+
+  private Path writeErrorFile(String fileId, String originalFilename, ErrorFileWriter fileWriter)
+      throws IOException {
     Path errorsDir = properties.getTempDirectoryPath().resolve("errors");
     Files.createDirectories(errorsDir);
     Path errorFilePath = errorsDir.resolve(fileId + ".xlsx");
+    Path partialFilePath = errorsDir.resolve(fileId + ".xlsx.part");
 
-    try (OutputStream os = Files.newOutputStream(errorFilePath)) {
-      workbook.write(os);
+    try {
+      fileWriter.write(partialFilePath);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(partialFilePath);
+      throw e;
     }
 
+    // 다운로드 파일명이 리포트보다 먼저 보이도록 메타 파일을 먼저 쓴다.
     if (originalFilename != null && !originalFilename.isBlank()) {
       Path metaFilePath = errorsDir.resolve(fileId + ".meta");
       Files.writeString(metaFilePath, originalFilename, StandardCharsets.UTF_8);
     }
+    Files.move(partialFilePath, errorFilePath, StandardCopyOption.ATOMIC_MOVE);
 
     return errorFilePath;
   }
@@ -352,15 +502,24 @@ public class ExcelErrorReportService {
     workbook.dispose();
   }
 
-  private void applyImportMerges(
-      Sheet sheet,
+  /**
+   * 오류 리포트 시트에 복원할 import 정의의 병합 영역을 정한다.
+   *
+   * <p>원본에서 복사한 병합 영역과의 겹침은 {@link MergedRegionIndex}로, 이 메서드에서 추가한 영역끼리의 겹침은
+   * {@link RowIntervalSet}으로 확인하므로 데이터 행마다 후보가 생겨도 비용은 후보 수에 선형이다. 반환한 영역은 서로, 그리고
+   * 원본 병합 영역과 겹치지 않는다. 워크북 방식과 스트리밍 방식이 같은 결과를 쓴다.
+   */
+  private List<CellRangeAddress> resolveImportMerges(
+      MergedRegionIndex sourceMergedRegions,
       ExcelSheetSpec sheetSpec,
       ExcelValidationResult validationResult,
       int errorColIndex,
       List<ExcelMergeRegion> excelMergeRegions) {
+    List<CellRangeAddress> addedRegions = new ArrayList<>();
     if (excelMergeRegions == null || excelMergeRegions.isEmpty()) {
-      return;
+      return addedRegions;
     }
+    RowIntervalSet addedIntervals = new RowIntervalSet();
 
     int headerStartRow = sheetSpec.headerRow() - 1;
     int dataStartRow = sheetSpec.dataStartRow() - 1;
@@ -369,7 +528,9 @@ public class ExcelErrorReportService {
     for (ExcelMergeRegion mergeRegion : excelMergeRegions) {
       if (mergeRegion.scope() == ExcelMergeScope.HEADER) {
         addMergedRegionIfSafe(
-            sheet,
+            sourceMergedRegions,
+            addedIntervals,
+            addedRegions,
             new CellRangeAddress(
                 headerStartRow + mergeRegion.rowOffset(),
                 headerStartRow + mergeRegion.rowOffset() + mergeRegion.rowSpan() - 1,
@@ -388,7 +549,9 @@ public class ExcelErrorReportService {
             rowIndex <= dataEndRow;
             rowIndex++) {
           addMergedRegionIfSafe(
-              sheet,
+              sourceMergedRegions,
+              addedIntervals,
+              addedRegions,
               new CellRangeAddress(
                   rowIndex,
                   rowIndex,
@@ -400,7 +563,9 @@ public class ExcelErrorReportService {
       }
 
       addMergedRegionIfSafe(
-          sheet,
+          sourceMergedRegions,
+          addedIntervals,
+          addedRegions,
           new CellRangeAddress(
               dataStartRow + mergeRegion.rowOffset(),
               dataStartRow + mergeRegion.rowOffset(),
@@ -408,38 +573,31 @@ public class ExcelErrorReportService {
               mergeRegion.startColumnIndex() + mergeRegion.columnSpan() - 1),
           errorColIndex);
     }
+    return addedRegions;
   }
 
-  private void addMergedRegionIfSafe(Sheet sheet, CellRangeAddress candidate, int errorColIndex) {
+  private void addMergedRegionIfSafe(
+      MergedRegionIndex sourceMergedRegions,
+      RowIntervalSet addedIntervals,
+      List<CellRangeAddress> addedRegions,
+      CellRangeAddress candidate,
+      int errorColIndex) {
     if (candidate.getFirstColumn() <= errorColIndex && errorColIndex <= candidate.getLastColumn()) {
       return;
     }
-
-    for (CellRangeAddress existing : sheet.getMergedRegions()) {
-      if (sameRegion(existing, candidate)) {
-        return;
-      }
-      if (overlaps(existing, candidate)) {
-        return;
-      }
+    // 스트리밍 방식은 POI 검증 없이 XML에 쓰므로 병합할 것이 없는 한 셀 영역은 여기서 거른다.
+    if (candidate.getNumberOfCells() < 2) {
+      return;
     }
 
-    sheet.addMergedRegion(candidate);
-  }
-
-  private boolean sameRegion(CellRangeAddress left, CellRangeAddress right) {
-    return left.getFirstRow() == right.getFirstRow()
-        && left.getLastRow() == right.getLastRow()
-        && left.getFirstColumn() == right.getFirstColumn()
-        && left.getLastColumn() == right.getLastColumn();
-  }
+    if (sourceMergedRegions.overlaps(candidate)) {
+      return;
+    }
+    // 같은 영역도 겹침이므로 중복 후보는 여기서 걸러진다.
+    if (!addedIntervals.addIfDisjoint(candidate)) {
+      return;
+    }
 
-  private boolean overlaps(CellRangeAddress left, CellRangeAddress right) {
-    boolean rowsOverlap =
-        left.getFirstRow() <= right.getLastRow() && right.getFirstRow() <= left.getLastRow();
-    boolean colsOverlap =
-        left.getFirstColumn() <= right.getLastColumn()
-            && right.getFirstColumn() <= left.getLastColumn();
-    return rowsOverlap && colsOverlap;
+    addedRegions.add(candidate);
   }
 }
@@ -0,0 +1,675 @@
+package com.foo.excel.service.pipeline.report;
+
+import com.foo.excel.util.ExcelColumnUtil;
+import com.foo.excel.util.SecureExcelUtils;
+import com.foo.excel.validation.RowError;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * 원본 .xlsx 패키지를 파트 단위로 복사하면서 오류 표시만 덧붙여 전체 오류 리포트를 만든다.
+ *
+ * <p>워크북 객체 모델을 만들지 않는다. 데이터 시트 XML은 StAX 이벤트로 한 번 훑어 레이아웃(최대 컬럼, 마지막 행, 병합
+ * 영역, 오류 셀이 쓰는 스타일)을 모은 뒤 다시 한 번 흘려 쓰면서 오류 셀의 스타일 인덱스를 바꾸고 {@code _ERRORS} 셀,
+ * 안내문 행, 추가 병합 영역을 끼워 넣는다. styles.xml에는 ROSE 채우기를 더한 오류 스타일과 헤더, 안내문 스타일만
+ * 덧붙이고, 그 밖의 파트는 바이트 그대로 옮긴다. 새 문자열은 공유 문자열 표를 건드리지 않도록 인라인 문자열로 쓴다.
+ *
+ * <p>{@link #scan}으로 레이아웃을 읽고, 호출 측이 레이아웃을 보고 추가 병합 영역을 정한 뒤 {@link #write}로 리포트를
+ * 쓴다. 인스턴스는 리포트 하나에만 쓴다.
+ */
+final class StreamingErrorReportWriter {
+
+  private static final XMLInputFactory XML_INPUT_FACTORY =
+      SecureExcelUtils.newSecureXmlInputFactory();
+  private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+  private static final XMLEventFactory EVENTS = XMLEventFactory.newInstance();
+  private static final int MAX_ROW_INDEX = 1_048_575;
+
+  /** 스키마 순서상 mergeCells 뒤에 오는 worksheet 자식 요소이다. 원본에 mergeCells가 없으면 이 중 첫 요소 앞에 넣는다. */
+  private static final Set<String> ELEMENTS_AFTER_MERGE_CELLS =
+      Set.of(
+          "phoneticPr",
+          "conditionalFormatting",
+          "dataValidations",
+          "hyperlinks",
+          "printOptions",
+          "pageMargins",
+          "pageSetup",
+          "headerFooter",
+          "rowBreaks",
+          "colBreaks",
+          "customProperties",
+          "cellWatches",
+          "ignoredErrors",
+          "smartTags",
+          "drawing",
+          "legacyDrawing",
+          "legacyDrawingHF",
+          "drawingHF",
+          "picture",
+          "oleObjects",
+          "controls",
+          "webPublishItems",
+          "tableParts",
+          "extLst");
+
+  private final Path source;
+  private final ErrorRowIndex errorRows;
+  private final List<CellRangeAddress> sourceMergedRegions = new ArrayList<>();
+  private final Set<Integer> errorCellStyles = new TreeSet<>();
+  private String dataSheetEntry;
+  private String dataSheetName;
+  private String stylesEntry;
+  private int columnCount;
+  private int lastRowIndex = -1;
+  private int copiedRows;
+  private long copiedCells;
+
+  /**
+   * 스타일 파트에 덧붙인 스타일의 cellXfs 인덱스이다.
+   *
+   * @param errorStyles 원본 스타일 인덱스별 ROSE 채우기 스타일 인덱스
+   * @param headerStyle {@code _ERRORS} 헤더 셀의 굵은 글꼴 스타일 인덱스
+   * @param disclaimerStyle 안내문 셀의 회색 기울임 글꼴 스타일 인덱스
+   */
+  private record AddedStyles(Map<Integer, Integer> errorStyles, int headerStyle, int disclaimerStyle) {
+
+    int errorStyle(int sourceStyle) {
+      return errorStyles.getOrDefault(sourceStyle, sourceStyle);
+    }
+  }
+
+  private StreamingErrorReportWriter(Path source, List<RowError> rowErrors) {
+    this.source = source;
+    this.errorRows = ErrorRowIndex.of(rowErrors);
+  }
+
+  /**
+   * 패키지에서 데이터 시트와 스타일 파트를 찾고 데이터 시트 레이아웃을 읽는다.
+   *
+   * @param dataSheetIndex 0-based 데이터 시트 인덱스
+   * @param rowErrors 1-based 행 번호 기준 행 오류 목록
+   */
+  static StreamingErrorReportWriter scan(Path source, int dataSheetIndex, List<RowError> rowErrors)
+      throws IOException {
+    StreamingErrorReportWriter writer = new StreamingErrorReportWriter(source, rowErrors);
+    writer.locateParts(dataSheetIndex);
+    if (writer.stylesEntry != null) {
+      try (ZipSecureFile zip = new ZipSecureFile(source.toFile());
+          InputStream sheetStream = zip.getInputStream(zip.getEntry(writer.dataSheetEntry))) {
+        writer.scanDataSheet(sheetStream);
+      } catch (XMLStreamException e) {
+        throw new IOException("Failed to scan sheet XML: " + e.getMessage(), e);
+      }
+    }
+    return writer;
+  }
+
+  /** styles.xml이 없는 패키지는 스타일을 덧붙일 곳이 없으므로 이 방식으로 만들 수 없다. */
+  boolean hasStylesPart() {
+    return stylesEntry != null;
+  }
+
+  /** {@code _ERRORS} 컬럼의 0-based 인덱스이다. 데이터 시트의 어느 행보다도 오른쪽에 둔다. */
+  int errorColumnIndex() {
+    return columnCount;
+  }
+
+  List<CellRangeAddress> sourceMergedRegions() {
+    return sourceMergedRegions;
+  }
+
+  String dataSheetName() {
+    return dataSheetName;
+  }
+
+  int copiedRows() {
+    return copiedRows;
+  }
+
+  long copiedCells() {
+    return copiedCells;
+  }
+
+  /**
+   * 리포트를 쓴다.
+   *
+   * @param headerRowIndex {@code _ERRORS} 헤더를 붙일 0-based 행 인덱스
+   * @param addedMergedRegions 원본 병합 영역과 겹치지 않는 것으로 확인된 추가 병합 영역
+   */
+  void write(
+      Path target,
+      int headerRowIndex,
+      String errorColumnName,
+      List<CellRangeAddress> addedMergedRegions)
+      throws IOException {
+    try (ZipSecureFile zip = new ZipSecureFile(source.toFile());
+        ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(target))) {
+      // styles.xml이 시트보다 뒤에 올 수도 있으므로 스타일을 먼저 고쳐 두고 인덱스를 정한다.
+      ByteArrayOutputStream rewrittenStyles = new ByteArrayOutputStream();
+      AddedStyles addedStyles;
+      try (InputStream stylesStream = zip.getInputStream(zip.getEntry(stylesEntry))) {
+        addedStyles = rewriteStyles(stylesStream, rewrittenStyles);
+      }
+
+      Enumeration<ZipArchiveEntry> entries = zip.getEntries();
+      while (entries.hasMoreElements()) {
+        ZipArchiveEntry entry = entries.nextElement();
+        out.putNextEntry(new ZipEntry(entry.getName()));
+        try (InputStream in = zip.getInputStream(entry)) {
+          if (entry.getName().equals(stylesEntry)) {
+            rewrittenStyles.writeTo(out);
+          } else if (entry.getName().equals(dataSheetEntry)) {
+            rewriteDataSheet(
+                in, out, addedStyles, headerRowIndex, errorColumnName, addedMergedRegions);
+          } else {
+            in.transferTo(out);
+          }
+        }
+        out.closeEntry();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Failed to rewrite sheet XML: " + e.getMessage(), e);
+    }
+  }
+
+  private void locateParts(int dataSheetIndex) throws IOException {
+    try (OPCPackage pkg = SecureExcelUtils.openPackage(source)) {
+      XSSFReader reader = new XSSFReader(pkg);
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+      int currentSheet = 0;
+      while (sheets.hasNext()) {
+        try (InputStream ignored = sheets.next()) {
+          if (currentSheet == dataSheetIndex) {
+            dataSheetName = sheets.getSheetName();
+            dataSheetEntry = entryName(sheets.getSheetPart());
+            break;
+          }
+        }
+        currentSheet++;
+      }
+      if (dataSheetEntry == null) {
+        throw new IOException("Sheet index " + dataSheetIndex + " not found in workbook");
+      }
+      List<PackagePart> styleParts =
+          pkg.getPartsByContentType(XSSFRelation.STYLES.getContentType());
+      stylesEntry = styleParts.isEmpty() ? null : entryName(styleParts.get(0));
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Failed to locate workbook parts: " + e.getMessage(), e);
+    }
+  }
+
+  private static String entryName(PackagePart part) {
+    return part.getPartName().getName().substring(1);
+  }
+
+  private void scanDataSheet(InputStream sheetStream) throws XMLStreamException {
+    XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(sheetStream);
+    try {
+      int rowIndex = -1;
+      int columnIndex = -1;
+      boolean insideRow = false;
+      int errorPosition = -1;
+      while (xml.hasNext()) {
+        int event = xml.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          String name = xml.getLocalName();
+          if ("row".equals(name)) {
+            rowIndex = rowIndex(xml.getAttributeValue(null, "r"), rowIndex);
+            lastRowIndex = Math.max(lastRowIndex, rowIndex);
+            columnIndex = -1;
+            insideRow = true;
+            errorPosition = errorRows.position(rowIndex + 1);
+          } else if (insideRow && "c".equals(name)) {
+            columnIndex = columnIndex(xml.getAttributeValue(null, "r"), columnIndex);
+            columnCount = Math.max(columnCount, columnIndex + 1);
+            if (errorRows.hasErrorAt(errorPosition, columnIndex)) {
+              errorCellStyles.add(styleIndex(xml.getAttributeValue(null, "s")));
+            }
+          } else if ("mergeCell".equals(name)) {
+            String ref = xml.getAttributeValue(null, "ref");
+            if (ref != null && !ref.isBlank()) {
+              sourceMergedRegions.add(CellRangeAddress.valueOf(ref));
+            }
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+          insideRow = false;
+          errorPosition = -1;
+        }
+      }
+    } finally {
+      xml.close();
+    }
+  }
+
+  private void rewriteDataSheet(
+      InputStream in,
+      OutputStream out,
+      AddedStyles addedStyles,
+      int headerRowIndex,
+      String errorColumnName,
+      List<CellRangeAddress> addedMergedRegions)
+      throws XMLStreamException {
+    int errorColumn = columnCount;
+    int disclaimerRowIndex = lastRowIndex + 2;
+    boolean writeDisclaimer = disclaimerRowIndex <= MAX_ROW_INDEX;
+    List<CellRangeAddress> mergesToAdd = new ArrayList<>(addedMergedRegions);
+    // 한 칸짜리 병합 영역은 Excel이 거부하므로 안내문 병합은 두 칸 이상일 때만 둔다.
+    if (writeDisclaimer && errorColumn > 1) {
+      mergesToAdd.add(
+          new CellRangeAddress(disclaimerRowIndex, disclaimerRowIndex, 0, errorColumn - 1));
+    }
+
+    XMLEventReader reader = XML_INPUT_FACTORY.createXMLEventReader(in);
+    XMLEventWriter writer = XML_OUTPUT_FACTORY.createXMLEventWriter(out, "UTF-8");
+    try {
+      SheetXml sheet = new SheetXml(writer);
+      boolean mergesWritten = mergesToAdd.isEmpty();
+      int depth = 0;
+      int rowIndex = -1;
+      int columnIndex = -1;
+      boolean insideRow = false;
+      int errorPosition = -1;
+
+      while (reader.hasNext()) {
+        XMLEvent event = reader.nextEvent();
+        if (event.isStartElement()) {
+          StartElement start = event.asStartElement();
+          String name = start.getName().getLocalPart();
+          depth++;
+          if (depth == 2 && !mergesWritten && ELEMENTS_AFTER_MERGE_CELLS.contains(name)) {
+            sheet.writeMergeCells(mergesToAdd);
+            mergesWritten = true;
+          }
+
+          if (depth == 1) {
+            sheet.bindNamespace(start);
+            writer.add(event);
+          } else if ("dimension".equals(name)) {
+            writer.add(
+                withAttribute(
+                    start, "ref", dimensionRef(start, errorColumn, writeDisclaimer)));
+          } else if ("row".equals(name)) {
+            rowIndex = rowIndex(attributeValue(start, "r"), rowIndex);
+            columnIndex = -1;
+            insideRow = true;
+            errorPosition = errorRows.position(rowIndex + 1);
+            copiedRows++;
+            boolean appendsCell = errorPosition >= 0 || rowIndex == headerRowIndex;
+            // 셀을 덧붙이는 행은 spans 힌트가 맞지 않게 되므로 뺀다.
+            writer.add(appendsCell ? withAttribute(start, "spans", null) : event);
+          } else if (insideRow && "c".equals(name)) {
+            columnIndex = columnIndex(attributeValue(start, "r"), columnIndex);
+            copiedCells++;
+            if (errorRows.hasErrorAt(errorPosition, columnIndex)) {
+              int style = styleIndex(attributeValue(start, "s"));
+              writer.add(
+                  withAttribute(start, "s", String.valueOf(addedStyles.errorStyle(style))));
+            } else {
+              writer.add(event);
+            }
+          } else if ("mergeCells".equals(name)) {
+            writer.add(
+                withAttribute(
+                    start,
+                    "count",
+                    String.valueOf(sourceMergedRegions.size() + mergesToAdd.size())));
+          } else {
+            writer.add(event);
+          }
+        } else if (event.isEndElement()) {
+          String name = event.asEndElement().getName().getLocalPart();
+          if (insideRow && "row".equals(name)) {
+            if (errorPosition >= 0) {
+              sheet.writeInlineStringCell(
+                  rowIndex,
+                  errorColumn,
+                  -1,
+                  SecureExcelUtils.sanitizeForExcelCell(
+                      errorRows.rowError(errorPosition).getFormattedMessage()));
+            } else if (rowIndex == headerRowIndex) {
+              sheet.writeInlineStringCell(
+                  rowIndex, errorColumn, addedStyles.headerStyle(), errorColumnName);
+            }
+            insideRow = false;
+            errorPosition = -1;
+          } else if ("sheetData".equals(name) && writeDisclaimer) {
+            sheet.writeDisclaimerRow(disclaimerRowIndex, addedStyles.disclaimerStyle());
+          } else if ("mergeCells".equals(name)) {
+            sheet.writeMergeCellElements(mergesToAdd);
+            mergesWritten = true;
+          } else if (depth == 1 && !mergesWritten) {
+            sheet.writeMergeCells(mergesToAdd);
+            mergesWritten = true;
+          }
+          writer.add(event);
+          depth--;
+        } else {
+          writer.add(event);
+        }
+      }
+      writer.flush();
+    } finally {
+      writer.close();
+      reader.close();
+    }
+  }
+
+  /** styles.xml에 오류, 헤더, 안내문 스타일을 덧붙여 {@code out}에 쓴다. */
+  private AddedStyles rewriteStyles(InputStream in, OutputStream out) throws IOException {
+    try {
+      Document document = XMLHelper.newDocumentBuilder().parse(in);
+      Element root = document.getDocumentElement();
+      Element fonts = requireChild(root, "fonts");
+      Element fills = requireChild(root, "fills");
+      Element cellXfs = requireChild(root, "cellXfs");
+
+      Element roseFill = newElement(root, "fill");
+      Element patternFill = newElement(root, "patternFill");
+      patternFill.setAttribute("patternType", "solid");
+      Element foreground = newElement(root, "fgColor");
+      foreground.setAttribute("indexed", String.valueOf(IndexedColors.ROSE.getIndex()));
+      Element background = newElement(root, "bgColor");
+      background.setAttribute("indexed", String.valueOf(IndexedColors.AUTOMATIC.getIndex()));
+      patternFill.appendChild(foreground);
+      patternFill.appendChild(background);
+      roseFill.appendChild(patternFill);
+      int roseFillId = appendCounted(fills, roseFill);
+
+      Element baseFont = firstChild(fonts, "font");
+      Element boldFont = derivedFont(root, baseFont);
+      boldFont.insertBefore(newElement(root, "b"), boldFont.getFirstChild());
+      int boldFontId = appendCounted(fonts, boldFont);
+
+      Element greyItalicFont = derivedFont(root, baseFont);
+      Element grey = newElement(root, "color");
+      grey.setAttribute("indexed", String.valueOf(IndexedColors.GREY_50_PERCENT.getIndex()));
+      greyItalicFont.insertBefore(grey, greyItalicFont.getFirstChild());
+      greyItalicFont.insertBefore(newElement(root, "i"), greyItalicFont.getFirstChild());
+      int greyItalicFontId = appendCounted(fonts, greyItalicFont);
+
+      List<Element> xfs = children(cellXfs, "xf");
+      Map<Integer, Integer> errorStyles = new HashMap<>();
+      for (int sourceStyle : errorCellStyles) {
+        if (sourceStyle >= xfs.size()) {
+          continue;
+        }
+        Element errorXf = (Element) xfs.get(sourceStyle).cloneNode(true);
+        errorXf.setAttribute("fillId", String.valueOf(roseFillId));
+        errorXf.setAttribute("applyFill", "1");
+        errorStyles.put(sourceStyle, appendCounted(cellXfs, errorXf));
+      }
+      int headerStyle = appendCounted(cellXfs, fontOnlyXf(root, boldFontId));
+      int disclaimerStyle = appendCounted(cellXfs, fontOnlyXf(root, greyItalicFontId));
+
+      document.setXmlStandalone(true);
+      Transformer transformer = XMLHelper.newTransformer();
+      transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+      transformer.setOutputProperty(OutputKeys.INDENT, "no");
+      transformer.transform(new DOMSource(document), new StreamResult(out));
+      return new AddedStyles(errorStyles, headerStyle, disclaimerStyle);
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Failed to rewrite styles.xml: " + e.getMessage(), e);
+    }
+  }
+
+  private static Element requireChild(Element parent, String localName) throws IOException {
+    Element child = firstChild(parent, localName);
+    if (child == null) {
+      throw new IOException("styles.xml has no " + localName + " element");
+    }
+    return child;
+  }
+
+  private static Element firstChild(Element parent, String localName) {
+    for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+      if (node instanceof Element element && localName.equals(element.getLocalName())) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  private static List<Element> children(Element parent, String localName) {
+    List<Element> children = new ArrayList<>();
+    for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+      if (node instanceof Element element && localName.equals(element.getLocalName())) {
+        children.add(element);
+      }
+    }
+    return children;
+  }
+
+  /** 자식 요소를 덧붙이고 count 속성을 고친 뒤 덧붙인 요소의 0-based 인덱스를 반환한다. */
+  private static int appendCounted(Element parent, Element child) {
+    int index = children(parent, child.getLocalName()).size();
+    parent.appendChild(child);
+    parent.setAttribute("count", String.valueOf(index + 1));
+    return index;
+  }
+
+  private static Element newElement(Element root, String localName) {
+    String prefix = root.getPrefix();
+    String qualifiedName = prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    return root.getOwnerDocument().createElementNS(root.getNamespaceURI(), qualifiedName);
+  }
+
+  /** 기본 글꼴을 복제하고 굵게, 기울임, 색 지정을 걷어낸다. */
+  private static Element derivedFont(Element root, Element baseFont) {
+    if (baseFont == null) {
+      return newElement(root, "font");
+    }
+    Element font = (Element) baseFont.cloneNode(true);
+    for (String property : List.of("b", "i", "color")) {
+      for (Element child : children(font, property)) {
+        font.removeChild(child);
+      }
+    }
+    return font;
+  }
+
+  private static Element fontOnlyXf(Element root, int fontId) {
+    Element xf = newElement(root, "xf");
+    xf.setAttribute("numFmtId", "0");
+    xf.setAttribute("fontId", String.valueOf(fontId));
+    xf.setAttribute("fillId", "0");
+    xf.setAttribute("borderId", "0");
+    xf.setAttribute("xfId", "0");
+    xf.setAttribute("applyFont", "1");
+    return xf;
+  }
+
+  private String dimensionRef(StartElement dimension, int errorColumn, boolean writeDisclaimer) {
+    int lastRow = writeDisclaimer ? lastRowIndex + 2 : Math.max(lastRowIndex, 0);
+    String ref = attributeValue(dimension, "ref");
+    int firstRow = 0;
+    int firstColumn = 0;
+    int lastColumn = errorColumn;
+    if (ref != null && !ref.isBlank()) {
+      CellRangeAddress original = CellRangeAddress.valueOf(ref);
+      firstRow = Math.max(original.getFirstRow(), 0);
+      firstColumn = Math.max(original.getFirstColumn(), 0);
+      lastRow = Math.max(lastRow, original.getLastRow());
+      lastColumn = Math.max(lastColumn, original.getLastColumn());
+    }
+    return new CellRangeAddress(
+            Math.min(firstRow, lastRow), lastRow, Math.min(firstColumn, lastColumn), lastColumn)
+        .formatAsString();
+  }
+
+  private static int rowIndex(String rowRef, int previousRowIndex) {
+    if (rowRef == null || rowRef.isEmpty()) {
+      return previousRowIndex + 1;
+    }
+    return Integer.parseInt(rowRef) - 1;
+  }
+
+  private static int columnIndex(String cellRef, int previousColumnIndex) {
+    if (cellRef == null || cellRef.isEmpty()) {
+      return previousColumnIndex + 1;
+    }
+    int letters = 0;
+    while (letters < cellRef.length() && Character.isLetter(cellRef.charAt(letters))) {
+      letters++;
+    }
+    return ExcelColumnUtil.letterToIndex(cellRef.substring(0, letters));
+  }
+
+  private static int styleIndex(String styleRef) {
+    return styleRef == null || styleRef.isEmpty() ? 0 : Integer.parseInt(styleRef);
+  }
+
+  private static String attributeValue(StartElement start, String localName) {
+    Attribute attribute = start.getAttributeByName(new QName(localName));
+    return attribute == null ? null : attribute.getValue();
+  }
+
+  /** 속성 하나를 바꾸거나({@code value}가 null이면 빼고) 나머지 속성과 네임스페이스는 그대로 둔 시작 요소를 만든다. */
+  private static StartElement withAttribute(StartElement start, String localName, String value) {
+    List<Attribute> attributes = new ArrayList<>();
+    boolean replaced = false;
+    for (Iterator<Attribute> it = start.getAttributes(); it.hasNext(); ) {
+      Attribute attribute = it.next();
+      if (attribute.getName().getNamespaceURI().isEmpty()
+          && localName.equals(attribute.getName().getLocalPart())) {
+        replaced = true;
+        if (value != null) {
+          attributes.add(EVENTS.createAttribute(localName, value));
+        }
+      } else {
+        attributes.add(attribute);
+      }
+    }
+    if (!replaced && value != null) {
+      attributes.add(EVENTS.createAttribute(localName, value));
+    }
+    return EVENTS.createStartElement(start.getName(), attributes.iterator(), start.getNamespaces());
+  }
+
+  /** worksheet 요소의 네임스페이스로 새 요소를 쓴다. */
+  private static final class SheetXml {
+
+    private final XMLEventWriter writer;
+    private String prefix = "";
+    private String namespace = "";
+
+    private SheetXml(XMLEventWriter writer) {
+      this.writer = writer;
+    }
+
+    void bindNamespace(StartElement worksheet) {
+      prefix = worksheet.getName().getPrefix();
+      namespace = worksheet.getName().getNamespaceURI();
+    }
+
+    void writeInlineStringCell(int rowIndex, int columnIndex, int style, String text)
+        throws XMLStreamException {
+      List<Attribute> attributes = new ArrayList<>(3);
+      attributes.add(
+          EVENTS.createAttribute(
+              "r", ExcelColumnUtil.indexToLetter(columnIndex) + (rowIndex + 1)));
+      if (style >= 0) {
+        attributes.add(EVENTS.createAttribute("s", String.valueOf(style)));
+      }
+      attributes.add(EVENTS.createAttribute("t", "inlineStr"));
+      writer.add(EVENTS.createStartElement(prefix, namespace, "c", attributes.iterator(), null));
+      start("is");
+      start("t");
+      writer.add(EVENTS.createCharacters(text));
+      end("t");
+      end("is");
+      end("c");
+    }
+
+    void writeDisclaimerRow(int rowIndex, int style) throws XMLStreamException {
+      writer.add(
+          EVENTS.createStartElement(
+              prefix,
+              namespace,
+              "row",
+              List.of(EVENTS.createAttribute("r", String.valueOf(rowIndex + 1))).iterator(),
+              null));
+      writeInlineStringCell(rowIndex, 0, style, ExcelErrorReportService.DISCLAIMER_TEXT);
+      end("row");
+    }
+
+    void writeMergeCells(List<CellRangeAddress> regions) throws XMLStreamException {
+      writer.add(
+          EVENTS.createStartElement(
+              prefix,
+              namespace,
+              "mergeCells",
+              List.of(EVENTS.createAttribute("count", String.valueOf(regions.size()))).iterator(),
+              null));
+      writeMergeCellElements(regions);
+      end("mergeCells");
+    }
+
+    void writeMergeCellElements(List<CellRangeAddress> regions) throws XMLStreamException {
+      for (CellRangeAddress region : regions) {
+        writer.add(
+            EVENTS.createStartElement(
+                prefix,
+                namespace,
+                "mergeCell",
+                List.of(EVENTS.createAttribute("ref", region.formatAsString())).iterator(),
+                null));
+        end("mergeCell");
+      }
+    }
+
+    private void start(String localName) throws XMLStreamException {
+      writer.add(EVENTS.createStartElement(prefix, namespace, localName));
+    }
+
+    private void end(String localName) throws XMLStreamException {
+      writer.add(EVENTS.createEndElement(prefix, namespace, localName));
+    }
+  }
+}
@@ -1,7 +1,7 @@
 package com.foo.excel.service.pipeline.validation;
 
 import com.foo.excel.annotation.ExcelColumn;
-import com.foo.excel.util.ExcelColumnUtil;
+import com.foo.excel.service.contract.ImportSchema;
 import com.foo.excel.validation.CellError;
 import com.foo.excel.validation.ExcelColumnRef;
 import com.foo.excel.validation.ExcelValidationResult;
@@ -10,7 +10,6 @@ import com.foo.excel.validation.RowErrorAccumulator;
 import com.foo.excel.validation.WithinFileUniqueConstraintValidator;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -28,10 +27,29 @@ public class ExcelValidationService {
 
   public <T> ExcelValidationResult validate(
       List<T> rows, Class<T> rowClass, List<Integer> sourceRowNumbers, int maxErrorRows) {
-    List<RowError> allErrors = new ArrayList<>();
-    boolean truncated = false;
+    List<RowError> constraintErrors =
+        validateConstraints(rows, rowClass, sourceRowNumbers, maxErrorRows);
+    return completeValidation(
+        rows,
+        rowClass,
+        sourceRowNumbers,
+        constraintErrors,
+        hasReachedErrorLimit(constraintErrors.size(), maxErrorRows),
+        maxErrorRows);
+  }
 
-    // 1차: JSR-380 검증
+  /**
+   * JSR-380 검증(1차)만 수행한다.
+   *
+   * <p>행 단위로 독립적인 검사이므로 파이프라인 모드에서는 청크마다 호출한다. 오류 행 수가 {@code maxErrorRows}에
+   * 도달하면 즉시 멈춘다.
+   *
+   * @param maxErrorRows 이번 호출에서 수집할 최대 오류 행 수, 0 이하 또는 {@link Integer#MAX_VALUE}이면 제한 없음
+   * @return 행 번호 순서의 오류 목록(수정 가능)
+   */
+  public <T> List<RowError> validateConstraints(
+      List<T> rows, Class<T> rowClass, List<Integer> sourceRowNumbers, int maxErrorRows) {
+    List<RowError> errors = new ArrayList<>();
     for (int i = 0; i < rows.size(); i++) {
       T row = rows.get(i);
       int rowNumber = sourceRowNumbers.get(i);
@@ -46,13 +64,32 @@ public class ExcelValidationService {
           cellErrors.add(cellError);
         }
 
-        allErrors.add(RowError.builder().rowNumber(rowNumber).cellErrors(cellErrors).build());
-        if (hasReachedErrorLimit(allErrors.size(), maxErrorRows)) {
-          truncated = true;
+        errors.add(RowError.builder().rowNumber(rowNumber).cellErrors(cellErrors).build());
+        if (hasReachedErrorLimit(errors.size(), maxErrorRows)) {
           break;
         }
       }
     }
+    return errors;
+  }
+
+  /**
+   * 1차 검증 결과에 파일 내 유일성 검증(2차)을 더해 최종 결과를 만든다.
+   *
+   * <p>유일성 검사는 전체 행이 필요하므로 파이프라인 모드에서도 마지막 청크까지 받은 뒤 한 번만 호출한다.
+   *
+   * @param constraintErrors {@link #validateConstraints} 결과를 모은 목록, 병합 결과로 교체된다
+   * @param constraintTruncated 1차 검증이 오류 행 한도에 걸려 중단되었는지 여부
+   */
+  public <T> ExcelValidationResult completeValidation(
+      List<T> rows,
+      Class<T> rowClass,
+      List<Integer> sourceRowNumbers,
+      List<RowError> constraintErrors,
+      boolean constraintTruncated,
+      int maxErrorRows) {
+    List<RowError> allErrors = constraintErrors;
+    boolean truncated = constraintTruncated;
 
     if (!hasReachedErrorLimit(allErrors.size(), maxErrorRows)) {
       // 2차: 파일 내 유일성 검증
@@ -93,7 +130,8 @@ public class ExcelValidationService {
   private <T> CellError mapViolationToCellError(
       String fieldName, ConstraintViolation<T> violation, Class<T> rowClass) {
 
-    ExcelColumn excelColumn = findExcelColumn(fieldName, rowClass);
+    ImportSchema.ColumnSchema column = ImportSchema.of(rowClass).findColumn(fieldName);
+    ExcelColumn excelColumn = column != null ? column.annotation() : null;
 
     int columnIndex = -1;
     ExcelColumnRef columnRef = ExcelColumnRef.unknown();
@@ -101,9 +139,9 @@ public class ExcelValidationService {
 
     if (excelColumn != null) {
       headerName = excelColumn.label();
-      if (!excelColumn.column().isEmpty()) {
-        columnIndex = ExcelColumnUtil.letterToIndex(excelColumn.column());
-        columnRef = ExcelColumnRef.ofLetter(excelColumn.column());
+      if (column.columnRef() != null) {
+        columnIndex = column.columnIndex();
+        columnRef = column.columnRef();
       }
     }
 
@@ -122,19 +160,6 @@ public class ExcelValidationService {
         .build();
   }
 
-  private ExcelColumn findExcelColumn(String fieldName, Class<?> rowClass) {
-    Class<?> current = rowClass;
-    while (current != null && current != Object.class) {
-      try {
-        Field field = current.getDeclaredField(fieldName);
-        return field.getAnnotation(ExcelColumn.class);
-      } catch (NoSuchFieldException e) {
-        current = current.getSuperclass();
-      }
-    }
-    return null;
-  }
-
   private void mergeErrors(List<RowError> target, List<RowError> source) {
     RowErrorAccumulator accumulator = new RowErrorAccumulator(target);
     accumulator.addAll(source);
@@ -0,0 +1,207 @@
+package com.foo.excel.util;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * 병합 영역을 행 단위 구간 목록으로 펼쳐 둔 조회 전용 인덱스이다.
+ *
+ * <p>병합 영역이 걸친 행마다 {@code [firstColumn, lastColumn]} 구간을 시작 컬럼 순으로 정렬해 기본형 배열에 담는다.
+ * 셀 조회와 겹침 검사는 행 이진 탐색과 해당 행 구간의 이진 탐색으로 끝나므로 병합 영역 개수와 무관하다. 병합 셀 하나마다
+ * 맵 항목을 만들지 않고, 행 하나에 걸친 영역은 구간 하나로만 표현한다.
+ *
+ * <p>한 행 안의 병합 구간은 서로 겹치지 않는다고 가정한다. Excel과 POI는 겹치는 병합 영역을 허용하지 않는다. xlsx 시트
+ * 범위를 벗어나거나 뒤집힌 영역은 영역 번호만 차지하고 조회 대상에서는 빠진다.
+ */
+public final class MergedRegionIndex {
+
+  private static final int COLUMN_BITS = 14;
+  private static final int REGION_BITS = 29;
+  private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+  private static final int MAX_COLUMNS = SpreadsheetVersion.EXCEL2007.getMaxColumns();
+  private static final MergedRegionIndex EMPTY = new MergedRegionIndex(List.of());
+
+  private final int[] firstRows;
+  private final int[] lastRows;
+  private final int[] firstColumns;
+  private final int[] lastColumns;
+
+  /** 구간이 있는 행 번호(오름차순)와 각 행의 구간 시작 위치이다. */
+  private final int[] rowKeys;
+  private final int[] rowStarts;
+
+  /** 행별로 시작 컬럼 순으로 정렬한 구간이다. */
+  private final int[] intervalFirstColumns;
+  private final int[] intervalLastColumns;
+  private final int[] intervalRegions;
+
+  private MergedRegionIndex(List<CellRangeAddress> regions) {
+    int regionCount = regions.size();
+    firstRows = new int[regionCount];
+    lastRows = new int[regionCount];
+    firstColumns = new int[regionCount];
+    lastColumns = new int[regionCount];
+
+    boolean[] indexed = new boolean[regionCount];
+    long intervalCount = 0;
+    for (int i = 0; i < regionCount; i++) {
+      CellRangeAddress region = regions.get(i);
+      firstRows[i] = region.getFirstRow();
+      lastRows[i] = region.getLastRow();
+      firstColumns[i] = region.getFirstColumn();
+      lastColumns[i] = region.getLastColumn();
+      indexed[i] = isWithinSheetBounds(region);
+      if (indexed[i]) {
+        intervalCount += lastRows[i] - firstRows[i] + 1;
+      }
+    }
+    if (intervalCount > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Too many merged region rows: " + intervalCount);
+    }
+
+    // (행, 시작 컬럼, 영역 번호)를 long 하나로 묶어 기본형 정렬로 행-컬럼 순서를 만든다.
+    long[] keys = new long[(int) intervalCount];
+    int cursor = 0;
+    for (int i = 0; i < regionCount; i++) {
+      if (!indexed[i]) {
+        continue;
+      }
+      for (int row = firstRows[i]; row <= lastRows[i]; row++) {
+        keys[cursor++] =
+            ((long) row << (COLUMN_BITS + REGION_BITS))
+                | ((long) firstColumns[i] << REGION_BITS)
+                | i;
+      }
+    }
+    Arrays.sort(keys);
+
+    intervalFirstColumns = new int[keys.length];
+    intervalLastColumns = new int[keys.length];
+    intervalRegions = new int[keys.length];
+    int[] rowKeyBuffer = new int[keys.length];
+    int[] rowStartBuffer = new int[keys.length + 1];
+    int rowCount = 0;
+    for (int i = 0; i < keys.length; i++) {
+      int row = (int) (keys[i] >>> (COLUMN_BITS + REGION_BITS));
+      int region = (int) (keys[i] & ((1L << REGION_BITS) - 1));
+      if (rowCount == 0 || rowKeyBuffer[rowCount - 1] != row) {
+        rowKeyBuffer[rowCount] = row;
+        rowStartBuffer[rowCount] = i;
+        rowCount++;
+      }
+      intervalFirstColumns[i] = firstColumns[region];
+      intervalLastColumns[i] = lastColumns[region];
+      intervalRegions[i] = region;
+    }
+    rowStartBuffer[rowCount] = keys.length;
+    rowKeys = Arrays.copyOf(rowKeyBuffer, rowCount);
+    rowStarts = Arrays.copyOf(rowStartBuffer, rowCount + 1);
+  }
+
+  /** 병합 영역 목록으로 인덱스를 만든다. 영역 번호는 목록 순서를 따른다. */
+  public static MergedRegionIndex of(List<CellRangeAddress> regions) {
+    return regions.isEmpty() ? EMPTY : new MergedRegionIndex(regions);
+  }
+
+  public int size() {
+    return firstRows.length;
+  }
+
+  public boolean isEmpty() {
+    return firstRows.length == 0;
+  }
+
+  /**
+   * 셀을 덮는 병합 영역 번호를 반환한다.
+   *
+   * @param rowIndex 0-based 행 인덱스
+   * @param columnIndex 0-based 컬럼 인덱스
+   * @return 영역 번호, 병합 영역에 속하지 않으면 -1
+   */
+  public int regionAt(int rowIndex, int columnIndex) {
+    int rowSlot = Arrays.binarySearch(rowKeys, rowIndex);
+    if (rowSlot < 0) {
+      return -1;
+    }
+    int interval = lastIntervalStartingAtOrBefore(rowSlot, columnIndex);
+    if (interval < 0 || intervalLastColumns[interval] < columnIndex) {
+      return -1;
+    }
+    return intervalRegions[interval];
+  }
+
+  /** 지정한 범위와 한 셀이라도 겹치는 병합 영역이 있는지 확인한다. */
+  public boolean overlaps(int firstRow, int lastRow, int firstColumn, int lastColumn) {
+    int rowSlot = lowerBound(rowKeys, firstRow);
+    for (; rowSlot < rowKeys.length && rowKeys[rowSlot] <= lastRow; rowSlot++) {
+      int interval = lastIntervalStartingAtOrBefore(rowSlot, lastColumn);
+      if (interval >= 0 && intervalLastColumns[interval] >= firstColumn) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean overlaps(CellRangeAddress range) {
+    return overlaps(
+        range.getFirstRow(), range.getLastRow(), range.getFirstColumn(), range.getLastColumn());
+  }
+
+  public int firstRow(int region) {
+    return firstRows[region];
+  }
+
+  public int lastRow(int region) {
+    return lastRows[region];
+  }
+
+  public int firstColumn(int region) {
+    return firstColumns[region];
+  }
+
+  public int lastColumn(int region) {
+    return lastColumns[region];
+  }
+
+  /** 행 안에서 시작 컬럼이 {@code columnIndex} 이하인 마지막 구간 위치를 찾는다. 없으면 -1이다. */
+  private int lastIntervalStartingAtOrBefore(int rowSlot, int columnIndex) {
+    int low = rowStarts[rowSlot];
+    int high = rowStarts[rowSlot + 1] - 1;
+    int found = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (intervalFirstColumns[mid] <= columnIndex) {
+        found = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return found;
+  }
+
+  private static int lowerBound(int[] sorted, int key) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sorted[mid] < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static boolean isWithinSheetBounds(CellRangeAddress region) {
+    return region.getFirstRow() >= 0
+        && region.getFirstRow() <= region.getLastRow()
+        && region.getLastRow() < MAX_ROWS
+        && region.getFirstColumn() >= 0
+        && region.getFirstColumn() <= region.getLastColumn()
+        && region.getLastColumn() < MAX_COLUMNS;
+  }
+}
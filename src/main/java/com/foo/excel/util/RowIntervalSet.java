@@ -0,0 +1,101 @@
+package com.foo.excel.util;
+
+import java.util.Arrays;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * 병합 영역을 하나씩 추가하면서 겹침을 확인하는 행 단위 구간 집합이다.
+ *
+ * <p>{@link MergedRegionIndex}는 한 번 만든 뒤 조회만 하지만, 이 집합은 추가한 영역끼리의 겹침을 확인해야 할 때 쓴다. 행마다
+ * {@code [firstColumn, lastColumn]} 구간을 시작 컬럼 순 기본형 배열로 담으므로 겹침 검사와 추가는 영역이 걸친 행 수와 그
+ * 행의 구간 수에만 비례한다. 한 행의 구간 수는 컬럼 수를 넘지 않으므로 영역 N개를 추가하는 비용은 N에 선형이다.
+ *
+ * <p>영역은 걸친 행마다 구간 하나로 담으므로 높이가 H인 영역의 검사와 추가는 O(H)이고 메모리도 H에 비례한다. 오류
+ * 리포트의 병합 영역은 헤더 몇 행이나 데이터 한 행에 걸치므로 이 비용이 작지만, 수만 행에 걸친 영역이 많은 시트에는 맞지
+ * 않는다.
+ *
+ * <p>음수 행이나 컬럼이 포함된 영역은 담지 않고 겹침도 없다고 본다. 이런 영역은 POI가 시트에 추가할 때 거부한다.
+ */
+public final class RowIntervalSet {
+
+  private static final int[] NO_INTERVALS = new int[0];
+
+  /** 행별 구간을 {@code [first0, last0, first1, last1, ...]} 순서로 담는다. */
+  private int[][] rowIntervals = new int[16][];
+
+  private int[] rowCounts = new int[16];
+
+  /** 한 셀이라도 겹치는 구간이 있으면 true이다. */
+  public boolean overlaps(CellRangeAddress range) {
+    if (!isIndexable(range)) {
+      return false;
+    }
+    int lastRow = Math.min(range.getLastRow(), rowIntervals.length - 1);
+    for (int row = range.getFirstRow(); row <= lastRow; row++) {
+      if (insertionPoint(row, range.getFirstColumn(), range.getLastColumn()) < 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 겹치는 구간이 없을 때만 영역을 추가한다.
+   *
+   * @return 추가했으면 true
+   */
+  public boolean addIfDisjoint(CellRangeAddress range) {
+    if (!isIndexable(range) || overlaps(range)) {
+      return false;
+    }
+    ensureRowCapacity(range.getLastRow());
+    for (int row = range.getFirstRow(); row <= range.getLastRow(); row++) {
+      insert(row, range.getFirstColumn(), range.getLastColumn());
+    }
+    return true;
+  }
+
+  /** 구간을 넣을 위치(구간 번호)를 반환한다. 기존 구간과 겹치면 -1이다. */
+  private int insertionPoint(int row, int firstColumn, int lastColumn) {
+    int[] intervals = rowIntervals[row];
+    int count = rowCounts[row];
+    int slot = 0;
+    while (slot < count && intervals[slot * 2] <= lastColumn) {
+      if (intervals[slot * 2 + 1] >= firstColumn) {
+        return -1;
+      }
+      slot++;
+    }
+    return slot;
+  }
+
+  private void insert(int row, int firstColumn, int lastColumn) {
+    int slot = insertionPoint(row, firstColumn, lastColumn);
+    int[] intervals = rowIntervals[row] == null ? NO_INTERVALS : rowIntervals[row];
+    int count = rowCounts[row];
+    if ((count + 1) * 2 > intervals.length) {
+      intervals = Arrays.copyOf(intervals, Math.max(4, intervals.length * 2));
+    }
+    System.arraycopy(intervals, slot * 2, intervals, slot * 2 + 2, (count - slot) * 2);
+    intervals[slot * 2] = firstColumn;
+    intervals[slot * 2 + 1] = lastColumn;
+    rowIntervals[row] = intervals;
+    rowCounts[row] = count + 1;
+  }
+
+  private void ensureRowCapacity(int row) {
+    if (row < rowIntervals.length) {
+      return;
+    }
+    int capacity = Math.max(row + 1, rowIntervals.length * 2);
+    rowIntervals = Arrays.copyOf(rowIntervals, capacity);
+    rowCounts = Arrays.copyOf(rowCounts, capacity);
+  }
+
+  private static boolean isIndexable(CellRangeAddress range) {
+    return range.getFirstRow() >= 0
+        && range.getFirstColumn() >= 0
+        && range.getFirstRow() <= range.getLastRow()
+        && range.getFirstColumn() <= range.getLastColumn();
+  }
+}
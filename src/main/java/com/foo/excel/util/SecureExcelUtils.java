@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
+import java.util.function.Consumer;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamReader;
@@ -78,6 +79,38 @@ public final class SecureExcelUtils {
     return createWorkbook(path.toFile());
   }
 
+  /**
+   * 보안 검증을 거친 뒤 xlsx 파일을 읽기 전용 OPCPackage로 연다.
+   *
+   * <p>XSSFReader 기반 스트리밍 처리에서 사용한다. 반환된 패키지는 호출자가 닫아야 한다.
+   *
+   * @param path Excel 파일 경로
+   * @return 읽기 전용 OPCPackage
+   * @throws IOException 파일을 읽을 수 없거나 유효하지 않은 경우
+   * @throws SecurityException 파일이 보안 검증을 통과하지 못한 경우
+   */
+  public static OPCPackage openPackage(Path path) throws IOException {
+    validateFileContent(path);
+
+    try {
+      return OPCPackage.open(path.toFile(), PackageAccess.READ);
+    } catch (Exception e) {
+      throw new IOException("Failed to open XLSX file securely: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 외부 엔티티와 DTD 처리를 비활성화한 StAX 팩토리를 생성한다.
+   *
+   * @return XXE 공격을 차단하도록 설정된 XMLInputFactory
+   */
+  public static XMLInputFactory newSecureXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    return factory;
+  }
+
   /**
    * 파일 내용이 확장자와 일치하는지 검증한다.
    *
@@ -247,29 +280,49 @@ public final class SecureExcelUtils {
   }
 
   private static int countRowsWithCells(InputStream sheetStream) throws IOException {
+    return scanSheetRows(sheetStream, Integer.MAX_VALUE, null);
+  }
+
+  /**
+   * 보안 StAX 파서로 시트 XML을 한 번 읽어 셀이 있는 행 수를 세고, 병합 영역 참조를 넘긴다.
+   *
+   * <p>행 수 사전 점검과 스트리밍 파싱의 레이아웃 패스가 같은 기준(c 요소를 하나 이상 가진 row 요소)으로 세도록 두
+   * 경로 모두 이 메서드를 쓴다. 셀이 있는 행 수가 상한을 넘으면 나머지를 읽지 않고 바로 돌아온다.
+   *
+   * @param sheetStream 시트 XML 스트림
+   * @param rowCountLimit 셀이 있는 행 수 상한, 제한이 없으면 {@link Integer#MAX_VALUE}
+   * @param mergeCellRefs mergeCell 요소의 ref 값을 받을 콜백, 필요 없으면 null
+   * @return 셀이 있는 row 요소 개수, 상한을 넘어 멈췄으면 {@code rowCountLimit + 1}
+   * @throws IOException 시트 XML을 읽거나 해석할 수 없는 경우
+   */
+  public static int scanSheetRows(
+      InputStream sheetStream, int rowCountLimit, Consumer<String> mergeCellRefs)
+      throws IOException {
     XMLStreamReader xmlReader = null;
     try {
-      XMLInputFactory factory = XMLInputFactory.newInstance();
-      factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-      factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-
-      xmlReader = factory.createXMLStreamReader(sheetStream);
+      xmlReader = newSecureXmlInputFactory().createXMLStreamReader(sheetStream);
       int rowCount = 0;
       boolean insideRow = false;
       boolean rowHasCell = false;
       while (xmlReader.hasNext()) {
         int event = xmlReader.next();
         if (event == XMLStreamConstants.START_ELEMENT) {
-          if ("row".equals(xmlReader.getLocalName())) {
+          String localName = xmlReader.getLocalName();
+          if ("row".equals(localName)) {
             insideRow = true;
             rowHasCell = false;
-          } else if (insideRow && "c".equals(xmlReader.getLocalName())) {
+          } else if (insideRow && "c".equals(localName)) {
             rowHasCell = true;
+          } else if (mergeCellRefs != null && "mergeCell".equals(localName)) {
+            String ref = xmlReader.getAttributeValue(null, "ref");
+            if (ref != null && !ref.isBlank()) {
+              mergeCellRefs.accept(ref);
+            }
           }
         } else if (event == XMLStreamConstants.END_ELEMENT
             && "row".equals(xmlReader.getLocalName())) {
-          if (rowHasCell) {
-            rowCount++;
+          if (rowHasCell && ++rowCount > rowCountLimit) {
+            return rowCount;
           }
           insideRow = false;
           rowHasCell = false;
@@ -1,7 +1,5 @@
 package com.foo.excel.util;
 
-import java.util.HashMap;
-import java.util.Map;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.poi.ss.usermodel.Cell;
@@ -21,13 +19,14 @@ import org.apache.poi.ss.util.CellRangeAddress;
 public final class WorkbookCopyUtils {
 
   /**
-   * 원본 워크북 스타일 인덱스를 대상 워크북의 복제 스타일로 매핑하는 맵을 만든다.
+   * 원본 워크북 스타일 인덱스를 대상 워크북의 복제 스타일로 매핑하는 표를 만든다. 배열 인덱스는
+   * {@link #styleIndex(CellStyle)}로 구한 원본 스타일 인덱스이다.
    * 인덱스 0(기본 스타일)은 모든 새 워크북에 이미 존재하므로 해당 객체를 그대로 수정한다.
    */
-  public static Map<Integer, CellStyle> buildStyleMapping(Workbook source, Workbook target) {
-    var styleMap = new HashMap<Integer, CellStyle>();
+  public static CellStyle[] buildStyleTable(Workbook source, Workbook target) {
+    CellStyle[] styleTable = new CellStyle[source.getNumCellStyles()];
 
-    for (int i = 0; i < source.getNumCellStyles(); i++) {
+    for (int i = 0; i < styleTable.length; i++) {
       CellStyle srcStyle = source.getCellStyleAt(i);
       CellStyle tgtStyle;
       if (i == 0) {
@@ -37,31 +36,39 @@ public final class WorkbookCopyUtils {
       }
 
       tgtStyle.cloneStyleFrom(srcStyle);
-      styleMap.put(i, tgtStyle);
+      styleTable[i] = tgtStyle;
     }
 
-    return styleMap;
+    return styleTable;
   }
 
   /**
-   * 기본 스타일을 복제하고 ROSE 채우기를 추가한 CellStyle을 반환한다. 결과는 기본
+   * 스타일 인덱스를 0 이상의 int로 돌려준다. XLSX는 스타일을 64,000개까지 허용하므로 {@code short} 인덱스가 음수로
+   * 보일 수 있다.
+   */
+  public static int styleIndex(CellStyle style) {
+    return style.getIndex() & 0xFFFF;
+  }
+
+  /**
+   * 원본 스타일에 대응하는 대상 스타일을 복제하고 ROSE 채우기를 추가한 CellStyle을 반환한다. 결과는 원본
    * 스타일 인덱스 기준으로 캐시해 스타일 폭증(POI 64K 제한)을 방지한다.
    *
-   * @param cache 이 메서드에서 변경됨; 호출자는 스레드 안전성을 위해 메서드 로컬 HashMap을
-   *    전달해야 한다
+   * @param styleTable {@link #buildStyleTable}로 만든 표
+   * @param errorStyleCache 이 메서드에서 변경됨; {@code styleTable}과 길이가 같은 메서드 로컬 배열을 전달해야
+   *    한다
    */
   public static CellStyle getOrCreateErrorStyle(
-      Workbook wb, CellStyle base, Map<Integer, CellStyle> cache) {
-    int key = base.getIndex();
-    return cache.computeIfAbsent(
-        key,
-        k -> {
-          CellStyle errorStyle = wb.createCellStyle();
-          errorStyle.cloneStyleFrom(base);
-          errorStyle.setFillForegroundColor(IndexedColors.ROSE.getIndex());
-          errorStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-          return errorStyle;
-        });
+      Workbook wb, CellStyle[] styleTable, int sourceStyleIndex, CellStyle[] errorStyleCache) {
+    CellStyle errorStyle = errorStyleCache[sourceStyleIndex];
+    if (errorStyle == null) {
+      errorStyle = wb.createCellStyle();
+      errorStyle.cloneStyleFrom(styleTable[sourceStyleIndex]);
+      errorStyle.setFillForegroundColor(IndexedColors.ROSE.getIndex());
+      errorStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+      errorStyleCache[sourceStyleIndex] = errorStyle;
+    }
+    return errorStyle;
   }
 
   /**
@@ -103,10 +110,33 @@ public final class WorkbookCopyUtils {
     }
   }
 
-  /** 원본 시트의 모든 병합 영역을 대상 시트로 복사한다. */
+  /**
+   * 원본 시트의 모든 병합 영역을 대상 시트로 복사한다.
+   *
+   * <p>겹침은 {@link RowIntervalSet}으로 한 번에 확인하고 POI의 검사 없는 추가 경로를 쓴다. POI의 일반 추가는 영역마다
+   * 기존 영역 전체와 비교하므로 병합 영역이 많은 시트에서 제곱 시간이 걸린다. 셀이 하나뿐인 영역은 병합할 것이 없으므로
+   * 건너뛴다.
+   *
+   * <p>검사 없는 경로는 배열 수식과의 겹침을 확인하지 않는다. 대상 시트에 셀을 쓰기 전에 호출해야 하며, 이때 대상 시트에는
+   * 배열 수식이 없다. {@link #copyCellValue}는 수식을 일반 수식으로 복사하므로 이후에도 배열 수식이 생기지 않는다.
+   *
+   * @throws IllegalStateException 병합 영역이 서로 또는 대상 시트의 기존 병합 영역과 겹칠 때
+   */
   public static void copyMergedRegions(Sheet source, Sheet target) {
+    RowIntervalSet intervals = new RowIntervalSet();
+    for (CellRangeAddress region : target.getMergedRegions()) {
+      intervals.addIfDisjoint(region);
+    }
     for (CellRangeAddress region : source.getMergedRegions()) {
-      target.addMergedRegion(region);
+      if (region.getNumberOfCells() < 2) {
+        continue;
+      }
+      if (intervals.overlaps(region)) {
+        throw new IllegalStateException(
+            "Merged region " + region.formatAsString() + " overlaps another merged region");
+      }
+      intervals.addIfDisjoint(region);
+      target.addMergedRegionUnsafe(region);
     }
   }
 }
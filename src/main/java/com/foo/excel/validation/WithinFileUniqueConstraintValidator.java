@@ -1,9 +1,8 @@
 package com.foo.excel.validation;
 
-import com.foo.excel.annotation.ExcelColumn;
 import com.foo.excel.annotation.ExcelCompositeUnique;
 import com.foo.excel.annotation.ExcelUnique;
-import com.foo.excel.util.ExcelColumnUtil;
+import com.foo.excel.service.contract.ImportSchema;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -55,11 +54,14 @@ public class WithinFileUniqueConstraintValidator {
     // 여러 셀 오류를 행 번호 기준으로 모았다가 마지막에 RowError 목록으로 변환한다.
     RowErrorAccumulator errors = new RowErrorAccumulator();
 
+    // 대상 필드와 복합 키 선언은 DTO 클래스마다 한 번만 해석해 둔 스키마에서 읽는다.
+    ImportSchema schema = ImportSchema.of(rowClass);
+
     // @ExcelUnique(checkWithinFile = true) 대상 필드를 먼저 검사한다.
-    checkSingleFieldUniqueness(rows, rowClass, sourceRowNumbers, errors, maxErrorRows);
+    checkSingleFieldUniqueness(rows, schema, sourceRowNumbers, errors, maxErrorRows);
     // 클래스 레벨의 @ExcelCompositeUnique 선언도 이어서 검사한다.
     if (!hasReachedErrorLimit(errors, maxErrorRows)) {
-      checkCompositeUniqueness(rows, rowClass, sourceRowNumbers, errors, maxErrorRows);
+      checkCompositeUniqueness(rows, schema, sourceRowNumbers, errors, maxErrorRows);
     }
 
     return errors.toList();
@@ -72,29 +74,22 @@ public class WithinFileUniqueConstraintValidator {
    * 이미 등장한 값을 다시 만나면 현재 행에 중복 오류를 추가한다.
    *
    * @param rows 업로드 행 DTO 목록
-   * @param rowClass DTO 클래스
+   * @param schema DTO 클래스의 임포트 스키마
    * @param sourceRowNumbers 원본 Excel 행 번호 목록
    * @param errors 오류 누적기
    * @param <T> DTO 타입
    */
   private <T> void checkSingleFieldUniqueness(
       List<T> rows,
-      Class<T> rowClass,
+      ImportSchema schema,
       List<Integer> sourceRowNumbers,
       RowErrorAccumulator errors,
       int maxErrorRows) {
 
-    // DTO에 선언된 모든 필드를 훑으면서 파일 내부 중복 검사 대상인지 확인한다.
-    for (Field field : rowClass.getDeclaredFields()) {
-      ExcelUnique uniqueAnnotation = field.getAnnotation(ExcelUnique.class);
-      if (uniqueAnnotation == null || !uniqueAnnotation.checkWithinFile()) {
-        // 파일 내부 중복 검사를 요구하지 않는 필드는 건너뛴다.
-        continue;
-      }
-
-      // private 필드도 리플렉션으로 읽을 수 있도록 접근을 허용한다.
-      field.setAccessible(true);
-      ExcelColumn excelColumn = field.getAnnotation(ExcelColumn.class);
+    // 스키마가 미리 골라 둔 파일 내부 중복 검사 대상 필드를 차례로 검사한다.
+    for (ImportSchema.UniqueFieldPlan plan : schema.withinFileUniqueFields()) {
+      ImportSchema.KeyField keyField = plan.keyField();
+      Field field = keyField.field();
 
       // 키는 실제 셀 값, 값은 그 값이 처음 등장한 원본 Excel 행 번호이다.
       Map<Object, Integer> seenValues = new HashMap<>();
@@ -110,7 +105,7 @@ public class WithinFileUniqueConstraintValidator {
           // 현재 행 DTO에서 대상 필드 값을 꺼낸다.
           value = field.get(row);
         } catch (IllegalAccessException e) {
-          // setAccessible(true)를 호출했으므로 일반적으로 오지 않지만,
+          // 스키마가 접근을 열어 두었으므로 일반적으로 오지 않지만,
           // 예외가 발생해도 전체 검증을 중단하지 않고 해당 값만 무시한다.
           continue;
         }
@@ -126,14 +121,10 @@ public class WithinFileUniqueConstraintValidator {
           // 이미 같은 값이 나온 적 있다면, 첫 등장 행 번호를 메시지에 포함해 현재 행에 오류를 단다.
           int firstRowNum = seenValues.get(value);
           CellError cellError =
-              CellError.builder()
-                  .fieldName(field.getName())
-                  .headerName(excelColumn != null ? excelColumn.label() : field.getName())
-                  .columnIndex(excelColumn != null ? resolveColumnIndex(excelColumn) : -1)
-                  .columnRef(excelColumn != null ? ExcelColumnRef.ofLetter(excelColumn.column()) : null)
-                  .rejectedValue(value)
-                  .message(uniqueAnnotation.message() + " (행 " + firstRowNum + "과(와) 중복)")
-                  .build();
+              duplicateError(
+                  keyField,
+                  value,
+                  plan.annotation().message() + " (행 " + firstRowNum + "과(와) 중복)");
 
           addErrorToRow(errors, currentRowNum, cellError);
         } else {
@@ -150,32 +141,24 @@ public class WithinFileUniqueConstraintValidator {
    * <p>DTO 클래스에 선언된 {@link ExcelCompositeUnique}를 모두 읽어 각 조합별로 중복을 판단한다.
    * 동일한 필드 조합이 다시 등장하면 현재 행에 오류를 기록한다.
    *
-   * <p>복합 유니크 선언이 DTO 구조와 맞지 않으면 이는 개발자 설정 오류이므로 즉시 예외를 발생시킨다.
+   * <p>복합 유니크 선언이 DTO 구조와 맞지 않으면 {@link ImportSchema#of(Class)}가 개발자 설정 오류로 즉시 예외를
+   * 발생시킨다.
    *
    * @param rows 업로드 행 DTO 목록
-   * @param rowClass DTO 클래스
+   * @param schema DTO 클래스의 임포트 스키마
    * @param sourceRowNumbers 원본 Excel 행 번호 목록
    * @param errors 오류 누적기
    * @param <T> DTO 타입
    */
   private <T> void checkCompositeUniqueness(
       List<T> rows,
-      Class<T> rowClass,
+      ImportSchema schema,
       List<Integer> sourceRowNumbers,
       RowErrorAccumulator errors,
       int maxErrorRows) {
 
-    // repeatable annotation을 고려하여 클래스 레벨의 모든 복합 유니크 선언을 가져온다.
-    ExcelCompositeUnique[] compositeAnnotations =
-        rowClass.getAnnotationsByType(ExcelCompositeUnique.class);
-    if (compositeAnnotations.length == 0) {
-      // 복합 유니크 선언이 없다면 추가 작업이 없다.
-      return;
-    }
-
-    for (ExcelCompositeUnique composite : compositeAnnotations) {
-      // 복합 유니크 선언은 런타임 전에 올바르게 작성되어 있어야 하므로 엄격하게 해석한다.
-      List<Field> fields = resolveCompositeFieldsOrThrow(rowClass, composite);
+    for (ImportSchema.CompositeKeyPlan composite : schema.compositeKeys()) {
+      List<ImportSchema.KeyField> keyFields = composite.keyFields();
 
       // 키는 복합 필드 값 목록, 값은 그 조합이 처음 등장한 원본 행 번호이다.
       Map<List<Object>, Integer> seenKeys = new HashMap<>();
@@ -186,11 +169,11 @@ public class WithinFileUniqueConstraintValidator {
         }
         T row = rows.get(i);
         // 필드 순서를 유지한 값 목록 자체를 복합 키로 사용한다.
-        List<Object> compositeKey = new ArrayList<>();
+        List<Object> compositeKey = new ArrayList<>(keyFields.size());
 
-        for (Field f : fields) {
+        for (ImportSchema.KeyField keyField : keyFields) {
           try {
-            compositeKey.add(f.get(row));
+            compositeKey.add(keyField.field().get(row));
           } catch (IllegalAccessException e) {
             // 특정 필드 값을 읽지 못한 경우 null을 넣어 키 길이와 순서를 유지한다.
             compositeKey.add(null);
@@ -205,18 +188,11 @@ public class WithinFileUniqueConstraintValidator {
 
           // 현재 구현은 복합 키 전체 오류를 첫 번째 필드 위치에 대표로 매핑한다.
           // UI나 오류 포맷은 이 첫 필드의 헤더명/컬럼 정보로 표시된다.
-          Field firstField = fields.get(0);
-          ExcelColumn excelColumn = firstField.getAnnotation(ExcelColumn.class);
-
           CellError cellError =
-              CellError.builder()
-                  .fieldName(firstField.getName())
-                  .headerName(excelColumn != null ? excelColumn.label() : firstField.getName())
-                  .columnIndex(excelColumn != null ? resolveColumnIndex(excelColumn) : -1)
-                  .columnRef(excelColumn != null ? ExcelColumnRef.ofLetter(excelColumn.column()) : null)
-                  .rejectedValue(compositeKey.toString())
-                  .message(composite.message() + " (행 " + firstRowNum + "과(와) 중복)")
-                  .build();
+              duplicateError(
+                  keyFields.get(0),
+                  compositeKey.toString(),
+                  composite.annotation().message() + " (행 " + firstRowNum + "과(와) 중복)");
 
           addErrorToRow(errors, currentRowNum, cellError);
         } else {
@@ -227,74 +203,16 @@ public class WithinFileUniqueConstraintValidator {
     }
   }
 
-  /**
-   * 복합 유니크 애너테이션에 선언된 필드 목록을 리플렉션으로 해석한다.
-   *
-   * <p>선언된 필드가 DTO에 존재하지 않으면 복합 유니크 검증 자체가 성립하지 않으므로 즉시 예외를 던진다.
-   * 이 오류는 사용자 데이터 문제가 아니라 개발자 설정 문제를 의미한다.
-   *
-   * @param rowClass 검증 대상 DTO 클래스
-   * @param composite 복합 유니크 애너테이션
-   * @return 정상 해석된 필드 목록
-   * @throws IllegalStateException 애너테이션이 존재하지 않는 DTO 필드를 참조할 때
-   */
-  private List<Field> resolveCompositeFieldsOrThrow(
-      Class<?> rowClass, ExcelCompositeUnique composite) {
-    List<Field> fields = new ArrayList<>();
-
-    for (String fieldName : composite.fields()) {
-      Field field = findField(rowClass, fieldName);
-      if (field == null) {
-        throw invalidCompositeConfiguration(rowClass, composite, fieldName);
-      }
-
-      field.setAccessible(true);
-      fields.add(field);
-    }
-
-    if (fields.isEmpty()) {
-      throw new IllegalStateException(
-          String.format(
-              "복합 유니크 검증 필드가 비어 있습니다. DTO=%s, 선언 필드=%s",
-              rowClass.getName(), List.of(composite.fields())));
-    }
-
-    return fields;
-  }
-
-  /**
-   * DTO 클래스와 상위 클래스 체인을 따라가며 필드를 찾는다.
-   *
-   * @param rowClass 시작 클래스
-   * @param fieldName 찾을 필드명
-   * @return 찾은 필드, 없으면 {@code null}
-   */
-  private Field findField(Class<?> rowClass, String fieldName) {
-    Class<?> current = rowClass;
-    while (current != null && current != Object.class) {
-      try {
-        return current.getDeclaredField(fieldName);
-      } catch (NoSuchFieldException e) {
-        current = current.getSuperclass();
-      }
-    }
-    return null;
-  }
-
-  /**
-   * 잘못 선언된 복합 유니크 설정에 대한 예외를 생성한다.
-   *
-   * @param rowClass 검증 대상 DTO 클래스
-   * @param composite 복합 유니크 애너테이션
-   * @param missingFieldName DTO에 존재하지 않는 필드명
-   * @return 복합 유니크 설정 오류 예외
-   */
-  private IllegalStateException invalidCompositeConfiguration(
-      Class<?> rowClass, ExcelCompositeUnique composite, String missingFieldName) {
-    return new IllegalStateException(
-        String.format(
-            "복합 유니크 검증 설정이 올바르지 않습니다. DTO=%s, 누락 필드=%s, 선언 필드=%s",
-            rowClass.getName(), missingFieldName, List.of(composite.fields())));
+  private CellError duplicateError(
+      ImportSchema.KeyField keyField, Object rejectedValue, String message) {
+    return CellError.builder()
+        .fieldName(keyField.field().getName())
+        .headerName(keyField.headerName())
+        .columnIndex(keyField.columnIndex())
+        .columnRef(keyField.columnRef())
+        .rejectedValue(rejectedValue)
+        .message(message)
+        .build();
   }
 
   /**
@@ -311,14 +229,4 @@ public class WithinFileUniqueConstraintValidator {
   private boolean hasReachedErrorLimit(RowErrorAccumulator errors, int maxErrorRows) {
     return errors.size() >= maxErrorRows;
   }
-
-  /**
-   * {@link ExcelColumn}의 컬럼 문자를 0-based 인덱스로 변환한다.
-   *
-   * @param annotation Excel 컬럼 메타데이터
-   * @return 0-based 컬럼 인덱스
-   */
-  private int resolveColumnIndex(ExcelColumn annotation) {
-    return ExcelColumnUtil.letterToIndex(annotation.column());
-  }
 }
@@ -2,15 +2,15 @@ package com.foo.excel.imports.samples.aappcar;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
 import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
-import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
-import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
 import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
 import com.foo.excel.imports.samples.aappcar.service.AAppcarItemDatabaseUniquenessChecker;
 import com.foo.excel.imports.samples.aappcar.service.AAppcarItemKeyFactory;
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemKeyLookup;
 import com.foo.excel.validation.RowError;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,12 +28,16 @@ class AAppcarItemDatabaseUniquenessCheckerTest {
 
   @BeforeEach
   void setUp() {
-    checker = new AAppcarItemDatabaseUniquenessChecker(itemRepository, new AAppcarItemKeyFactory());
+    checker =
+        new AAppcarItemDatabaseUniquenessChecker(
+            new AAppcarItemKeyLookup(itemRepository, new AAppcarItemKeyFactory()));
   }
 
   @Test
   void check_whenNoDuplicates_returnsEmptyErrors() {
-    when(itemRepository.findAllById(any())).thenReturn(List.of());
+    when(itemRepository.findGoodsSeqNosInRange(
+            any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+        .thenReturn(List.of());
 
     List<RowError> result =
         checker.check(
@@ -47,11 +51,9 @@ class AAppcarItemDatabaseUniquenessCheckerTest {
 
   @Test
   void check_whenItemIdExists_marksOnlyConflictingRows() {
-    AAppcarItem existing =
-        AAppcarItem.builder()
-            .id(new AAppcarItemId("COMPANY01", "CUSTOM01", "2026", "1", "1", "EQ-01", 8))
-            .build();
-    when(itemRepository.findAllById(any())).thenReturn(List.of(existing));
+    when(itemRepository.findGoodsSeqNosInRange(
+            "COMPANY01", "CUSTOM01", "2026", "1", "1", "EQ-01", 7, 8))
+        .thenReturn(List.of(8));
 
     List<RowError> result =
         checker.check(
@@ -0,0 +1,90 @@
+package com.foo.excel.imports.samples.aappcar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.ExcelImportApplication;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemKeyLookup;
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemKeySet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(classes = ExcelImportApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AAppcarItemKeyLookupTest {
+
+  @Autowired private AAppcarItemKeyLookup keyLookup;
+
+  @Autowired private AAppcarItemRepository itemRepository;
+
+  @Test
+  void findExistingKeys_matchesOnlyRequestedRowsWithinSamePrefix() {
+    // 짝수 순번만 저장하고, 범위 안이지만 요청하지 않은 순번과 다른 설비 코드의 품목도 함께 둔다.
+    itemRepository.saveAllAndFlush(
+        IntStream.rangeClosed(1, 2500)
+            .filter(seq -> seq % 2 == 0)
+            .mapToObj(seq -> AAppcarItem.builder().id(itemId("EQ-01", seq)).build())
+            .toList());
+    itemRepository.saveAndFlush(AAppcarItem.builder().id(itemId("EQ-02", 3)).build());
+
+    List<Integer> requested =
+        IntStream.rangeClosed(1, 2500).filter(seq -> seq != 1000).boxed().toList();
+
+    AAppcarItemKeySet existingKeys = keyLookup.findExistingKeys(metadata("EQ-01"), requested);
+
+    assertThat(existingKeys.size()).isEqualTo(1249);
+    assertThat(existingKeys.contains(2)).isTrue();
+    assertThat(existingKeys.contains(2500)).isTrue();
+    assertThat(existingKeys.contains(1000)).isFalse();
+    assertThat(existingKeys.contains(1999)).isFalse();
+    assertThat(existingKeys.contains(itemId("EQ-01", 2))).isTrue();
+    assertThat(existingKeys.contains(itemId("EQ-02", 2))).isFalse();
+  }
+
+  @Test
+  void findExistingItems_returnsPersistedEntitiesOfEachPrefixOnly() {
+    itemRepository.saveAndFlush(
+        AAppcarItem.builder().id(itemId("EQ-01", 1200)).goodsDes("Existing").build());
+    itemRepository.saveAndFlush(
+        AAppcarItem.builder().id(itemId("EQ-01", 1300)).goodsDes("NotRequested").build());
+    itemRepository.saveAndFlush(
+        AAppcarItem.builder().id(itemId("EQ-02", 5)).goodsDes("OtherEquip").build());
+
+    List<AAppcarItemId> requested =
+        IntStream.rangeClosed(1, 1500)
+            .filter(seq -> seq != 1300)
+            .mapToObj(seq -> itemId("EQ-01", seq))
+            .collect(Collectors.toCollection(ArrayList::new));
+    requested.add(itemId("EQ-02", 5));
+
+    List<AAppcarItem> existingItems = keyLookup.findExistingItems(requested);
+
+    assertThat(existingItems)
+        .extracting(AAppcarItem::getGoodsDes)
+        .containsExactlyInAnyOrder("Existing", "OtherEquip");
+  }
+
+  private AAppcarItemImportMetadata metadata(String equipCode) {
+    AAppcarItemImportMetadata metadata = new AAppcarItemImportMetadata();
+    metadata.setCompanyId("COMPANY01");
+    metadata.setCustomId("CUSTOM01");
+    metadata.setComeYear("2026");
+    metadata.setComeOrder("001");
+    metadata.setUploadSeq("1");
+    metadata.setEquipCode(equipCode);
+    return metadata;
+  }
+
+  private AAppcarItemId itemId(String equipCode, int goodsSeqNo) {
+    return new AAppcarItemId("COMPANY01", "CUSTOM01", "2026", "001", "1", equipCode, goodsSeqNo);
+  }
+}
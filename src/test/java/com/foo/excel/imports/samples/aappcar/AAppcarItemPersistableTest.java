@@ -0,0 +1,88 @@
+package com.foo.excel.imports.samples.aappcar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.ExcelImportApplication;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemPersistenceService;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(
+    classes = ExcelImportApplication.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AAppcarItemPersistableTest {
+
+  @Autowired private AAppcarItemPersistenceService service;
+
+  @Autowired private AAppcarItemRepository itemRepository;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void saveAll_newItems_statementCountDoesNotGrowWithRowCount() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    service.saveAll(List.of(dto()), List.of(7), metadata("1"));
+    long singleRowStatements = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    List<Integer> rowNumbers = IntStream.rangeClosed(7, 56).boxed().toList();
+    service.saveAll(rowNumbers.stream().map(rowNumber -> dto()).toList(), rowNumbers, metadata("2"));
+    long fiftyRowStatements = statistics.getPrepareStatementCount();
+
+    // 신규 품목이 merge로 저장되면 행마다 SELECT가 추가된다.
+    assertThat(fiftyRowStatements).isEqualTo(singleRowStatements);
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(51);
+  }
+
+  @Test
+  void loadedItem_isNotNew_andBuiltItemIsNewOnlyWhenMarked() {
+    service.saveAll(List.of(dto()), List.of(7), metadata("1"));
+
+    AAppcarItem loaded =
+        itemRepository
+            .findById(new AAppcarItemId("COMPANY01", "CUSTOM01", "2026", "001", "1", "EQ-01", 7))
+            .orElseThrow();
+    AAppcarItem built = AAppcarItem.builder().build();
+
+    assertThat(loaded.isNew()).isFalse();
+    assertThat(built.isNew()).isFalse();
+    built.markNew();
+    assertThat(built.isNew()).isTrue();
+  }
+
+  private AAppcarItemImportMetadata metadata(String uploadSeq) {
+    AAppcarItemImportMetadata metadata = new AAppcarItemImportMetadata();
+    metadata.setComeYear("2026");
+    metadata.setComeOrder("001");
+    metadata.setUploadSeq(uploadSeq);
+    metadata.setEquipCode("EQ-01");
+    metadata.setEquipMean("설비A");
+    metadata.setCompanyId("COMPANY01");
+    metadata.setCustomId("CUSTOM01");
+    return metadata;
+  }
+
+  private AAppcarItemImportRow dto() {
+    AAppcarItemImportRow dto = new AAppcarItemImportRow();
+    dto.setGoodsDes("Item");
+    dto.setUnitprice(new BigDecimal("100.00"));
+    dto.setApprovalYn("통과");
+    return dto;
+  }
+}
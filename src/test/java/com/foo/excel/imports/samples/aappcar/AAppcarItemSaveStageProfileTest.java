@@ -0,0 +1,97 @@
+package com.foo.excel.imports.samples.aappcar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.ExcelImportApplication;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemPersistenceService;
+import com.foo.excel.service.pipeline.persist.SaveStageProfile;
+import com.foo.excel.service.pipeline.persist.SaveStageProfiler;
+import com.foo.excel.service.pipeline.persist.SqlStatementType;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(
+    classes = ExcelImportApplication.class,
+    properties = "excel.import.sql-statement-counting=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AAppcarItemSaveStageProfileTest {
+
+  @Autowired private AAppcarItemPersistenceService service;
+
+  @AfterEach
+  void tearDown() {
+    SaveStageProfiler.stop();
+  }
+
+  @Test
+  void saveAll_newItems_recordsSubStagesAndStatementCounts() {
+    SaveStageProfile profile = SaveStageProfiler.start();
+
+    service.saveAll(List.of(dto(), dto(), dto()), List.of(7, 8, 9), metadata());
+
+    assertThat(profile.stages()).containsOnlyKeys("build", "lookup", "flush", "equipUpsert");
+    // 품목 범위 조회 1회와 설비 findById 1회, 신규 품목 3건과 설비 1건은 merge 조회 없이 INSERT
+    assertThat(profile.statementCount(SqlStatementType.SELECT)).isEqualTo(2);
+    assertThat(profile.statementCount(SqlStatementType.INSERT)).isEqualTo(4);
+    assertThat(profile.statementCount(SqlStatementType.UPDATE)).isZero();
+    assertThat(profile.batchCount()).isPositive();
+    assertThat(profile.summary()).contains("flush=").contains("sql[select=2, insert=4");
+  }
+
+  @Test
+  void saveChunk_savesItemsOnly_andFinishChunkedSaveUpsertsEquipOnce() {
+    SaveStageProfile profile = SaveStageProfiler.start();
+
+    service.saveChunk(List.of(dto(), dto()), List.of(7, 8), metadata());
+    service.saveChunk(List.of(dto()), List.of(9), metadata());
+    assertThat(profile.stages()).doesNotContainKey("equipUpsert");
+
+    service.finishChunkedSave(metadata());
+    assertThat(profile.stages().get("build").count()).isEqualTo(2);
+    assertThat(profile.stages().get("equipUpsert").count()).isEqualTo(1);
+  }
+
+  @Test
+  void saveAll_withoutActiveProfile_recordsNothing() {
+    service.saveAll(List.of(dto()), List.of(7), metadata());
+
+    assertThat(SaveStageProfiler.current()).isNull();
+  }
+
+  @Test
+  void statementType_isResolvedFromLeadingKeyword() {
+    assertThat(SqlStatementType.of("  select 1")).isEqualTo(SqlStatementType.SELECT);
+    assertThat(SqlStatementType.of("WITH t AS (SELECT 1) SELECT * FROM t"))
+        .isEqualTo(SqlStatementType.SELECT);
+    assertThat(SqlStatementType.of("merge into a_appcar_item t"))
+        .isEqualTo(SqlStatementType.MERGE);
+    assertThat(SqlStatementType.of("call proc()")).isEqualTo(SqlStatementType.OTHER);
+  }
+
+  private AAppcarItemImportMetadata metadata() {
+    AAppcarItemImportMetadata metadata = new AAppcarItemImportMetadata();
+    metadata.setComeYear("2026");
+    metadata.setComeOrder("001");
+    metadata.setUploadSeq("1");
+    metadata.setEquipCode("EQ-01");
+    metadata.setEquipMean("설비A");
+    metadata.setCompanyId("COMPANY01");
+    metadata.setCustomId("CUSTOM01");
+    return metadata;
+  }
+
+  private AAppcarItemImportRow dto() {
+    AAppcarItemImportRow dto = new AAppcarItemImportRow();
+    dto.setGoodsDes("Item");
+    dto.setUnitprice(new BigDecimal("100.00"));
+    dto.setApprovalYn("통과");
+    return dto;
+  }
+}
@@ -0,0 +1,139 @@
+package com.foo.excel.imports.samples.aappcar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.ExcelImportApplication;
+import com.foo.excel.imports.samples.aappcar.config.AAppcarItemImportProperties;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItem;
+import com.foo.excel.imports.samples.aappcar.persistence.entity.AAppcarItemId;
+import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemPersistenceService;
+import com.foo.excel.imports.samples.aappcar.service.AAppcarItemWriteMode;
+import com.foo.excel.service.contract.PersistenceHandler.SaveResult;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(classes = ExcelImportApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AAppcarItemWriterTest {
+
+  @Autowired private AAppcarItemPersistenceService service;
+
+  @Autowired private AAppcarItemImportProperties properties;
+
+  @Autowired private AAppcarItemRepository itemRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @ParameterizedTest
+  @EnumSource(AAppcarItemWriteMode.class)
+  void saveAll_insertsNewRowsAndUpdatesExistingRows(AAppcarItemWriteMode writeMode) {
+    properties.setWriteMode(writeMode);
+    AAppcarItemImportMetadata metadata = metadata();
+    AAppcarItemId existingItemId =
+        new AAppcarItemId("COMPANY01", "CUSTOM01", "2026", "001", "1", "EQ-01", 7);
+    AAppcarItemId newItemId =
+        new AAppcarItemId("COMPANY01", "CUSTOM01", "2026", "001", "1", "EQ-01", 8);
+
+    SaveResult firstResult = service.saveAll(List.of(dto("Item1", "승인")), List.of(7), metadata);
+
+    assertThat(firstResult.created()).isEqualTo(1);
+    assertThat(firstResult.updated()).isZero();
+
+    SaveResult secondResult =
+        service.saveAll(
+            List.of(dto("Item1-Updated", "반려"), dto("Item2", null)), List.of(7, 8), metadata);
+
+    assertThat(secondResult.created()).isEqualTo(1);
+    assertThat(secondResult.updated()).isEqualTo(1);
+    assertThat(itemRepository.findById(existingItemId))
+        .get()
+        .extracting(AAppcarItem::getGoodsDes, AAppcarItem::getApprovalYn)
+        .containsExactly("Item1-Updated", "N");
+    assertThat(itemRepository.findById(newItemId))
+        .get()
+        .extracting(AAppcarItem::getGoodsDes, AAppcarItem::getApprovalYn, AAppcarItem::getProdQty)
+        .containsExactly("Item2", "N", 10);
+  }
+
+  @ParameterizedTest
+  @EnumSource(AAppcarItemWriteMode.class)
+  void saveAll_updateKeepsColumnsNotSuppliedByUpload(AAppcarItemWriteMode writeMode) {
+    properties.setWriteMode(writeMode);
+    AAppcarItemImportMetadata metadata = metadata();
+    AAppcarItemId itemId =
+        new AAppcarItemId("COMPANY01", "CUSTOM01", "2026", "001", "1", "EQ-01", 7);
+    itemRepository.saveAndFlush(
+        AAppcarItem.builder()
+            .id(itemId)
+            .goodsCode("G-001")
+            .goodsDes("Before")
+            .exch("USD")
+            .approvalYn("N")
+            .build());
+
+    SaveResult result = service.saveAll(List.of(dto("After", "Y")), List.of(7), metadata);
+
+    assertThat(result.updated()).isEqualTo(1);
+    assertThat(itemRepository.findById(itemId))
+        .get()
+        .extracting(
+            AAppcarItem::getGoodsCode,
+            AAppcarItem::getExch,
+            AAppcarItem::getGoodsDes,
+            AAppcarItem::getApprovalYn)
+        .containsExactly("G-001", "USD", "After", "Y");
+  }
+
+  @Test
+  void saveAll_merge_clearsStagedRows() {
+    properties.setWriteMode(AAppcarItemWriteMode.MERGE);
+
+    service.saveAll(List.of(dto("Item1", "승인"), dto("Item2", null)), List.of(7, 8), metadata());
+
+    assertThat(
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM a_appcar_item_stage", Integer.class))
+        .isZero();
+  }
+
+  private AAppcarItemImportMetadata metadata() {
+    AAppcarItemImportMetadata metadata = new AAppcarItemImportMetadata();
+    metadata.setComeYear("2026");
+    metadata.setComeOrder("001");
+    metadata.setUploadSeq("1");
+    metadata.setEquipCode("EQ-01");
+    metadata.setEquipMean("설비A");
+    metadata.setHsno("8481802000");
+    metadata.setSpec("규격A");
+    metadata.setTaxRate(new BigDecimal("8.50"));
+    metadata.setCompanyId("COMPANY01");
+    metadata.setCustomId("CUSTOM01");
+    return metadata;
+  }
+
+  private AAppcarItemImportRow dto(String itemName, String approvalYn) {
+    AAppcarItemImportRow dto = new AAppcarItemImportRow();
+    dto.setGoodsSeqNo(1);
+    dto.setGoodsDes(itemName);
+    dto.setSpec("Spec");
+    dto.setModelDes("Model");
+    dto.setHsno("8481.80-2000");
+    dto.setTaxRate(new BigDecimal("8.00"));
+    dto.setUnitprice(new BigDecimal("100.00"));
+    dto.setProdQty(10);
+    dto.setRepairQty(5);
+    dto.setImportAmt(new BigDecimal("1000.00"));
+    dto.setApprovalYn(approvalYn);
+    dto.setImportQty(100);
+    return dto;
+  }
+}
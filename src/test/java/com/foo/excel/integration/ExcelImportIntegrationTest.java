@@ -20,7 +20,9 @@ import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarEquip
 import com.foo.excel.imports.samples.aappcar.persistence.repository.AAppcarItemRepository;
 import com.foo.excel.config.ExcelImportProperties;
 import com.foo.excel.imports.ImportTypeNames;
+import com.foo.excel.service.pipeline.ExcelExecutionMode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -62,6 +64,7 @@ class ExcelImportIntegrationTest {
   @Autowired private AAppcarItemRepository itemRepository;
   @Autowired private AAppcarEquipRepository equipRepository;
   @Autowired private ObjectMapper objectMapper;
+  @Autowired private MeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() throws IOException {
@@ -185,6 +188,74 @@ class ExcelImportIntegrationTest {
         .andExpect(jsonPath("$.downloadUrl").value(startsWith("/api/excel/download/")));
   }
 
+  @Test
+  void upload_recordsStageMetricsTaggedByOutcome() throws Exception {
+    mockMvc
+        .perform(
+            multipart(API_UPLOAD_TARIFF)
+                .file(
+                    new MockMultipartFile(
+                        "file",
+                        "tariff.xlsx",
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                        createValidAAppcarItemXlsx(2)))
+                .file(requiredMetadataPart()))
+        .andExpect(status().isOk());
+    mockMvc
+        .perform(
+            multipart(API_UPLOAD_TARIFF)
+                .file(
+                    new MockMultipartFile(
+                        "file",
+                        "tariff_invalid.xlsx",
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                        createInvalidAAppcarItemXlsx()))
+                .file(requiredMetadataPart()))
+        .andExpect(status().isBadRequest());
+
+    assertThat(
+            meterRegistry
+                .get("excel.import.stage")
+                .tags("importType", ImportTypeNames.AAPPCAR, "stage", "save", "outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("excel.import.stage")
+                .tags("stage", "errorReport", "outcome", "validation-failed")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .find("excel.import.stage")
+                .tags("stage", "save", "outcome", "validation-failed")
+                .timer())
+        .isNull();
+    assertThat(
+            meterRegistry
+                .get("excel.import.rows")
+                .tags("outcome", "success")
+                .summary()
+                .totalAmount())
+        .isEqualTo(2);
+    assertThat(
+            meterRegistry
+                .get("excel.import.save.statements")
+                .tags("type", "insert")
+                .counter()
+                .count())
+        .isPositive();
+    assertThat(
+            meterRegistry
+                .get("excel.import.throughput.rows")
+                .tags("importType", ImportTypeNames.AAPPCAR)
+                .gauge()
+                .value())
+        .isPositive();
+  }
+
   @Test
   void upload_invalidDataWithoutHeaderMerges_downloadedErrorReportRebuildsImportMerges()
       throws Exception {
@@ -439,7 +510,8 @@ class ExcelImportIntegrationTest {
                 .param("approvalDate", LocalDate.now().toString()))
         .andExpect(status().isOk())
         .andExpect(view().name("result"))
-        .andExpect(model().attributeExists("result"));
+        .andExpect(model().attributeExists("result"))
+        .andExpect(model().attribute("errorReportDeferred", false));
   }
 
   @Test
@@ -468,6 +540,101 @@ class ExcelImportIntegrationTest {
     }
   }
 
+  @Test
+  void upload_pipelinedMode_validXlsx_savesAllChunks() throws Exception {
+    ExcelExecutionMode originalMode = properties.getExecutionMode();
+    int originalChunkSize = properties.getChunkSize();
+    try {
+      properties.setExecutionMode(ExcelExecutionMode.PIPELINED);
+      properties.setChunkSize(3);
+      MockMultipartFile file =
+          new MockMultipartFile(
+              "file",
+              "tariff.xlsx",
+              "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+              createValidAAppcarItemXlsx(10));
+
+      mockMvc
+          .perform(multipart(API_UPLOAD_TARIFF).file(file).file(requiredMetadataPart()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.success").value(true))
+          .andExpect(jsonPath("$.rowsProcessed").value(10))
+          .andExpect(jsonPath("$.rowsCreated").value(10))
+          .andExpect(jsonPath("$.rowsUpdated").value(0));
+
+      assertThat(itemRepository.count()).isEqualTo(10);
+      assertThat(equipRepository.findById(requiredMetadataEquipId())).isPresent();
+    } finally {
+      properties.setExecutionMode(originalMode);
+      properties.setChunkSize(originalChunkSize);
+    }
+  }
+
+  @Test
+  void upload_pipelinedMode_invalidLastChunk_rollsBackEarlierChunks() throws Exception {
+    ExcelExecutionMode originalMode = properties.getExecutionMode();
+    int originalChunkSize = properties.getChunkSize();
+    try {
+      properties.setExecutionMode(ExcelExecutionMode.PIPELINED);
+      properties.setChunkSize(3);
+      MockMultipartFile file =
+          new MockMultipartFile(
+              "file",
+              "tariff_invalid.xlsx",
+              "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+              createAAppcarItemXlsxWithInvalidLastRow(7));
+
+      mockMvc
+          .perform(multipart(API_UPLOAD_TARIFF).file(file).file(requiredMetadataPart()))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.success").value(false))
+          .andExpect(jsonPath("$.errorRows").value(1))
+          .andExpect(jsonPath("$.downloadUrl").value(startsWith("/api/excel/download/")));
+
+      assertThat(itemRepository.count()).isZero();
+      assertThat(equipRepository.findById(requiredMetadataEquipId())).isEmpty();
+    } finally {
+      properties.setExecutionMode(originalMode);
+      properties.setChunkSize(originalChunkSize);
+    }
+  }
+
+  @Test
+  void upload_pipelinedMode_dbConflictsInSeveralChunks_reportsSameErrorRowsAsSerial()
+      throws Exception {
+    ExcelExecutionMode originalMode = properties.getExecutionMode();
+    int originalChunkSize = properties.getChunkSize();
+    try {
+      // 원본 행 7~10을 먼저 저장하면 청크 크기 3에서 첫 청크(7~9)와 둘째 청크(10~12)가 모두 충돌한다.
+      mockMvc
+          .perform(
+              multipart(API_UPLOAD_TARIFF)
+                  .file(
+                      new MockMultipartFile(
+                          "file",
+                          "tariff_seed.xlsx",
+                          "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                          createValidAAppcarItemXlsx(4)))
+                  .file(requiredMetadataPart()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.success").value(true));
+
+      Map<?, ?> serialResult = uploadExpectingFailure(createValidAAppcarItemXlsx(10));
+
+      properties.setExecutionMode(ExcelExecutionMode.PIPELINED);
+      properties.setChunkSize(3);
+      Map<?, ?> pipelinedResult = uploadExpectingFailure(createValidAAppcarItemXlsx(10));
+
+      assertThat(serialResult.get("errorRows")).isEqualTo(4);
+      assertThat(pipelinedResult.get("errorRows")).isEqualTo(serialResult.get("errorRows"));
+      assertThat(pipelinedResult.get("errorCount")).isEqualTo(serialResult.get("errorCount"));
+      assertThat(itemRepository.count()).isEqualTo(4);
+    } finally {
+      properties.setExecutionMode(originalMode);
+      properties.setChunkSize(originalChunkSize);
+    }
+  }
+
   @Test
   void upload_fileTooLarge_returns413() throws Exception {
     byte[] largeBytes = new byte[11 * 1024 * 1024];
@@ -536,6 +703,19 @@ class ExcelImportIntegrationTest {
     }
   }
 
+  private byte[] createAAppcarItemXlsxWithInvalidLastRow(int dataRows) throws IOException {
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      Sheet sheet = wb.createSheet("Sheet1");
+      fillAAppcarItemSheet(sheet, dataRows, false);
+      Row lastRow = sheet.getRow(6 + dataRows - 1);
+      lastRow.getCell(2).setCellValue("");
+      lastRow.getCell(5).setCellValue("bad-hs-code");
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      wb.write(bos);
+      return bos.toByteArray();
+    }
+  }
+
   private byte[] createInvalidAAppcarItemXlsxWithoutHeaderMerges() throws IOException {
     try (XSSFWorkbook wb = new XSSFWorkbook()) {
       Sheet sheet = wb.createSheet("Sheet1");
@@ -661,6 +841,24 @@ class ExcelImportIntegrationTest {
     }
   }
 
+  private Map<?, ?> uploadExpectingFailure(byte[] xlsxBytes) throws Exception {
+    MvcResult result =
+        mockMvc
+            .perform(
+                multipart(API_UPLOAD_TARIFF)
+                    .file(
+                        new MockMultipartFile(
+                            "file",
+                            "tariff.xlsx",
+                            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                            xlsxBytes))
+                    .file(requiredMetadataPart()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false))
+            .andReturn();
+    return objectMapper.readValue(result.getResponse().getContentAsString(), Map.class);
+  }
+
   private String extractDownloadUrl(String jsonResponse) throws Exception {
     Map<?, ?> response = objectMapper.readValue(jsonResponse, Map.class);
     return String.valueOf(response.get("downloadUrl"));
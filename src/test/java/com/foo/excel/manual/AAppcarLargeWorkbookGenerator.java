@@ -0,0 +1,377 @@
+package com.foo.excel.manual;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * Streams large synthetic AAPPCAR-shaped workbooks through SXSSF for benchmarks, soak tests and
+ * row pre-count checks.
+ *
+ * <p>The data sheet is always the first sheet and follows the same contract as the manual E2E
+ * files: header row 4, data from row 7, a {@code ※} footer row after the last data row. Which rows
+ * carry errors, merges or pooled strings is decided by {@link #isSelected}, so the same {@link
+ * Spec} always produces the same workbook and callers can derive the expected rows without reading
+ * it back.
+ *
+ * <pre>./gradlew generateAappcarLargeWorkbook -PgeneratorArgs="rows=1000000 errorRatio=0.01"</pre>
+ */
+public final class AAppcarLargeWorkbookGenerator {
+
+  /** Number of columns mapped by {@code AAppcarItemImportRow} (A..Q). */
+  public static final int AAPPCAR_COLUMNS = 17;
+
+  /** 0-based index of the first data row. */
+  public static final int FIRST_DATA_ROW_INDEX = 6;
+
+  /** Number of rows above the first data row that contain cells (header rows 4..6). */
+  public static final int HEADER_ROWS_WITH_CELLS = 3;
+
+  /** Error kinds cycled through by error rows, in order. */
+  public static final int ERROR_BLANK_GOODS_DES = 0;
+
+  public static final int ERROR_INVALID_HSNO = 1;
+  public static final int ERROR_NON_NUMERIC_UNITPRICE = 2;
+  public static final int ERROR_DUPLICATE_COMPOSITE_KEY = 3;
+  private static final int ERROR_KINDS = 4;
+
+  private static final int STRING_POOL_SIZE = 64;
+  private static final int EXTRA_SHEET_ROWS = 50;
+  private static final int EXTRA_SHEET_COLUMNS = 5;
+  private static final Path DEFAULT_OUTPUT =
+      Path.of("build", "generated-workbooks", "aappcar-large.xlsx");
+
+  /**
+   * Generator parameters.
+   *
+   * @param rows number of data rows
+   * @param columns total columns on the data sheet; columns past Q are unmapped filler columns
+   * @param mergedRowRatio share of data rows that carry the per-row F:G, J:K, L:M and O:P merges
+   * @param errorRatio share of data rows that fail parsing or validation
+   * @param sharedStringRatio share of free-text cells drawn from a small repeated pool; any value
+   *     above zero also switches the workbook from inline strings to a shared strings table
+   * @param extraSheets number of small reference sheets appended after the data sheet
+   * @param formattingOnlyTrailingRows styled but empty rows written after the footer row
+   */
+  public record Spec(
+      int rows,
+      int columns,
+      double mergedRowRatio,
+      double errorRatio,
+      double sharedStringRatio,
+      int extraSheets,
+      int formattingOnlyTrailingRows) {
+
+    public Spec {
+      if (rows < 0) {
+        throw new IllegalArgumentException("rows must not be negative: " + rows);
+      }
+      if (columns < AAPPCAR_COLUMNS) {
+        throw new IllegalArgumentException(
+            "columns must be at least " + AAPPCAR_COLUMNS + ": " + columns);
+      }
+      requireRatio("mergedRowRatio", mergedRowRatio);
+      requireRatio("errorRatio", errorRatio);
+      requireRatio("sharedStringRatio", sharedStringRatio);
+      if (extraSheets < 0 || formattingOnlyTrailingRows < 0) {
+        throw new IllegalArgumentException(
+            "extraSheets and formattingOnlyTrailingRows must not be negative");
+      }
+    }
+
+    /** Valid AAPPCAR rows with every data row merged, inline strings and nothing else. */
+    public static Spec of(int rows) {
+      return new Spec(rows, AAPPCAR_COLUMNS, 1.0, 0, 0, 0, 0);
+    }
+
+    public Spec withRows(int rows) {
+      return new Spec(
+          rows,
+          columns,
+          mergedRowRatio,
+          errorRatio,
+          sharedStringRatio,
+          extraSheets,
+          formattingOnlyTrailingRows);
+    }
+
+    public Spec withColumns(int columns) {
+      return new Spec(
+          rows,
+          columns,
+          mergedRowRatio,
+          errorRatio,
+          sharedStringRatio,
+          extraSheets,
+          formattingOnlyTrailingRows);
+    }
+
+    public Spec withMergedRowRatio(double mergedRowRatio) {
+      return new Spec(
+          rows,
+          columns,
+          mergedRowRatio,
+          errorRatio,
+          sharedStringRatio,
+          extraSheets,
+          formattingOnlyTrailingRows);
+    }
+
+    public Spec withErrorRatio(double errorRatio) {
+      return new Spec(
+          rows,
+          columns,
+          mergedRowRatio,
+          errorRatio,
+          sharedStringRatio,
+          extraSheets,
+          formattingOnlyTrailingRows);
+    }
+
+    public Spec withSharedStringRatio(double sharedStringRatio) {
+      return new Spec(
+          rows,
+          columns,
+          mergedRowRatio,
+          errorRatio,
+          sharedStringRatio,
+          extraSheets,
+          formattingOnlyTrailingRows);
+    }
+
+    public Spec withExtraSheets(int extraSheets) {
+      return new Spec(
+          rows,
+          columns,
+          mergedRowRatio,
+          errorRatio,
+          sharedStringRatio,
+          extraSheets,
+          formattingOnlyTrailingRows);
+    }
+
+    public Spec withFormattingOnlyTrailingRows(int formattingOnlyTrailingRows) {
+      return new Spec(
+          rows,
+          columns,
+          mergedRowRatio,
+          errorRatio,
+          sharedStringRatio,
+          extraSheets,
+          formattingOnlyTrailingRows);
+    }
+
+    /** Rows with at least one cell on the data sheet, i.e. what the row pre-count reports. */
+    public int rowsWithCells() {
+      return HEADER_ROWS_WITH_CELLS + rows + 1 + formattingOnlyTrailingRows;
+    }
+
+    private static void requireRatio(String name, double value) {
+      if (value < 0 || value > 1) {
+        throw new IllegalArgumentException(name + " must be between 0 and 1: " + value);
+      }
+    }
+  }
+
+  private AAppcarLargeWorkbookGenerator() {}
+
+  /** Usage: {@code rows=100000 columns=20 mergedRowRatio=0.5 ... out=path/to/file.xlsx}. */
+  public static void main(String[] args) throws IOException {
+    Spec spec = Spec.of(100_000);
+    Path output = DEFAULT_OUTPUT;
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Expected key=value argument: " + arg);
+      }
+      String key = arg.substring(0, separator);
+      String value = arg.substring(separator + 1);
+      switch (key) {
+        case "rows" -> spec = spec.withRows(Integer.parseInt(value));
+        case "columns" -> spec = spec.withColumns(Integer.parseInt(value));
+        case "mergedRowRatio" -> spec = spec.withMergedRowRatio(Double.parseDouble(value));
+        case "errorRatio" -> spec = spec.withErrorRatio(Double.parseDouble(value));
+        case "sharedStringRatio" -> spec = spec.withSharedStringRatio(Double.parseDouble(value));
+        case "extraSheets" -> spec = spec.withExtraSheets(Integer.parseInt(value));
+        case "formattingOnlyTrailingRows" ->
+            spec = spec.withFormattingOnlyTrailingRows(Integer.parseInt(value));
+        case "out" -> output = Path.of(value);
+        default -> throw new IllegalArgumentException("Unknown argument: " + key);
+      }
+    }
+
+    if (output.getParent() != null) {
+      Files.createDirectories(output.getParent());
+    }
+    long started = System.nanoTime();
+    write(spec, output);
+    System.out.printf(
+        "Wrote %s (%d data rows, %d bytes) in %d ms%n",
+        output.toAbsolutePath(),
+        spec.rows(),
+        Files.size(output),
+        (System.nanoTime() - started) / 1_000_000);
+  }
+
+  /**
+   * Returns whether the 0-based data row ordinal is picked for a feature applied at {@code ratio}.
+   *
+   * <p>A row is picked when the integer part of {@code (ordinal + 1) * ratio} changes, which spreads
+   * the picked rows evenly over the sheet and picks exactly {@code floor(rows * ratio)} rows.
+   */
+  public static boolean isSelected(int dataRowOrdinal, double ratio) {
+    if (ratio <= 0) {
+      return false;
+    }
+    return (long) ((dataRowOrdinal + 1) * ratio) > (long) (dataRowOrdinal * ratio);
+  }
+
+  /** Error kind of the 0-based data row ordinal, or {@code -1} for a valid row. */
+  public static int errorKind(int dataRowOrdinal, double errorRatio) {
+    if (!isSelected(dataRowOrdinal, errorRatio)) {
+      return -1;
+    }
+    long errorOrdinal = (long) (dataRowOrdinal * errorRatio);
+    return (int) (errorOrdinal % ERROR_KINDS);
+  }
+
+  /**
+   * Row whose composite key (goods name, spec, HSK) the given row reuses. Duplicate-key error rows
+   * point at the previous row; every other row points at itself.
+   */
+  public static int keyRowOrdinal(int dataRowOrdinal, double errorRatio) {
+    if (dataRowOrdinal > 0
+        && errorKind(dataRowOrdinal, errorRatio) == ERROR_DUPLICATE_COMPOSITE_KEY) {
+      return dataRowOrdinal - 1;
+    }
+    return dataRowOrdinal;
+  }
+
+  public static void write(Spec spec, Path output) throws IOException {
+    boolean useSharedStrings = spec.sharedStringRatio() > 0;
+    try (XSSFWorkbook template = new XSSFWorkbook();
+        SXSSFWorkbook workbook = new SXSSFWorkbook(template, 100, false, useSharedStrings)) {
+      Sheet sheet = workbook.createSheet("Sheet1");
+      writeHeaderRows(sheet, spec.columns());
+      for (int i = 0; i < spec.rows(); i++) {
+        writeDataRow(sheet, spec, i);
+      }
+      int footerRowIndex = FIRST_DATA_ROW_INDEX + spec.rows();
+      sheet.createRow(footerRowIndex).createCell(0).setCellValue("※ 작성 예시 끝");
+
+      if (spec.formattingOnlyTrailingRows() > 0) {
+        CellStyle fillStyle = workbook.createCellStyle();
+        fillStyle.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex());
+        fillStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        for (int i = 1; i <= spec.formattingOnlyTrailingRows(); i++) {
+          Row row = sheet.createRow(footerRowIndex + i);
+          for (int column = 0; column < spec.columns(); column++) {
+            row.createCell(column).setCellStyle(fillStyle);
+          }
+        }
+      }
+
+      for (int sheetNumber = 1; sheetNumber <= spec.extraSheets(); sheetNumber++) {
+        writeExtraSheet(workbook.createSheet("참고" + sheetNumber), sheetNumber);
+      }
+
+      try (OutputStream out = Files.newOutputStream(output)) {
+        workbook.write(out);
+      }
+    }
+  }
+
+  private static void writeDataRow(Sheet sheet, Spec spec, int i) {
+    int rowIndex = FIRST_DATA_ROW_INDEX + i;
+    int errorKind = errorKind(i, spec.errorRatio());
+    int keyRow = keyRowOrdinal(i, spec.errorRatio());
+
+    Row row = sheet.createRow(rowIndex);
+    row.createCell(0).setCellValue(i + 1);
+    row.createCell(1).setCellValue(i + 1);
+    row.createCell(2)
+        .setCellValue(errorKind == ERROR_BLANK_GOODS_DES ? "" : "Item" + (keyRow + 1));
+    row.createCell(3).setCellValue(text("Spec", keyRow, spec.sharedStringRatio()));
+    row.createCell(4).setCellValue(text("Model", i, spec.sharedStringRatio()));
+    row.createCell(5).setCellValue(errorKind == ERROR_INVALID_HSNO ? "bad-hs-code" : hsno(keyRow));
+    row.createCell(7).setCellValue(8.0);
+    if (errorKind == ERROR_NON_NUMERIC_UNITPRICE) {
+      row.createCell(8).setCellValue("N/A");
+    } else {
+      row.createCell(8).setCellValue(100.0 + i);
+    }
+    row.createCell(9).setCellValue(10 + i);
+    row.createCell(11).setCellValue(5 + i);
+    row.createCell(13).setCellValue(50000.0 + (1000.0 * i));
+    row.createCell(14).setCellValue("통과");
+    row.createCell(16).setCellValue(100 + i);
+    for (int column = AAPPCAR_COLUMNS; column < spec.columns(); column++) {
+      row.createCell(column).setCellValue(text("Extra", i, spec.sharedStringRatio()));
+    }
+
+    if (isSelected(i, spec.mergedRowRatio())) {
+      sheet.addMergedRegionUnsafe(new CellRangeAddress(rowIndex, rowIndex, 5, 6));
+      sheet.addMergedRegionUnsafe(new CellRangeAddress(rowIndex, rowIndex, 9, 10));
+      sheet.addMergedRegionUnsafe(new CellRangeAddress(rowIndex, rowIndex, 11, 12));
+      sheet.addMergedRegionUnsafe(new CellRangeAddress(rowIndex, rowIndex, 14, 15));
+    }
+  }
+
+  /** Pooled rows repeat one of {@link #STRING_POOL_SIZE} values; the rest stay unique. */
+  private static String text(String prefix, int dataRowOrdinal, double sharedStringRatio) {
+    if (isSelected(dataRowOrdinal, sharedStringRatio)) {
+      return prefix + "-P" + (dataRowOrdinal % STRING_POOL_SIZE);
+    }
+    return prefix + (dataRowOrdinal + 1);
+  }
+
+  private static String hsno(int dataRowOrdinal) {
+    return String.format("8481.80-%04d", dataRowOrdinal % 10_000);
+  }
+
+  private static void writeHeaderRows(Sheet sheet, int columns) {
+    String[] headers = {
+      "No", "순번", "물품명", "규격1)", "모델명1)", "HSK No", "", "관세율", "단가($)", "소요량", "", "", "",
+      "연간수입예상금액($)", "심의결과", "", "연간 예상소요량"
+    };
+    Row header = sheet.createRow(3);
+    for (int column = 0; column < headers.length; column++) {
+      header.createCell(column).setCellValue(headers[column]);
+    }
+    for (int column = AAPPCAR_COLUMNS; column < columns; column++) {
+      header.createCell(column).setCellValue("비고" + (column - AAPPCAR_COLUMNS + 1));
+    }
+    Row groupRow = sheet.createRow(4);
+    groupRow.createCell(9).setCellValue("제조용");
+    groupRow.createCell(11).setCellValue("수리용");
+    sheet.createRow(5).createCell(9).setCellValue("");
+
+    sheet.addMergedRegion(new CellRangeAddress(3, 3, 9, 12));
+    sheet.addMergedRegion(new CellRangeAddress(4, 4, 9, 10));
+    sheet.addMergedRegion(new CellRangeAddress(4, 4, 11, 12));
+    sheet.addMergedRegion(new CellRangeAddress(5, 5, 9, 10));
+    sheet.addMergedRegion(new CellRangeAddress(5, 5, 11, 12));
+  }
+
+  private static void writeExtraSheet(Sheet sheet, int sheetNumber) {
+    for (int rowIndex = 0; rowIndex < EXTRA_SHEET_ROWS; rowIndex++) {
+      Row row = sheet.createRow(rowIndex);
+      for (int column = 0; column < EXTRA_SHEET_COLUMNS; column++) {
+        if (rowIndex == 0) {
+          row.createCell(column).setCellValue("참고" + sheetNumber + "-" + (column + 1));
+        } else {
+          row.createCell(column).setCellValue(rowIndex * 10 + column);
+        }
+      }
+    }
+  }
+}
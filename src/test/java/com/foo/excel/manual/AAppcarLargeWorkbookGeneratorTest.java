@@ -0,0 +1,104 @@
+package com.foo.excel.manual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.service.contract.ExcelSheetSpec;
+import com.foo.excel.service.contract.ExcelSheetSpecResolver;
+import com.foo.excel.service.pipeline.parse.ExcelParseMode;
+import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import com.foo.excel.util.SecureExcelUtils;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AAppcarLargeWorkbookGeneratorTest {
+
+  private static final ExcelSheetSpec SHEET_SPEC =
+      ExcelSheetSpecResolver.resolve(AAppcarItemImportRow.class);
+
+  @TempDir Path tempDir;
+
+  @Test
+  void rowPreCount_includesFormattingOnlyTrailingRowsButIgnoresExtraSheets() throws IOException {
+    AAppcarLargeWorkbookGenerator.Spec spec =
+        AAppcarLargeWorkbookGenerator.Spec.of(500)
+            .withExtraSheets(2)
+            .withFormattingOnlyTrailingRows(40);
+    Path file = tempDir.resolve("precount.xlsx");
+
+    AAppcarLargeWorkbookGenerator.write(spec, file);
+
+    assertThat(SecureExcelUtils.countRows(file, SHEET_SPEC.resolvedSheetIndex()))
+        .isEqualTo(spec.rowsWithCells())
+        .isEqualTo(3 + 500 + 1 + 40);
+    try (Workbook workbook = WorkbookFactory.create(file.toFile())) {
+      assertThat(workbook.getNumberOfSheets()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void parse_readsEveryDataRowAndReportsNonNumericUnitPriceRows() throws IOException {
+    AAppcarLargeWorkbookGenerator.Spec spec =
+        AAppcarLargeWorkbookGenerator.Spec.of(1_000)
+            .withColumns(20)
+            .withMergedRowRatio(0.5)
+            .withErrorRatio(0.1)
+            .withSharedStringRatio(0.5);
+    Path file = tempDir.resolve("parse.xlsx");
+
+    AAppcarLargeWorkbookGenerator.write(spec, file);
+
+    long nonNumericRows =
+        IntStream.range(0, spec.rows())
+            .filter(
+                i ->
+                    AAppcarLargeWorkbookGenerator.errorKind(i, spec.errorRatio())
+                        == AAppcarLargeWorkbookGenerator.ERROR_NON_NUMERIC_UNITPRICE)
+            .count();
+    for (ExcelParseMode mode : ExcelParseMode.values()) {
+      var result =
+          new ExcelParserService()
+              .parse(
+                  file,
+                  AAppcarItemImportRow.class,
+                  SHEET_SPEC,
+                  Integer.MAX_VALUE,
+                  Integer.MAX_VALUE,
+                  mode);
+
+      assertThat(result.rows()).hasSize(spec.rows());
+      assertThat(result.parseErrors()).hasSize((int) nonNumericRows);
+    }
+    assertThat(nonNumericRows).isEqualTo(25);
+  }
+
+  @Test
+  void errorRows_areSpreadEvenlyAndCycleThroughErrorKinds() {
+    long errorRows =
+        IntStream.range(0, 10_000)
+            .filter(i -> AAppcarLargeWorkbookGenerator.isSelected(i, 0.01))
+            .count();
+
+    assertThat(errorRows).isEqualTo(100);
+    assertThat(AAppcarLargeWorkbookGenerator.errorKind(99, 0.01))
+        .isEqualTo(AAppcarLargeWorkbookGenerator.ERROR_BLANK_GOODS_DES);
+    assertThat(AAppcarLargeWorkbookGenerator.errorKind(199, 0.01))
+        .isEqualTo(AAppcarLargeWorkbookGenerator.ERROR_INVALID_HSNO);
+    assertThat(AAppcarLargeWorkbookGenerator.errorKind(399, 0.01))
+        .isEqualTo(AAppcarLargeWorkbookGenerator.ERROR_DUPLICATE_COMPOSITE_KEY);
+    assertThat(AAppcarLargeWorkbookGenerator.keyRowOrdinal(399, 0.01)).isEqualTo(398);
+    assertThat(AAppcarLargeWorkbookGenerator.errorKind(100, 0.01)).isEqualTo(-1);
+  }
+
+  @Test
+  void spec_rejectsFewerColumnsThanTheAappcarLayout() {
+    assertThatThrownBy(() -> AAppcarLargeWorkbookGenerator.Spec.of(10).withColumns(16))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
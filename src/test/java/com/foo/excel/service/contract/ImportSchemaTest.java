@@ -0,0 +1,110 @@
+package com.foo.excel.service.contract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.foo.excel.annotation.ExcelColumn;
+import com.foo.excel.annotation.ExcelCompositeUnique;
+import com.foo.excel.annotation.ExcelSheet;
+import com.foo.excel.annotation.ExcelUnique;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.validation.ExcelColumnRef;
+import org.junit.jupiter.api.Test;
+
+class ImportSchemaTest {
+
+  @Test
+  void of_cachesSchemaPerRowClass() {
+    assertThat(ImportSchema.of(SampleRow.class)).isSameAs(ImportSchema.of(SampleRow.class));
+  }
+
+  @Test
+  void columns_resolveIndexRefAndHeaderPath_subclassFieldsFirst() {
+    ImportSchema schema = ImportSchema.of(SampleRow.class);
+
+    assertThat(schema.columns())
+        .extracting(column -> column.field().getName())
+        .containsExactly("code", "usage", "name");
+
+    ImportSchema.ColumnSchema code = schema.findColumn("code");
+    assertThat(code.columnIndex()).isEqualTo(1);
+    assertThat(code.columnRef()).isEqualTo(ExcelColumnRef.ofLetter("B"));
+    assertThat(code.field().canAccess(new SampleRow())).isTrue();
+
+    assertThat(schema.findColumn("usage").expectedHeaderLabel()).isEqualTo("소요량 > 제조용");
+    assertThat(schema.findColumn("name").expectedHeaderSegments()).containsExactly("Name");
+    assertThat(schema.findColumn("memo")).isNull();
+  }
+
+  @Test
+  void uniquePlans_resolveKeyFieldsWithColumnInfo() {
+    ImportSchema schema = ImportSchema.of(SampleRow.class);
+
+    assertThat(schema.withinFileUniqueFields())
+        .singleElement()
+        .satisfies(
+            plan -> {
+              assertThat(plan.keyField().field().getName()).isEqualTo("code");
+              assertThat(plan.keyField().headerName()).isEqualTo("Code");
+              assertThat(plan.keyField().columnIndex()).isEqualTo(1);
+            });
+
+    ImportSchema.CompositeKeyPlan composite = schema.compositeKeys().get(0);
+    assertThat(composite.keyFields())
+        .extracting(ImportSchema.KeyField::headerName)
+        .containsExactly("Code", "memo");
+    assertThat(composite.keyFields().get(1).columnIndex()).isEqualTo(-1);
+    assertThat(composite.keyFields().get(1).columnRef()).isNull();
+  }
+
+  @Test
+  void of_compositeReferencingMissingField_throws() {
+    assertThatThrownBy(() -> ImportSchema.of(BrokenCompositeRow.class))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("missing");
+  }
+
+  @Test
+  void importDefinition_brokenRowClass_failsAtConstruction() {
+    assertThatThrownBy(
+            () ->
+                new ExcelImportDefinition<>(
+                    "test",
+                    BrokenCompositeRow.class,
+                    AAppcarItemImportMetadata.class,
+                    null,
+                    null,
+                    null))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("missing");
+  }
+
+  static class BaseRow {
+    @ExcelColumn(label = "Name", column = "D")
+    private String name;
+  }
+
+  @ExcelCompositeUnique(fields = {"code", "memo"})
+  static class SampleRow extends BaseRow {
+    @ExcelColumn(label = "Code", column = "b")
+    @ExcelUnique
+    private String code;
+
+    @ExcelColumn(
+        label = "제조용",
+        column = "C",
+        headerRowStart = 4,
+        headerRowCount = 2,
+        headerLabels = {"소요량", "제조용"})
+    private Integer usage;
+
+    private String memo;
+  }
+
+  @ExcelSheet
+  @ExcelCompositeUnique(fields = {"code", "missing"})
+  static class BrokenCompositeRow {
+    @ExcelColumn(label = "Code", column = "A")
+    private String code;
+  }
+}
@@ -0,0 +1,53 @@
+package com.foo.excel.service.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.service.pipeline.ImportStageMetrics.Outcome;
+import com.foo.excel.service.pipeline.ImportStageMetrics.Recording;
+import com.foo.excel.service.pipeline.ImportStageMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ImportStageMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ImportStageMetrics metrics = new ImportStageMetrics(registry);
+
+  @Test
+  void finish_recordsOnlyExecutedStagesWithOutcomeTag() {
+    metrics
+        .start("sample", 2048)
+        .stage(Stage.FILE, 5)
+        .stage(Stage.PARSE, 40)
+        .finish(Outcome.PARSE_FAILED, 12);
+
+    assertThat(
+            registry
+                .get("excel.import.stage")
+                .tags("importType", "sample", "stage", "parse", "outcome", "parse-failed")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(40);
+    assertThat(registry.find("excel.import.stage").tags("stage", "validation").timer()).isNull();
+    assertThat(
+            registry.get("excel.import.duration").tags("outcome", "parse-failed").timer().count())
+        .isEqualTo(1);
+    assertThat(registry.get("excel.import.rows").summary().totalAmount()).isEqualTo(12);
+    assertThat(registry.get("excel.import.file.size").summary().totalAmount()).isEqualTo(2048);
+    // 처리량 게이지는 성공한 업로드만 반영한다.
+    assertThat(registry.find("excel.import.throughput.rows").gauge()).isNull();
+  }
+
+  @Test
+  void finish_calledTwice_recordsOnce() {
+    Recording recording = metrics.start("sample", 100).stage(Stage.SAVE, 3);
+
+    recording.finish(Outcome.SUCCESS, 10);
+    recording.finish(Outcome.SUCCESS, 10);
+
+    assertThat(registry.get("excel.import.duration").timer().count()).isEqualTo(1);
+    assertThat(registry.get("excel.import.throughput.rows").gauge().value()).isPositive();
+    assertThat(registry.get("excel.import.throughput.bytes").gauge().value()).isPositive();
+  }
+}
@@ -0,0 +1,164 @@
+package com.foo.excel.service.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.config.ExcelImportProperties;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportMetadata;
+import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.manual.AAppcarLargeWorkbookGenerator;
+import com.foo.excel.service.contract.ExcelImportDefinition;
+import com.foo.excel.service.contract.PersistenceHandler;
+import com.foo.excel.service.pipeline.PipelinedImportExecutor.PipelineRun;
+import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import com.foo.excel.service.pipeline.validation.ExcelValidationService;
+import com.foo.excel.validation.CellError;
+import com.foo.excel.validation.ExcelColumnRef;
+import com.foo.excel.validation.RowError;
+import com.foo.excel.validation.WithinFileUniqueConstraintValidator;
+import jakarta.validation.Validation;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PipelinedImportExecutorTest {
+
+  @TempDir Path tempDir;
+
+  private ExcelImportProperties properties;
+  private PipelinedImportExecutor executor;
+  private RecordingPersistenceHandler persistenceHandler;
+  private Path xlsxFile;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    properties = new ExcelImportProperties();
+    properties.setChunkSize(3);
+    properties.setPipelineMaxConcurrentImports(1);
+    executor =
+        new PipelinedImportExecutor(
+            new ExcelParserService(),
+            new ExcelValidationService(
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new WithinFileUniqueConstraintValidator()),
+            properties);
+    persistenceHandler = new RecordingPersistenceHandler();
+    // 원본 행 7~16, 청크는 7~9, 10~12, 13~15, 16
+    xlsxFile = tempDir.resolve("aappcar.xlsx");
+    AAppcarLargeWorkbookGenerator.write(AAppcarLargeWorkbookGenerator.Spec.of(10), xlsxFile);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void run_validFile_savesEveryChunk_andFinishesOnce() {
+    PipelineRun<AAppcarItemImportRow> run = run(Set.of());
+
+    assertThat(run.dbErrors()).isEmpty();
+    assertThat(persistenceHandler.savedChunkSizes).containsExactly(3, 3, 3, 1);
+    assertThat(persistenceHandler.finishCount).isEqualTo(1);
+    assertThat(run.saveResult().created()).isEqualTo(10);
+  }
+
+  @Test
+  void run_dbConflictsInSeveralChunks_collectsEveryConflict_andSavesNothing() {
+    PipelineRun<AAppcarItemImportRow> run = run(Set.of(8, 14));
+
+    assertThat(run.dbErrors()).extracting(RowError::getRowNumber).containsExactly(8, 14);
+    assertThat(persistenceHandler.savedChunkSizes).isEmpty();
+    assertThat(persistenceHandler.finishCount).isZero();
+  }
+
+  @Test
+  void run_dbConflictInLastChunk_stopsForwarding_andSkipsFinish() {
+    PipelineRun<AAppcarItemImportRow> run = run(Set.of(16));
+
+    assertThat(run.dbErrors()).extracting(RowError::getRowNumber).containsExactly(16);
+    assertThat(persistenceHandler.savedChunkSizes).containsExactly(3, 3, 3);
+    assertThat(persistenceHandler.finishCount).isZero();
+  }
+
+  @Test
+  void tryAcquireSlot_isLimitedByMaxConcurrentImports() {
+    Optional<PipelinedImportExecutor.Slot> first = executor.tryAcquireSlot();
+
+    assertThat(first).isPresent();
+    assertThat(executor.tryAcquireSlot()).isEmpty();
+
+    first.get().close();
+    first.get().close();
+    Optional<PipelinedImportExecutor.Slot> second = executor.tryAcquireSlot();
+    assertThat(second).isPresent();
+    assertThat(executor.tryAcquireSlot()).isEmpty();
+    second.get().close();
+  }
+
+  private PipelineRun<AAppcarItemImportRow> run(Set<Integer> conflictingRows) {
+    ExcelImportDefinition<AAppcarItemImportRow, AAppcarItemImportMetadata> definition =
+        new ExcelImportDefinition<>(
+            "pipelined-test",
+            AAppcarItemImportRow.class,
+            AAppcarItemImportMetadata.class,
+            persistenceHandler,
+            null,
+            (rows, rowClass, sourceRowNumbers, metadata) ->
+                sourceRowNumbers.stream()
+                    .filter(conflictingRows::contains)
+                    .map(PipelinedImportExecutorTest::conflict)
+                    .toList());
+    return executor.run(
+        definition,
+        new AAppcarItemImportMetadata(),
+        xlsxFile,
+        Integer.MAX_VALUE,
+        Integer.MAX_VALUE);
+  }
+
+  private static RowError conflict(int rowNumber) {
+    CellError cellError =
+        CellError.builder()
+            .columnIndex(1)
+            .columnRef(ExcelColumnRef.ofLetter("B"))
+            .message("이미 존재하는 ID입니다.")
+            .build();
+    return RowError.builder().rowNumber(rowNumber).cellErrors(List.of(cellError)).build();
+  }
+
+  private static final class RecordingPersistenceHandler
+      implements PersistenceHandler<AAppcarItemImportRow, AAppcarItemImportMetadata> {
+
+    private final List<Integer> savedChunkSizes = new ArrayList<>();
+    private int finishCount;
+
+    @Override
+    public SaveResult saveAll(
+        List<AAppcarItemImportRow> rows,
+        List<Integer> sourceRowNumbers,
+        AAppcarItemImportMetadata metadata) {
+      throw new UnsupportedOperationException("파이프라인 모드는 saveChunk를 호출해야 합니다.");
+    }
+
+    @Override
+    public SaveResult saveChunk(
+        List<AAppcarItemImportRow> rows,
+        List<Integer> sourceRowNumbers,
+        AAppcarItemImportMetadata metadata) {
+      savedChunkSizes.add(rows.size());
+      return new SaveResult(rows.size(), 0);
+    }
+
+    @Override
+    public void finishChunkedSave(AAppcarItemImportMetadata metadata) {
+      finishCount++;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.foo.excel.service.pipeline.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImportEventContextTest {
+
+  @TempDir Path tempDir;
+
+  @AfterEach
+  void tearDown() {
+    ImportEventContext.clear();
+  }
+
+  @Test
+  void stageEvent_carriesBoundImportContext() throws Exception {
+    ImportEventContext.bind(new ImportEventContext("aappcar", null, 2048));
+    ImportEventContext.bind(ImportEventContext.current().withFileName("items.xlsx"));
+
+    List<RecordedEvent> events =
+        record("com.foo.excel.ImportStage", () -> ImportStageEvent.begin("parse").complete());
+
+    assertThat(events)
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.getString("stage")).isEqualTo("parse");
+              assertThat(event.getString("importType")).isEqualTo("aappcar");
+              assertThat(event.getString("fileName")).isEqualTo("items.xlsx");
+              assertThat(event.getLong("fileBytes")).isEqualTo(2048);
+            });
+  }
+
+  @Test
+  void propagate_bindsContextOnWorkerThreadAndRestoresIt() throws Exception {
+    ImportEventContext context = new ImportEventContext("aappcar", "items.xlsx", 2048);
+    ImportEventContext.bind(context);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ImportEventContext seen =
+          executor.submit(ImportEventContext.propagate(ImportEventContext::current)).get();
+      ImportEventContext afterwards = executor.submit(ImportEventContext::current).get();
+
+      assertThat(seen).isEqualTo(context);
+      assertThat(afterwards).isNull();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void event_withoutContext_leavesImportFieldsEmpty() throws Exception {
+    List<RecordedEvent> events =
+        record("com.foo.excel.ImportStage", () -> ImportStageEvent.begin("save").complete());
+
+    assertThat(events)
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.getString("importType")).isNull();
+              assertThat(event.getLong("fileBytes")).isZero();
+            });
+  }
+
+  private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+    Path dump = tempDir.resolve("events.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(eventName);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(dump);
+    }
+    return RecordingFile.readAllEvents(dump);
+  }
+}
@@ -0,0 +1,53 @@
+package com.foo.excel.service.pipeline.parse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class CellValueConverterTest {
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      value = {
+        "1234|1234",
+        "'1,234'|1234",
+        "' 1, 234 '|1234",
+        "'1,234,567.50'|1234567.50",
+        "''|''",
+      })
+  void stripGroupingAndWhitespace_removesCommasAndWhitespace(String input, String expected) {
+    assertThat(CellValueConverter.stripGroupingAndWhitespace(input)).isEqualTo(expected);
+  }
+
+  @Test
+  void stripGroupingAndWhitespace_nothingToStrip_returnsSameInstance() {
+    String value = "98765";
+
+    assertThat(CellValueConverter.stripGroupingAndWhitespace(value)).isSameAs(value);
+  }
+
+  @Test
+  void stripGroupingAndWhitespace_matchesRegexWhitespaceClass() {
+    assertThat(CellValueConverter.stripGroupingAndWhitespace("1\t2\n3\u000B4\f5\r6"))
+        .isEqualTo("123456");
+    // 정규식 \s와 같이 줄바꿈 없는 공백(NBSP)은 남긴다.
+    assertThat(CellValueConverter.stripGroupingAndWhitespace("1\u00A02")).isEqualTo("1\u00A02");
+  }
+
+  @Test
+  void forType_selectsConverterByFieldType() {
+    assertThat(CellValueConverter.forType(Integer.class)).isEqualTo(CellValueConverter.INTEGER);
+    assertThat(CellValueConverter.forType(int.class)).isEqualTo(CellValueConverter.INTEGER);
+    assertThat(CellValueConverter.forType(BigDecimal.class))
+        .isEqualTo(CellValueConverter.BIG_DECIMAL);
+    assertThat(CellValueConverter.forType(LocalDate.class))
+        .isEqualTo(CellValueConverter.LOCAL_DATE);
+    assertThat(CellValueConverter.forType(boolean.class)).isEqualTo(CellValueConverter.BOOLEAN);
+    assertThat(CellValueConverter.forType(Long.class)).isEqualTo(CellValueConverter.STRING);
+  }
+}
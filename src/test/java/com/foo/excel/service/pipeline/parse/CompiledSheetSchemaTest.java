@@ -0,0 +1,92 @@
+package com.foo.excel.service.pipeline.parse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.annotation.ExcelColumn;
+import com.foo.excel.annotation.HeaderMatchMode;
+import com.foo.excel.service.pipeline.parse.CompiledSheetSchema.CompiledColumn;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompiledSheetSchemaTest {
+
+  @Test
+  void of_cachesSchemaPerRowClass_andCompilesColumnsOnce() {
+    CompiledSheetSchema schema = CompiledSheetSchema.of(SampleRow.class);
+
+    assertThat(CompiledSheetSchema.of(SampleRow.class)).isSameAs(schema);
+    assertThat(schema.columns())
+        .extracting(column -> column.field().getName())
+        .containsExactly("code", "date", "note", "usage");
+
+    CompiledColumn code = schema.columns().get(0);
+    assertThat(code.columnIndex()).isEqualTo(1);
+    assertThat(code.columnRef().rawLetter()).isEqualTo("B");
+    assertThat(code.headerPatterns()).hasSize(1);
+    assertThat(code.dateFormatter()).isNull();
+
+    CompiledColumn date = schema.columns().get(1);
+    assertThat(date.headerPatterns()).isEmpty();
+    assertThat(LocalDate.parse("2024/01/15", date.dateFormatter()))
+        .isEqualTo(LocalDate.of(2024, 1, 15));
+  }
+
+  @Test
+  void matchesHeader_usesPrecompiledPatternsAndNormalizedSegments() {
+    List<CompiledColumn> columns = CompiledSheetSchema.of(SampleRow.class).columns();
+
+    assertThat(columns.get(0).matchesHeader(List.of("HS-1234"))).isTrue();
+    assertThat(columns.get(0).matchesHeader(List.of("HS-12"))).isFalse();
+
+    CompiledColumn note = columns.get(2);
+    assertThat(note.expectedSegments()).containsExactly("비고사항");
+    assertThat(note.matchesHeader(List.of("비 고\n사항 (선택)"))).isTrue();
+
+    CompiledColumn usage = columns.get(3);
+    assertThat(usage.expectedHeaderLabel()).isEqualTo("소요량 > 제조용");
+    assertThat(usage.matchesHeader(List.of("소요량", "제조용"))).isTrue();
+    assertThat(usage.matchesHeader(List.of("소요량"))).isFalse();
+  }
+
+  @Test
+  void headerScanEndRow_coversExplicitMultiRowHeaders() {
+    CompiledSheetSchema schema = CompiledSheetSchema.of(SampleRow.class);
+
+    assertThat(schema.headerScanEndRow(1)).isEqualTo(4);
+    assertThat(schema.headerScanEndRow(7)).isEqualTo(7);
+  }
+
+  @Test
+  void of_invalidDateFormat_leavesFormatterEmptyInsteadOfFailing() {
+    CompiledColumn column = CompiledSheetSchema.of(InvalidDateFormatRow.class).columns().get(0);
+
+    assertThat(column.dateFormatter()).isNull();
+  }
+
+  static class SampleRow {
+    @ExcelColumn(label = "HS-\\d{4}", column = "b", matchMode = HeaderMatchMode.REGEX)
+    private String code;
+
+    @ExcelColumn(label = "일자", column = "C", dateFormat = "yyyy/MM/dd")
+    private LocalDate date;
+
+    @ExcelColumn(label = "비고 사항", column = "D", ignoreHeaderWhitespace = true)
+    private String note;
+
+    @ExcelColumn(
+        label = "제조용",
+        column = "E",
+        headerRowStart = 3,
+        headerRowCount = 3,
+        headerLabels = {"소요량", "제조용"})
+    private Integer usage;
+
+    private String unmapped;
+  }
+
+  static class InvalidDateFormatRow {
+    @ExcelColumn(label = "일자", column = "A", dateFormat = "yyyy-MM-dd{")
+    private LocalDate date;
+  }
+}
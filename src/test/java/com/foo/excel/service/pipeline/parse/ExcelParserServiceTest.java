@@ -9,14 +9,23 @@ import com.foo.excel.annotation.ExcelColumn;
 import com.foo.excel.annotation.HeaderMatchMode;
 import com.foo.excel.service.contract.ExcelSheetSpec;
 import com.foo.excel.service.contract.ExcelSheetSpecResolver;
+import com.foo.excel.service.pipeline.jfr.ImportEventContext;
 import com.foo.excel.imports.samples.aappcar.dto.AAppcarItemImportRow;
+import com.foo.excel.util.SecureExcelUtils;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import lombok.Data;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.util.CellRangeAddress;
@@ -114,6 +123,21 @@ class ExcelParserServiceTest {
     assertThat(result.rows().get(0).getGoodsDes()).contains("※");
   }
 
+  @Test
+  void parse_rowClassification_matchesBlankNoteAndFooterRules() throws IOException {
+    Path file = createAAppcarItemFileWithClassificationRows();
+
+    ExcelParserService.ParseResult<AAppcarItemImportRow> result =
+        parserService.parse(file, AAppcarItemImportRow.class, tariffSheetSpec);
+
+    // 8행 공백 문자열만 있는 빈 행, 9행 앞 공백 뒤 ※ 안내 행, 10행 앞뒤 공백만 다른 같은 값 안내 행,
+    // 11행 숫자 5와 문자열 "5"로 포맷이 같은 안내 행은 건너뛴다.
+    assertThat(result.sourceRowNumbers()).containsExactly(7, 12, 13, 14);
+    assertThat(result.rows().get(1).getGoodsDes()).isEqualTo("2");
+    assertThat(result.rows().get(2).getGoodsDes()).isEqualTo("단독 값");
+    assertStreamingMatchesWorkbook(file, AAppcarItemImportRow.class, tariffSheetSpec);
+  }
+
   @Test
   void parse_mergedCellResolution() throws IOException {
     // 병합 셀 F-G(HSK No 컬럼)가 있는 파일 생성
@@ -402,6 +426,303 @@ class ExcelParserServiceTest {
             });
   }
 
+  // ===== 스트리밍 파싱 모드 테스트 =====
+
+  @Test
+  void parse_streamingMode_matchesWorkbookMode_withFooterAndBlankRows() throws IOException {
+    Path file = createAAppcarItemFile(5, true, true);
+
+    assertStreamingMatchesWorkbook(file, AAppcarItemImportRow.class, tariffSheetSpec);
+  }
+
+  @Test
+  void parse_streamingMode_matchesWorkbookMode_withMergedCells() throws IOException {
+    assertStreamingMatchesWorkbook(
+        createFileWithMergedCells(), AAppcarItemImportRow.class, tariffSheetSpec);
+    assertStreamingMatchesWorkbook(
+        createAAppcarItemFileWithExtraHeaderDetailAndMergedNote(),
+        AAppcarItemImportRow.class,
+        tariffSheetSpec);
+  }
+
+  @Test
+  void parse_streamingMode_matchesWorkbookMode_realSamples() throws IOException {
+    assertStreamingMatchesWorkbook(
+        copySampleFile("samples/tariff_exemption_sample.xlsx"),
+        AAppcarItemImportRow.class,
+        tariffSheetSpec);
+    assertStreamingMatchesWorkbook(
+        copySampleFile("samples/tariff_exemption_sample_merged_cols.xlsx"),
+        AAppcarItemImportRow.class,
+        tariffSheetSpec);
+    assertStreamingMatchesWorkbook(
+        copySampleFile("samples/tariff_exemption_invalid_sample.xlsx"),
+        AAppcarItemImportRow.class,
+        tariffSheetSpec);
+  }
+
+  @Test
+  void parse_streamingMode_matchesWorkbookMode_forTypeCoercionAndParseErrors()
+      throws IOException {
+    assertStreamingMatchesWorkbook(
+        createFileWithInvalidTypeData(),
+        IntegerDto.class,
+        ExcelSheetSpecResolver.resolve(IntegerDto.class));
+    assertStreamingMatchesWorkbook(
+        createFileWithBooleanColumn(),
+        BooleanDto.class,
+        ExcelSheetSpecResolver.resolve(BooleanDto.class));
+    assertStreamingMatchesWorkbook(
+        createFileWithDateColumn(), DateDto.class, ExcelSheetSpecResolver.resolve(DateDto.class));
+    assertStreamingMatchesWorkbook(
+        createWorkbookWithTargetDataOnSecondSheet(),
+        SecondSheetSimpleDto.class,
+        ExcelSheetSpecResolver.resolve(SecondSheetSimpleDto.class));
+  }
+
+  @Test
+  void parse_streamingMode_readsDateFormattedNumericCell() throws IOException {
+    Path file = createFileWithDateFormattedNumericColumn();
+    ExcelSheetSpec dateSheetSpec = ExcelSheetSpecResolver.resolve(DateDto.class);
+
+    ExcelParserService.ParseResult<DateDto> result =
+        parserService.parse(
+            file,
+            DateDto.class,
+            dateSheetSpec,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            ExcelParseMode.STREAMING);
+
+    assertThat(result.rows()).hasSize(1);
+    assertThat(result.rows().get(0).getDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+  }
+
+  @Test
+  void parse_streamingMode_maxRows_stopsEarly() throws IOException {
+    Path file = createAAppcarItemFile(20, false, false);
+
+    ExcelParserService.ParseResult<AAppcarItemImportRow> result =
+        parserService.parse(
+            file,
+            AAppcarItemImportRow.class,
+            tariffSheetSpec,
+            5,
+            Integer.MAX_VALUE,
+            ExcelParseMode.STREAMING);
+
+    assertThat(result.rows()).hasSize(6);
+    assertThat(result.sourceRowNumbers()).containsExactly(7, 8, 9, 10, 11, 12);
+  }
+
+  @Test
+  void parse_streamingMode_rowCountLimit_rejectsBeforeReadingRows() throws IOException {
+    Path file = createAAppcarItemFile(20, false, false);
+    int rowsWithCells = SecureExcelUtils.countRows(file, 0);
+
+    assertThatThrownBy(
+            () ->
+                parserService.parse(
+                    file,
+                    AAppcarItemImportRow.class,
+                    tariffSheetSpec,
+                    Integer.MAX_VALUE,
+                    Integer.MAX_VALUE,
+                    ExcelParseMode.STREAMING,
+                    rowsWithCells - 1))
+        .isInstanceOfSatisfying(
+            RowCountLimitExceededException.class,
+            e -> {
+              assertThat(e.getRowCount()).isEqualTo(rowsWithCells);
+              assertThat(e.getRowCountLimit()).isEqualTo(rowsWithCells - 1);
+            });
+  }
+
+  @Test
+  void parse_streamingMode_rowCountLimit_atExactCount_parsesAllRows() throws IOException {
+    Path file = createAAppcarItemFile(20, false, false);
+    int rowsWithCells = SecureExcelUtils.countRows(file, 0);
+
+    ExcelParserService.ParseResult<AAppcarItemImportRow> result =
+        parserService.parse(
+            file,
+            AAppcarItemImportRow.class,
+            tariffSheetSpec,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            ExcelParseMode.STREAMING,
+            rowsWithCells);
+
+    assertThat(result.rows()).hasSize(20);
+  }
+
+  @Test
+  void parseInChunks_emitsBoundedChunksMatchingFullParse() throws IOException {
+    Path file = createAAppcarItemFile(23, false, false);
+    ExcelParserService.ParseResult<AAppcarItemImportRow> full =
+        parserService.parse(file, AAppcarItemImportRow.class, tariffSheetSpec);
+
+    for (ExcelParseMode mode : ExcelParseMode.values()) {
+      List<ExcelParserService.RowChunk<AAppcarItemImportRow>> chunks = new ArrayList<>();
+      ExcelParserService.ChunkedParseResult result =
+          parserService.parseInChunks(
+              file,
+              AAppcarItemImportRow.class,
+              tariffSheetSpec,
+              Integer.MAX_VALUE,
+              Integer.MAX_VALUE,
+              mode,
+              Integer.MAX_VALUE,
+              10,
+              chunks::add);
+
+      assertThat(chunks).extracting(chunk -> chunk.rows().size()).containsExactly(10, 10, 3);
+      assertThat(chunks)
+          .flatExtracting(ExcelParserService.RowChunk::sourceRowNumbers)
+          .containsExactlyElementsOf(full.sourceRowNumbers());
+      assertThat(chunks)
+          .flatExtracting(ExcelParserService.RowChunk::rows)
+          .usingRecursiveFieldByFieldElementComparator()
+          .containsExactlyElementsOf(full.rows());
+      assertThat(chunks).extracting(ExcelParserService.RowChunk::parseErrorRows).containsOnly(0);
+      assertThat(result.rowCount()).isEqualTo(23);
+      assertThat(result.columnMappings()).isEqualTo(full.columnMappings());
+      assertThat(result.parseErrors()).isEmpty();
+    }
+  }
+
+  @Test
+  void parseInChunks_recordsParseChunkEventPerChunk() throws IOException {
+    Path file = createAAppcarItemFile(23, false, false);
+    Path dump = tempDir.resolve("parse.jfr");
+
+    ImportEventContext.bind(new ImportEventContext("aappcar", "items.xlsx", 4096));
+    try (Recording recording = new Recording()) {
+      recording.enable("com.foo.excel.ParseChunk");
+      recording.start();
+      parserService.parseInChunks(
+          file,
+          AAppcarItemImportRow.class,
+          tariffSheetSpec,
+          Integer.MAX_VALUE,
+          Integer.MAX_VALUE,
+          ExcelParseMode.STREAMING,
+          Integer.MAX_VALUE,
+          10,
+          chunk -> {});
+      recording.stop();
+      recording.dump(dump);
+    } finally {
+      ImportEventContext.clear();
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+    assertThat(events).extracting(event -> event.getInt("chunkIndex")).containsExactly(0, 1, 2);
+    assertThat(events).extracting(event -> event.getInt("rows")).containsExactly(10, 10, 3);
+    assertThat(events)
+        .allSatisfy(
+            event -> {
+              assertThat(event.getLong("cellsConverted")).isPositive();
+              assertThat(event.getString("importType")).isEqualTo("aappcar");
+              assertThat(event.getString("fileName")).isEqualTo("items.xlsx");
+            });
+  }
+
+  @Test
+  void parseInChunks_maxRows_stopsAfterOverflowRow() throws IOException {
+    Path file = createAAppcarItemFile(20, false, false);
+    List<Integer> emittedRowNumbers = new ArrayList<>();
+
+    ExcelParserService.ChunkedParseResult result =
+        parserService.parseInChunks(
+            file,
+            AAppcarItemImportRow.class,
+            tariffSheetSpec,
+            5,
+            Integer.MAX_VALUE,
+            ExcelParseMode.STREAMING,
+            Integer.MAX_VALUE,
+            4,
+            chunk -> emittedRowNumbers.addAll(chunk.sourceRowNumbers()));
+
+    assertThat(result.rowCount()).isEqualTo(6);
+    assertThat(emittedRowNumbers).containsExactly(7, 8, 9, 10, 11, 12);
+  }
+
+  @Test
+  void parseInChunks_nonPositiveChunkSize_throws() {
+    assertThatThrownBy(
+            () ->
+                parserService.parseInChunks(
+                    tempDir.resolve("unused.xlsx"),
+                    AAppcarItemImportRow.class,
+                    tariffSheetSpec,
+                    Integer.MAX_VALUE,
+                    Integer.MAX_VALUE,
+                    ExcelParseMode.STREAMING,
+                    Integer.MAX_VALUE,
+                    0,
+                    chunk -> {}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void parse_streamingMode_headerMismatch_throwsSameBatchException() throws IOException {
+    Path file = createFileWithAllWrongHeaders();
+    ExcelSheetSpec sheetSpec = ExcelSheetSpecResolver.resolve(TwoRequiredDto.class);
+
+    assertThatThrownBy(
+            () ->
+                parserService.parse(
+                    file,
+                    TwoRequiredDto.class,
+                    sheetSpec,
+                    Integer.MAX_VALUE,
+                    Integer.MAX_VALUE,
+                    ExcelParseMode.STREAMING))
+        .isInstanceOf(ColumnResolutionBatchException.class)
+        .satisfies(
+            ex -> assertThat(((ColumnResolutionBatchException) ex).getExceptions()).hasSize(2));
+  }
+
+  @Test
+  void parse_streamingMode_readsCachedFormulaResult() throws IOException {
+    Path file = createFileWithFormulaCountColumn();
+    ExcelSheetSpec integerSheetSpec = ExcelSheetSpecResolver.resolve(IntegerDto.class);
+
+    ExcelParserService.ParseResult<IntegerDto> streaming =
+        parserService.parse(
+            file,
+            IntegerDto.class,
+            integerSheetSpec,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            ExcelParseMode.STREAMING);
+    ExcelParserService.ParseResult<IntegerDto> workbook =
+        parserService.parse(file, IntegerDto.class, integerSheetSpec);
+
+    // 스트리밍 모드는 저장된 계산 결과를, 워크북 모드는 수식 문자열을 읽는다.
+    assertThat(streaming.rows().get(0).getCount()).isEqualTo(3);
+    assertThat(streaming.parseErrors()).isEmpty();
+    assertThat(workbook.parseErrors()).hasSize(1);
+  }
+
+  @Test
+  void parse_numericCellWithHiddenFormat_treatedAsBlank_andGroupedStringParsed()
+      throws IOException {
+    Path file = createFileWithHiddenFormatAndGroupedCounts();
+    ExcelSheetSpec integerSheetSpec = ExcelSheetSpecResolver.resolve(IntegerDto.class);
+
+    ExcelParserService.ParseResult<IntegerDto> result =
+        parserService.parse(file, IntegerDto.class, integerSheetSpec);
+
+    // 2행은 ";;;" 형식으로 값이 보이지 않으므로 매핑 값이 없는 행으로 건너뛴다.
+    assertThat(result.sourceRowNumbers()).containsExactly(3, 4);
+    assertThat(result.rows()).extracting(IntegerDto::getCount).containsExactly(1234, 42);
+    assertThat(result.parseErrors()).isEmpty();
+    assertStreamingMatchesWorkbook(file, IntegerDto.class, integerSheetSpec);
+  }
+
   // ===== 헬퍼 DTO =====
 
   @Data
@@ -631,6 +952,49 @@ class ExcelParserServiceTest {
     }
   }
 
+  private Path createAAppcarItemFileWithClassificationRows() throws IOException {
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      Sheet sheet = wb.createSheet("Sheet1");
+      createTariffHeaderRows(sheet);
+
+      populateAappcarItemRow(sheet.createRow(6), 1);
+
+      Row whitespaceRow = sheet.createRow(7);
+      whitespaceRow.createCell(0).setCellValue("   ");
+      whitespaceRow.createCell(2).setCellValue(" ");
+
+      Row indentedFooterRow = sheet.createRow(8);
+      indentedFooterRow.createCell(0).setCellValue("  ※ 비고");
+      indentedFooterRow.createCell(2).setCellValue("참고");
+
+      Row paddedNoteRow = sheet.createRow(9);
+      paddedNoteRow.createCell(2).setCellValue("확인 필요");
+      paddedNoteRow.createCell(3).setCellValue("  확인 필요 ");
+
+      Row mixedTypeNoteRow = sheet.createRow(10);
+      mixedTypeNoteRow.createCell(1).setCellValue(5);
+      mixedTypeNoteRow.createCell(2).setCellValue("5");
+      mixedTypeNoteRow.createCell(9).setCellValue(5.0);
+
+      Row mixedTypeDataRow = sheet.createRow(11);
+      mixedTypeDataRow.createCell(1).setCellValue(2);
+      mixedTypeDataRow.createCell(2).setCellValue("2");
+      mixedTypeDataRow.createCell(3).setCellValue("Spec2");
+
+      Row singleValueRow = sheet.createRow(12);
+      singleValueRow.createCell(0).setCellValue("비매핑");
+      singleValueRow.createCell(2).setCellValue("단독 값");
+
+      populateAappcarItemRow(sheet.createRow(13), 3);
+
+      Path file = tempDir.resolve("tariff_row_classification.xlsx");
+      try (OutputStream os = Files.newOutputStream(file)) {
+        wb.write(os);
+      }
+      return file;
+    }
+  }
+
   private void populateAappcarItemRow(Row row, int sequence) {
     row.createCell(0).setCellValue(sequence); // Column A
     row.createCell(1).setCellValue(sequence); // B열 - goodsSeqNo
@@ -852,6 +1216,108 @@ class ExcelParserServiceTest {
     }
   }
 
+  private <T> void assertStreamingMatchesWorkbook(
+      Path file, Class<T> rowClass, ExcelSheetSpec sheetSpec) throws IOException {
+    ExcelParserService.ParseResult<T> workbook =
+        parserService.parse(
+            file,
+            rowClass,
+            sheetSpec,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            ExcelParseMode.WORKBOOK);
+    ExcelParserService.ParseResult<T> streaming =
+        parserService.parse(
+            file,
+            rowClass,
+            sheetSpec,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            ExcelParseMode.STREAMING);
+
+    assertThat(streaming.rows()).isEqualTo(workbook.rows());
+    assertThat(streaming.sourceRowNumbers()).isEqualTo(workbook.sourceRowNumbers());
+    assertThat(streaming.columnMappings()).isEqualTo(workbook.columnMappings());
+    assertThat(streaming.parseErrors()).isEqualTo(workbook.parseErrors());
+  }
+
+  private Path createFileWithDateFormattedNumericColumn() throws IOException {
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      Sheet sheet = wb.createSheet("Sheet1");
+      CellStyle dateStyle = wb.createCellStyle();
+      dateStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+
+      Row headerRow = sheet.createRow(0);
+      headerRow.createCell(0).setCellValue("Deco");
+      headerRow.createCell(1).setCellValue("Date");
+
+      Row dataRow = sheet.createRow(1);
+      dataRow.createCell(0).setCellValue(1);
+      Cell dateCell = dataRow.createCell(1);
+      dateCell.setCellValue(LocalDate.of(2024, 1, 15));
+      dateCell.setCellStyle(dateStyle);
+
+      Path file = tempDir.resolve("date_formatted_numeric_test.xlsx");
+      try (OutputStream os = Files.newOutputStream(file)) {
+        wb.write(os);
+      }
+      return file;
+    }
+  }
+
+  private Path createFileWithHiddenFormatAndGroupedCounts() throws IOException {
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      Sheet sheet = wb.createSheet("Sheet1");
+      CellStyle hiddenStyle = wb.createCellStyle();
+      hiddenStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat(";;;"));
+
+      Row headerRow = sheet.createRow(0);
+      headerRow.createCell(0).setCellValue("Deco");
+      headerRow.createCell(1).setCellValue("Count");
+
+      Row hiddenRow = sheet.createRow(1);
+      hiddenRow.createCell(0).setCellValue("hidden");
+      Cell hiddenCell = hiddenRow.createCell(1);
+      hiddenCell.setCellValue(7);
+      hiddenCell.setCellStyle(hiddenStyle);
+
+      Row groupedRow = sheet.createRow(2);
+      groupedRow.createCell(0).setCellValue("grouped");
+      groupedRow.createCell(1).setCellValue(" 1,234 ");
+
+      Row numericRow = sheet.createRow(3);
+      numericRow.createCell(0).setCellValue("numeric");
+      numericRow.createCell(1).setCellValue(42);
+
+      Path file = tempDir.resolve("hidden_format_grouped_count_test.xlsx");
+      try (OutputStream os = Files.newOutputStream(file)) {
+        wb.write(os);
+      }
+      return file;
+    }
+  }
+
+  private Path createFileWithFormulaCountColumn() throws IOException {
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      Sheet sheet = wb.createSheet("Sheet1");
+
+      Row headerRow = sheet.createRow(0);
+      headerRow.createCell(0).setCellValue("Deco");
+      headerRow.createCell(1).setCellValue("Count");
+
+      Row dataRow = sheet.createRow(1);
+      dataRow.createCell(0).setCellValue(1);
+      dataRow.createCell(1).setCellFormula("1+2");
+      wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+
+      Path file = tempDir.resolve("formula_count_test.xlsx");
+      try (OutputStream os = Files.newOutputStream(file)) {
+        wb.write(os);
+      }
+      return file;
+    }
+  }
+
   private Path createFileWithInvalidTypeData() throws IOException {
     try (XSSFWorkbook wb = new XSSFWorkbook()) {
       Sheet sheet = wb.createSheet("Sheet1");
@@ -0,0 +1,88 @@
+package com.foo.excel.service.pipeline.parse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.foo.excel.annotation.ExcelColumn;
+import com.foo.excel.service.pipeline.parse.ExcelParserService.ColumnMapping;
+import com.foo.excel.validation.ExcelColumnRef;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RowBinderTest {
+
+  @Test
+  void bind_selectsConverterPerFieldType_andSetsInheritedAndPrivateFields() throws Exception {
+    RowBinder<ChildRow> binder = RowBinder.of(ChildRow.class);
+    RowBinder.ColumnBinding[] bindings =
+        binder.bind(
+            List.of(mapping(BaseRow.class, "name", 1), mapping(ChildRow.class, "amount", 2)));
+
+    assertThat(bindings[0].converter()).isEqualTo(CellValueConverter.STRING);
+    assertThat(bindings[1].converter()).isEqualTo(CellValueConverter.BIG_DECIMAL);
+
+    ChildRow row = binder.newRow();
+    binder.set(row, bindings[0], "품명");
+    binder.set(row, bindings[1], new BigDecimal("12.5"));
+
+    assertThat(((BaseRow) row).name).isEqualTo("품명");
+    assertThat(row.amount).isEqualByComparingTo("12.5");
+  }
+
+  @Test
+  void set_nullOnPrimitiveField_keepsDefaultValue() throws Exception {
+    RowBinder<ChildRow> binder = RowBinder.of(ChildRow.class);
+    RowBinder.ColumnBinding[] bindings = binder.bind(List.of(mapping(ChildRow.class, "count", 3)));
+
+    ChildRow row = binder.newRow();
+    binder.set(row, bindings[0], null);
+
+    assertThat(bindings[0].primitive()).isTrue();
+    assertThat(row.count).isZero();
+  }
+
+  @Test
+  void of_cachesBinderPerRowClass() {
+    assertThat(RowBinder.of(ChildRow.class)).isSameAs(RowBinder.of(ChildRow.class));
+  }
+
+  @Test
+  void bind_fieldWithoutExcelColumn_throws() throws Exception {
+    RowBinder<ChildRow> binder = RowBinder.of(ChildRow.class);
+    ColumnMapping foreign = mapping(ChildRow.class, "note", 4);
+
+    assertThatThrownBy(() -> binder.bind(List.of(foreign)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("note");
+  }
+
+  private static ColumnMapping mapping(Class<?> owner, String fieldName, int columnIndex)
+      throws NoSuchFieldException {
+    Field field = owner.getDeclaredField(fieldName);
+    return new ColumnMapping(
+        field,
+        field.getAnnotation(ExcelColumn.class),
+        columnIndex,
+        ExcelColumnRef.ofLetter(String.valueOf((char) ('A' + columnIndex))),
+        null);
+  }
+
+  static class BaseRow {
+    @ExcelColumn(label = "Name", column = "B")
+    private String name;
+  }
+
+  static class ChildRow extends BaseRow {
+    @ExcelColumn(label = "Amount", column = "C")
+    private BigDecimal amount;
+
+    @ExcelColumn(label = "Count", column = "D")
+    private int count = 0;
+
+    private String note;
+
+    private ChildRow() {}
+  }
+}
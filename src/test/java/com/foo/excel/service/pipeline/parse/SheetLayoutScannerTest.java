@@ -0,0 +1,93 @@
+package com.foo.excel.service.pipeline.parse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+class SheetLayoutScannerTest {
+
+  @Test
+  void scan_poiWrittenSheet_countsRowsWithCellsAndCollectsMergedRegions() throws Exception {
+    byte[] xlsx;
+    try (XSSFWorkbook wb = new XSSFWorkbook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      Sheet sheet = wb.createSheet("Sheet1");
+      sheet.createRow(0).createCell(0).setCellValue("헤더");
+      sheet.createRow(1);
+      sheet.createRow(2).createCell(1).setCellValue(1);
+      sheet.createRow(3).createCell(2).setCellValue("값");
+      sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 3));
+      sheet.addMergedRegion(new CellRangeAddress(2, 3, 1, 1));
+      wb.write(out);
+      xlsx = out.toByteArray();
+    }
+
+    SheetLayoutScanner.SheetLayout layout;
+    OPCPackage pkg = OPCPackage.open(new ByteArrayInputStream(xlsx));
+    try (InputStream sheetStream = new XSSFReader(pkg).getSheetsData().next()) {
+      layout = SheetLayoutScanner.scan(sheetStream, Integer.MAX_VALUE);
+    } finally {
+      pkg.revert();
+    }
+
+    assertThat(layout.rowsWithCells()).isEqualTo(3);
+    assertThat(layout.mergedRegions())
+        .extracting(CellRangeAddress::formatAsString)
+        .containsExactly("A1:D1", "B3:B4");
+  }
+
+  @Test
+  void scan_prefixedTagsCommentsAndCdata_areHandled() throws IOException {
+    String xml =
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <x:worksheet xmlns:x="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+          <!-- <row><c/></row> 주석 안의 태그는 무시한다 -->
+          <x:sheetData>
+            <x:row r="1"><x:c r="A1" t="inlineStr"><x:is><x:t><![CDATA[<row><c/>]]></x:t></x:is></x:c></x:row>
+            <x:row r="2"/>
+            <x:row r="3" spans="1:2"><x:c r="B3"/></x:row>
+          </x:sheetData>
+          <x:mergeCells count="1"><x:mergeCell ref = 'A1:B2'/></x:mergeCells>
+        </x:worksheet>
+        """;
+
+    SheetLayoutScanner.SheetLayout layout =
+        SheetLayoutScanner.scan(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), Integer.MAX_VALUE);
+
+    assertThat(layout.rowsWithCells()).isEqualTo(2);
+    assertThat(layout.mergedRegions())
+        .extracting(CellRangeAddress::formatAsString)
+        .containsExactly("A1:B2");
+  }
+
+  @Test
+  void scan_rowCountAboveLimit_abortsAtFirstExcessRow() {
+    StringBuilder xml = new StringBuilder("<worksheet><sheetData>");
+    for (int i = 1; i <= 100; i++) {
+      xml.append("<row r=\"").append(i).append("\"><c r=\"A").append(i).append("\"/></row>");
+    }
+    xml.append("</sheetData></worksheet>");
+    InputStream in = new ByteArrayInputStream(xml.toString().getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> SheetLayoutScanner.scan(in, 10))
+        .isInstanceOfSatisfying(
+            RowCountLimitExceededException.class,
+            e -> {
+              assertThat(e.getRowCount()).isEqualTo(11);
+              assertThat(e.getRowCountLimit()).isEqualTo(10);
+            });
+  }
+}
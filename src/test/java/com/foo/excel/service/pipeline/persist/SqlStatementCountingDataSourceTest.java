@@ -0,0 +1,47 @@
+package com.foo.excel.service.pipeline.persist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class SqlStatementCountingDataSourceTest {
+
+  private final SqlStatementCountingDataSource dataSource =
+      new SqlStatementCountingDataSource(
+          new DriverManagerDataSource("jdbc:h2:mem:statement-counting;DB_CLOSE_DELAY=-1"));
+
+  @AfterEach
+  void tearDown() {
+    SaveStageProfiler.stop();
+  }
+
+  @Test
+  void statementAndResultSet_returnOwningProxies() throws Exception {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement("SELECT 1");
+        ResultSet resultSet = statement.executeQuery()) {
+      assertThat(statement.getConnection()).isSameAs(connection);
+      assertThat(resultSet.getStatement()).isSameAs(statement);
+    }
+  }
+
+  @Test
+  void statementCreatedFromStatementConnection_isStillCounted() throws Exception {
+    SaveStageProfile profile = SaveStageProfiler.start();
+
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT 1");
+        Statement derived = resultSet.getStatement().getConnection().createStatement()) {
+      derived.executeQuery("SELECT 2").close();
+    }
+
+    assertThat(profile.statementCount(SqlStatementType.SELECT)).isEqualTo(2);
+  }
+}
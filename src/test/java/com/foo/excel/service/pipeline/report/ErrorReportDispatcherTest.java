@@ -0,0 +1,296 @@
+package com.foo.excel.service.pipeline.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.annotation.ExcelSheet;
+import com.foo.excel.config.ExcelImportProperties;
+import com.foo.excel.controller.ExcelFileController;
+import com.foo.excel.service.contract.ExcelMergeRegion;
+import com.foo.excel.service.contract.ExcelSheetSpec;
+import com.foo.excel.service.contract.ExcelSheetSpecResolver;
+import com.foo.excel.service.pipeline.parse.ExcelParserService;
+import com.foo.excel.validation.CellError;
+import com.foo.excel.validation.ExcelColumnRef;
+import com.foo.excel.validation.ExcelValidationResult;
+import com.foo.excel.validation.RowError;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+class ErrorReportDispatcherTest {
+
+  private static final ExcelSheetSpec SHEET_SPEC =
+      ExcelSheetSpecResolver.resolve(TestSheetDto.class);
+
+  @TempDir Path tempDir;
+
+  private ExcelImportProperties properties;
+  private CountDownLatch releaseReport;
+  private ErrorReportDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    properties = new ExcelImportProperties();
+    properties.setTempDirectory(tempDir.toString());
+    properties.setErrorReportExecution(ExcelErrorReportExecution.ASYNC);
+    releaseReport = new CountDownLatch(1);
+    dispatcher = new ErrorReportDispatcher(new GatedErrorReportService(properties), properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    releaseReport.countDown();
+    dispatcher.shutdown();
+  }
+
+  @Test
+  void asyncDispatch_returnsBeforeReportExists_andDownloadAnswers202UntilReady()
+      throws Exception {
+    Path originalFile = createSimpleXlsx();
+    ExcelFileController controller = new ExcelFileController(properties, dispatcher);
+
+    String fileId = dispatch(originalFile);
+
+    assertThat(dispatcher.status(fileId)).isEqualTo(ErrorReportDispatcher.Status.PENDING);
+    assertThat(tempDir.resolve("errors").resolve(fileId + ".xlsx")).doesNotExist();
+    var pending = controller.downloadErrorFile(fileId);
+    assertThat(pending.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    assertThat(pending.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank();
+
+    releaseReport.countDown();
+    awaitStatusOtherThanPending(fileId);
+
+    assertThat(dispatcher.status(fileId)).isEqualTo(ErrorReportDispatcher.Status.READY);
+    assertThat(controller.downloadErrorFile(fileId).getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void asyncDispatch_failedReport_isReportedAsFailedInsteadOfPendingForever() throws Exception {
+    releaseReport.countDown();
+    Path notAWorkbook = tempDir.resolve("broken.xlsx");
+    Files.write(notAWorkbook, new byte[] {1, 2, 3, 4});
+
+    String fileId = dispatch(notAWorkbook);
+    awaitStatusOtherThanPending(fileId);
+
+    assertThat(dispatcher.status(fileId)).isEqualTo(ErrorReportDispatcher.Status.FAILED);
+    ExcelFileController controller = new ExcelFileController(properties, dispatcher);
+    assertThat(controller.downloadErrorFile(fileId).getStatusCode())
+        .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void asyncDispatch_rendersFromSnapshot_whenUploadIsOverwrittenWhileQueued() throws Exception {
+    Path originalFile = createSimpleXlsx();
+
+    String fileId = dispatch(originalFile);
+    Files.write(originalFile, new byte[] {1, 2, 3, 4});
+    releaseReport.countDown();
+    awaitStatusOtherThanPending(fileId);
+
+    assertThat(dispatcher.status(fileId)).isEqualTo(ErrorReportDispatcher.Status.READY);
+    Path errorsDir = tempDir.resolve("errors");
+    assertThat(errorsDir.resolve(fileId + ".source.xlsx")).doesNotExist();
+    assertThat(errorsDir.resolve(fileId + ".pending")).doesNotExist();
+    try (Workbook wb = WorkbookFactory.create(errorsDir.resolve(fileId + ".xlsx").toFile())) {
+      assertThat(wb.getSheetAt(0).getRow(1).getCell(2).getStringCellValue())
+          .contains("필수 입력 항목입니다");
+    }
+  }
+
+  @Test
+  void pendingMarkerFromAnotherProcess_isPendingUntilItTimesOut() throws Exception {
+    Path errorsDir = Files.createDirectories(tempDir.resolve("errors"));
+    Path freshMarker = Files.createFile(errorsDir.resolve("fresh.pending"));
+    Path staleMarker = Files.createFile(errorsDir.resolve("stale.pending"));
+    Files.setLastModifiedTime(
+        staleMarker,
+        FileTime.from(
+            Instant.now()
+                .minus(properties.getErrorReportPendingTimeoutMinutes() + 1, ChronoUnit.MINUTES)));
+
+    assertThat(freshMarker).exists();
+    assertThat(dispatcher.status("fresh")).isEqualTo(ErrorReportDispatcher.Status.PENDING);
+    assertThat(dispatcher.status("stale")).isEqualTo(ErrorReportDispatcher.Status.FAILED);
+  }
+
+  @Test
+  void shutdown_marksUnfinishedReportsFailed_andRemovesTheirTemporaryFiles() throws Exception {
+    String fileId = dispatch(createSimpleXlsx());
+
+    dispatcher.shutdown();
+
+    Path errorsDir = tempDir.resolve("errors");
+    assertThat(dispatcher.status(fileId)).isEqualTo(ErrorReportDispatcher.Status.FAILED);
+    assertThat(errorsDir.resolve(fileId + ".pending")).doesNotExist();
+    assertThat(errorsDir.resolve(fileId + ".source.xlsx")).doesNotExist();
+    assertThat(errorsDir.resolve(fileId + ".xlsx.part")).doesNotExist();
+  }
+
+  @Test
+  void syncDispatch_reportExistsWhenDispatchReturns() throws Exception {
+    properties.setErrorReportExecution(ExcelErrorReportExecution.SYNC);
+    releaseReport.countDown();
+
+    String fileId = dispatch(createSimpleXlsx());
+
+    assertThat(dispatcher.status(fileId)).isEqualTo(ErrorReportDispatcher.Status.READY);
+  }
+
+  @Test
+  void lazyDispatch_keepsOnlyManifest_andRendersOnFirstDownload() throws Exception {
+    properties.setErrorReportExecution(ExcelErrorReportExecution.LAZY);
+    releaseReport.countDown();
+    Path errorsDir = tempDir.resolve("errors");
+    ExcelFileController controller = new ExcelFileController(properties, dispatcher);
+
+    String fileId = dispatch(createSimpleXlsx());
+
+    assertThat(dispatcher.status(fileId)).isEqualTo(ErrorReportDispatcher.Status.DEFERRED);
+    assertThat(errorsDir.resolve(fileId + ".manifest")).exists();
+    assertThat(errorsDir.resolve(fileId + ".xlsx")).doesNotExist();
+
+    assertThat(controller.downloadErrorFile(fileId).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    assertThat(errorsDir.resolve(fileId + ".manifest")).doesNotExist();
+    assertThat(dispatcher.status(fileId)).isEqualTo(ErrorReportDispatcher.Status.READY);
+    try (Workbook wb = WorkbookFactory.create(errorsDir.resolve(fileId + ".xlsx").toFile())) {
+      assertThat(wb.getSheetAt(0).getRow(1).getCell(2).getStringCellValue())
+          .contains("필수 입력 항목입니다");
+    }
+    assertThat(controller.downloadErrorFile(fileId).getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void lazyDispatch_rendersFromSnapshot_whenUploadIsOverwrittenBeforeDownload() throws Exception {
+    properties.setErrorReportExecution(ExcelErrorReportExecution.LAZY);
+    releaseReport.countDown();
+    Path originalFile = createSimpleXlsx();
+    Path errorsDir = tempDir.resolve("errors");
+
+    String fileId = dispatch(originalFile);
+    Files.write(originalFile, new byte[] {1, 2, 3, 4});
+
+    assertThat(errorsDir.resolve(fileId + ".source.xlsx")).exists();
+    assertThat(dispatcher.prepareDownload(fileId)).isEqualTo(ErrorReportDispatcher.Status.READY);
+    assertThat(errorsDir.resolve(fileId + ".source.xlsx")).doesNotExist();
+    try (Workbook wb = WorkbookFactory.create(errorsDir.resolve(fileId + ".xlsx").toFile())) {
+      assertThat(wb.getSheetAt(0).getRow(1).getCell(2).getStringCellValue())
+          .contains("필수 입력 항목입니다");
+    }
+  }
+
+  @Test
+  void status_unknownFileId_isNotFound() {
+    assertThat(dispatcher.status("00000000-0000-0000-0000-000000000000"))
+        .isEqualTo(ErrorReportDispatcher.Status.NOT_FOUND);
+  }
+
+  private String dispatch(Path originalFile) throws IOException {
+    return dispatcher.dispatch(
+        originalFile,
+        createValidationResult(),
+        Collections.emptyList(),
+        SHEET_SPEC,
+        "original.xlsx",
+        List.of());
+  }
+
+  private void awaitStatusOtherThanPending(String fileId) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (dispatcher.status(fileId) == ErrorReportDispatcher.Status.PENDING
+        && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private Path createSimpleXlsx() throws IOException {
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      Sheet sheet = wb.createSheet("Sheet1");
+      Row headerRow = sheet.createRow(0);
+      headerRow.createCell(0).setCellValue("No");
+      headerRow.createCell(1).setCellValue("Name");
+      Row dataRow = sheet.createRow(1);
+      dataRow.createCell(0).setCellValue(1);
+      dataRow.createCell(1).setCellValue("");
+
+      Path file = tempDir.resolve("original.xlsx");
+      try (OutputStream os = Files.newOutputStream(file)) {
+        wb.write(os);
+      }
+      return file;
+    }
+  }
+
+  private ExcelValidationResult createValidationResult() {
+    CellError cellError =
+        CellError.builder()
+            .columnIndex(1)
+            .columnRef(ExcelColumnRef.ofLetter("B"))
+            .fieldName("name")
+            .headerName("Name")
+            .rejectedValue("")
+            .message("필수 입력 항목입니다")
+            .build();
+    RowError rowError =
+        RowError.builder().rowNumber(2).cellErrors(new ArrayList<>(List.of(cellError))).build();
+    return ExcelValidationResult.failure(1, List.of(rowError));
+  }
+
+  /** 테스트가 풀어 줄 때까지 리포트 생성을 붙잡아 두어 생성 중 상태를 확인할 수 있게 한다. */
+  private class GatedErrorReportService extends ExcelErrorReportService {
+
+    GatedErrorReportService(ExcelImportProperties properties) {
+      super(properties);
+    }
+
+    @Override
+    public Path generateErrorReport(
+        Path originalXlsx,
+        ExcelValidationResult validationResult,
+        List<ExcelParserService.ColumnMapping> columnMappings,
+        ExcelSheetSpec sheetSpec,
+        String originalFilename,
+        List<ExcelMergeRegion> excelMergeRegions,
+        String fileId)
+        throws IOException {
+      try {
+        releaseReport.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+      return super.generateErrorReport(
+          originalXlsx,
+          validationResult,
+          columnMappings,
+          sheetSpec,
+          originalFilename,
+          excelMergeRegions,
+          fileId);
+    }
+  }
+
+  @ExcelSheet
+  static class TestSheetDto {}
+}
@@ -0,0 +1,85 @@
+package com.foo.excel.service.pipeline.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.foo.excel.service.contract.ExcelMergeRegion;
+import com.foo.excel.service.contract.ExcelMergeScope;
+import com.foo.excel.service.contract.ExcelSheetSpec;
+import com.foo.excel.validation.CellError;
+import com.foo.excel.validation.ExcelColumnRef;
+import com.foo.excel.validation.ExcelValidationResult;
+import com.foo.excel.validation.RowError;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ErrorReportManifestTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void writeThenRead_preservesEverythingTheReportUses() throws IOException {
+    RowError rowError =
+        RowError.builder()
+            .rowNumber(7)
+            .cellErrors(
+                new ArrayList<>(
+                    List.of(
+                        CellError.builder()
+                            .columnIndex(2)
+                            .columnRef(ExcelColumnRef.ofLetter("C"))
+                            .fieldName("goodsDes")
+                            .message("필수 입력 항목입니다")
+                            .build(),
+                        CellError.builder()
+                            .columnIndex(-1)
+                            .columnRef(ExcelColumnRef.unknown())
+                            .message("중복된 키입니다")
+                            .build())))
+            .build();
+    ErrorReportManifest manifest =
+        new ErrorReportManifest(
+            tempDir.resolve("원본.xlsx"),
+            "원본.xlsx",
+            new ExcelSheetSpec(0, 4, 7, null, "_ERRORS"),
+            List.of(new ErrorReportColumn(2, "물품명"), new ErrorReportColumn(5, "HSK")),
+            List.of(new ExcelMergeRegion(ExcelMergeScope.HEADER, 0, 2, 9, 4, false)),
+            120,
+            true,
+            ExcelValidationResult.DEFAULT_TRUNCATION_MESSAGE,
+            List.of(rowError));
+    Path file = tempDir.resolve("report.manifest");
+
+    manifest.write(file);
+    ErrorReportManifest read = ErrorReportManifest.read(file);
+
+    assertThat(read.sourceFile()).isEqualTo(manifest.sourceFile());
+    assertThat(read.originalFilename()).isEqualTo("원본.xlsx");
+    assertThat(read.sheetSpec()).isEqualTo(manifest.sheetSpec());
+    assertThat(read.columns()).isEqualTo(manifest.columns());
+    assertThat(read.mergeRegions()).isEqualTo(manifest.mergeRegions());
+    ExcelValidationResult validationResult = read.validationResult();
+    assertThat(validationResult.getTotalRows()).isEqualTo(120);
+    assertThat(validationResult.isTruncated()).isTrue();
+    assertThat(validationResult.getTotalErrorCount()).isEqualTo(2);
+    assertThat(validationResult.getRowErrors()).hasSize(1);
+    RowError readRow = validationResult.getRowErrors().get(0);
+    assertThat(readRow.getRowNumber()).isEqualTo(7);
+    assertThat(readRow.getFormattedMessage()).isEqualTo(rowError.getFormattedMessage());
+    assertThat(readRow.getCellErrors().get(0).columnIndex()).isEqualTo(2);
+    assertThat(readRow.getCellErrors().get(1).columnRef().isUnknown()).isTrue();
+  }
+
+  @Test
+  void read_rejectsFilesThatAreNotManifests() throws IOException {
+    Path file = tempDir.resolve("not-a-manifest");
+    Files.write(file, new byte[] {1, 2, 3, 4});
+
+    assertThatThrownBy(() -> ErrorReportManifest.read(file)).isInstanceOf(IOException.class);
+  }
+}
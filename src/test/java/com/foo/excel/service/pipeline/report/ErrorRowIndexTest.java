@@ -0,0 +1,57 @@
+package com.foo.excel.service.pipeline.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.validation.CellError;
+import com.foo.excel.validation.ExcelColumnRef;
+import com.foo.excel.validation.RowError;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ErrorRowIndexTest {
+
+  @Test
+  void position_findsUnsortedRows_andHasErrorAtChecksColumnBits() {
+    ErrorRowIndex index =
+        ErrorRowIndex.of(List.of(rowError(9, 2, 70), rowError(3, 0, -1), rowError(5)));
+
+    assertThat(index.position(4)).isNegative();
+    int row3 = index.position(3);
+    int row9 = index.position(9);
+    assertThat(index.rowError(row3).getRowNumber()).isEqualTo(3);
+    assertThat(index.hasErrorAt(row3, 0)).isTrue();
+    assertThat(index.hasErrorAt(row3, 1)).isFalse();
+    assertThat(index.hasErrorAt(row9, 2)).isTrue();
+    assertThat(index.hasErrorAt(row9, 70)).isTrue();
+    assertThat(index.hasErrorAt(row9, 6)).isFalse();
+    assertThat(index.hasErrorAt(row9, 1000)).isFalse();
+    assertThat(index.hasErrorAt(index.position(5), 0)).isFalse();
+    assertThat(index.hasErrorAt(-1, 0)).isFalse();
+  }
+
+  @Test
+  void duplicateRowNumber_lastRowErrorWins() {
+    RowError last = rowError(4, 1);
+
+    ErrorRowIndex index = ErrorRowIndex.of(List.of(rowError(4, 0), last));
+
+    int position = index.position(4);
+    assertThat(index.rowError(position)).isSameAs(last);
+    assertThat(index.hasErrorAt(position, 0)).isFalse();
+    assertThat(index.hasErrorAt(position, 1)).isTrue();
+  }
+
+  private static RowError rowError(int rowNumber, int... columnIndices) {
+    List<CellError> cellErrors = new ArrayList<>();
+    for (int columnIndex : columnIndices) {
+      cellErrors.add(
+          CellError.builder()
+              .columnIndex(columnIndex)
+              .columnRef(ExcelColumnRef.unknown())
+              .message("잘못된 값입니다")
+              .build());
+    }
+    return RowError.builder().rowNumber(rowNumber).cellErrors(cellErrors).build();
+  }
+}
@@ -41,7 +41,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 class ExcelErrorReportServiceTest {
 
-  private ExcelErrorReportService errorReportService;
+  ExcelErrorReportService errorReportService;
 
   @TempDir Path tempDir;
 
@@ -49,11 +49,17 @@ class ExcelErrorReportServiceTest {
   void setUp() throws IOException {
     ExcelImportProperties properties = new ExcelImportProperties();
     properties.setTempDirectory(tempDir.toString());
+    properties.setErrorReportMode(errorReportMode());
     // 오류 하위 디렉터리 생성
     Files.createDirectories(tempDir.resolve("errors"));
     errorReportService = new ExcelErrorReportService(properties);
   }
 
+  /** 하위 클래스가 같은 검증을 다른 리포트 생성 방식으로 돌릴 때 재정의한다. */
+  ExcelErrorReportMode errorReportMode() {
+    return ExcelErrorReportMode.WORKBOOK;
+  }
+
   @Test
   void errorReport_addsErrorColumn_withName_ERRORS() throws IOException {
     Path originalFile = createSimpleXlsx();
@@ -0,0 +1,138 @@
+package com.foo.excel.service.pipeline.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foo.excel.service.contract.ExcelSheetSpecResolver;
+import com.foo.excel.validation.CellError;
+import com.foo.excel.validation.ExcelColumnRef;
+import com.foo.excel.validation.ExcelValidationResult;
+import com.foo.excel.validation.RowError;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataValidationHelper;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+/** 상위 클래스의 검증을 스트리밍 방식으로 다시 돌리고, 스트리밍 방식에서만 보장하는 원본 보존을 확인한다. */
+class StreamingExcelErrorReportServiceTest extends ExcelErrorReportServiceTest {
+
+  @Override
+  ExcelErrorReportMode errorReportMode() {
+    return ExcelErrorReportMode.STREAMING;
+  }
+
+  @Test
+  void streamingReport_keepsDataValidationsAndSharedStyleOfUntouchedCells() throws IOException {
+    Path originalFile = tempDir.resolve("validated.xlsx");
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      CellStyle yellow = wb.createCellStyle();
+      yellow.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex());
+      yellow.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+      Sheet sheet = wb.createSheet("Sheet1");
+      Row headerRow = sheet.createRow(0);
+      headerRow.createCell(0).setCellValue("No");
+      headerRow.createCell(1).setCellValue("Name");
+      for (int rowIndex = 1; rowIndex <= 2; rowIndex++) {
+        Row row = sheet.createRow(rowIndex);
+        row.createCell(0).setCellValue(rowIndex);
+        Cell nameCell = row.createCell(1);
+        nameCell.setCellValue("name" + rowIndex);
+        nameCell.setCellStyle(yellow);
+      }
+      DataValidationHelper helper = sheet.getDataValidationHelper();
+      sheet.addValidationData(
+          helper.createValidation(
+              helper.createExplicitListConstraint(new String[] {"name1", "name2"}),
+              new CellRangeAddressList(1, 2, 1, 1)));
+      try (OutputStream os = Files.newOutputStream(originalFile)) {
+        wb.write(os);
+      }
+    }
+
+    Path errorFile =
+        errorReportService.generateErrorReport(
+            originalFile,
+            nameErrorOnRow(2),
+            Collections.emptyList(),
+            ExcelSheetSpecResolver.resolve(TestSheetDto.class),
+            "validated.xlsx");
+
+    try (Workbook wb = WorkbookFactory.create(errorFile.toFile())) {
+      Sheet sheet = wb.getSheetAt(0);
+      assertThat(sheet.getDataValidations()).hasSize(1);
+
+      CellStyle errorStyle = sheet.getRow(1).getCell(1).getCellStyle();
+      CellStyle untouchedStyle = sheet.getRow(2).getCell(1).getCellStyle();
+      assertThat(errorStyle.getFillForegroundColor()).isEqualTo(IndexedColors.ROSE.getIndex());
+      assertThat(untouchedStyle.getFillForegroundColor())
+          .isEqualTo(IndexedColors.LIGHT_YELLOW.getIndex());
+      assertThat(sheet.getRow(0).getCell(2).getStringCellValue()).isEqualTo("_ERRORS");
+      assertThat(sheet.getRow(1).getCell(2).getStringCellValue()).contains("필수 입력 항목입니다");
+      assertThat(sheet.getRow(2).getCell(2)).isNull();
+    }
+  }
+
+  @Test
+  void workbookWithoutErrors_stillGetsErrorsHeaderAndDisclaimer() throws IOException {
+    Path originalFile = tempDir.resolve("plain.xlsx");
+    try (XSSFWorkbook wb = new XSSFWorkbook()) {
+      Sheet sheet = wb.createSheet("Sheet1");
+      sheet.createRow(0).createCell(0).setCellValue("No");
+      sheet.createRow(1).createCell(0).setCellValue(1);
+      try (OutputStream os = Files.newOutputStream(originalFile)) {
+        wb.write(os);
+      }
+    }
+
+    Path errorFile =
+        errorReportService.generateErrorReport(
+            originalFile,
+            ExcelValidationResult.failure(1, List.of()),
+            Collections.emptyList(),
+            ExcelSheetSpecResolver.resolve(TestSheetDto.class),
+            null);
+
+    try (Workbook wb = WorkbookFactory.create(errorFile.toFile())) {
+      Sheet sheet = wb.getSheetAt(0);
+      assertThat(sheet.getRow(0).getCell(1).getStringCellValue()).isEqualTo("_ERRORS");
+      Cell headerCell = sheet.getRow(0).getCell(1);
+      assertThat(wb.getFontAt(headerCell.getCellStyle().getFontIndex()).getBold()).isTrue();
+      assertThat(sheet.getRow(3).getCell(0).getStringCellValue())
+          .isEqualTo(ExcelErrorReportService.DISCLAIMER_TEXT);
+      assertThat(sheet.getMergedRegions()).isEmpty();
+    }
+  }
+
+  private ExcelValidationResult nameErrorOnRow(int rowNumber) {
+    CellError cellError =
+        CellError.builder()
+            .columnIndex(1)
+            .columnRef(ExcelColumnRef.ofLetter("B"))
+            .fieldName("name")
+            .headerName("Name")
+            .rejectedValue("")
+            .message("필수 입력 항목입니다")
+            .build();
+    RowError rowError =
+        RowError.builder()
+            .rowNumber(rowNumber)
+            .cellErrors(new ArrayList<>(List.of(cellError)))
+            .build();
+    return ExcelValidationResult.failure(2, List.of(rowError));
+  }
+}
@@ -0,0 +1,80 @@
+package com.foo.excel.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.junit.jupiter.api.Test;
+
+class MergedRegionIndexTest {
+
+  @Test
+  void regionAt_returnsCoveringRegionOrMinusOne() {
+    MergedRegionIndex index =
+        MergedRegionIndex.of(
+            List.of(
+                CellRangeAddress.valueOf("F7:G7"),
+                CellRangeAddress.valueOf("J7:K7"),
+                CellRangeAddress.valueOf("A1:C3")));
+
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.regionAt(6, 5)).isEqualTo(0);
+    assertThat(index.regionAt(6, 6)).isEqualTo(0);
+    assertThat(index.regionAt(6, 7)).isEqualTo(-1);
+    assertThat(index.regionAt(6, 10)).isEqualTo(1);
+    assertThat(index.regionAt(2, 1)).isEqualTo(2);
+    assertThat(index.regionAt(3, 1)).isEqualTo(-1);
+    assertThat(index.firstRow(2)).isZero();
+    assertThat(index.firstColumn(1)).isEqualTo(9);
+  }
+
+  @Test
+  void overlaps_detectsAnySharedCell() {
+    MergedRegionIndex index =
+        MergedRegionIndex.of(
+            List.of(CellRangeAddress.valueOf("B2:C4"), CellRangeAddress.valueOf("F10:H10")));
+
+    assertThat(index.overlaps(CellRangeAddress.valueOf("C4:D5"))).isTrue();
+    assertThat(index.overlaps(CellRangeAddress.valueOf("A1:A10"))).isFalse();
+    assertThat(index.overlaps(CellRangeAddress.valueOf("A3:Z3"))).isTrue();
+    assertThat(index.overlaps(CellRangeAddress.valueOf("D2:E4"))).isFalse();
+    assertThat(index.overlaps(CellRangeAddress.valueOf("H9:I11"))).isTrue();
+    assertThat(index.overlaps(CellRangeAddress.valueOf("I10:J10"))).isFalse();
+  }
+
+  @Test
+  void of_manyRepeatedRowRegions_matchesLinearScan() {
+    List<CellRangeAddress> regions = new ArrayList<>();
+    for (int row = 6; row < 1_006; row++) {
+      regions.add(new CellRangeAddress(row, row, 5, 6));
+      regions.add(new CellRangeAddress(row, row, 9, 10));
+      regions.add(new CellRangeAddress(row, row, 11, 12));
+      regions.add(new CellRangeAddress(row, row, 14, 15));
+    }
+    MergedRegionIndex index = MergedRegionIndex.of(regions);
+
+    for (int row = 0; row < 1_010; row += 7) {
+      for (int col = 0; col < 18; col++) {
+        int expected = -1;
+        for (int i = 0; i < regions.size(); i++) {
+          if (regions.get(i).isInRange(row, col)) {
+            expected = i;
+            break;
+          }
+        }
+        assertThat(index.regionAt(row, col)).as("row %d col %d", row, col).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  void of_emptyOrOutOfBoundsRegions_neverMatch() {
+    assertThat(MergedRegionIndex.of(List.of()).isEmpty()).isTrue();
+    assertThat(MergedRegionIndex.of(List.of()).overlaps(0, 10, 0, 10)).isFalse();
+
+    MergedRegionIndex index = MergedRegionIndex.of(List.of(new CellRangeAddress(-1, -1, 0, 0)));
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.regionAt(0, 0)).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,53 @@
+package com.foo.excel.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.junit.jupiter.api.Test;
+
+class RowIntervalSetTest {
+
+  @Test
+  void addIfDisjoint_rejectsOverlapsAndDuplicates() {
+    RowIntervalSet set = new RowIntervalSet();
+
+    assertThat(set.addIfDisjoint(CellRangeAddress.valueOf("B2:C4"))).isTrue();
+    assertThat(set.addIfDisjoint(CellRangeAddress.valueOf("B2:C4"))).isFalse();
+    assertThat(set.addIfDisjoint(CellRangeAddress.valueOf("C4:D5"))).isFalse();
+    assertThat(set.addIfDisjoint(CellRangeAddress.valueOf("D2:E4"))).isTrue();
+    assertThat(set.addIfDisjoint(CellRangeAddress.valueOf("A3:A3"))).isTrue();
+
+    assertThat(set.overlaps(CellRangeAddress.valueOf("A1:Z1"))).isFalse();
+    assertThat(set.overlaps(CellRangeAddress.valueOf("A3:Z3"))).isTrue();
+    assertThat(set.overlaps(CellRangeAddress.valueOf("F2:G4"))).isFalse();
+    assertThat(set.overlaps(CellRangeAddress.valueOf("E100:E200"))).isFalse();
+  }
+
+  @Test
+  void addIfDisjoint_manyRepeatedRowRegions_matchesLinearScan() {
+    RowIntervalSet set = new RowIntervalSet();
+    List<CellRangeAddress> added = new ArrayList<>();
+    for (int row = 6; row < 1_006; row++) {
+      for (int firstColumn : new int[] {14, 5, 9, 11, 6}) {
+        CellRangeAddress candidate = new CellRangeAddress(row, row, firstColumn, firstColumn + 1);
+        boolean expected = added.stream().noneMatch(candidate::intersects);
+
+        assertThat(set.addIfDisjoint(candidate)).as("%s", candidate).isEqualTo(expected);
+        if (expected) {
+          added.add(candidate);
+        }
+      }
+    }
+    assertThat(added).hasSize(4_000);
+  }
+
+  @Test
+  void negativeRanges_areNeverStored() {
+    RowIntervalSet set = new RowIntervalSet();
+
+    assertThat(set.addIfDisjoint(new CellRangeAddress(-1, -1, 0, 1))).isFalse();
+    assertThat(set.overlaps(new CellRangeAddress(0, 0, 0, 1))).isFalse();
+  }
+}
@@ -1,9 +1,9 @@
 package com.foo.excel.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
-import java.util.HashMap;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CellType;
@@ -16,13 +16,14 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Test;
 
 class WorkbookCopyUtilsTest {
 
   @Test
-  void buildStyleMapping_xssfToXssf_preservesFontBoldAndFill() throws IOException {
+  void buildStyleTable_xssfToXssf_preservesFontBoldAndFill() throws IOException {
     try (var source = new XSSFWorkbook();
         var target = new XSSFWorkbook()) {
       CellStyle srcStyle = source.createCellStyle();
@@ -32,9 +33,9 @@ class WorkbookCopyUtilsTest {
       srcStyle.setFillForegroundColor(IndexedColors.LIGHT_GREEN.getIndex());
       srcStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
 
-      var styleMap = WorkbookCopyUtils.buildStyleMapping(source, target);
+      CellStyle[] styleTable = WorkbookCopyUtils.buildStyleTable(source, target);
 
-      CellStyle mapped = styleMap.get((int) srcStyle.getIndex());
+      CellStyle mapped = styleTable[WorkbookCopyUtils.styleIndex(srcStyle)];
       assertThat(mapped).isNotNull();
       assertThat(target.getFontAt(mapped.getFontIndex()).getBold()).isTrue();
       assertThat(mapped.getFillForegroundColor()).isEqualTo(IndexedColors.LIGHT_GREEN.getIndex());
@@ -43,21 +44,21 @@ class WorkbookCopyUtilsTest {
   }
 
   @Test
-  void buildStyleMapping_defaultStyleIndex0_modifiedInPlace() throws IOException {
+  void buildStyleTable_defaultStyleIndex0_modifiedInPlace() throws IOException {
     try (var source = new XSSFWorkbook();
         var target = new XSSFWorkbook()) {
       // 원본은 기본 1개 + 커스텀 1개 = 스타일 2개
       source.createCellStyle();
 
       int targetStylesBefore = target.getNumCellStyles();
-      var styleMap = WorkbookCopyUtils.buildStyleMapping(source, target);
+      CellStyle[] styleTable = WorkbookCopyUtils.buildStyleTable(source, target);
 
       // 대상은 정확히 (원본 스타일 수 - 1)개의 새 스타일이 증가해야 함
       // 인덱스 0은 복제하지 않고 재사용하기 때문
       assertThat(target.getNumCellStyles())
           .isEqualTo(targetStylesBefore + source.getNumCellStyles() - 1);
       // 인덱스 0이 기본 스타일(대상의 index 0)에 매핑되는지 확인
-      assertThat(styleMap.get(0).getIndex()).isEqualTo((short) 0);
+      assertThat(styleTable[0].getIndex()).isEqualTo((short) 0);
     }
   }
 
@@ -69,8 +70,10 @@ class WorkbookCopyUtilsTest {
       boldFont.setBold(true);
       base.setFont(boldFont);
 
-      var cache = new HashMap<Integer, CellStyle>();
-      CellStyle errorStyle = WorkbookCopyUtils.getOrCreateErrorStyle(wb, base, cache);
+      CellStyle[] styleTable = styleTableOf(wb);
+      CellStyle errorStyle =
+          WorkbookCopyUtils.getOrCreateErrorStyle(
+              wb, styleTable, base.getIndex(), new CellStyle[styleTable.length]);
 
       assertThat(errorStyle.getFillForegroundColor()).isEqualTo(IndexedColors.ROSE.getIndex());
       assertThat(errorStyle.getFillPattern()).isEqualTo(FillPatternType.SOLID_FOREGROUND);
@@ -82,10 +85,13 @@ class WorkbookCopyUtilsTest {
   void getOrCreateErrorStyle_sameBaseIndex_returnsCached() throws IOException {
     try (var wb = new XSSFWorkbook()) {
       CellStyle base = wb.createCellStyle();
-      var cache = new HashMap<Integer, CellStyle>();
+      CellStyle[] styleTable = styleTableOf(wb);
+      CellStyle[] cache = new CellStyle[styleTable.length];
 
-      CellStyle first = WorkbookCopyUtils.getOrCreateErrorStyle(wb, base, cache);
-      CellStyle second = WorkbookCopyUtils.getOrCreateErrorStyle(wb, base, cache);
+      CellStyle first =
+          WorkbookCopyUtils.getOrCreateErrorStyle(wb, styleTable, base.getIndex(), cache);
+      CellStyle second =
+          WorkbookCopyUtils.getOrCreateErrorStyle(wb, styleTable, base.getIndex(), cache);
 
       assertThat(first).isSameAs(second);
     }
@@ -193,4 +199,42 @@ class WorkbookCopyUtilsTest {
       assertThat(region0.getLastColumn()).isEqualTo(2);
     }
   }
+
+  @Test
+  void copyMergedRegions_overlappingSourceRegions_throws() throws IOException {
+    try (var wb = new XSSFWorkbook()) {
+      Sheet src = wb.createSheet("src");
+      src.addMergedRegionUnsafe(new CellRangeAddress(0, 1, 0, 1));
+      src.addMergedRegionUnsafe(new CellRangeAddress(1, 1, 1, 2));
+
+      Sheet tgt = wb.createSheet("tgt");
+
+      assertThatThrownBy(() -> WorkbookCopyUtils.copyMergedRegions(src, tgt))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  void copyMergedRegions_singleCellSourceRegion_isSkipped() throws IOException {
+    try (var wb = new XSSFWorkbook()) {
+      XSSFSheet src = wb.createSheet("src");
+      src.addMergedRegionUnsafe(new CellRangeAddress(0, 0, 0, 1));
+      // POI는 한 셀 병합을 거부하므로 다른 도구가 쓴 파일처럼 XML에 직접 넣는다.
+      src.getCTWorksheet().getMergeCells().addNewMergeCell().setRef("C3");
+
+      Sheet tgt = wb.createSheet("tgt");
+      WorkbookCopyUtils.copyMergedRegions(src, tgt);
+
+      assertThat(tgt.getMergedRegions()).containsExactly(new CellRangeAddress(0, 0, 0, 1));
+    }
+  }
+
+  /** 같은 워크북 안에서 원본 인덱스가 곧 대상 스타일인 표이다. */
+  private static CellStyle[] styleTableOf(XSSFWorkbook wb) {
+    CellStyle[] styleTable = new CellStyle[wb.getNumCellStyles()];
+    for (int i = 0; i < styleTable.length; i++) {
+      styleTable[i] = wb.getCellStyleAt(i);
+    }
+    return styleTable;
+  }
 }